@@ -71,7 +71,6 @@ import de.rub.nds.tlsattacker.core.workflow.action.executor.WorkflowExecutorType
 import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
 import de.rub.nds.tlsattacker.core.workflow.filter.FilterType;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -84,6 +83,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -926,6 +926,17 @@ public class Config implements Serializable {
 
     private WorkflowExecutorType workflowExecutorType = WorkflowExecutorType.DEFAULT;
 
+    /**
+     * Number of DTLS handshakes the threaded DTLS server executes concurrently
+     */
+    private Integer dtlsServerPoolSize = 10;
+
+    /**
+     * Time in milliseconds after which the threaded DTLS server drops a peer it did not receive a datagram from. Has to
+     * be longer than the server needs to answer a flight.
+     */
+    private Long dtlsServerPeerIdleTimeout = 30000L;
+
     /**
      * Does not mix messages with different message types in a single record
      */
@@ -1538,6 +1549,355 @@ public class Config implements Serializable {
         defaultProposedAlpnProtocols.add(AlpnProtocol.HTTP_2.getConstant());
     }
 
+    /**
+     * Creates a deep copy of the given config. Immutable values are shared, byte arrays, lists and connections are
+     * copied. This is considerably faster than a serialization round trip, but every new field has to be added here.
+     *
+     * @param other
+     *              The config to copy
+     */
+    public Config(Config other) {
+        defaultHandshakeSecret = copyByteArray(other.defaultHandshakeSecret);
+        throwExceptionOnParserContextViolation = other.throwExceptionOnParserContextViolation;
+        preferredCertificateSignatureType = other.preferredCertificateSignatureType;
+        preferredCertificateSignatureGroup = other.preferredCertificateSignatureGroup;
+        autoSelectCertificate = other.autoSelectCertificate;
+        defaultExplicitCertificateKeyPair = other.defaultExplicitCertificateKeyPair;
+        autoAdjustSignatureAndHashAlgorithm = other.autoAdjustSignatureAndHashAlgorithm;
+        preferredHashAlgorithm = other.preferredHashAlgorithm;
+        outputFilters = copyList(other.outputFilters);
+        applyFiltersInPlace = other.applyFiltersInPlace;
+        filtersKeepUserSettings = other.filtersKeepUserSettings;
+        reorderReceivedDtlsRecords = other.reorderReceivedDtlsRecords;
+        highestProtocolVersion = other.highestProtocolVersion;
+        defaultClientConnection =
+            other.defaultClientConnection == null ? null : new OutboundConnection(other.defaultClientConnection);
+        receiveFinalTcpSocketStateWithTimeout = other.receiveFinalTcpSocketStateWithTimeout;
+        retryFailedClientTcpSocketInitialization = other.retryFailedClientTcpSocketInitialization;
+        defaultServerConnection =
+            other.defaultServerConnection == null ? null : new InboundConnection(other.defaultServerConnection);
+        defaultRunningMode = other.defaultRunningMode;
+        dtlsCookieExchange = other.dtlsCookieExchange;
+        clientAuthentication = other.clientAuthentication;
+        defaultClientSupportedSignatureAndHashAlgorithms =
+            copyList(other.defaultClientSupportedSignatureAndHashAlgorithms);
+        defaultClientSupportedCertificateSignAlgorithms =
+            copyList(other.defaultClientSupportedCertificateSignAlgorithms);
+        defaultClientSupportedCipherSuites = copyList(other.defaultClientSupportedCipherSuites);
+        defaultServerSupportedCipherSuites = copyList(other.defaultServerSupportedCipherSuites);
+        defaultClientNamedGroups = copyList(other.defaultClientNamedGroups);
+        defaultServerNamedGroups = copyList(other.defaultServerNamedGroups);
+        supportedVersions = copyList(other.supportedVersions);
+        heartbeatMode = other.heartbeatMode;
+        defaultAdditionalPadding = other.defaultAdditionalPadding;
+        defaultSniHostnames = copyList(other.defaultSniHostnames, ServerNamePair::createCopy);
+        defaultSelectedNamedGroup = other.defaultSelectedNamedGroup;
+        defaultKeySharePrivateKey = other.defaultKeySharePrivateKey;
+        defaultClientKeyShareNamedGroups = copyList(other.defaultClientKeyShareNamedGroups);
+        defaultClientKeyStoreEntries = copyList(other.defaultClientKeyStoreEntries, KeyShareStoreEntry::new);
+        defaultServerKeyShareEntry =
+            other.defaultServerKeyShareEntry == null ? null : new KeyShareStoreEntry(other.defaultServerKeyShareEntry);
+        sniType = other.sniType;
+        preferredCertRsaKeySize = other.preferredCertRsaKeySize;
+        prefferedCertDssKeySize = other.prefferedCertDssKeySize;
+        defaultKeyUpdateRequestMode = other.defaultKeyUpdateRequestMode;
+        encryptChangeCipherSpecTls13 = other.encryptChangeCipherSpecTls13;
+        tlsSessionTicket = copyByteArray(other.tlsSessionTicket);
+        defaultClientRenegotiationInfo = copyByteArray(other.defaultClientRenegotiationInfo);
+        defaultServerRenegotiationInfo = copyByteArray(other.defaultServerRenegotiationInfo);
+        defaultSignedCertificateTimestamp = copyByteArray(other.defaultSignedCertificateTimestamp);
+        defaultTokenBindingVersion = other.defaultTokenBindingVersion;
+        defaultTokenBindingKeyParameters = copyList(other.defaultTokenBindingKeyParameters);
+        certificateStatusRequestExtensionRequestType = other.certificateStatusRequestExtensionRequestType;
+        certificateStatusRequestExtensionResponderIDList =
+            copyByteArray(other.certificateStatusRequestExtensionResponderIDList);
+        certificateStatusRequestExtensionRequestExtension =
+            copyByteArray(other.certificateStatusRequestExtensionRequestExtension);
+        defaultProposedAlpnProtocols = copyList(other.defaultProposedAlpnProtocols);
+        defaultSelectedAlpnProtocol = other.defaultSelectedAlpnProtocol;
+        secureRemotePasswordExtensionIdentifier = copyByteArray(other.secureRemotePasswordExtensionIdentifier);
+        secureRealTimeTransportProtocolProtectionProfiles =
+            copyList(other.secureRealTimeTransportProtocolProtectionProfiles);
+        secureRealTimeTransportProtocolMasterKeyIdentifier =
+            copyByteArray(other.secureRealTimeTransportProtocolMasterKeyIdentifier);
+        userMappingExtensionHintType = other.userMappingExtensionHintType;
+        certificateTypeDesiredTypes = copyList(other.certificateTypeDesiredTypes);
+        clientCertificateTypeDesiredTypes = copyList(other.clientCertificateTypeDesiredTypes);
+        serverCertificateTypeDesiredTypes = copyList(other.serverCertificateTypeDesiredTypes);
+        clientAuthzExtensionDataFormat = copyList(other.clientAuthzExtensionDataFormat);
+        certificateTypeExtensionMessageState = other.certificateTypeExtensionMessageState;
+        serverAuthzExtensionDataFormat = copyList(other.serverAuthzExtensionDataFormat);
+        trustedCaIndicationExtensionAuthorities =
+            copyList(other.trustedCaIndicationExtensionAuthorities, TrustedAuthority::createCopy);
+        clientCertificateTypeExtensionMessageState = other.clientCertificateTypeExtensionMessageState;
+        cachedInfoExtensionIsClientState = other.cachedInfoExtensionIsClientState;
+        cachedObjectList = copyList(other.cachedObjectList, CachedObject::createCopy);
+        statusRequestV2RequestList = copyList(other.statusRequestV2RequestList, RequestItemV2::new);
+        workflowTraceType = other.workflowTraceType;
+        serverSendsApplicationData = other.serverSendsApplicationData;
+        addExtensionsInSSL = other.addExtensionsInSSL;
+        addECPointFormatExtension = other.addECPointFormatExtension;
+        addEllipticCurveExtension = other.addEllipticCurveExtension;
+        addHeartbeatExtension = other.addHeartbeatExtension;
+        addMaxFragmentLengthExtension = other.addMaxFragmentLengthExtension;
+        addRecordSizeLimitExtension = other.addRecordSizeLimitExtension;
+        addServerNameIndicationExtension = other.addServerNameIndicationExtension;
+        addSignatureAndHashAlgorithmsExtension = other.addSignatureAndHashAlgorithmsExtension;
+        addSignatureAlgorithmsCertExtension = other.addSignatureAlgorithmsCertExtension;
+        addSupportedVersionsExtension = other.addSupportedVersionsExtension;
+        addKeyShareExtension = other.addKeyShareExtension;
+        addEarlyDataExtension = other.addEarlyDataExtension;
+        defaultMaxEarlyDataSize = other.defaultMaxEarlyDataSize;
+        addEncryptedServerNameIndicationExtension = other.addEncryptedServerNameIndicationExtension;
+        addPWDClearExtension = other.addPWDClearExtension;
+        addPWDProtectExtension = other.addPWDProtectExtension;
+        addPSKKeyExchangeModesExtension = other.addPSKKeyExchangeModesExtension;
+        addPreSharedKeyExtension = other.addPreSharedKeyExtension;
+        addPaddingExtension = other.addPaddingExtension;
+        addExtendedMasterSecretExtension = other.addExtendedMasterSecretExtension;
+        addSessionTicketTLSExtension = other.addSessionTicketTLSExtension;
+        addExtendedRandomExtension = other.addExtendedRandomExtension;
+        addSignedCertificateTimestampExtension = other.addSignedCertificateTimestampExtension;
+        addRenegotiationInfoExtension = other.addRenegotiationInfoExtension;
+        addTokenBindingExtension = other.addTokenBindingExtension;
+        addHttpsCookie = other.addHttpsCookie;
+        defaultHttpsCookieName = other.defaultHttpsCookieName;
+        defaultHttpsCookieValue = other.defaultHttpsCookieValue;
+        addCertificateStatusRequestExtension = other.addCertificateStatusRequestExtension;
+        addAlpnExtension = other.addAlpnExtension;
+        addSRPExtension = other.addSRPExtension;
+        addSRTPExtension = other.addSRTPExtension;
+        addTruncatedHmacExtension = other.addTruncatedHmacExtension;
+        addUserMappingExtension = other.addUserMappingExtension;
+        addCertificateTypeExtension = other.addCertificateTypeExtension;
+        addClientAuthzExtension = other.addClientAuthzExtension;
+        addServerAuthzExtension = other.addServerAuthzExtension;
+        addClientCertificateTypeExtension = other.addClientCertificateTypeExtension;
+        addServerCertificateTypeExtension = other.addServerCertificateTypeExtension;
+        addEncryptThenMacExtension = other.addEncryptThenMacExtension;
+        addCachedInfoExtension = other.addCachedInfoExtension;
+        addClientCertificateUrlExtension = other.addClientCertificateUrlExtension;
+        addTrustedCaIndicationExtension = other.addTrustedCaIndicationExtension;
+        addCertificateStatusRequestV2Extension = other.addCertificateStatusRequestV2Extension;
+        addCookieExtension = other.addCookieExtension;
+        updateTimestamps = other.updateTimestamps;
+        pskKeyExchangeModes = copyList(other.pskKeyExchangeModes);
+        psk = copyByteArray(other.psk);
+        clientEarlyTrafficSecret = copyByteArray(other.clientEarlyTrafficSecret);
+        earlySecret = copyByteArray(other.earlySecret);
+        earlyDataCipherSuite = other.earlyDataCipherSuite;
+        earlyDataPsk = copyByteArray(other.earlyDataPsk);
+        defaultPskSets = copyList(other.defaultPskSets, PskSet::new);
+        limitPsksToOne = other.limitPsksToOne;
+        preserveMessageRecordRelation = other.preserveMessageRecordRelation;
+        usePsk = other.usePsk;
+        earlyData = copyByteArray(other.earlyData);
+        distinguishedNames = copyByteArray(other.distinguishedNames);
+        enforceSettings = other.enforceSettings;
+        earlyStop = other.earlyStop;
+        receiveMaximumBytes = other.receiveMaximumBytes;
+        stealthMode = other.stealthMode;
+        stopActionsAfterIOException = other.stopActionsAfterIOException;
+        stopTraceAfterUnexpected = other.stopTraceAfterUnexpected;
+        messageFactoryActionOptions = copyList(other.messageFactoryActionOptions);
+        defaultServerDhGenerator = other.defaultServerDhGenerator;
+        defaultServerDhModulus = other.defaultServerDhModulus;
+        defaultClientDhGenerator = other.defaultClientDhGenerator;
+        defaultClientDhModulus = other.defaultClientDhModulus;
+        defaultServerDhPrivateKey = other.defaultServerDhPrivateKey;
+        defaultClientDhPrivateKey = other.defaultClientDhPrivateKey;
+        defaultServerDhPublicKey = other.defaultServerDhPublicKey;
+        defaultClientDhPublicKey = other.defaultClientDhPublicKey;
+        defaultServerDsaPrivateKey = other.defaultServerDsaPrivateKey;
+        defaultServerDsaPublicKey = other.defaultServerDsaPublicKey;
+        defaultServerDsaPrimeP = other.defaultServerDsaPrimeP;
+        defaultServerDsaPrimeQ = other.defaultServerDsaPrimeQ;
+        defaultServerDsaGenerator = other.defaultServerDsaGenerator;
+        defaultClientDsaPrivateKey = other.defaultClientDsaPrivateKey;
+        defaultClientDsaPublicKey = other.defaultClientDsaPublicKey;
+        defaultClientDsaPrimeP = other.defaultClientDsaPrimeP;
+        defaultClientDsaPrimeQ = other.defaultClientDsaPrimeQ;
+        defaultClientDsaGenerator = other.defaultClientDsaGenerator;
+        defaultSelectedGostCurve = other.defaultSelectedGostCurve;
+        defaultApplicationMessageData = other.defaultApplicationMessageData;
+        clientCertificateTypes = copyList(other.clientCertificateTypes);
+        heartbeatPayloadLength = other.heartbeatPayloadLength;
+        heartbeatPaddingLength = other.heartbeatPaddingLength;
+        defaultPaddingExtensionBytes = copyByteArray(other.defaultPaddingExtensionBytes);
+        dtlsDefaultCookieLength = other.dtlsDefaultCookieLength;
+        dtlsMaximumFragmentLength = other.dtlsMaximumFragmentLength;
+        workflowExecutorType = other.workflowExecutorType;
+        dtlsServerPoolSize = other.dtlsServerPoolSize;
+        dtlsServerPeerIdleTimeout = other.dtlsServerPeerIdleTimeout;
+        flushOnMessageTypeChange = other.flushOnMessageTypeChange;
+        createFragmentsDynamically = other.createFragmentsDynamically;
+        createRecordsDynamically = other.createRecordsDynamically;
+        createIndividualRecords = other.createIndividualRecords;
+        createIndividualTransportPackets = other.createIndividualTransportPackets;
+        individualTransportPacketCooldown = other.individualTransportPacketCooldown;
+        recordLayerType = other.recordLayerType;
+        resetWorkflowTracesBeforeSaving = other.resetWorkflowTracesBeforeSaving;
+        quickReceive = other.quickReceive;
+        workflowExecutorShouldOpen = other.workflowExecutorShouldOpen;
+        workflowExecutorShouldClose = other.workflowExecutorShouldClose;
+        stopReceivingAfterFatal = other.stopReceivingAfterFatal;
+        stopActionsAfterFatal = other.stopActionsAfterFatal;
+        finishWithCloseNotify = other.finishWithCloseNotify;
+        ignoreRetransmittedCcsInDtls = other.ignoreRetransmittedCcsInDtls;
+        addRetransmissionsToWorkflowTraceInDtls = other.addRetransmissionsToWorkflowTraceInDtls;
+        maxDtlsRetransmissions = other.maxDtlsRetransmissions;
+        stopReceivingAfterWarning = other.stopReceivingAfterWarning;
+        stopActionsAfterWarning = other.stopActionsAfterWarning;
+        defaultSelectedCipherSuite = other.defaultSelectedCipherSuite;
+        defaultSelectedServerCertificateType = other.defaultSelectedServerCertificateType;
+        defaultSelectedClientCertificateType = other.defaultSelectedClientCertificateType;
+        defaultSSL2CipherSuite = other.defaultSSL2CipherSuite;
+        defaultServerSupportedPointFormats = copyList(other.defaultServerSupportedPointFormats);
+        defaultClientSupportedPointFormats = copyList(other.defaultClientSupportedPointFormats);
+        defaultServerSupportedSignatureAndHashAlgorithms =
+            copyList(other.defaultServerSupportedSignatureAndHashAlgorithms);
+        defaultServerSupportedCertificateSignAlgorithms =
+            copyList(other.defaultServerSupportedCertificateSignAlgorithms);
+        defaultSelectedSignatureAndHashAlgorithm = other.defaultSelectedSignatureAndHashAlgorithm;
+        defaultSelectedSignatureAlgorithmCert = other.defaultSelectedSignatureAlgorithmCert;
+        defaultLastRecordProtocolVersion = other.defaultLastRecordProtocolVersion;
+        defaultSelectedProtocolVersion = other.defaultSelectedProtocolVersion;
+        defaultHighestClientProtocolVersion = other.defaultHighestClientProtocolVersion;
+        defaultMaxFragmentLength = other.defaultMaxFragmentLength;
+        defaultMaxRecordData = other.defaultMaxRecordData;
+        enforcedMaxRecordData = other.enforcedMaxRecordData;
+        inboundRecordSizeLimit = other.inboundRecordSizeLimit;
+        defaultHeartbeatMode = other.defaultHeartbeatMode;
+        defaultClientSupportedCompressionMethods = copyList(other.defaultClientSupportedCompressionMethods);
+        defaultServerSupportedCompressionMethods = copyList(other.defaultServerSupportedCompressionMethods);
+        defaultMasterSecret = copyByteArray(other.defaultMasterSecret);
+        defaultPreMasterSecret = copyByteArray(other.defaultPreMasterSecret);
+        defaultClientExtendedRandom = copyByteArray(other.defaultClientExtendedRandom);
+        defaultServerExtendedRandom = copyByteArray(other.defaultServerExtendedRandom);
+        defaultClientRandom = copyByteArray(other.defaultClientRandom);
+        defaultServerRandom = copyByteArray(other.defaultServerRandom);
+        defaultClientSessionId = copyByteArray(other.defaultClientSessionId);
+        defaultClientTicketResumptionSessionId = copyByteArray(other.defaultClientTicketResumptionSessionId);
+        defaultServerSessionId = copyByteArray(other.defaultServerSessionId);
+        defaultSelectedCompressionMethod = other.defaultSelectedCompressionMethod;
+        dtlsDefaultCookie = copyByteArray(other.dtlsDefaultCookie);
+        defaultExtensionCookie = copyByteArray(other.defaultExtensionCookie);
+        defaultCertificateRequestContext = copyByteArray(other.defaultCertificateRequestContext);
+        defaultPRFAlgorithm = other.defaultPRFAlgorithm;
+        defaultAlertDescription = other.defaultAlertDescription;
+        defaultAlertLevel = other.defaultAlertLevel;
+        defaultEcCertificateCurve = other.defaultEcCertificateCurve;
+        defaultClientEcPublicKey = other.defaultClientEcPublicKey;
+        defaultServerEcPublicKey = other.defaultServerEcPublicKey;
+        defaultServerEcPrivateKey = other.defaultServerEcPrivateKey;
+        defaultClientEcPrivateKey = other.defaultClientEcPrivateKey;
+        defaultServerRSAModulus = other.defaultServerRSAModulus;
+        defaultClientRSAModulus = other.defaultClientRSAModulus;
+        defaultServerRSAPublicKey = other.defaultServerRSAPublicKey;
+        defaultClientRSAPublicKey = other.defaultClientRSAPublicKey;
+        defaultServerRSAPrivateKey = other.defaultServerRSAPrivateKey;
+        defaultClientRSAPrivateKey = other.defaultClientRSAPrivateKey;
+        defaultPSKKey = copyByteArray(other.defaultPSKKey);
+        defaultPSKIdentity = copyByteArray(other.defaultPSKIdentity);
+        defaultPSKIdentityHint = copyByteArray(other.defaultPSKIdentityHint);
+        defaultSRPModulus = other.defaultSRPModulus;
+        defaultPSKModulus = other.defaultPSKModulus;
+        defaultPSKGenerator = other.defaultPSKGenerator;
+        defaultPskDhServerPrivateKey = other.defaultPskDhServerPrivateKey;
+        defaultPskDhServerPublicKey = other.defaultPskDhServerPublicKey;
+        defaultSRPGenerator = other.defaultSRPGenerator;
+        defaultSRPServerPrivateKey = other.defaultSRPServerPrivateKey;
+        defaultSRPClientPrivateKey = other.defaultSRPClientPrivateKey;
+        defaultSRPServerPublicKey = other.defaultSRPServerPublicKey;
+        defaultSRPClientPublicKey = other.defaultSRPClientPublicKey;
+        defaultSRPServerSalt = copyByteArray(other.defaultSRPServerSalt);
+        defaultSRPIdentity = copyByteArray(other.defaultSRPIdentity);
+        defaultSRPPassword = copyByteArray(other.defaultSRPPassword);
+        defaultClientHandshakeTrafficSecret = copyByteArray(other.defaultClientHandshakeTrafficSecret);
+        defaultServerHandshakeTrafficSecret = copyByteArray(other.defaultServerHandshakeTrafficSecret);
+        defaultClientApplicationTrafficSecret = copyByteArray(other.defaultClientApplicationTrafficSecret);
+        defaultServerApplicationTrafficSecret = copyByteArray(other.defaultServerApplicationTrafficSecret);
+        defaultTokenBindingType = other.defaultTokenBindingType;
+        defaultTokenBindingECPublicKey = other.defaultTokenBindingECPublicKey;
+        defaultTokenBindingRsaPublicKey = other.defaultTokenBindingRsaPublicKey;
+        defaultTokenBindingRsaPrivateKey = other.defaultTokenBindingRsaPrivateKey;
+        defaultTokenBindingEcPrivateKey = other.defaultTokenBindingEcPrivateKey;
+        defaultTokenBindingRsaModulus = other.defaultTokenBindingRsaModulus;
+        useFreshRandom = other.useFreshRandom;
+        chooserType = other.chooserType;
+        useAllProvidedDtlsFragments = other.useAllProvidedDtlsFragments;
+        useAllProvidedRecords = other.useAllProvidedRecords;
+        httpsParsingEnabled = other.httpsParsingEnabled;
+        defaultHttpsLocationPath = other.defaultHttpsLocationPath;
+        defaultHttpsRequestPath = other.defaultHttpsRequestPath;
+        starttlsType = other.starttlsType;
+        overrideSessionIdForTickets = other.overrideSessionIdForTickets;
+        sessionTicketLifetimeHint = other.sessionTicketLifetimeHint;
+        sessionTicketEncryptionKey = copyByteArray(other.sessionTicketEncryptionKey);
+        sessionTicketKeyHMAC = copyByteArray(other.sessionTicketKeyHMAC);
+        sessionTicketKeyName = copyByteArray(other.sessionTicketKeyName);
+        sessionTicketCipherAlgorithm = other.sessionTicketCipherAlgorithm;
+        sessionTicketMacAlgorithm = other.sessionTicketMacAlgorithm;
+        defaultSessionTicketAgeAdd = copyByteArray(other.defaultSessionTicketAgeAdd);
+        defaultSessionTicketNonce = copyByteArray(other.defaultSessionTicketNonce);
+        defaultSessionTicketIdentity = copyByteArray(other.defaultSessionTicketIdentity);
+        defaultLastClientHello = copyByteArray(other.defaultLastClientHello);
+        clientAuthenticationType = other.clientAuthenticationType;
+        tls13BackwardsCompatibilityMode = other.tls13BackwardsCompatibilityMode;
+        defaultClientPWDUsername = other.defaultClientPWDUsername;
+        defaultPWDProtectGroup = other.defaultPWDProtectGroup;
+        defaultServerPWDProtectPublicKey = other.defaultServerPWDProtectPublicKey;
+        defaultServerPWDProtectPrivateKey = other.defaultServerPWDProtectPrivateKey;
+        defaultServerPWDProtectRandomSecret = other.defaultServerPWDProtectRandomSecret;
+        defaultPWDPassword = other.defaultPWDPassword;
+        defaultPWDIterations = other.defaultPWDIterations;
+        defaultServerPWDPrivate = copyByteArray(other.defaultServerPWDPrivate);
+        defaultServerPWDMask = copyByteArray(other.defaultServerPWDMask);
+        defaultClientPWDPrivate = copyByteArray(other.defaultClientPWDPrivate);
+        defaultClientPWDMask = copyByteArray(other.defaultClientPWDMask);
+        defaultServerPWDSalt = copyByteArray(other.defaultServerPWDSalt);
+        parseInvalidRecordsUnencrypted = other.parseInvalidRecordsUnencrypted;
+        defaultSelectedPointFormat = other.defaultSelectedPointFormat;
+        defaultEsniClientPrivateKey = other.defaultEsniClientPrivateKey;
+        clientSupportedEsniCipherSuites = copyList(other.clientSupportedEsniCipherSuites);
+        clientSupportedEsniNamedGroups = copyList(other.clientSupportedEsniNamedGroups);
+        esniServerKeyPairs = copyList(other.esniServerKeyPairs, KeyShareEntry::createCopy);
+        defaultEsniClientNonce = copyByteArray(other.defaultEsniClientNonce);
+        defaultEsniServerNonce = copyByteArray(other.defaultEsniServerNonce);
+        defaultEsniRecordBytes = copyByteArray(other.defaultEsniRecordBytes);
+        defaultEsniRecordVersion = other.defaultEsniRecordVersion;
+        defaultEsniRecordChecksum = copyByteArray(other.defaultEsniRecordChecksum);
+        defaultEsniServerKeyShareEntries = copyList(other.defaultEsniServerKeyShareEntries, KeyShareStoreEntry::new);
+        defaultEsniServerCipherSuites = copyList(other.defaultEsniServerCipherSuites);
+        defaultEsniPaddedLength = other.defaultEsniPaddedLength;
+        defaultEsniNotBefore = other.defaultEsniNotBefore;
+        defaultEsniNotAfter = other.defaultEsniNotAfter;
+        defaultEsniExtensions = copyList(other.defaultEsniExtensions);
+        acceptOnlyFittingDtlsFragments = other.acceptOnlyFittingDtlsFragments;
+        acceptContentRewritingDtlsFragments = other.acceptContentRewritingDtlsFragments;
+        writeKeylogFile = other.writeKeylogFile;
+        keylogFilePath = other.keylogFilePath;
+    }
+
+    private static byte[] copyByteArray(byte[] array) {
+        return array == null ? null : array.clone();
+    }
+
+    private static <T> List<T> copyList(List<T> list) {
+        return list == null ? null : new LinkedList<>(list);
+    }
+
+    private static <T> List<T> copyList(List<T> list, UnaryOperator<T> elementCopier) {
+        if (list == null) {
+            return null;
+        }
+        List<T> copy = new LinkedList<>();
+        for (T element : list) {
+            copy.add(element == null ? null : elementCopier.apply(element));
+        }
+        return copy;
+    }
+
     public String getDefaultSelectedAlpnProtocol() {
         return defaultSelectedAlpnProtocol;
     }
@@ -1595,9 +1955,7 @@ public class Config implements Serializable {
     }
 
     public Config createCopy() {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        ConfigIO.write(this, stream);
-        return ConfigIO.read(new ByteArrayInputStream(stream.toByteArray()));
+        return new Config(this);
     }
 
     public CertificateType getDefaultSelectedServerCertificateType() {
@@ -2523,6 +2881,22 @@ public class Config implements Serializable {
         this.workflowExecutorType = workflowExecutorType;
     }
 
+    public Integer getDtlsServerPoolSize() {
+        return dtlsServerPoolSize;
+    }
+
+    public void setDtlsServerPoolSize(Integer dtlsServerPoolSize) {
+        this.dtlsServerPoolSize = dtlsServerPoolSize;
+    }
+
+    public Long getDtlsServerPeerIdleTimeout() {
+        return dtlsServerPeerIdleTimeout;
+    }
+
+    public void setDtlsServerPeerIdleTimeout(Long dtlsServerPeerIdleTimeout) {
+        this.dtlsServerPeerIdleTimeout = dtlsServerPeerIdleTimeout;
+    }
+
     public NameType getSniType() {
         return sniType;
     }
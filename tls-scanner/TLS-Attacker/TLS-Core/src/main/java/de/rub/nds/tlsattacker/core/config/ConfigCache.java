@@ -9,8 +9,6 @@
 
 package de.rub.nds.tlsattacker.core.config;
 
-import org.apache.commons.lang3.SerializationUtils;
-
 public class ConfigCache {
 
     private final Config cachedConfig;
@@ -20,7 +18,7 @@ public class ConfigCache {
     }
 
     public Config getCachedCopy() {
-        return SerializationUtils.clone(cachedConfig);
+        return cachedConfig.createCopy();
     }
 
 }
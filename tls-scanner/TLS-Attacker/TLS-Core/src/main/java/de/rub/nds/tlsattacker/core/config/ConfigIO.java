@@ -10,8 +10,6 @@
 package de.rub.nds.tlsattacker.core.config;
 
 import de.rub.nds.tlsattacker.core.config.filter.ConfigDisplayFilter;
-import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
-import de.rub.nds.tlsattacker.core.workflow.WorkflowTraceSerializer;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -21,12 +19,17 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.xml.XMLConstants;
 import javax.xml.bind.DataBindingException;
 import java.nio.charset.StandardCharsets;
-import javax.xml.bind.JAXB;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.ValidationEvent;
 import javax.xml.bind.ValidationEventHandler;
@@ -49,6 +52,21 @@ public class ConfigIO {
      */
     private static JAXBContext context;
 
+    /**
+     * schema compilation is expensive as well, the compiled schema is thread safe
+     */
+    private static Schema schema;
+
+    /**
+     * (un)marshallers are not thread safe but can be reused, idle ones are kept here
+     */
+    private static final Queue<Unmarshaller> UNMARSHALLER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final Queue<Marshaller> MARSHALLER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY =
+        ThreadLocal.withInitial(ConfigIO::createXMLInputFactory);
+
     static synchronized JAXBContext getJAXBContext() throws JAXBException {
         if (context == null) {
             context = JAXBContext.newInstance(Config.class);
@@ -56,17 +74,67 @@ public class ConfigIO {
         return context;
     }
 
+    static synchronized Schema getSchema() throws SAXException, IOException {
+        if (schema == null) {
+            String xsd_source = ConfigSchemaGenerator.AccumulatingSchemaOutputResolver.mapSystemIds();
+            SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            try (InputStream xsdStream = ConfigIO.class.getResourceAsStream("/" + xsd_source)) {
+                schema = sf.newSchema(new StreamSource(xsdStream));
+            }
+        }
+        return schema;
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory xif = XMLInputFactory.newFactory();
+        xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return xif;
+    }
+
+    private static Unmarshaller acquireUnmarshaller() throws JAXBException, SAXException, IOException {
+        Unmarshaller unmarshaller = UNMARSHALLER_POOL.poll();
+        if (unmarshaller == null) {
+            unmarshaller = getJAXBContext().createUnmarshaller();
+            // output any anomalies in the given config file
+            unmarshaller.setEventHandler(new ValidationEventHandler() {
+                @Override
+                public boolean handleEvent(ValidationEvent event) {
+                    // Raise an exception also on warnings
+                    return false;
+                }
+            });
+            unmarshaller.setSchema(getSchema());
+        }
+        return unmarshaller;
+    }
+
+    private static Marshaller acquireMarshaller() throws JAXBException {
+        Marshaller marshaller = MARSHALLER_POOL.poll();
+        if (marshaller == null) {
+            marshaller = getJAXBContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        return marshaller;
+    }
+
     public static void write(Config config, File f) {
-        try {
-            write(config, new FileOutputStream(f));
-        } catch (FileNotFoundException ex) {
+        try (OutputStream os = new FileOutputStream(f)) {
+            write(config, os);
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
     public static void write(Config config, OutputStream os) {
         ByteArrayOutputStream tempStream = new ByteArrayOutputStream();
-        JAXB.marshal(config, tempStream);
+        try {
+            Marshaller marshaller = acquireMarshaller();
+            marshaller.marshal(config, tempStream);
+            MARSHALLER_POOL.offer(marshaller);
+        } catch (JAXBException ex) {
+            throw new DataBindingException(ex);
+        }
         try {
             os.write(new String(tempStream.toByteArray()).getBytes(StandardCharsets.ISO_8859_1));
         } catch (IOException ex) {
@@ -87,37 +155,36 @@ public class ConfigIO {
     }
 
     public static Config read(File f) {
-        try {
-            Unmarshaller unmarshaller = getJAXBContext().createUnmarshaller();
-            // output any anomalies in the given config file
-            unmarshaller.setEventHandler(new ValidationEventHandler() {
-                @Override
-                public boolean handleEvent(ValidationEvent event) {
-                    // Raise an exception also on warnings
-                    return false;
-                }
-            });
-            return read(new FileInputStream(f), unmarshaller);
-        } catch (JAXBException e) {
-            throw new RuntimeException(e);
+        try (InputStream stream = new FileInputStream(f)) {
+            return read(stream);
         } catch (FileNotFoundException e) {
             throw new IllegalArgumentException("File cannot be found");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
     public static Config read(InputStream stream) {
+        return readAll(Collections.singletonList(stream)).get(0);
+    }
+
+    /**
+     * Reads multiple configs with the same unmarshaller. The streams are not closed.
+     *
+     * @param  streams
+     *                 The streams that provide the XML structures
+     * @return         The parsed configs in the order of the streams
+     */
+    public static List<Config> readAll(List<InputStream> streams) {
+        List<Config> configs = new ArrayList<>(streams.size());
         try {
-            Unmarshaller unmarshaller = getJAXBContext().createUnmarshaller();
-            // output any anomalies in the given config file
-            unmarshaller.setEventHandler(new ValidationEventHandler() {
-                @Override
-                public boolean handleEvent(ValidationEvent event) {
-                    // Raise an exception also on warnings
-                    return false;
-                }
-            });
-            return read(stream, unmarshaller);
-        } catch (JAXBException e) {
+            Unmarshaller unmarshaller = acquireUnmarshaller();
+            for (InputStream stream : streams) {
+                configs.add(read(stream, unmarshaller));
+            }
+            UNMARSHALLER_POOL.offer(unmarshaller);
+            return configs;
+        } catch (JAXBException | SAXException | IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -136,19 +203,10 @@ public class ConfigIO {
             throw new IllegalArgumentException("Stream cannot be null");
         }
         try {
-            String xsd_source = ConfigSchemaGenerator.AccumulatingSchemaOutputResolver.mapSystemIds();
-            XMLInputFactory xif = XMLInputFactory.newFactory();
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-            XMLStreamReader xsr = xif.createXMLStreamReader(stream);
-            SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema configSchema =
-                sf.newSchema(new StreamSource(WorkflowTraceSerializer.class.getResourceAsStream("/" + xsd_source)));
-            configSchema.newValidator();
-            unmarshaller.setSchema(configSchema);
+            XMLStreamReader xsr = XML_INPUT_FACTORY.get().createXMLStreamReader(stream);
             Config config = (Config) unmarshaller.unmarshal(xsr);
             return config;
-        } catch (XMLStreamException | SAXException | JAXBException e) {
+        } catch (XMLStreamException | JAXBException e) {
             throw new RuntimeException(e);
         }
     }
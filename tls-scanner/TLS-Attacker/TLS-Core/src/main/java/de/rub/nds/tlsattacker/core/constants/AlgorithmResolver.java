@@ -91,7 +91,27 @@ public class AlgorithmResolver {
         if (cipherSuite.isTLS13()) {
             return null;
         }
-        String cipher = cipherSuite.toString().toUpperCase();
+        KeyExchangeAlgorithm result = cipherSuite.getAttributes().keyExchangeAlgorithm;
+        if (result != null) {
+            return result;
+        }
+        if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
+            || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
+            throw new UnsupportedOperationException(
+                "The CipherSuite:" + cipherSuite.name() + " does not specify a KeyExchangeAlgorithm");
+        }
+        LOGGER.warn("The key exchange algorithm in " + cipherSuite.toString() + " is not supported yet.");
+        return KeyExchangeAlgorithm.RSA;
+    }
+
+    /**
+     * Matches the name of a cipher suite against the known key exchange algorithms.
+     *
+     * @param  cipher
+     *                The upper case name of the cipher suite
+     * @return        The key exchange algorithm or null if the name does not specify a known one
+     */
+    static KeyExchangeAlgorithm matchKeyExchangeAlgorithm(String cipher) {
         if (cipher.contains("TLS_RSA_WITH") || cipher.contains("TLS_RSA_EXPORT")) {
             return KeyExchangeAlgorithm.RSA;
         } else if (cipher.contains("TLS_RSA_PSK_")) {
@@ -151,13 +171,7 @@ public class AlgorithmResolver {
         } else if (cipher.contains("TLS_GOSTR341094")) {
             return KeyExchangeAlgorithm.VKO_GOST01;
         }
-        if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
-            || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
-            throw new UnsupportedOperationException(
-                "The CipherSuite:" + cipherSuite.name() + " does not specify a KeyExchangeAlgorithm");
-        }
-        LOGGER.warn("The key exchange algorithm in " + cipherSuite.toString() + " is not supported yet.");
-        return KeyExchangeAlgorithm.RSA;
+        return null;
     }
 
     /**
@@ -246,7 +260,28 @@ public class AlgorithmResolver {
     }
 
     public static CipherAlgorithm getCipher(CipherSuite cipherSuite) {
-        String cipher = cipherSuite.toString().toUpperCase();
+        CipherAlgorithm result = cipherSuite.getAttributes().cipherAlgorithm;
+        if (result != null) {
+            return result;
+        }
+        if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
+            || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
+            throw new UnsupportedOperationException(
+                "The CipherSuite:" + cipherSuite.name() + " does not specify a CipherAlgorithm");
+        }
+
+        LOGGER.warn("The cipher algorithm in " + cipherSuite + " is not supported yet. Falling back to NULL.");
+        return CipherAlgorithm.NULL;
+    }
+
+    /**
+     * Matches the name of a cipher suite against the known cipher algorithms.
+     *
+     * @param  cipher
+     *                The upper case name of the cipher suite
+     * @return        The cipher algorithm or null if the name does not specify a known one
+     */
+    static CipherAlgorithm matchCipherAlgorithm(String cipher) {
         if (cipher.contains("NULL")) {
             return CipherAlgorithm.NULL;
         } else if (cipher.contains("IDEA")) {
@@ -302,14 +337,7 @@ public class AlgorithmResolver {
                 return CipherAlgorithm.CHACHA20_POLY1305;
             }
         }
-        if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
-            || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
-            throw new UnsupportedOperationException(
-                "The CipherSuite:" + cipherSuite.name() + " does not specify a CipherAlgorithm");
-        }
-
-        LOGGER.warn("The cipher algorithm in " + cipherSuite + " is not supported yet. Falling back to NULL.");
-        return CipherAlgorithm.NULL;
+        return null;
     }
 
     /**
@@ -327,14 +355,9 @@ public class AlgorithmResolver {
      * @return             The CipherType of the Cipher suite
      */
     public static CipherType getCipherType(CipherSuite cipherSuite) {
-        String cs = cipherSuite.toString().toUpperCase();
-        if (cipherSuite.isGCM() || cipherSuite.isCCM() || cipherSuite.isOCB() || cipherSuite.usesStrictExplicitIv()) {
-            return CipherType.AEAD;
-        } else if (cs.contains("AES") || cs.contains("DES") || cs.contains("IDEA") || cs.contains("WITH_FORTEZZA")
-            || cs.contains("CAMELLIA") || cs.contains("WITH_SEED") || cs.contains("WITH_ARIA") || cs.contains("RC2")) {
-            return CipherType.BLOCK;
-        } else if (cs.contains("RC4") || cs.contains("WITH_NULL") || cs.contains("28147_CNT")) {
-            return CipherType.STREAM;
+        CipherType result = cipherSuite.getAttributes().cipherType;
+        if (result != null) {
+            return result;
         }
         if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
             || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
@@ -344,39 +367,35 @@ public class AlgorithmResolver {
         throw new UnsupportedOperationException("Cipher suite " + cipherSuite + " is not supported yet.");
     }
 
+    /**
+     * Matches the name of a cipher suite against the known cipher types.
+     *
+     * @param  cs
+     *              The upper case name of the cipher suite
+     * @param  aead
+     *              True if the cipher suite uses an AEAD mode
+     * @return      The cipher type or null if the name does not specify a known one
+     */
+    static CipherType matchCipherType(String cs, boolean aead) {
+        if (aead) {
+            return CipherType.AEAD;
+        } else if (cs.contains("AES") || cs.contains("DES") || cs.contains("IDEA") || cs.contains("WITH_FORTEZZA")
+            || cs.contains("CAMELLIA") || cs.contains("WITH_SEED") || cs.contains("WITH_ARIA") || cs.contains("RC2")) {
+            return CipherType.BLOCK;
+        } else if (cs.contains("RC4") || cs.contains("WITH_NULL") || cs.contains("28147_CNT")) {
+            return CipherType.STREAM;
+        }
+        return null;
+    }
+
     public static MacAlgorithm getMacAlgorithm(ProtocolVersion protocolVersion, CipherSuite cipherSuite) {
-        MacAlgorithm result = null;
+        MacAlgorithm result;
         if (getCipherType(cipherSuite) == CipherType.AEAD) {
             result = MacAlgorithm.AEAD;
+        } else if (protocolVersion.isSSL()) {
+            result = cipherSuite.getAttributes().sslMacAlgorithm;
         } else {
-            String cipher = cipherSuite.toString();
-            if (cipher.contains("MD5")) {
-                if (protocolVersion.isSSL()) {
-                    result = MacAlgorithm.SSLMAC_MD5;
-                } else {
-                    result = MacAlgorithm.HMAC_MD5;
-                }
-            } else if (cipher.endsWith("SHA")) {
-                if (protocolVersion.isSSL()) {
-                    result = MacAlgorithm.SSLMAC_SHA1;
-                } else {
-                    result = MacAlgorithm.HMAC_SHA1;
-                }
-            } else if (cipher.contains("SHA256")) {
-                result = MacAlgorithm.HMAC_SHA256;
-            } else if (cipher.contains("SHA384")) {
-                result = MacAlgorithm.HMAC_SHA384;
-            } else if (cipher.contains("SHA512")) {
-                result = MacAlgorithm.HMAC_SHA512;
-            } else if (cipher.endsWith("NULL")) {
-                result = MacAlgorithm.NULL;
-            } else if (cipher.endsWith("IMIT")) {
-                result = MacAlgorithm.IMIT_GOST28147;
-            } else if (cipherSuite.usesGOSTR3411()) {
-                result = MacAlgorithm.HMAC_GOSTR3411;
-            } else if (cipherSuite.usesGOSTR34112012()) {
-                result = MacAlgorithm.HMAC_GOSTR3411_2012_256;
-            }
+            result = cipherSuite.getAttributes().macAlgorithm;
         }
         if (cipherSuite == CipherSuite.TLS_FALLBACK_SCSV
             || cipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV) {
@@ -392,14 +411,44 @@ public class AlgorithmResolver {
         }
     }
 
-    public static HKDFAlgorithm getHKDFAlgorithm(CipherSuite cipherSuite) {
-        HKDFAlgorithm result = null;
-        String cipher = cipherSuite.toString();
-        if (cipher.endsWith("SHA256")) {
-            result = HKDFAlgorithm.TLS_HKDF_SHA256;
-        } else if (cipher.endsWith("SHA384")) {
-            result = HKDFAlgorithm.TLS_HKDF_SHA384;
+    /**
+     * Matches the name of a non-AEAD cipher suite against the known MAC algorithms.
+     *
+     * @param  cipher
+     *                       The name of the cipher suite
+     * @param  ssl
+     *                       True if the MAC for SSL should be returned
+     * @param  gostR3411
+     *                       True if the cipher suite uses GOST R 34.11-94
+     * @param  gostR34112012
+     *                       True if the cipher suite uses GOST R 34.11-2012
+     * @return               The MAC algorithm or null if the name does not specify a known one
+     */
+    static MacAlgorithm matchMacAlgorithm(String cipher, boolean ssl, boolean gostR3411, boolean gostR34112012) {
+        if (cipher.contains("MD5")) {
+            return ssl ? MacAlgorithm.SSLMAC_MD5 : MacAlgorithm.HMAC_MD5;
+        } else if (cipher.endsWith("SHA")) {
+            return ssl ? MacAlgorithm.SSLMAC_SHA1 : MacAlgorithm.HMAC_SHA1;
+        } else if (cipher.contains("SHA256")) {
+            return MacAlgorithm.HMAC_SHA256;
+        } else if (cipher.contains("SHA384")) {
+            return MacAlgorithm.HMAC_SHA384;
+        } else if (cipher.contains("SHA512")) {
+            return MacAlgorithm.HMAC_SHA512;
+        } else if (cipher.endsWith("NULL")) {
+            return MacAlgorithm.NULL;
+        } else if (cipher.endsWith("IMIT")) {
+            return MacAlgorithm.IMIT_GOST28147;
+        } else if (gostR3411) {
+            return MacAlgorithm.HMAC_GOSTR3411;
+        } else if (gostR34112012) {
+            return MacAlgorithm.HMAC_GOSTR3411_2012_256;
         }
+        return null;
+    }
+
+    public static HKDFAlgorithm getHKDFAlgorithm(CipherSuite cipherSuite) {
+        HKDFAlgorithm result = cipherSuite.getAttributes().hkdfAlgorithm;
         if (result != null) {
             LOGGER.debug("Using the following HKDF Algorithm: {}", result);
             return result;
@@ -410,6 +459,22 @@ public class AlgorithmResolver {
         }
     }
 
+    /**
+     * Matches the name of a cipher suite against the known HKDF algorithms.
+     *
+     * @param  cipher
+     *                The name of the cipher suite
+     * @return        The HKDF algorithm or null if the name does not specify a known one
+     */
+    static HKDFAlgorithm matchHKDFAlgorithm(String cipher) {
+        if (cipher.endsWith("SHA256")) {
+            return HKDFAlgorithm.TLS_HKDF_SHA256;
+        } else if (cipher.endsWith("SHA384")) {
+            return HKDFAlgorithm.TLS_HKDF_SHA384;
+        }
+        return null;
+    }
+
     /**
      * Returns the signature algorithm required for the authentication type specified by cipher suite.
      *
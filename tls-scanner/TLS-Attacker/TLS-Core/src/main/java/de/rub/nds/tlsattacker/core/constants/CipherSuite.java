@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.exceptions.UnknownCipherSuiteException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -439,6 +440,11 @@ public enum CipherSuite {
 
     private static final Map<Integer, CipherSuite> MAP;
 
+    /**
+     * Precomputed classification of this suite, set once all constants are initialized
+     */
+    private CipherSuiteAttributes attributes;
+
     private CipherSuite(int value) {
         this.value = value;
     }
@@ -516,41 +522,35 @@ public enum CipherSuite {
      * @return True if the cipher suite is Ephemeral
      */
     public boolean isEphemeral() {
-        return this.name().contains("DHE_") || this.isAnon() || this.isPWD() || this.isTLS13();
+        return attributes.ephemeral;
     }
 
     public boolean isPskOrDhPsk() {
-        if (!this.name().contains("RSA")) {
-            return this.name().contains("PSK");
-        } else {
-            return false;
-        }
+        return attributes.pskOrDhPsk;
     }
 
     public boolean isPsk() {
-        return this.name().contains("PSK");
+        return attributes.psk;
     }
 
     public boolean isSrpSha() {
-        return this.name().contains("SRP_SHA");
-
+        return attributes.srpSha;
     }
 
     public boolean isSrp() {
-        return this.name().contains("SRP_");
+        return attributes.srp;
     }
 
     public boolean isExport() {
-        return this.name().contains("EXPORT");
+        return attributes.export;
     }
 
     public boolean isGrease() {
-        return this.name().contains("GREASE");
+        return attributes.grease;
     }
 
     public boolean isExportSymmetricCipher() {
-        return this.name().contains("DES40") || this.name().contains("RC4_40") || this.name().contains("RC2_CBC_40")
-            || this.name().contains("DES_CBC_40");
+        return attributes.exportSymmetricCipher;
     }
 
     /**
@@ -559,7 +559,7 @@ public enum CipherSuite {
      * @return True if the cipher suite is cbc
      */
     public boolean isCBC() {
-        return (this.name().contains("_CBC"));
+        return attributes.cbc;
     }
 
     public Boolean isUsingPadding(ProtocolVersion protocolVersion) {
@@ -580,68 +580,55 @@ public enum CipherSuite {
     }
 
     public boolean isUsingMac() {
-        if (this.name().contains("NULL")) {
-            String cipher = this.toString();
-            if (cipher.endsWith("NULL")) {
-                return false;
-            }
-            String[] hashFunctionNames = { "MD5", "SHA", "SHA256", "SHA384", "SHA512", "IMIT", "GOSTR3411" };
-            for (String hashFunction : hashFunctionNames) {
-                if (cipher.endsWith(hashFunction)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-        return (this.name().contains("_CBC") || this.name().contains("RC4") || this.name().contains("CNT"));
+        return attributes.usingMac;
     }
 
     public boolean isSCSV() {
-        return (this.name().contains("SCSV"));
+        return attributes.scsv;
     }
 
     public boolean isGCM() {
-        return (this.name().contains("_GCM"));
+        return attributes.gcm;
     }
 
     public boolean isCCM() {
-        return (this.name().contains("_CCM"));
+        return attributes.ccm;
     }
 
     public boolean isCCM_8() {
-        return (this.name().contains("_CCM_8"));
+        return attributes.ccm8;
     }
 
     public boolean isOCB() {
-        return (this.name().contains("_OCB"));
+        return attributes.ocb;
     }
 
     public boolean isSteamCipherWithIV() {
-        return this.name().contains("28147_CNT");
+        return attributes.streamCipherWithIv;
     }
 
     public boolean isAEAD() {
-        return this.isCCM() || this.isChachaPoly() || this.isGCM() || this.isOCB();
+        return attributes.aead;
     }
 
     public boolean usesSHA384() {
-        return this.name().endsWith("SHA384");
+        return attributes.endsWithSha384;
     }
 
     public boolean usesGOSTR3411() {
-        return this.name().startsWith("TLS_GOSTR3410");
+        return attributes.gostR3411;
     }
 
     public boolean usesGOSTR34112012() {
-        return this.name().startsWith("TLS_GOSTR3411");
+        return attributes.gostR34112012;
     }
 
     public boolean usesStrictExplicitIv() {
-        return (this.name().contains("CHACHA20_POLY1305"));
+        return attributes.strictExplicitIv;
     }
 
     public boolean usesDH() {
-        return (this.name().contains("_DH"));
+        return attributes.usesDh;
     }
 
     /**
@@ -661,10 +648,10 @@ public enum CipherSuite {
             return version == ProtocolVersion.TLS13;
         }
 
-        if (this.name().endsWith("256") || this.name().endsWith("384") || this.isCCM() || this.isCCM_8()) {
+        if (attributes.tls12Only) {
             return ((version == ProtocolVersion.TLS12) || (version == ProtocolVersion.DTLS12));
         }
-        if (this.name().contains("IDEA") || this.name().contains("_DES") || this.isExportSymmetricCipher()) {
+        if (attributes.legacyOnly) {
             return !((version == ProtocolVersion.TLS12) || (version == ProtocolVersion.DTLS12));
         }
 
@@ -1063,55 +1050,55 @@ public enum CipherSuite {
      * @return True if the Ciphersuite is supported in TLS 1.3
      */
     public boolean isTLS13() {
-        return this.getByteValue()[0] == (byte) 0x13 && this.getByteValue()[1] != (byte) 0x00;
+        return attributes.tls13;
     }
 
     public boolean isImplemented() {
-        return getImplemented().contains(this);
+        return attributes.implemented;
     }
 
     public boolean isSHA() {
-        return this.name().endsWith("SHA");
+        return attributes.sha;
     }
 
     public boolean isSHA256() {
-        return this.name().contains("SHA256");
+        return attributes.sha256;
     }
 
     public boolean isChachaPoly() {
-        return this.name().contains("CHACHA");
+        return attributes.chachaPoly;
     }
 
     public boolean isSHA384() {
-        return this.name().contains("SHA384");
+        return attributes.sha384;
     }
 
     public boolean isSHA512() {
-        return this.name().contains("SHA512");
+        return attributes.sha512;
     }
 
     public boolean isECDSA() {
-        return this.name().contains("ECDSA");
+        return attributes.ecdsa;
     }
 
     public boolean isAnon() {
-        return this.name().contains("anon");
+        return attributes.anon;
     }
 
     public boolean isNull() {
-        return this.name().toLowerCase().contains("null");
+        return attributes.nullCipher;
     }
 
     public boolean isPWD() {
-        return this.name().contains("PWD");
+        return attributes.pwd;
     }
 
     public boolean isDSS() {
-        return this.name().contains("DSS");
+        return attributes.dss;
     }
 
     public boolean isGOST() {
-        return this.name().contains("GOST");
+        return attributes.gost;
     }
 
     // Note: We don't consider DES as weak for these purposes.
@@ -1122,4 +1109,15 @@ public enum CipherSuite {
     public boolean requiresServerCertificateMessage() {
         return !this.isSrpSha() && !this.isPskOrDhPsk() && !this.isAnon() && !this.isPWD();
     }
+
+    CipherSuiteAttributes getAttributes() {
+        return attributes;
+    }
+
+    static {
+        Set<CipherSuite> implemented = EnumSet.copyOf(getImplemented());
+        for (CipherSuite suite : values()) {
+            suite.attributes = new CipherSuiteAttributes(suite, implemented.contains(suite));
+        }
+    }
 }
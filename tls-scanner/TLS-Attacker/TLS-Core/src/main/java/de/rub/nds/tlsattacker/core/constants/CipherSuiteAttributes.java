@@ -0,0 +1,150 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.constants;
+
+/**
+ * Immutable classification of a single cipher suite. All attributes are derived from the name and value of the suite
+ * once, when the CipherSuite enum is initialized, so the checks in the record layer and the probes do not have to match
+ * strings on every call.
+ */
+final class CipherSuiteAttributes {
+
+    final boolean tls13;
+    final boolean implemented;
+
+    final boolean psk;
+    final boolean pskOrDhPsk;
+    final boolean srp;
+    final boolean srpSha;
+    final boolean anon;
+    final boolean pwd;
+    final boolean dss;
+    final boolean ecdsa;
+    final boolean gost;
+    final boolean usesDh;
+    final boolean ephemeral;
+
+    final boolean export;
+    final boolean exportSymmetricCipher;
+    final boolean grease;
+    final boolean scsv;
+    final boolean nullCipher;
+
+    final boolean cbc;
+    final boolean gcm;
+    final boolean ccm;
+    final boolean ccm8;
+    final boolean ocb;
+    final boolean chachaPoly;
+    final boolean streamCipherWithIv;
+    final boolean strictExplicitIv;
+    final boolean aead;
+    final boolean usingMac;
+
+    final boolean sha;
+    final boolean sha256;
+    final boolean sha384;
+    final boolean sha512;
+    final boolean endsWithSha384;
+    final boolean gostR3411;
+    final boolean gostR34112012;
+
+    /**
+     * Suites that can only be negotiated in (D)TLS 1.2
+     */
+    final boolean tls12Only;
+    /**
+     * Suites that can not be negotiated in (D)TLS 1.2
+     */
+    final boolean legacyOnly;
+
+    /**
+     * Null if the suite does not specify the respective algorithm, the AlgorithmResolver handles those suites
+     */
+    final KeyExchangeAlgorithm keyExchangeAlgorithm;
+    final CipherAlgorithm cipherAlgorithm;
+    final CipherType cipherType;
+    final MacAlgorithm macAlgorithm;
+    final MacAlgorithm sslMacAlgorithm;
+    final HKDFAlgorithm hkdfAlgorithm;
+
+    CipherSuiteAttributes(CipherSuite suite, boolean implemented) {
+        String name = suite.name();
+        byte[] value = suite.getByteValue();
+        this.tls13 = value[0] == (byte) 0x13 && value[1] != (byte) 0x00;
+        this.implemented = implemented;
+
+        psk = name.contains("PSK");
+        pskOrDhPsk = !name.contains("RSA") && psk;
+        srp = name.contains("SRP_");
+        srpSha = name.contains("SRP_SHA");
+        anon = name.contains("anon");
+        pwd = name.contains("PWD");
+        dss = name.contains("DSS");
+        ecdsa = name.contains("ECDSA");
+        gost = name.contains("GOST");
+        usesDh = name.contains("_DH");
+        ephemeral = name.contains("DHE_") || anon || pwd || tls13;
+
+        export = name.contains("EXPORT");
+        exportSymmetricCipher = name.contains("DES40") || name.contains("RC4_40") || name.contains("RC2_CBC_40")
+            || name.contains("DES_CBC_40");
+        grease = name.contains("GREASE");
+        scsv = name.contains("SCSV");
+        nullCipher = name.toLowerCase().contains("null");
+
+        cbc = name.contains("_CBC");
+        gcm = name.contains("_GCM");
+        ccm = name.contains("_CCM");
+        ccm8 = name.contains("_CCM_8");
+        ocb = name.contains("_OCB");
+        chachaPoly = name.contains("CHACHA");
+        streamCipherWithIv = name.contains("28147_CNT");
+        strictExplicitIv = name.contains("CHACHA20_POLY1305");
+        aead = ccm || chachaPoly || gcm || ocb;
+        usingMac = isUsingMac(name);
+
+        sha = name.endsWith("SHA");
+        sha256 = name.contains("SHA256");
+        sha384 = name.contains("SHA384");
+        sha512 = name.contains("SHA512");
+        endsWithSha384 = name.endsWith("SHA384");
+        gostR3411 = name.startsWith("TLS_GOSTR3410");
+        gostR34112012 = name.startsWith("TLS_GOSTR3411");
+
+        tls12Only = name.endsWith("256") || name.endsWith("384") || ccm || ccm8;
+        legacyOnly = name.contains("IDEA") || name.contains("_DES") || exportSymmetricCipher;
+
+        String upperCaseName = name.toUpperCase();
+        keyExchangeAlgorithm = AlgorithmResolver.matchKeyExchangeAlgorithm(upperCaseName);
+        cipherAlgorithm = AlgorithmResolver.matchCipherAlgorithm(upperCaseName);
+        cipherType = AlgorithmResolver.matchCipherType(upperCaseName, gcm || ccm || ocb || strictExplicitIv);
+        // only used for suites without AEAD
+        macAlgorithm = AlgorithmResolver.matchMacAlgorithm(name, false, gostR3411, gostR34112012);
+        sslMacAlgorithm = AlgorithmResolver.matchMacAlgorithm(name, true, gostR3411, gostR34112012);
+        hkdfAlgorithm = AlgorithmResolver.matchHKDFAlgorithm(name);
+    }
+
+    private static boolean isUsingMac(String name) {
+        if (name.contains("NULL")) {
+            if (name.endsWith("NULL")) {
+                return false;
+            }
+            String[] hashFunctionNames = { "MD5", "SHA", "SHA256", "SHA384", "SHA512", "IMIT", "GOSTR3411" };
+            for (String hashFunction : hashFunctionNames) {
+                if (name.endsWith(hashFunction)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return name.contains("_CBC") || name.contains("RC4") || name.contains("CNT");
+    }
+}
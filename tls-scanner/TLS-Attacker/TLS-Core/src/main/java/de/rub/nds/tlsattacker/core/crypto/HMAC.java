@@ -9,7 +9,6 @@
 
 package de.rub.nds.tlsattacker.core.crypto;
 
-import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.constants.MacAlgorithm;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,6 +26,8 @@ public class HMAC {
     private byte[] opad;
     private byte[] ipad;
     private byte[] secret;
+    private byte[] innerKey;
+    private byte[] outerKey;
     private MacAlgorithm macAlgorithm;
     private MessageDigest digest;
 
@@ -103,6 +104,9 @@ public class HMAC {
                 this.opad = new byte[0];
                 this.ipad = new byte[0];
         }
+        // the padded keys do not change until the next init, so they are only xored once
+        this.innerKey = xorBytes(this.secret, this.ipad);
+        this.outerKey = xorBytes(this.secret, this.opad);
     }
 
     /**
@@ -116,8 +120,10 @@ public class HMAC {
      */
     public byte[] doFinal(byte[] data) throws NoSuchAlgorithmException {
         // hmac = hmac_<hash>(<hash>(secret XOR opad) || <hash>(secret XOR ipad || data))
-        byte[] hash = this.digest.digest(ArrayConverter.concatenate(xorBytes(this.secret, this.ipad), data));
-        return this.digest.digest(ArrayConverter.concatenate(xorBytes(this.secret, this.opad), hash));
+        this.digest.update(this.innerKey);
+        byte[] hash = this.digest.digest(data);
+        this.digest.update(this.outerKey);
+        return this.digest.digest(hash);
     }
 
     /*
@@ -14,90 +14,144 @@ import de.rub.nds.tlsattacker.core.constants.AlgorithmResolver;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.DigestAlgorithm;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Computes message digest for two algorithms at once, typically for MD5 and SHA1 for TLS 1.0. At the end it returns
  * MD5(value) || SHA1(value). For TLS 1.2 SHA256 is used, as described in the RFC.
+ *
+ * For every hash algorithm which has been queried once, a running digest is kept which is updated whenever bytes are
+ * appended. A digest query therefore only clones the running digest instead of hashing the whole transcript again. The
+ * raw transcript is kept as well for code which needs the bytes themselves.
  */
 public class MessageDigestCollector {
 
-    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int INITIAL_CAPACITY = 1024;
 
-    private ByteArrayOutputStream stream;
+    /**
+     * The transcript, only the first length bytes are valid. Bytes below length are never overwritten, a new array is
+     * allocated instead, so snapshots can share the array.
+     */
+    private byte[] transcript;
+
+    private int length;
+
+    /**
+     * Running digests of the transcript, keyed by the java name of their algorithm
+     */
+    private final Map<String, MessageDigest> runningDigests = new LinkedHashMap<>();
 
     /**
      * Default constructor.
      */
     public MessageDigestCollector() {
-        stream = new ByteArrayOutputStream();
+        transcript = new byte[INITIAL_CAPACITY];
+        length = 0;
     }
 
     public void append(byte[] bytes) {
-        try {
-            stream.write(bytes);
-        } catch (IOException ex) {
-            // Should never fail
-            LOGGER.error("Could not append bytes to Stream", ex);
+        if (transcript.length - length < bytes.length) {
+            transcript = Arrays.copyOf(transcript, Math.max(2 * transcript.length, length + bytes.length));
+        }
+        System.arraycopy(bytes, 0, transcript, length, bytes.length);
+        length += bytes.length;
+        for (MessageDigest runningDigest : runningDigests.values()) {
+            runningDigest.update(bytes);
         }
     }
 
     public byte[] digest(ProtocolVersion version, CipherSuite suite) {
         try {
-            MessageDigest hash1;
-            MessageDigest hash2 = null;
             DigestAlgorithm algorithm = AlgorithmResolver.getDigestAlgorithm(version, suite);
-            if (null == algorithm) {
-                hash1 = MessageDigest.getInstance(algorithm.getJavaName());
-            } else {
-                switch (algorithm) {
-                    case SSL_DIGEST:
-                        throw new RuntimeException("Unsupported DigestAlgorithm SSL_DIGEST");
-                    case LEGACY:
-                        hash1 = MessageDigest.getInstance("MD5");
-                        hash2 = MessageDigest.getInstance("SHA-1");
-                        break;
-                    default:
-                        hash1 = MessageDigest.getInstance(algorithm.getJavaName());
-                        break;
-                }
+            switch (algorithm) {
+                case SSL_DIGEST:
+                    throw new RuntimeException("Unsupported DigestAlgorithm SSL_DIGEST");
+                case LEGACY:
+                    return ArrayConverter.concatenate(digest("MD5"), digest("SHA-1"));
+                default:
+                    return digest(algorithm.getJavaName());
             }
-            hash1.update(stream.toByteArray());
-            byte[] digest = hash1.digest();
-            if (hash2 != null) {
-                hash2.update(stream.toByteArray());
-                byte[] d2 = hash2.digest();
-                digest = ArrayConverter.concatenate(digest, d2);
-            }
-            return digest;
         } catch (NoSuchAlgorithmException ex) {
             throw new UnsupportedOperationException("Unsupported Hash algorithm!");
         }
+    }
 
+    private byte[] digest(String javaName) throws NoSuchAlgorithmException {
+        MessageDigest runningDigest = runningDigests.get(javaName);
+        if (runningDigest == null) {
+            runningDigest = MessageDigest.getInstance(javaName);
+            runningDigest.update(transcript, 0, length);
+            runningDigests.put(javaName, runningDigest);
+        }
+        try {
+            return ((MessageDigest) runningDigest.clone()).digest();
+        } catch (CloneNotSupportedException ex) {
+            MessageDigest hash = MessageDigest.getInstance(javaName);
+            hash.update(transcript, 0, length);
+            return hash.digest();
+        }
     }
 
     public void reset() {
-        stream = new ByteArrayOutputStream();
+        setRawBytes(null);
     }
 
     public byte[] getRawBytes() {
-        return stream.toByteArray();
+        return Arrays.copyOf(transcript, length);
     }
 
     public void setRawBytes(byte[] rawBytes) {
-        reset();
-        try {
-            if (rawBytes != null) {
-                stream.write(rawBytes);
-            }
-        } catch (IOException ex) {
-            // Should never fail
-            LOGGER.error("Could not set RawBytes in MessageDigestCollector", ex);
+        transcript = new byte[INITIAL_CAPACITY];
+        length = 0;
+        // the running digests catch up with the new transcript on their next query
+        runningDigests.clear();
+        if (rawBytes != null) {
+            append(rawBytes);
+        }
+    }
+
+    /**
+     * Captures the current transcript without copying it.
+     *
+     * @return A snapshot which can later be passed to {@link #restore(Snapshot)}
+     */
+    public Snapshot createSnapshot() {
+        return new Snapshot(transcript, length);
+    }
+
+    /**
+     * Resets the transcript to the state of a snapshot, e.g., if received messages have to be parsed again.
+     *
+     * @param snapshot
+     *                 A snapshot of this collector
+     */
+    public void restore(Snapshot snapshot) {
+        if (snapshot.transcript == transcript && snapshot.length == length) {
+            return;
+        }
+        setRawBytes(Arrays.copyOf(snapshot.transcript, snapshot.length));
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * The transcript of a MessageDigestCollector at a point in time
+     */
+    public static class Snapshot {
+
+        private final byte[] transcript;
+
+        private final int length;
+
+        private Snapshot(byte[] transcript, int length) {
+            this.transcript = transcript;
+            this.length = length;
         }
     }
 }
@@ -20,6 +20,8 @@ import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,6 +70,12 @@ public class PseudoRandomFunction {
      */
     private static final byte sByte = 0x41;
 
+    /**
+     * HMAC instances of the current thread, reinitialized with the secret of each computation
+     */
+    private static final ThreadLocal<Map<MacAlgorithm, HMAC>> HMAC_POOL =
+        ThreadLocal.withInitial(() -> new EnumMap<>(MacAlgorithm.class));
+
     /**
      * Computes the PRF output for SSL3 of the provided size
      *
@@ -169,8 +177,8 @@ public class PseudoRandomFunction {
             byte[] labelSeed = ArrayConverter.concatenate(label.getBytes(Charset.forName("ASCII")), seed);
             byte[] pseudoRandomBitStream = new byte[size];
 
-            HMAC hmacMd5 = new HMAC(MacAlgorithm.HMAC_MD5);
-            HMAC hmacSha1 = new HMAC(MacAlgorithm.HMAC_SHA1);
+            HMAC hmacMd5 = getHmac(MacAlgorithm.HMAC_MD5);
+            HMAC hmacSha1 = getHmac(MacAlgorithm.HMAC_SHA1);
 
             /*
              * Divides the secret into two halves, s1 and s2
@@ -226,7 +234,7 @@ public class PseudoRandomFunction {
         throws CryptoException {
         try {
             byte[] labelSeed = ArrayConverter.concatenate(label.getBytes(Charset.forName("ASCII")), seed);
-            HMAC hmac = new HMAC(macAlgorithm);
+            HMAC hmac = getHmac(macAlgorithm);
             hmac.init(secret);
 
             /*
@@ -279,6 +287,16 @@ public class PseudoRandomFunction {
         return Arrays.copyOf(extendedSecret.toByteArray(), size);
     }
 
+    private static HMAC getHmac(MacAlgorithm macAlgorithm) throws NoSuchAlgorithmException {
+        Map<MacAlgorithm, HMAC> pool = HMAC_POOL.get();
+        HMAC hmac = pool.get(macAlgorithm);
+        if (hmac == null) {
+            hmac = new HMAC(macAlgorithm);
+            pool.put(macAlgorithm, hmac);
+        }
+        return hmac;
+    }
+
     private PseudoRandomFunction() {
     }
 }
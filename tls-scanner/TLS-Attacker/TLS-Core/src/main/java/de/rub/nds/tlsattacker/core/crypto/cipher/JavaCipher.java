@@ -15,6 +15,9 @@ import de.rub.nds.tlsattacker.core.exceptions.CryptoException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.HashMap;
+import java.util.Map;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -39,12 +42,51 @@ class JavaCipher extends BaseCipher {
 
     private Cipher cipher = null;
 
+    private SecretKeySpec keySpec = null;
+
+    /**
+     * Cipher instances of the current thread by algorithm. Operations with an IV reinitialize the instance, which skips
+     * the provider lookup and, for an unchanged key, the key schedule.
+     */
+    private static final ThreadLocal<Map<String, Cipher>> CIPHER_POOL = ThreadLocal.withInitial(HashMap::new);
+
     public JavaCipher(CipherAlgorithm algorithm, byte[] key, boolean keepCipherState) {
         this.algorithm = algorithm;
         this.key = key;
         this.keepCipherState = keepCipherState;
     }
 
+    private SecretKeySpec getKeySpec() {
+        if (keySpec == null) {
+            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
+            keySpec = new SecretKeySpec(key, keySpecAlgorithm);
+        }
+        return keySpec;
+    }
+
+    /**
+     * Returns the pooled cipher of the current thread, initialized with the key of this cipher and the given IV
+     */
+    private Cipher getInitializedCipher(int mode, AlgorithmParameterSpec parameterSpec) throws NoSuchAlgorithmException,
+        NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException {
+        Map<String, Cipher> pool = CIPHER_POOL.get();
+        Cipher pooledCipher = pool.get(algorithm.getJavaName());
+        if (pooledCipher != null) {
+            try {
+                pooledCipher.init(mode, getKeySpec(), parameterSpec);
+                return pooledCipher;
+            } catch (InvalidAlgorithmParameterException ex) {
+                // some providers refuse to encrypt twice with the same key and GCM nonce on one instance, which we
+                // have to allow, so we fall back to a fresh instance
+                LOGGER.debug("Could not reinitialize pooled cipher, creating a new instance", ex);
+            }
+        }
+        Cipher newCipher = Cipher.getInstance(algorithm.getJavaName());
+        newCipher.init(mode, getKeySpec(), parameterSpec);
+        pool.put(algorithm.getJavaName(), newCipher);
+        return newCipher;
+    }
+
     @Override
     public int getBlocksize() {
         return algorithm.getBlocksize();
@@ -54,9 +96,7 @@ class JavaCipher extends BaseCipher {
     public byte[] encrypt(byte[] iv, byte[] someBytes) throws CryptoException {
         IvParameterSpec encryptIv = new IvParameterSpec(iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), encryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.ENCRYPT_MODE, encryptIv);
             byte[] result = cipher.doFinal(someBytes);
             this.iv = cipher.getIV();
             return result;
@@ -73,8 +113,7 @@ class JavaCipher extends BaseCipher {
         try {
             if (cipher == null) {
                 cipher = Cipher.getInstance(algorithm.getJavaName());
-                String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-                cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm));
+                cipher.init(Cipher.ENCRYPT_MODE, getKeySpec());
             }
             if (keepCipherState) {
                 return cipher.update(someBytes);
@@ -91,9 +130,7 @@ class JavaCipher extends BaseCipher {
     public byte[] encrypt(byte[] iv, int tagLength, byte[] someBytes) throws CryptoException {
         GCMParameterSpec encryptIv = new GCMParameterSpec(tagLength, iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), encryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.ENCRYPT_MODE, encryptIv);
             byte[] result = cipher.doFinal(someBytes);
             this.iv = cipher.getIV();
             return result;
@@ -109,10 +146,7 @@ class JavaCipher extends BaseCipher {
         throws CryptoException {
         GCMParameterSpec encryptIv = new GCMParameterSpec(tagLength, iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), encryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.ENCRYPT_MODE, encryptIv);
             cipher.updateAAD(additionAuthenticatedData);
             byte[] result = cipher.doFinal(someBytes);
             this.iv = cipher.getIV();
@@ -138,9 +172,7 @@ class JavaCipher extends BaseCipher {
     public byte[] decrypt(byte[] iv, byte[] someBytes) throws CryptoException {
         IvParameterSpec decryptIv = new IvParameterSpec(iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), decryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.DECRYPT_MODE, decryptIv);
             byte[] result = cipher.doFinal(someBytes);
             if (result.length >= getBlocksize()) {
                 this.iv = new byte[getBlocksize()];
@@ -158,8 +190,7 @@ class JavaCipher extends BaseCipher {
         try {
             if (cipher == null) {
                 cipher = Cipher.getInstance(algorithm.getJavaName());
-                String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-                cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm));
+                cipher.init(Cipher.DECRYPT_MODE, getKeySpec());
             }
 
             if (keepCipherState) {
@@ -177,9 +208,7 @@ class JavaCipher extends BaseCipher {
     public byte[] decrypt(byte[] iv, int tagLength, byte[] someBytes) throws CryptoException {
         GCMParameterSpec decryptIv = new GCMParameterSpec(tagLength, iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), decryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.DECRYPT_MODE, decryptIv);
             byte[] result = cipher.doFinal(someBytes);
             if (result.length >= getBlocksize()) {
                 this.iv = new byte[getBlocksize()];
@@ -197,9 +226,7 @@ class JavaCipher extends BaseCipher {
         throws CryptoException {
         GCMParameterSpec decryptIv = new GCMParameterSpec(tagLength, iv);
         try {
-            cipher = Cipher.getInstance(algorithm.getJavaName());
-            String keySpecAlgorithm = BulkCipherAlgorithm.getBulkCipherAlgorithm(algorithm).getJavaName();
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, keySpecAlgorithm), decryptIv);
+            Cipher cipher = getInitializedCipher(Cipher.DECRYPT_MODE, decryptIv);
             cipher.updateAAD(additionalAuthenticatedData);
             byte[] result = cipher.doFinal(cipherText);
             if (result.length >= getBlocksize()) {
@@ -94,6 +94,18 @@ public abstract class EllipticCurve {
      *          infinity.
      */
     public Point mult(BigInteger k, Point p) {
+        return multAffine(k, p);
+    }
+
+    /**
+     * Returns k*p computed with affine double-and-add, which only relies on add and inverse. Subclasses with faster
+     * scalar multiplications fall back to this method for inputs their formulas do not cover.
+     *
+     * @param p
+     *          A point whose coordinates are elements of the field over which the curve is defined or the point at
+     *          infinity.
+     */
+    protected Point multAffine(BigInteger k, Point p) {
         if (k.compareTo(BigInteger.ZERO) < 0) {
             k = k.negate();
             p = this.inverse(p);
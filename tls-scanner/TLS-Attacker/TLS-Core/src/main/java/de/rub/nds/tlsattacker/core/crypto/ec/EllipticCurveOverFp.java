@@ -10,6 +10,9 @@
 package de.rub.nds.tlsattacker.core.crypto.ec;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -20,6 +23,20 @@ public class EllipticCurveOverFp extends EllipticCurve {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+
+    /**
+     * Width of the wNAF used for scalar multiplications, 2^(w-2) odd multiples of the point are precomputed
+     */
+    private static final int WNAF_WIDTH = 4;
+
+    private static final int PRIMALITY_CERTAINTY = 100;
+
+    /**
+     * Curves are instantiated for every computation, so the primality of their moduli is only tested once
+     */
+    private static final Map<BigInteger, Boolean> PRIME_MODULI = new ConcurrentHashMap<>();
+
     private final FieldElementFp fieldA;
     private final FieldElementFp fieldB;
 
@@ -149,6 +166,138 @@ public class EllipticCurveOverFp extends EllipticCurve {
         }
     }
 
+    /**
+     * Returns k*p on this curve. Points with coordinates in F_p are multiplied in Jacobian coordinates with a wNAF of
+     * the scalar, which needs a single inversion for the final conversion to affine coordinates. Since the formulas do
+     * not depend on b, points that are not on this curve (e.g. for invalid curve attacks) yield the same results as the
+     * affine computation.
+     */
+    @Override
+    public Point mult(BigInteger k, Point p) {
+        if (k.signum() == 0 || !isJacobianApplicable(p)) {
+            return multAffine(k, p);
+        }
+        if (k.signum() < 0) {
+            k = k.negate();
+            p = inverse(p);
+        }
+        BigInteger modulus = getModulus();
+        JacobianPoint base = new JacobianPoint(p.getFieldX().getData(), p.getFieldY().getData(), BigInteger.ONE);
+
+        // odd multiples P, 3P, 5P, ... for the positive wNAF digits
+        JacobianPoint[] precomputed = new JacobianPoint[1 << (WNAF_WIDTH - 2)];
+        precomputed[0] = base;
+        JacobianPoint doubledBase = twice(base);
+        for (int i = 1; i < precomputed.length; i++) {
+            precomputed[i] = add(precomputed[i - 1], doubledBase);
+        }
+
+        int[] wnaf = computeWnaf(k);
+        JacobianPoint result = JacobianPoint.INFINITY;
+        for (int i = wnaf.length - 1; i >= 0; i--) {
+            result = twice(result);
+            if (wnaf[i] > 0) {
+                result = add(result, precomputed[(wnaf[i] - 1) / 2]);
+            } else if (wnaf[i] < 0) {
+                JacobianPoint summand = precomputed[(-wnaf[i] - 1) / 2];
+                result = add(result, new JacobianPoint(summand.x, summand.y.negate().mod(modulus), summand.z));
+            }
+        }
+
+        if (result.isAtInfinity()) {
+            return new Point();
+        }
+        BigInteger zInverse = result.z.modInverse(modulus);
+        BigInteger zInverseSquared = zInverse.multiply(zInverse).mod(modulus);
+        BigInteger x = result.x.multiply(zInverseSquared).mod(modulus);
+        BigInteger y = result.y.multiply(zInverseSquared).multiply(zInverse).mod(modulus);
+        return getPoint(x, y);
+    }
+
+    /**
+     * The Jacobian formulas require a prime modulus and affine coordinates in F_p. Anything else is left to the affine
+     * computation, which handles it the way it always did.
+     */
+    private boolean isJacobianApplicable(Point p) {
+        if (p.isAtInfinity() || !(p.getFieldX() instanceof FieldElementFp)
+            || !(p.getFieldY() instanceof FieldElementFp)) {
+            return false;
+        }
+        if (!getModulus().equals(p.getFieldX().getModulus()) || !getModulus().equals(p.getFieldY().getModulus())) {
+            return false;
+        }
+        return PRIME_MODULI.computeIfAbsent(getModulus(), modulus -> modulus.isProbablePrime(PRIMALITY_CERTAINTY));
+    }
+
+    /**
+     * Returns the width-w non-adjacent form of k with the least significant digit first. Every non-zero digit is odd
+     * and at most w consecutive digits contain a single non-zero digit.
+     */
+    private static int[] computeWnaf(BigInteger k) {
+        int[] wnaf = new int[k.bitLength() + 1];
+        int window = 1 << WNAF_WIDTH;
+        int length = 0;
+        while (k.signum() > 0) {
+            if (k.testBit(0)) {
+                int digit = k.intValue() & (window - 1);
+                if (digit >= window / 2) {
+                    digit -= window;
+                }
+                wnaf[length] = digit;
+                k = k.subtract(BigInteger.valueOf(digit));
+            }
+            k = k.shiftRight(1);
+            length++;
+        }
+        return Arrays.copyOf(wnaf, length);
+    }
+
+    private JacobianPoint twice(JacobianPoint p) {
+        if (p.isAtInfinity() || p.y.signum() == 0) {
+            return JacobianPoint.INFINITY;
+        }
+        BigInteger modulus = getModulus();
+        BigInteger xx = p.x.multiply(p.x).mod(modulus);
+        BigInteger yy = p.y.multiply(p.y).mod(modulus);
+        BigInteger zz = p.z.multiply(p.z).mod(modulus);
+        // s = 4*x*y^2, m = 3*x^2 + a*z^4
+        BigInteger s = p.x.multiply(yy).shiftLeft(2).mod(modulus);
+        BigInteger m = xx.multiply(THREE).add(getFieldA().getData().multiply(zz.multiply(zz))).mod(modulus);
+        BigInteger x3 = m.multiply(m).subtract(s.shiftLeft(1)).mod(modulus);
+        BigInteger y3 = m.multiply(s.subtract(x3)).subtract(yy.multiply(yy).shiftLeft(3)).mod(modulus);
+        BigInteger z3 = p.y.multiply(p.z).shiftLeft(1).mod(modulus);
+        return new JacobianPoint(x3, y3, z3);
+    }
+
+    private JacobianPoint add(JacobianPoint p, JacobianPoint q) {
+        if (p.isAtInfinity()) {
+            return q;
+        }
+        if (q.isAtInfinity()) {
+            return p;
+        }
+        BigInteger modulus = getModulus();
+        BigInteger z1z1 = p.z.multiply(p.z).mod(modulus);
+        BigInteger z2z2 = q.z.multiply(q.z).mod(modulus);
+        BigInteger u1 = p.x.multiply(z2z2).mod(modulus);
+        BigInteger u2 = q.x.multiply(z1z1).mod(modulus);
+        BigInteger s1 = p.y.multiply(q.z).multiply(z2z2).mod(modulus);
+        BigInteger s2 = q.y.multiply(p.z).multiply(z1z1).mod(modulus);
+        BigInteger h = u2.subtract(u1).mod(modulus);
+        BigInteger r = s2.subtract(s1).mod(modulus);
+        if (h.signum() == 0) {
+            // same x coordinate, so either p == q or p == -q
+            return r.signum() == 0 ? twice(p) : JacobianPoint.INFINITY;
+        }
+        BigInteger hh = h.multiply(h).mod(modulus);
+        BigInteger hhh = h.multiply(hh).mod(modulus);
+        BigInteger v = u1.multiply(hh).mod(modulus);
+        BigInteger x3 = r.multiply(r).subtract(hhh).subtract(v.shiftLeft(1)).mod(modulus);
+        BigInteger y3 = r.multiply(v.subtract(x3)).subtract(s1.multiply(hhh)).mod(modulus);
+        BigInteger z3 = p.z.multiply(q.z).multiply(h).mod(modulus);
+        return new JacobianPoint(x3, y3, z3);
+    }
+
     @Override
     public FieldElement createFieldElement(BigInteger value) {
         return new FieldElementFp(value, this.getModulus());
@@ -247,4 +396,27 @@ public class EllipticCurveOverFp extends EllipticCurve {
             }
         }
     }
+
+    /**
+     * A point (x/z^2, y/z^3) in Jacobian coordinates, z == 0 denotes the point at infinity
+     */
+    private static class JacobianPoint {
+
+        private static final JacobianPoint INFINITY =
+            new JacobianPoint(BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO);
+
+        private final BigInteger x;
+        private final BigInteger y;
+        private final BigInteger z;
+
+        JacobianPoint(BigInteger x, BigInteger y, BigInteger z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        boolean isAtInfinity() {
+            return z.signum() == 0;
+        }
+    }
 }
@@ -57,6 +57,15 @@ public class SimulatedMontgomeryCurve extends EllipticCurveOverFp {
         return toMontgomery(weierstrassRes);
     }
 
+    @Override
+    public Point mult(BigInteger k, Point p) {
+        if (k.signum() == 0 || p.isAtInfinity()) {
+            return multAffine(k, p);
+        }
+        // the Weierstrass equivalent multiplies in Jacobian coordinates, so only the result has to be converted back
+        return toMontgomery(getWeierstrassEquivalent().mult(k, toWeierstrass(p)));
+    }
+
     @Override
     public Point createAPointOnCurve(BigInteger x) {
         BigInteger val = x.pow(3).add(x.pow(2).multiply(getFieldA().getData())).add(x)
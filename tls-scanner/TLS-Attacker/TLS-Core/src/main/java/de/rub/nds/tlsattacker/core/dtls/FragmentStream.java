@@ -9,42 +9,69 @@
 
 package de.rub.nds.tlsattacker.core.dtls;
 
-import java.io.ByteArrayOutputStream;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Stores the bytes of fragments in a growable byte array. The indices which have been written are tracked as a set of
+ * disjoint, non-adjacent intervals, so inserting and checking fragments only costs work per fragment and not per byte.
+ */
 public class FragmentStream {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
-    private HashMap<Integer, Byte> fragmentByteMap;
+    /**
+     * Covered intervals of the stream, maps the (inclusive) start index to the (exclusive) end index
+     */
+    private final TreeMap<Integer, Integer> coveredIntervals;
+
+    /**
+     * The received bytes, data[0] holds the byte at stream index bufferOffset
+     */
+    private byte[] data;
+
+    /**
+     * Stream index of the first byte in the data buffer. Only becomes negative if a fragment with a negative offset is
+     * inserted.
+     */
+    private int bufferOffset;
 
     private int intendedSize;
 
     public FragmentStream(int intendedSize) {
-        fragmentByteMap = new HashMap<>();
+        coveredIntervals = new TreeMap<>();
+        data = new byte[0];
+        bufferOffset = 0;
         this.intendedSize = intendedSize;
     }
 
     public boolean canInsertByteArray(byte[] bytesToAdd, int offset) {
-        for (int i = 0; i < bytesToAdd.length; i++) {
-            if (fragmentByteMap.containsKey(offset + i)) {
-                if (fragmentByteMap.get(offset + i) != bytesToAdd[i]) {
-                    return false;
-                }
+        if (bytesToAdd.length == 0) {
+            return true;
+        }
+        int end = offset + bytesToAdd.length;
+        for (Map.Entry<Integer, Integer> interval : getIntersectingIntervals(offset, end).entrySet()) {
+            int overlapStart = Math.max(offset, interval.getKey());
+            int overlapEnd = Math.min(end, interval.getValue());
+            if (!Arrays.equals(data, overlapStart - bufferOffset, overlapEnd - bufferOffset, bytesToAdd,
+                overlapStart - offset, overlapEnd - offset)) {
+                return false;
             }
         }
         return true;
     }
 
     public void insertByteArray(byte[] bytesToAdd, int offset) {
-        for (int i = 0; i < bytesToAdd.length; i++) {
-            if (fragmentByteMap.containsKey(offset + i)) {
-                fragmentByteMap.remove(offset + i);
-            }
-            fragmentByteMap.put(offset + i, bytesToAdd[i]);
+        if (bytesToAdd.length == 0) {
+            return;
         }
+        int end = offset + bytesToAdd.length;
+        ensureCapacity(offset, end);
+        System.arraycopy(bytesToAdd, 0, data, offset - bufferOffset, bytesToAdd.length);
+        addInterval(offset, end);
     }
 
     /**
@@ -59,12 +86,11 @@ public class FragmentStream {
             throw new IllegalArgumentException(
                 "Cannot check stream for completeness with negative index: " + tillIndex);
         }
-        for (int i = 0; i < tillIndex; i++) {
-            if (!fragmentByteMap.containsKey(i)) {
-                return false;
-            }
+        if (tillIndex == 0) {
+            return true;
         }
-        return true;
+        Map.Entry<Integer, Integer> interval = coveredIntervals.floorEntry(0);
+        return interval != null && interval.getValue() >= tillIndex;
     }
 
     /**
@@ -75,28 +101,22 @@ public class FragmentStream {
      * @return             the stream
      */
     public byte[] getCompleteFilledStream(byte fillingByte) {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        int fillingCounter = 0;
-        for (int i = 0; i < intendedSize; i++) {
-            Byte b = fragmentByteMap.get(i);
-            if (b == null) {
-                b = fillingByte;
-                fillingCounter++;
-            }
-            stream.write(b);
-
+        byte[] stream = new byte[Math.max(intendedSize, 0)];
+        Arrays.fill(stream, fillingByte);
+        int filledCounter = 0;
+        for (Map.Entry<Integer, Integer> interval : getIntersectingIntervals(0, intendedSize).entrySet()) {
+            int start = Math.max(0, interval.getKey());
+            int end = Math.min(intendedSize, interval.getValue());
+            System.arraycopy(data, start - bufferOffset, stream, start, end - start);
+            filledCounter += end - start;
         }
+        int fillingCounter = stream.length - filledCounter;
         if (fillingCounter > 0) {
             LOGGER.warn("Had to fill " + fillingCounter
                 + " missing bytes in HandshakeMessageFragments. This will _likely_ result in invalid messages");
         }
-        for (Integer i : fragmentByteMap.keySet()) {
-            if (i > intendedSize) {
-                LOGGER.warn("Found fragment greater than intended message size(intended size: " + intendedSize
-                    + " but found byte for: " + i + "). Ignoring");
-            }
-        }
-        return stream.toByteArray();
+        warnAboutBytesBeyondIntendedSize();
+        return stream;
     }
 
     /**
@@ -105,25 +125,83 @@ public class FragmentStream {
      * @return
      */
     public byte[] getCompleteTruncatedStream() {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        int skipCounter = 0;
-        for (int i = 0; i < intendedSize; i++) {
-            Byte b = fragmentByteMap.get(i);
-            if (b == null) {
-                skipCounter++;
-                continue;
-            }
-            stream.write(b);
+        int coveredCounter = 0;
+        Map<Integer, Integer> intervals = getIntersectingIntervals(0, intendedSize);
+        for (Map.Entry<Integer, Integer> interval : intervals.entrySet()) {
+            coveredCounter += Math.min(intendedSize, interval.getValue()) - Math.max(0, interval.getKey());
+        }
+        byte[] stream = new byte[coveredCounter];
+        int position = 0;
+        for (Map.Entry<Integer, Integer> interval : intervals.entrySet()) {
+            int start = Math.max(0, interval.getKey());
+            int end = Math.min(intendedSize, interval.getValue());
+            System.arraycopy(data, start - bufferOffset, stream, position, end - start);
+            position += end - start;
         }
+        int skipCounter = Math.max(intendedSize, 0) - coveredCounter;
         if (skipCounter > 0) {
             LOGGER.warn("Did not receive all bytes. Truncated  " + skipCounter + " missing bytes.");
         }
-        for (Integer i : fragmentByteMap.keySet()) {
-            if (i > intendedSize) {
-                LOGGER.warn("Found fragment greater than intended message size(intended size: " + intendedSize
-                    + " but found byte for: " + i + "). Ignoring");
-            }
+        warnAboutBytesBeyondIntendedSize();
+        return stream;
+    }
+
+    /**
+     * Returns all covered intervals which share at least one index with [start, end)
+     */
+    private Map<Integer, Integer> getIntersectingIntervals(int start, int end) {
+        if (end <= start) {
+            return new TreeMap<>();
+        }
+        Integer lowerKey = coveredIntervals.floorKey(start);
+        if (lowerKey == null || coveredIntervals.get(lowerKey) <= start) {
+            lowerKey = start;
+        }
+        return coveredIntervals.subMap(lowerKey, true, end, false);
+    }
+
+    /**
+     * Marks [start, end) as covered and merges it with all overlapping or adjacent intervals
+     */
+    private void addInterval(int start, int end) {
+        Map.Entry<Integer, Integer> lower = coveredIntervals.floorEntry(start);
+        if (lower != null && lower.getValue() >= start) {
+            start = lower.getKey();
+            end = Math.max(end, lower.getValue());
+        }
+        Map.Entry<Integer, Integer> next = coveredIntervals.ceilingEntry(start);
+        while (next != null && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            coveredIntervals.remove(next.getKey());
+            next = coveredIntervals.ceilingEntry(start);
+        }
+        coveredIntervals.put(start, end);
+    }
+
+    /**
+     * Grows the data buffer so that it can hold the stream indices [start, end)
+     */
+    private void ensureCapacity(int start, int end) {
+        int bufferEnd = bufferOffset + data.length;
+        if (start >= bufferOffset && end <= bufferEnd) {
+            return;
+        }
+        int newOffset = Math.min(bufferOffset, start);
+        int newEnd = Math.max(bufferEnd, end);
+        if (newEnd > bufferEnd) {
+            // the buffer usually grows towards the intended size fragment by fragment
+            newEnd = Math.max(newEnd, Math.min(Math.max(intendedSize, 0), bufferOffset + 2 * data.length));
+        }
+        byte[] newData = new byte[newEnd - newOffset];
+        System.arraycopy(data, 0, newData, bufferOffset - newOffset, data.length);
+        data = newData;
+        bufferOffset = newOffset;
+    }
+
+    private void warnAboutBytesBeyondIntendedSize() {
+        if (!coveredIntervals.isEmpty() && coveredIntervals.lastEntry().getValue() - 1 > intendedSize) {
+            LOGGER.warn("Found fragment greater than intended message size(intended size: " + intendedSize
+                + " but found byte for: " + (coveredIntervals.lastEntry().getValue() - 1) + "). Ignoring");
         }
-        return stream.toByteArray();
     }
 }
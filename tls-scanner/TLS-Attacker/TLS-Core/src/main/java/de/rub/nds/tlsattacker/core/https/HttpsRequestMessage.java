@@ -25,6 +25,7 @@ import de.rub.nds.tlsattacker.core.https.header.LocationHeader;
 import de.rub.nds.tlsattacker.core.https.header.TokenBindingHeader;
 import de.rub.nds.tlsattacker.core.protocol.message.TlsMessage;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
@@ -80,6 +81,19 @@ public class HttpsRequestMessage extends TlsMessage {
             "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Ubuntu Chromium/59.0.3071.109 Chrome/59.0.3071.109 Safari/537.36"));
     }
 
+    public HttpsRequestMessage(HttpsRequestMessage other) {
+        super(other);
+        header = CopyUtils.copyList(other.header, HttpsHeader::createCopy);
+        requestType = CopyUtils.copy(other.requestType);
+        requestPath = CopyUtils.copy(other.requestPath);
+        requestProtocol = CopyUtils.copy(other.requestProtocol);
+    }
+
+    @Override
+    public HttpsRequestMessage createCopy() {
+        return new HttpsRequestMessage(this);
+    }
+
     public List<HttpsHeader> getHeader() {
         return header;
     }
@@ -24,6 +24,7 @@ import de.rub.nds.tlsattacker.core.https.header.LocationHeader;
 import de.rub.nds.tlsattacker.core.https.header.TokenBindingHeader;
 import de.rub.nds.tlsattacker.core.protocol.message.TlsMessage;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
@@ -67,6 +68,19 @@ public class HttpsResponseMessage extends TlsMessage {
         header.add(new GenericHttpsHeader("Server", "GSE"));
     }
 
+    public HttpsResponseMessage(HttpsResponseMessage other) {
+        super(other);
+        responseProtocol = CopyUtils.copy(other.responseProtocol);
+        responseStatusCode = CopyUtils.copy(other.responseStatusCode);
+        responseContent = CopyUtils.copy(other.responseContent);
+        header = CopyUtils.copyList(other.header, HttpsHeader::createCopy);
+    }
+
+    @Override
+    public HttpsResponseMessage createCopy() {
+        return new HttpsResponseMessage(this);
+    }
+
     public ModifiableString getResponseProtocol() {
         return responseProtocol;
     }
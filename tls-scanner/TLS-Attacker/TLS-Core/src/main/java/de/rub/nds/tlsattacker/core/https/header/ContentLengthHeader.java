@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.https.header.preparator.ContentLengthHeaderPreparator;
 import de.rub.nds.tlsattacker.core.protocol.Preparator;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.chooser.Chooser;
 import javax.xml.bind.annotation.XmlTransient;
 
@@ -26,6 +27,17 @@ public class ContentLengthHeader extends HttpsHeader {
     public ContentLengthHeader() {
     }
 
+    public ContentLengthHeader(ContentLengthHeader other) {
+        super(other);
+        length = CopyUtils.copy(other.length);
+        configLength = other.configLength;
+    }
+
+    @Override
+    public ContentLengthHeader createCopy() {
+        return new ContentLengthHeader(this);
+    }
+
     @Override
     public ContentLengthHeaderPreparator getPreparator(Chooser chooser) {
         return new ContentLengthHeaderPreparator(chooser, this);
@@ -18,6 +18,15 @@ public class CookieHeader extends HttpsHeader {
     public CookieHeader() {
     }
 
+    public CookieHeader(CookieHeader other) {
+        super(other);
+    }
+
+    @Override
+    public CookieHeader createCopy() {
+        return new CookieHeader(this);
+    }
+
     @Override
     public CookieHeaderPreparator getPreparator(Chooser chooser) {
         return new CookieHeaderPreparator(chooser, this);
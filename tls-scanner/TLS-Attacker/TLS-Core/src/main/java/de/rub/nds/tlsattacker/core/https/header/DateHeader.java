@@ -18,6 +18,15 @@ public class DateHeader extends HttpsHeader {
     public DateHeader() {
     }
 
+    public DateHeader(DateHeader other) {
+        super(other);
+    }
+
+    @Override
+    public DateHeader createCopy() {
+        return new DateHeader(this);
+    }
+
     @Override
     public DateHeaderPreparator getPreparator(Chooser chooser) {
         return new DateHeaderPreparator(chooser, this);
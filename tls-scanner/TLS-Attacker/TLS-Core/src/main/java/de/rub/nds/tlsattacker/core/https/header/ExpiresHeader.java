@@ -18,6 +18,15 @@ public class ExpiresHeader extends HttpsHeader {
     public ExpiresHeader() {
     }
 
+    public ExpiresHeader(ExpiresHeader other) {
+        super(other);
+    }
+
+    @Override
+    public ExpiresHeader createCopy() {
+        return new ExpiresHeader(this);
+    }
+
     @Override
     public ExpiresHeaderPreparator getPreparator(Chooser chooser) {
         return new ExpiresHeaderPreparator(chooser, this);
@@ -34,6 +34,17 @@ public class GenericHttpsHeader extends HttpsHeader {
         this.headerValueConfig = headerValueConfig;
     }
 
+    public GenericHttpsHeader(GenericHttpsHeader other) {
+        super(other);
+        headerNameConfig = other.headerNameConfig;
+        headerValueConfig = other.headerValueConfig;
+    }
+
+    @Override
+    public GenericHttpsHeader createCopy() {
+        return new GenericHttpsHeader(this);
+    }
+
     public String getHeaderNameConfig() {
         return headerNameConfig;
     }
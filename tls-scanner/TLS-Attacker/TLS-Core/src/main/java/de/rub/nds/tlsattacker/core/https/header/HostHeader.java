@@ -18,6 +18,15 @@ public class HostHeader extends HttpsHeader {
     public HostHeader() {
     }
 
+    public HostHeader(HostHeader other) {
+        super(other);
+    }
+
+    @Override
+    public HostHeader createCopy() {
+        return new HostHeader(this);
+    }
+
     @Override
     public HostHeaderPreparator getPreparator(Chooser chooser) {
         return new HostHeaderPreparator(chooser, this);
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.string.ModifiableString;
 import de.rub.nds.tlsattacker.core.https.header.handler.HttpsHeaderHandler;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.Preparator;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.chooser.Chooser;
 import java.io.Serializable;
 
@@ -26,6 +27,14 @@ public abstract class HttpsHeader extends ModifiableVariableHolder implements Se
     public HttpsHeader() {
     }
 
+    protected HttpsHeader(HttpsHeader other) {
+        headerName = CopyUtils.copy(other.headerName);
+        headerValue = CopyUtils.copy(other.headerValue);
+    }
+
+    @Override
+    public abstract HttpsHeader createCopy();
+
     public ModifiableString getHeaderName() {
         return headerName;
     }
@@ -18,6 +18,15 @@ public class LocationHeader extends HttpsHeader {
     public LocationHeader() {
     }
 
+    public LocationHeader(LocationHeader other) {
+        super(other);
+    }
+
+    @Override
+    public LocationHeader createCopy() {
+        return new LocationHeader(this);
+    }
+
     @Override
     public LocationHeaderPreparator getPreparator(Chooser chooser) {
         return new LocationHeaderPreparator(chooser, this);
@@ -24,6 +24,16 @@ public class TokenBindingHeader extends HttpsHeader {
         message = new TokenBindingMessage();
     }
 
+    public TokenBindingHeader(TokenBindingHeader other) {
+        super(other);
+        message = other.message == null ? null : other.message.createCopy();
+    }
+
+    @Override
+    public TokenBindingHeader createCopy() {
+        return new TokenBindingHeader(this);
+    }
+
     public TokenBindingMessage getMessage() {
         return message;
     }
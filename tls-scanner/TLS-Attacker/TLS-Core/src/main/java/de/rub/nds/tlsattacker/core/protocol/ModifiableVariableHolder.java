@@ -23,6 +23,11 @@ public abstract class ModifiableVariableHolder implements Serializable {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    /**
+     * @return A deep copy of this holder, including the modifications of its variables
+     */
+    public abstract ModifiableVariableHolder createCopy();
+
     /**
      * Lists all the modifiable variables declared in the class
      *
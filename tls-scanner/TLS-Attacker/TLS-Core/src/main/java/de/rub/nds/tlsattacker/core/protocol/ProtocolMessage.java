@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.https.HttpsRequestMessage;
 import de.rub.nds.tlsattacker.core.https.HttpsResponseMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.*;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -71,6 +72,22 @@ public abstract class ProtocolMessage extends ModifiableVariableHolder {
     @ModifiableVariableProperty(type = ModifiableVariableProperty.Type.BEHAVIOR_SWITCH)
     private ModifiableBoolean adjustContext;
 
+    public ProtocolMessage() {
+    }
+
+    protected ProtocolMessage(ProtocolMessage other) {
+        goingToBeSentDefault = other.goingToBeSentDefault;
+        requiredDefault = other.requiredDefault;
+        adjustContextDefault = other.adjustContextDefault;
+        completeResultingMessage = CopyUtils.copy(other.completeResultingMessage);
+        required = CopyUtils.copy(other.required);
+        goingToBeSent = CopyUtils.copy(other.goingToBeSent);
+        adjustContext = CopyUtils.copy(other.adjustContext);
+    }
+
+    @Override
+    public abstract ProtocolMessage createCopy();
+
     public boolean isRequired() {
         if (required == null || required.getValue() == null) {
             return requiredDefault;
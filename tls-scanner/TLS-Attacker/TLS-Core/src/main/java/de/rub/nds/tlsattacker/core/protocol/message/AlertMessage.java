@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.AlertHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Objects;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -54,6 +55,18 @@ public class AlertMessage extends TlsMessage {
         this.protocolMessageType = ProtocolMessageType.ALERT;
     }
 
+    public AlertMessage(AlertMessage other) {
+        super(other);
+        config = CopyUtils.copy(other.config);
+        level = CopyUtils.copy(other.level);
+        description = CopyUtils.copy(other.description);
+    }
+
+    @Override
+    public AlertMessage createCopy() {
+        return new AlertMessage(this);
+    }
+
     public ModifiableByte getLevel() {
         return level;
     }
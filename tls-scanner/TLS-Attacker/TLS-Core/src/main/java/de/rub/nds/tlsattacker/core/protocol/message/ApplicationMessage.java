@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.ApplicationMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Arrays;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -47,6 +48,17 @@ public class ApplicationMessage extends TlsMessage {
         this.protocolMessageType = ProtocolMessageType.APPLICATION_DATA;
     }
 
+    public ApplicationMessage(ApplicationMessage other) {
+        super(other);
+        dataConfig = CopyUtils.copy(other.dataConfig);
+        data = CopyUtils.copy(other.data);
+    }
+
+    @Override
+    public ApplicationMessage createCopy() {
+        return new ApplicationMessage(this);
+    }
+
     public ModifiableByteArray getData() {
         return data;
     }
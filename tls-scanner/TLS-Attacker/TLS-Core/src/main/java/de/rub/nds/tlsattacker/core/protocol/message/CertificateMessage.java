@@ -22,6 +22,7 @@ import de.rub.nds.tlsattacker.core.protocol.handler.CertificateMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.cert.CertificateEntry;
 import de.rub.nds.tlsattacker.core.protocol.message.cert.CertificatePair;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
@@ -76,6 +77,23 @@ public class CertificateMessage extends HandshakeMessage {
         super(tlsConfig, HandshakeMessageType.CERTIFICATE);
     }
 
+    public CertificateMessage(CertificateMessage other) {
+        super(other);
+        requestContextLength = CopyUtils.copy(other.requestContextLength);
+        requestContext = CopyUtils.copy(other.requestContext);
+        certificatesListLength = CopyUtils.copy(other.certificatesListLength);
+        certificatesListBytes = CopyUtils.copy(other.certificatesListBytes);
+        certificatesList = CopyUtils.copyList(other.certificatesList, CertificatePair::createCopy);
+        certificateListConfig = CopyUtils.copyList(other.certificateListConfig, CertificatePair::createCopy);
+        certificatesListAsEntry = CopyUtils.copyList(other.certificatesListAsEntry, CertificateEntry::new);
+        certificateKeyPair = other.certificateKeyPair;
+    }
+
+    @Override
+    public CertificateMessage createCopy() {
+        return new CertificateMessage(this);
+    }
+
     public ModifiableInteger getCertificatesListLength() {
         return certificatesListLength;
     }
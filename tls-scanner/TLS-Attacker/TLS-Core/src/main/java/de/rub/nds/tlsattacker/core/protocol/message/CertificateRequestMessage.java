@@ -23,6 +23,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.SignatureAlgorithmsCertExtensionMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.SignatureAndHashAlgorithmsExtensionMessage;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -77,6 +78,23 @@ public class CertificateRequestMessage extends HandshakeMessage {
         }
     }
 
+    public CertificateRequestMessage(CertificateRequestMessage other) {
+        super(other);
+        clientCertificateTypesCount = CopyUtils.copy(other.clientCertificateTypesCount);
+        clientCertificateTypes = CopyUtils.copy(other.clientCertificateTypes);
+        signatureHashAlgorithmsLength = CopyUtils.copy(other.signatureHashAlgorithmsLength);
+        signatureHashAlgorithms = CopyUtils.copy(other.signatureHashAlgorithms);
+        distinguishedNamesLength = CopyUtils.copy(other.distinguishedNamesLength);
+        distinguishedNames = CopyUtils.copy(other.distinguishedNames);
+        certificateRequestContextLength = CopyUtils.copy(other.certificateRequestContextLength);
+        certificateRequestContext = CopyUtils.copy(other.certificateRequestContext);
+    }
+
+    @Override
+    public CertificateRequestMessage createCopy() {
+        return new CertificateRequestMessage(this);
+    }
+
     public ModifiableInteger getClientCertificateTypesCount() {
         return clientCertificateTypesCount;
     }
@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.CertificateStatusHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.IOException;
 import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.logging.log4j.LogManager;
@@ -47,6 +48,18 @@ public class CertificateStatusMessage extends HandshakeMessage {
         super(tlsConfig, HandshakeMessageType.CERTIFICATE_STATUS);
     }
 
+    public CertificateStatusMessage(CertificateStatusMessage other) {
+        super(other);
+        certificateStatusType = CopyUtils.copy(other.certificateStatusType);
+        ocspResponseLength = CopyUtils.copy(other.ocspResponseLength);
+        ocspResponseBytes = CopyUtils.copy(other.ocspResponseBytes);
+    }
+
+    @Override
+    public CertificateStatusMessage createCopy() {
+        return new CertificateStatusMessage(this);
+    }
+
     @Override
     public CertificateStatusHandler getHandler(TlsContext context) {
         return new CertificateStatusHandler(context);
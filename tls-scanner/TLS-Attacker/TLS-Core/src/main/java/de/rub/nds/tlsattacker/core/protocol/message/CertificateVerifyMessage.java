@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.CertificateVerifyHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "CertificateVerify")
@@ -47,6 +48,18 @@ public class CertificateVerifyMessage extends HandshakeMessage {
         super(tlsConfig, HandshakeMessageType.CERTIFICATE_VERIFY);
     }
 
+    public CertificateVerifyMessage(CertificateVerifyMessage other) {
+        super(other);
+        signatureHashAlgorithm = CopyUtils.copy(other.signatureHashAlgorithm);
+        signatureLength = CopyUtils.copy(other.signatureLength);
+        signature = CopyUtils.copy(other.signature);
+    }
+
+    @Override
+    public CertificateVerifyMessage createCopy() {
+        return new CertificateVerifyMessage(this);
+    }
+
     public ModifiableByteArray getSignatureHashAlgorithm() {
         return signatureHashAlgorithm;
     }
@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.ChangeCipherSpecHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "ChangeCipherSpec")
@@ -35,6 +36,16 @@ public class ChangeCipherSpecMessage extends TlsMessage {
         this.protocolMessageType = ProtocolMessageType.CHANGE_CIPHER_SPEC;
     }
 
+    public ChangeCipherSpecMessage(ChangeCipherSpecMessage other) {
+        super(other);
+        ccsProtocolType = CopyUtils.copy(other.ccsProtocolType);
+    }
+
+    @Override
+    public ChangeCipherSpecMessage createCopy() {
+        return new ChangeCipherSpecMessage(this);
+    }
+
     public ModifiableByteArray getCcsProtocolType() {
         return ccsProtocolType;
     }
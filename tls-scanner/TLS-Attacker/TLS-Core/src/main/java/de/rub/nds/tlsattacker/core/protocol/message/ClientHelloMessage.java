@@ -23,6 +23,7 @@ import de.rub.nds.tlsattacker.core.protocol.handler.ClientHelloHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.sni.ServerNamePair;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.nio.charset.Charset;
 import java.util.Date;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -206,6 +207,21 @@ public class ClientHelloMessage extends HelloMessage {
         }
     }
 
+    public ClientHelloMessage(ClientHelloMessage other) {
+        super(other);
+        compressionLength = CopyUtils.copy(other.compressionLength);
+        cipherSuiteLength = CopyUtils.copy(other.cipherSuiteLength);
+        cipherSuites = CopyUtils.copy(other.cipherSuites);
+        compressions = CopyUtils.copy(other.compressions);
+        cookie = CopyUtils.copy(other.cookie);
+        cookieLength = CopyUtils.copy(other.cookieLength);
+    }
+
+    @Override
+    public ClientHelloMessage createCopy() {
+        return new ClientHelloMessage(this);
+    }
+
     public ModifiableInteger getCompressionLength() {
         return compressionLength;
     }
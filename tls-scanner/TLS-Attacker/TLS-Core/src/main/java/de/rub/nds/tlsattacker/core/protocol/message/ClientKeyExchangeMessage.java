@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.KeyExchangeComputations;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public abstract class ClientKeyExchangeMessage extends HandshakeMessage {
 
@@ -38,6 +39,15 @@ public abstract class ClientKeyExchangeMessage extends HandshakeMessage {
         super(tlsConfig, HandshakeMessageType.CLIENT_KEY_EXCHANGE);
     }
 
+    protected ClientKeyExchangeMessage(ClientKeyExchangeMessage other) {
+        super(other);
+        publicKeyLength = CopyUtils.copy(other.publicKeyLength);
+        publicKey = CopyUtils.copy(other.publicKey);
+    }
+
+    @Override
+    public abstract ClientKeyExchangeMessage createCopy();
+
     public abstract KeyExchangeComputations getComputations();
 
     public abstract void prepareComputations();
@@ -32,6 +32,16 @@ public class DHClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public DHClientKeyExchangeMessage(DHClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public DHClientKeyExchangeMessage createCopy() {
+        return new DHClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
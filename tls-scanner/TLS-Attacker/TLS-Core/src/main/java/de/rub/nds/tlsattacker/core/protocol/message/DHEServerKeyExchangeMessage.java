@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.DHEServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.DHEServerComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -59,6 +60,20 @@ public class DHEServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public DHEServerKeyExchangeMessage(DHEServerKeyExchangeMessage other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        modulusLength = CopyUtils.copy(other.modulusLength);
+        generator = CopyUtils.copy(other.generator);
+        generatorLength = CopyUtils.copy(other.generatorLength);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public DHEServerKeyExchangeMessage createCopy() {
+        return new DHEServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByteArray getModulus() {
         return modulus;
     }
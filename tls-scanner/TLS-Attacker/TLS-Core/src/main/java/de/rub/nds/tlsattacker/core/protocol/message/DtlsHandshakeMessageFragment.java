@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.DtlsHandshakeMessageFragmentHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "DtlsHandshakeMessageFragment")
@@ -81,6 +82,26 @@ public class DtlsHandshakeMessageFragment extends HandshakeMessage {
         adjustContextDefault = false;
     }
 
+    public DtlsHandshakeMessageFragment(DtlsHandshakeMessageFragment other) {
+        super(other);
+        content = CopyUtils.copy(other.content);
+        messageSeq = CopyUtils.copy(other.messageSeq);
+        fragmentOffset = CopyUtils.copy(other.fragmentOffset);
+        fragmentLength = CopyUtils.copy(other.fragmentLength);
+        epoch = CopyUtils.copy(other.epoch);
+        fragmentContentConfig = CopyUtils.copy(other.fragmentContentConfig);
+        messageSequenceConfig = other.messageSequenceConfig;
+        offsetConfig = other.offsetConfig;
+        handshakeMessageLengthConfig = other.handshakeMessageLengthConfig;
+        handshakeMessageTypeConfig = other.handshakeMessageTypeConfig;
+        maxFragmentLengthConfig = other.maxFragmentLengthConfig;
+    }
+
+    @Override
+    public DtlsHandshakeMessageFragment createCopy() {
+        return new DtlsHandshakeMessageFragment(this);
+    }
+
     @Override
     public DtlsHandshakeMessageFragmentHandler getHandler(TlsContext context) {
         return new DtlsHandshakeMessageFragmentHandler(context);
@@ -32,6 +32,16 @@ public class ECDHClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public ECDHClientKeyExchangeMessage(ECDHClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public ECDHClientKeyExchangeMessage createCopy() {
+        return new ECDHClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
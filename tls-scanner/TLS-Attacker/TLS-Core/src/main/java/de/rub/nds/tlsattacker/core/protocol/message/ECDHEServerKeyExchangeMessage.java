@@ -23,6 +23,7 @@ import de.rub.nds.tlsattacker.core.protocol.handler.ECDHEServerKeyExchangeHandle
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.ECDHEServerComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -45,6 +46,18 @@ public class ECDHEServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public ECDHEServerKeyExchangeMessage(ECDHEServerKeyExchangeMessage other) {
+        super(other);
+        curveType = CopyUtils.copy(other.curveType);
+        namedGroup = CopyUtils.copy(other.namedGroup);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public ECDHEServerKeyExchangeMessage createCopy() {
+        return new ECDHEServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByte getGroupType() {
         return curveType;
     }
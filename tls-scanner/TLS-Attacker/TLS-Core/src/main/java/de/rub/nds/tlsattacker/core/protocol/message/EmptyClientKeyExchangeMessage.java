@@ -33,6 +33,16 @@ public class EmptyClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public EmptyClientKeyExchangeMessage(EmptyClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public EmptyClientKeyExchangeMessage createCopy() {
+        return new EmptyClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
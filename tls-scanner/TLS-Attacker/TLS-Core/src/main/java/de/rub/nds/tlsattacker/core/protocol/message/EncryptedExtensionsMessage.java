@@ -31,6 +31,15 @@ public class EncryptedExtensionsMessage extends HandshakeMessage {
         }
     }
 
+    public EncryptedExtensionsMessage(EncryptedExtensionsMessage other) {
+        super(other);
+    }
+
+    @Override
+    public EncryptedExtensionsMessage createCopy() {
+        return new EncryptedExtensionsMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
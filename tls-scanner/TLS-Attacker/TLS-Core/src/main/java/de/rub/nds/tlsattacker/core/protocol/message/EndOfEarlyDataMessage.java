@@ -29,6 +29,15 @@ public class EndOfEarlyDataMessage extends HandshakeMessage {
         super(config, HandshakeMessageType.END_OF_EARLY_DATA);
     }
 
+    public EndOfEarlyDataMessage(EndOfEarlyDataMessage other) {
+        super(other);
+    }
+
+    @Override
+    public EndOfEarlyDataMessage createCopy() {
+        return new EndOfEarlyDataMessage(this);
+    }
+
     @Override
     public EndOfEarlyDataHandler getHandler(TlsContext context) {
         return new EndOfEarlyDataHandler(context);
@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.FinishedHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "Finished")
@@ -33,6 +34,16 @@ public class FinishedMessage extends HandshakeMessage {
         super(HandshakeMessageType.FINISHED);
     }
 
+    public FinishedMessage(FinishedMessage other) {
+        super(other);
+        verifyData = CopyUtils.copy(other.verifyData);
+    }
+
+    @Override
+    public FinishedMessage createCopy() {
+        return new FinishedMessage(this);
+    }
+
     public ModifiableByteArray getVerifyData() {
         return verifyData;
     }
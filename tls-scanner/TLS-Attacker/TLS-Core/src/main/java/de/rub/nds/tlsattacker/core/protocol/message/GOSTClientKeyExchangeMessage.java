@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.GOSTClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.GOSTClientComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -41,6 +42,17 @@ public class GOSTClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public GOSTClientKeyExchangeMessage(GOSTClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+        keyTransportBlob = CopyUtils.copy(other.keyTransportBlob);
+    }
+
+    @Override
+    public GOSTClientKeyExchangeMessage createCopy() {
+        return new GOSTClientKeyExchangeMessage(this);
+    }
+
     public void setKeyTransportBlob(ModifiableByteArray keyTransportBlob) {
         this.keyTransportBlob = keyTransportBlob;
     }
@@ -22,6 +22,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -86,6 +87,24 @@ public abstract class HandshakeMessage extends TlsMessage {
         this.handshakeMessageType = handshakeMessageType;
     }
 
+    protected HandshakeMessage(HandshakeMessage other) {
+        super(other);
+        isIncludeInDigestDefault = other.isIncludeInDigestDefault;
+        isRetranmissionDefault = other.isRetranmissionDefault;
+        handshakeMessageType = other.handshakeMessageType;
+        type = CopyUtils.copy(other.type);
+        length = CopyUtils.copy(other.length);
+        includeInDigest = CopyUtils.copy(other.includeInDigest);
+        retransmission = CopyUtils.copy(other.retransmission);
+        extensions = CopyUtils.copyList(other.extensions, ExtensionMessage::createCopy);
+        extensionBytes = CopyUtils.copy(other.extensionBytes);
+        extensionsLength = CopyUtils.copy(other.extensionsLength);
+        messageSequence = CopyUtils.copy(other.messageSequence);
+    }
+
+    @Override
+    public abstract HandshakeMessage createCopy();
+
     public final List<ExtensionMessage> getExtensions() {
         return extensions;
     }
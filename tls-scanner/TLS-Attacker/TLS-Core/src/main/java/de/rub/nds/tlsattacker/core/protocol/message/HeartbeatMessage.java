@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.HeartbeatMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "Heartbeat")
@@ -48,6 +49,19 @@ public class HeartbeatMessage extends TlsMessage {
         this.protocolMessageType = ProtocolMessageType.HEARTBEAT;
     }
 
+    public HeartbeatMessage(HeartbeatMessage other) {
+        super(other);
+        heartbeatMessageType = CopyUtils.copy(other.heartbeatMessageType);
+        payloadLength = CopyUtils.copy(other.payloadLength);
+        payload = CopyUtils.copy(other.payload);
+        padding = CopyUtils.copy(other.padding);
+    }
+
+    @Override
+    public HeartbeatMessage createCopy() {
+        return new HeartbeatMessage(this);
+    }
+
     public ModifiableByte getHeartbeatMessageType() {
         return heartbeatMessageType;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -56,6 +57,18 @@ public abstract class HelloMessage extends HandshakeMessage {
 
     }
 
+    protected HelloMessage(HelloMessage other) {
+        super(other);
+        protocolVersion = CopyUtils.copy(other.protocolVersion);
+        unixTime = CopyUtils.copy(other.unixTime);
+        random = CopyUtils.copy(other.random);
+        sessionIdLength = CopyUtils.copy(other.sessionIdLength);
+        sessionId = CopyUtils.copy(other.sessionId);
+    }
+
+    @Override
+    public abstract HelloMessage createCopy();
+
     public ModifiableByteArray getRandom() {
         return random;
     }
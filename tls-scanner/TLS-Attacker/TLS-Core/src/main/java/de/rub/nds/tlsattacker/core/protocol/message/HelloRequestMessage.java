@@ -28,6 +28,15 @@ public class HelloRequestMessage extends HandshakeMessage {
         isIncludeInDigestDefault = false;
     }
 
+    public HelloRequestMessage(HelloRequestMessage other) {
+        super(other);
+    }
+
+    @Override
+    public HelloRequestMessage createCopy() {
+        return new HelloRequestMessage(this);
+    }
+
     @Override
     public HelloRequestHandler getHandler(TlsContext context) {
         return new HelloRequestHandler(context);
@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.HelloVerifyRequestHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "HelloVerifyRequest")
@@ -42,6 +43,18 @@ public class HelloVerifyRequestMessage extends HandshakeMessage {
         isIncludeInDigestDefault = false;
     }
 
+    public HelloVerifyRequestMessage(HelloVerifyRequestMessage other) {
+        super(other);
+        protocolVersion = CopyUtils.copy(other.protocolVersion);
+        cookieLength = CopyUtils.copy(other.cookieLength);
+        cookie = CopyUtils.copy(other.cookie);
+    }
+
+    @Override
+    public HelloVerifyRequestMessage createCopy() {
+        return new HelloVerifyRequestMessage(this);
+    }
+
     public ModifiableByteArray getProtocolVersion() {
         return protocolVersion;
     }
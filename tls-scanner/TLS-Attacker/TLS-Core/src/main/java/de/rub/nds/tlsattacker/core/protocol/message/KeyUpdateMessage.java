@@ -16,6 +16,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.constants.KeyUpdateRequest;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
 import de.rub.nds.tlsattacker.core.protocol.handler.KeyUpdateHandler;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.logging.log4j.LogManager;
@@ -49,6 +50,16 @@ public class KeyUpdateMessage extends HandshakeMessage {
         this.setIncludeInDigest(false);
     }
 
+    public KeyUpdateMessage(KeyUpdateMessage other) {
+        super(other);
+        requestMode = CopyUtils.copy(other.requestMode);
+    }
+
+    @Override
+    public KeyUpdateMessage createCopy() {
+        return new KeyUpdateMessage(this);
+    }
+
     public final void setRequestMode(KeyUpdateRequest requestMode) {
         this.requestMode = ModifiableVariableFactory.safelySetValue(this.requestMode, requestMode.getValue());
     }
@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.handler.NewSessionTicketHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.EarlyDataExtensionMessage;
 import de.rub.nds.tlsattacker.core.state.SessionTicket;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -58,6 +59,17 @@ public class NewSessionTicketMessage extends HandshakeMessage {
         }
     }
 
+    public NewSessionTicketMessage(NewSessionTicketMessage other) {
+        super(other);
+        ticketLifetimeHint = CopyUtils.copy(other.ticketLifetimeHint);
+        ticket = other.ticket == null ? null : other.ticket.createCopy();
+    }
+
+    @Override
+    public NewSessionTicketMessage createCopy() {
+        return new NewSessionTicketMessage(this);
+    }
+
     public ModifiableLong getTicketLifetimeHint() {
         return ticketLifetimeHint;
     }
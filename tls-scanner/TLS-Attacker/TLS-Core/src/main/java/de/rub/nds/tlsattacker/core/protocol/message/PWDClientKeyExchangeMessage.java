@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.PWDClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.PWDComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -47,6 +48,20 @@ public class PWDClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public PWDClientKeyExchangeMessage(PWDClientKeyExchangeMessage other) {
+        super(other);
+        elementLength = CopyUtils.copy(other.elementLength);
+        element = CopyUtils.copy(other.element);
+        scalarLength = CopyUtils.copy(other.scalarLength);
+        scalar = CopyUtils.copy(other.scalar);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public PWDClientKeyExchangeMessage createCopy() {
+        return new PWDClientKeyExchangeMessage(this);
+    }
+
     @Override
     public PWDComputations getComputations() {
         return computations;
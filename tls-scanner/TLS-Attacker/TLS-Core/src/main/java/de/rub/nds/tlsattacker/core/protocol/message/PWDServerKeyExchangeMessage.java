@@ -22,6 +22,7 @@ import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import de.rub.nds.tlsattacker.core.protocol.handler.PWDServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.PWDComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "PWDServerKeyExchange")
@@ -61,6 +62,24 @@ public class PWDServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public PWDServerKeyExchangeMessage(PWDServerKeyExchangeMessage other) {
+        super(other);
+        saltLength = CopyUtils.copy(other.saltLength);
+        salt = CopyUtils.copy(other.salt);
+        curveType = CopyUtils.copy(other.curveType);
+        namedGroup = CopyUtils.copy(other.namedGroup);
+        elementLength = CopyUtils.copy(other.elementLength);
+        element = CopyUtils.copy(other.element);
+        scalarLength = CopyUtils.copy(other.scalarLength);
+        scalar = CopyUtils.copy(other.scalar);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public PWDServerKeyExchangeMessage createCopy() {
+        return new PWDServerKeyExchangeMessage(this);
+    }
+
     @Override
     public PWDComputations getComputations() {
         return computations;
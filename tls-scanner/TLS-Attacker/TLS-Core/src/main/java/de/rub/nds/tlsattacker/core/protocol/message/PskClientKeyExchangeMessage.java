@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.PSKPremasterComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -44,6 +45,18 @@ public class PskClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super();
     }
 
+    public PskClientKeyExchangeMessage(PskClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+        identity = CopyUtils.copy(other.identity);
+        identityLength = CopyUtils.copy(other.identityLength);
+    }
+
+    @Override
+    public PskClientKeyExchangeMessage createCopy() {
+        return new PskClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
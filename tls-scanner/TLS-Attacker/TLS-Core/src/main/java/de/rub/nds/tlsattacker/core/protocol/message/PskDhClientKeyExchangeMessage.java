@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.protocol.handler.DHClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskDhClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "PskDhClientKeyExchange")
@@ -37,6 +38,17 @@ public class PskDhClientKeyExchangeMessage extends DHClientKeyExchangeMessage {
         super();
     }
 
+    public PskDhClientKeyExchangeMessage(PskDhClientKeyExchangeMessage other) {
+        super(other);
+        identity = CopyUtils.copy(other.identity);
+        identityLength = CopyUtils.copy(other.identityLength);
+    }
+
+    @Override
+    public PskDhClientKeyExchangeMessage createCopy() {
+        return new PskDhClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.protocol.handler.DHEServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskDheServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "PskDheServerKeyExchange")
@@ -36,6 +37,17 @@ public class PskDheServerKeyExchangeMessage extends DHEServerKeyExchangeMessage
         super(tlsConfig);
     }
 
+    public PskDheServerKeyExchangeMessage(PskDheServerKeyExchangeMessage other) {
+        super(other);
+        identityHint = CopyUtils.copy(other.identityHint);
+        identityHintLength = CopyUtils.copy(other.identityHintLength);
+    }
+
+    @Override
+    public PskDheServerKeyExchangeMessage createCopy() {
+        return new PskDheServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByteArray getIdentityHint() {
         return identityHint;
     }
@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.protocol.handler.ECDHClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskEcDhClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "PskEcDhClientKeyExchange")
@@ -38,6 +39,17 @@ public class PskEcDhClientKeyExchangeMessage extends ECDHClientKeyExchangeMessag
         super();
     }
 
+    public PskEcDhClientKeyExchangeMessage(PskEcDhClientKeyExchangeMessage other) {
+        super(other);
+        identity = CopyUtils.copy(other.identity);
+        identityLength = CopyUtils.copy(other.identityLength);
+    }
+
+    @Override
+    public PskEcDhClientKeyExchangeMessage createCopy() {
+        return new PskEcDhClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
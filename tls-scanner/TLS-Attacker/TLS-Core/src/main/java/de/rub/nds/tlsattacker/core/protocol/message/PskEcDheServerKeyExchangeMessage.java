@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import de.rub.nds.tlsattacker.core.protocol.handler.ECDHEServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskEcDheServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "PskEcDheServerKeyExchange")
@@ -38,6 +39,17 @@ public class PskEcDheServerKeyExchangeMessage extends ECDHEServerKeyExchangeMess
         super(tlsConfig);
     }
 
+    public PskEcDheServerKeyExchangeMessage(PskEcDheServerKeyExchangeMessage other) {
+        super(other);
+        identityHint = CopyUtils.copy(other.identityHint);
+        identityHintLength = CopyUtils.copy(other.identityHintLength);
+    }
+
+    @Override
+    public PskEcDheServerKeyExchangeMessage createCopy() {
+        return new PskEcDheServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByteArray getIdentityHint() {
         return identityHint;
     }
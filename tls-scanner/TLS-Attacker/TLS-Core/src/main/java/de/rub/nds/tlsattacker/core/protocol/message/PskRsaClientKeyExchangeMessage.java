@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskRsaClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.RSAClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -41,6 +42,17 @@ public class PskRsaClientKeyExchangeMessage extends RSAClientKeyExchangeMessage
         super();
     }
 
+    public PskRsaClientKeyExchangeMessage(PskRsaClientKeyExchangeMessage other) {
+        super(other);
+        identity = CopyUtils.copy(other.identity);
+        identityLength = CopyUtils.copy(other.identityLength);
+    }
+
+    @Override
+    public PskRsaClientKeyExchangeMessage createCopy() {
+        return new PskRsaClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
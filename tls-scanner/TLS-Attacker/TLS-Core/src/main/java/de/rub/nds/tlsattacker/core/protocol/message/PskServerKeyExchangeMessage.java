@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.PskServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.PSKPremasterComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -43,6 +44,18 @@ public class PskServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public PskServerKeyExchangeMessage(PskServerKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+        identityHint = CopyUtils.copy(other.identityHint);
+        identityHintLength = CopyUtils.copy(other.identityHintLength);
+    }
+
+    @Override
+    public PskServerKeyExchangeMessage createCopy() {
+        return new PskServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByteArray getIdentityHint() {
         return identityHint;
     }
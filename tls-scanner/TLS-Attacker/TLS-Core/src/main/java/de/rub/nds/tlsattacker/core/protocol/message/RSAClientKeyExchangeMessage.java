@@ -35,6 +35,16 @@ public class RSAClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super();
     }
 
+    public RSAClientKeyExchangeMessage(RSAClientKeyExchangeMessage other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public RSAClientKeyExchangeMessage createCopy() {
+        return new RSAClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -24,6 +24,7 @@ import de.rub.nds.tlsattacker.core.protocol.ProtocolMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.RSAServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.RSAServerComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "RSAServerKeyExchange")
@@ -45,6 +46,18 @@ public class RSAServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public RSAServerKeyExchangeMessage(RSAServerKeyExchangeMessage other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        modulusLength = CopyUtils.copy(other.modulusLength);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public RSAServerKeyExchangeMessage createCopy() {
+        return new RSAServerKeyExchangeMessage(this);
+    }
+
     @Override
     public RSAServerComputations getComputations() {
         return computations;
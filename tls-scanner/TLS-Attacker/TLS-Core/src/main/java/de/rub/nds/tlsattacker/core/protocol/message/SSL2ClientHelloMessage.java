@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
 import de.rub.nds.tlsattacker.core.protocol.handler.SSL2ClientHelloHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @SuppressWarnings("serial")
@@ -53,6 +54,22 @@ public class SSL2ClientHelloMessage extends SSL2HandshakeMessage {
         this();
     }
 
+    public SSL2ClientHelloMessage(SSL2ClientHelloMessage other) {
+        super(other);
+        protocolVersion = CopyUtils.copy(other.protocolVersion);
+        cipherSuiteLength = CopyUtils.copy(other.cipherSuiteLength);
+        sessionIdLength = CopyUtils.copy(other.sessionIdLength);
+        challengeLength = CopyUtils.copy(other.challengeLength);
+        cipherSuites = CopyUtils.copy(other.cipherSuites);
+        sessionId = CopyUtils.copy(other.sessionId);
+        challenge = CopyUtils.copy(other.challenge);
+    }
+
+    @Override
+    public SSL2ClientHelloMessage createCopy() {
+        return new SSL2ClientHelloMessage(this);
+    }
+
     @Override
     public String toCompactString() {
         return "SSL2 ClientHello Message";
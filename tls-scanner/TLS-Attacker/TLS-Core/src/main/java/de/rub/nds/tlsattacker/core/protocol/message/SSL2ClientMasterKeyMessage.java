@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.SSL2ClientMasterKeyHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.RSAClientComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -62,6 +63,23 @@ public class SSL2ClientMasterKeyMessage extends SSL2HandshakeMessage {
         this();
     }
 
+    public SSL2ClientMasterKeyMessage(SSL2ClientMasterKeyMessage other) {
+        super(other);
+        cipherKind = CopyUtils.copy(other.cipherKind);
+        clearKeyLength = CopyUtils.copy(other.clearKeyLength);
+        encryptedKeyLength = CopyUtils.copy(other.encryptedKeyLength);
+        keyArgLength = CopyUtils.copy(other.keyArgLength);
+        clearKeyData = CopyUtils.copy(other.clearKeyData);
+        encryptedKeyData = CopyUtils.copy(other.encryptedKeyData);
+        keyArgData = CopyUtils.copy(other.keyArgData);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public SSL2ClientMasterKeyMessage createCopy() {
+        return new SSL2ClientMasterKeyMessage(this);
+    }
+
     @Override
     public String toCompactString() {
         return "SSL2 ClientMasterKey Message";
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 @SuppressWarnings("serial")
 public abstract class SSL2HandshakeMessage extends HandshakeMessage {
@@ -29,6 +30,15 @@ public abstract class SSL2HandshakeMessage extends HandshakeMessage {
         super(handshakeMessageType);
     }
 
+    protected SSL2HandshakeMessage(SSL2HandshakeMessage other) {
+        super(other);
+        messageLength = CopyUtils.copy(other.messageLength);
+        paddingLength = CopyUtils.copy(other.paddingLength);
+    }
+
+    @Override
+    public abstract SSL2HandshakeMessage createCopy();
+
     public ModifiableInteger getMessageLength() {
         return messageLength;
     }
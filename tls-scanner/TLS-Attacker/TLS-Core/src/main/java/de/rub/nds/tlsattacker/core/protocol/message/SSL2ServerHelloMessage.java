@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
 import de.rub.nds.tlsattacker.core.protocol.handler.SSL2ServerHelloHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @SuppressWarnings("serial")
@@ -63,6 +64,24 @@ public class SSL2ServerHelloMessage extends SSL2HandshakeMessage {
         this();
     }
 
+    public SSL2ServerHelloMessage(SSL2ServerHelloMessage other) {
+        super(other);
+        sessionIdHit = CopyUtils.copy(other.sessionIdHit);
+        certificateType = CopyUtils.copy(other.certificateType);
+        protocolVersion = CopyUtils.copy(other.protocolVersion);
+        certificateLength = CopyUtils.copy(other.certificateLength);
+        cipherSuitesLength = CopyUtils.copy(other.cipherSuitesLength);
+        sessionIdLength = CopyUtils.copy(other.sessionIdLength);
+        certificate = CopyUtils.copy(other.certificate);
+        cipherSuites = CopyUtils.copy(other.cipherSuites);
+        sessionId = CopyUtils.copy(other.sessionId);
+    }
+
+    @Override
+    public SSL2ServerHelloMessage createCopy() {
+        return new SSL2ServerHelloMessage(this);
+    }
+
     @Override
     public String toCompactString() {
         return "SSL2 ServerHello Message";
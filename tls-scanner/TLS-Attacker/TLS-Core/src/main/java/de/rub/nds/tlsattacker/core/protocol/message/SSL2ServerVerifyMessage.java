@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.SSL2ServerVerifyHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @SuppressWarnings("serial")
@@ -37,6 +38,16 @@ public class SSL2ServerVerifyMessage extends SSL2HandshakeMessage {
         this();
     }
 
+    public SSL2ServerVerifyMessage(SSL2ServerVerifyMessage other) {
+        super(other);
+        encryptedPart = CopyUtils.copy(other.encryptedPart);
+    }
+
+    @Override
+    public SSL2ServerVerifyMessage createCopy() {
+        return new SSL2ServerVerifyMessage(this);
+    }
+
     @Override
     public String toCompactString() {
         return "SSL2 ServerVerify Message";
@@ -26,6 +26,15 @@ public class ServerHelloDoneMessage extends HandshakeMessage {
         super(HandshakeMessageType.SERVER_HELLO_DONE);
     }
 
+    public ServerHelloDoneMessage(ServerHelloDoneMessage other) {
+        super(other);
+    }
+
+    @Override
+    public ServerHelloDoneMessage createCopy() {
+        return new ServerHelloDoneMessage(this);
+    }
+
     @Override
     public ServerHelloDoneHandler getHandler(TlsContext context) {
         return new ServerHelloDoneHandler(context);
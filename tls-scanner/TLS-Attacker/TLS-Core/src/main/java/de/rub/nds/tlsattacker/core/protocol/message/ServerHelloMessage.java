@@ -57,6 +57,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.extension.TruncatedHmacExten
 import de.rub.nds.tlsattacker.core.protocol.message.extension.TrustedCaIndicationExtensionMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.sni.ServerNamePair;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Date;
@@ -195,6 +196,18 @@ public class ServerHelloMessage extends HelloMessage {
 
     }
 
+    public ServerHelloMessage(ServerHelloMessage other) {
+        super(other);
+        selectedCipherSuite = CopyUtils.copy(other.selectedCipherSuite);
+        selectedCompressionMethod = CopyUtils.copy(other.selectedCompressionMethod);
+        autoSetHelloRetryModeInKeyShare = other.autoSetHelloRetryModeInKeyShare;
+    }
+
+    @Override
+    public ServerHelloMessage createCopy() {
+        return new ServerHelloMessage(this);
+    }
+
     public ModifiableByteArray getSelectedCipherSuite() {
         return selectedCipherSuite;
     }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.KeyExchangeComputations;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public abstract class ServerKeyExchangeMessage extends HandshakeMessage {
 
@@ -54,6 +55,18 @@ public abstract class ServerKeyExchangeMessage extends HandshakeMessage {
         super(tlsConfig, handshakeMessageType);
     }
 
+    protected ServerKeyExchangeMessage(ServerKeyExchangeMessage other) {
+        super(other);
+        signatureAndHashAlgorithm = CopyUtils.copy(other.signatureAndHashAlgorithm);
+        signatureLength = CopyUtils.copy(other.signatureLength);
+        signature = CopyUtils.copy(other.signature);
+        publicKeyLength = CopyUtils.copy(other.publicKeyLength);
+        publicKey = CopyUtils.copy(other.publicKey);
+    }
+
+    @Override
+    public abstract ServerKeyExchangeMessage createCopy();
+
     public abstract KeyExchangeComputations getComputations();
 
     public abstract void prepareComputations();
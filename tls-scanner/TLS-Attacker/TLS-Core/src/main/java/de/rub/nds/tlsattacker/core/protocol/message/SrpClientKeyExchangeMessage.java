@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.SrpClientKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.SRPClientComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -71,6 +72,22 @@ public class SrpClientKeyExchangeMessage extends ClientKeyExchangeMessage {
         super(tlsConfig);
     }
 
+    public SrpClientKeyExchangeMessage(SrpClientKeyExchangeMessage other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        modulusLength = CopyUtils.copy(other.modulusLength);
+        generator = CopyUtils.copy(other.generator);
+        generatorLength = CopyUtils.copy(other.generatorLength);
+        computations = other.computations == null ? null : other.computations.createCopy();
+        salt = CopyUtils.copy(other.salt);
+        saltLength = CopyUtils.copy(other.saltLength);
+    }
+
+    @Override
+    public SrpClientKeyExchangeMessage createCopy() {
+        return new SrpClientKeyExchangeMessage(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
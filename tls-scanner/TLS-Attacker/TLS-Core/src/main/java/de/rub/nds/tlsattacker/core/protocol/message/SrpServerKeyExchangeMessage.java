@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.handler.SrpServerKeyExchangeHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.computations.SRPServerComputations;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -74,6 +75,22 @@ public class SrpServerKeyExchangeMessage extends ServerKeyExchangeMessage {
         super(tlsConfig, HandshakeMessageType.SERVER_KEY_EXCHANGE);
     }
 
+    public SrpServerKeyExchangeMessage(SrpServerKeyExchangeMessage other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        modulusLength = CopyUtils.copy(other.modulusLength);
+        generator = CopyUtils.copy(other.generator);
+        generatorLength = CopyUtils.copy(other.generatorLength);
+        salt = CopyUtils.copy(other.salt);
+        saltLength = CopyUtils.copy(other.saltLength);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public SrpServerKeyExchangeMessage createCopy() {
+        return new SrpServerKeyExchangeMessage(this);
+    }
+
     public ModifiableByteArray getModulus() {
         return modulus;
     }
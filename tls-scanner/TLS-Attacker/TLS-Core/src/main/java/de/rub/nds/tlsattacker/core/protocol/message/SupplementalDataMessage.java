@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.SupplementalDataHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.supplementaldata.SupplementalDataEntry;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -50,6 +51,18 @@ public class SupplementalDataMessage extends HandshakeMessage {
         this.entries = new LinkedList<>();
     }
 
+    public SupplementalDataMessage(SupplementalDataMessage other) {
+        super(other);
+        entries = CopyUtils.copyList(other.entries, SupplementalDataEntry::new);
+        supplementalDataLength = CopyUtils.copy(other.supplementalDataLength);
+        supplementalDataBytes = CopyUtils.copy(other.supplementalDataBytes);
+    }
+
+    @Override
+    public SupplementalDataMessage createCopy() {
+        return new SupplementalDataMessage(this);
+    }
+
     public List<SupplementalDataEntry> getEntries() {
         return entries;
     }
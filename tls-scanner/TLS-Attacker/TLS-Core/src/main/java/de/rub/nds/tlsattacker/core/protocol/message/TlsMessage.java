@@ -32,6 +32,14 @@ public abstract class TlsMessage extends ProtocolMessage {
     public TlsMessage() {
     }
 
+    protected TlsMessage(TlsMessage other) {
+        super(other);
+        protocolMessageType = other.protocolMessageType;
+    }
+
+    @Override
+    public abstract TlsMessage createCopy();
+
     public ProtocolMessageType getProtocolMessageType() {
         return protocolMessageType;
     }
@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.UnknownHandshakeHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "UnknownHandshakeMessage")
@@ -35,6 +36,17 @@ public class UnknownHandshakeMessage extends HandshakeMessage {
         super(HandshakeMessageType.UNKNOWN);
     }
 
+    public UnknownHandshakeMessage(UnknownHandshakeMessage other) {
+        super(other);
+        dataConfig = CopyUtils.copy(other.dataConfig);
+        data = CopyUtils.copy(other.data);
+    }
+
+    @Override
+    public UnknownHandshakeMessage createCopy() {
+        return new UnknownHandshakeMessage(this);
+    }
+
     public byte[] getDataConfig() {
         return dataConfig;
     }
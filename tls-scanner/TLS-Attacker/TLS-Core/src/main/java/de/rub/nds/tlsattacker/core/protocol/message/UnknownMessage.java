@@ -15,6 +15,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.handler.UnknownMessageHandler;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "UnknownMessage")
@@ -41,6 +42,17 @@ public class UnknownMessage extends TlsMessage {
         protocolMessageType = ProtocolMessageType.UNKNOWN;
     }
 
+    public UnknownMessage(UnknownMessage other) {
+        super(other);
+        dataConfig = CopyUtils.copy(other.dataConfig);
+        recordContentMessageType = other.recordContentMessageType;
+    }
+
+    @Override
+    public UnknownMessage createCopy() {
+        return new UnknownMessage(this);
+    }
+
     public byte[] getDataConfig() {
         return dataConfig;
     }
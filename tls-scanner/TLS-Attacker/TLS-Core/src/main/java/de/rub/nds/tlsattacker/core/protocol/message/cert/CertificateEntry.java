@@ -11,6 +11,7 @@ package de.rub.nds.tlsattacker.core.protocol.message.cert;
 
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -32,6 +33,11 @@ public class CertificateEntry {
     public CertificateEntry() {
     }
 
+    public CertificateEntry(CertificateEntry other) {
+        certificate = CopyUtils.copy(other.certificate);
+        extensions = CopyUtils.copyList(other.extensions, ExtensionMessage::createCopy);
+    }
+
     public byte[] getCertificate() {
         return certificate;
     }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -49,6 +50,20 @@ public class CertificatePair extends ModifiableVariableHolder {
         this.certificateConfig = certificateConfig;
     }
 
+    public CertificatePair(CertificatePair other) {
+        certificateConfig = CopyUtils.copy(other.certificateConfig);
+        extensionsConfig = CopyUtils.copyList(other.extensionsConfig, ExtensionMessage::createCopy);
+        certificate = CopyUtils.copy(other.certificate);
+        certificateLength = CopyUtils.copy(other.certificateLength);
+        extensions = CopyUtils.copy(other.extensions);
+        extensionsLength = CopyUtils.copy(other.extensionsLength);
+    }
+
+    @Override
+    public CertificatePair createCopy() {
+        return new CertificatePair(this);
+    }
+
     public ModifiableByteArray getCertificate() {
         return certificate;
     }
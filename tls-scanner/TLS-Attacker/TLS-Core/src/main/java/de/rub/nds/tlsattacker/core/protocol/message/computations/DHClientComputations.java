@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class DHClientComputations extends KeyExchangeComputations {
@@ -35,6 +36,18 @@ public class DHClientComputations extends KeyExchangeComputations {
     public DHClientComputations() {
     }
 
+    public DHClientComputations(DHClientComputations other) {
+        super(other);
+        publicKey = CopyUtils.copy(other.publicKey);
+        modulus = CopyUtils.copy(other.modulus);
+        generator = CopyUtils.copy(other.generator);
+    }
+
+    @Override
+    public DHClientComputations createCopy() {
+        return new DHClientComputations(this);
+    }
+
     public ModifiableBigInteger getModulus() {
         return modulus;
     }
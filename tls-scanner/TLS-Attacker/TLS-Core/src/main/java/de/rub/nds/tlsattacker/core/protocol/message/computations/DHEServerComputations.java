@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class DHEServerComputations extends KeyExchangeComputations {
@@ -32,6 +33,17 @@ public class DHEServerComputations extends KeyExchangeComputations {
     public DHEServerComputations() {
     }
 
+    public DHEServerComputations(DHEServerComputations other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        generator = CopyUtils.copy(other.generator);
+    }
+
+    @Override
+    public DHEServerComputations createCopy() {
+        return new DHEServerComputations(this);
+    }
+
     public ModifiableBigInteger getModulus() {
         return modulus;
     }
@@ -12,6 +12,7 @@ package de.rub.nds.tlsattacker.core.protocol.message.computations;
 import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class ECDHClientComputations extends KeyExchangeComputations {
@@ -20,6 +21,20 @@ public class ECDHClientComputations extends KeyExchangeComputations {
 
     private ModifiableBigInteger publicKeyY;
 
+    public ECDHClientComputations() {
+    }
+
+    public ECDHClientComputations(ECDHClientComputations other) {
+        super(other);
+        publicKeyX = CopyUtils.copy(other.publicKeyX);
+        publicKeyY = CopyUtils.copy(other.publicKeyY);
+    }
+
+    @Override
+    public ECDHClientComputations createCopy() {
+        return new ECDHClientComputations(this);
+    }
+
     public ModifiableBigInteger getPublicKeyX() {
         return publicKeyX;
     }
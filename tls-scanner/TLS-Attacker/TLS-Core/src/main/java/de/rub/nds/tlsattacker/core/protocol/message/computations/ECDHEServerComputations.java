@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class ECDHEServerComputations extends KeyExchangeComputations {
 
@@ -26,6 +27,17 @@ public class ECDHEServerComputations extends KeyExchangeComputations {
     public ECDHEServerComputations() {
     }
 
+    public ECDHEServerComputations(ECDHEServerComputations other) {
+        super(other);
+        ecPointFormat = CopyUtils.copy(other.ecPointFormat);
+        namedGroup = CopyUtils.copy(other.namedGroup);
+    }
+
+    @Override
+    public ECDHEServerComputations createCopy() {
+        return new ECDHEServerComputations(this);
+    }
+
     public ModifiableByte getEcPointFormat() {
         return ecPointFormat;
     }
@@ -15,4 +15,13 @@ public class EmptyClientComputations extends KeyExchangeComputations {
 
     public EmptyClientComputations() {
     }
+
+    public EmptyClientComputations(EmptyClientComputations other) {
+        super(other);
+    }
+
+    @Override
+    public EmptyClientComputations createCopy() {
+        return new EmptyClientComputations(this);
+    }
 }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.string.ModifiableString;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.crypto.ec.Point;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 
 public class GOSTClientComputations extends KeyExchangeComputations {
@@ -43,6 +44,27 @@ public class GOSTClientComputations extends KeyExchangeComputations {
 
     private ModifiableBigInteger clientPublicKeyY;
 
+    public GOSTClientComputations() {
+    }
+
+    public GOSTClientComputations(GOSTClientComputations other) {
+        super(other);
+        ukm = CopyUtils.copy(other.ukm);
+        encryptedKey = CopyUtils.copy(other.encryptedKey);
+        macKey = CopyUtils.copy(other.macKey);
+        keyEncryptionKey = CopyUtils.copy(other.keyEncryptionKey);
+        maskKey = CopyUtils.copy(other.maskKey);
+        proxyKeyBlobs = CopyUtils.copy(other.proxyKeyBlobs);
+        encryptionParamSet = CopyUtils.copy(other.encryptionParamSet);
+        clientPublicKeyX = CopyUtils.copy(other.clientPublicKeyX);
+        clientPublicKeyY = CopyUtils.copy(other.clientPublicKeyY);
+    }
+
+    @Override
+    public GOSTClientComputations createCopy() {
+        return new GOSTClientComputations(this);
+    }
+
     public void setClientPublicKey(Point point) {
         this.clientPublicKeyX =
             ModifiableVariableFactory.safelySetValue(this.clientPublicKeyX, point.getFieldX().getData());
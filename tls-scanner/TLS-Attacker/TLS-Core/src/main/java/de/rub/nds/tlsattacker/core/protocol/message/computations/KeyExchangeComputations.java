@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import java.math.BigInteger;
 
@@ -29,6 +30,18 @@ public abstract class KeyExchangeComputations extends ModifiableVariableHolder i
     @ModifiableVariableProperty(type = ModifiableVariableProperty.Type.PRIVATE_KEY)
     private ModifiableBigInteger privateKey;
 
+    public KeyExchangeComputations() {
+    }
+
+    protected KeyExchangeComputations(KeyExchangeComputations other) {
+        premasterSecret = CopyUtils.copy(other.premasterSecret);
+        clientServerRandom = CopyUtils.copy(other.clientServerRandom);
+        privateKey = CopyUtils.copy(other.privateKey);
+    }
+
+    @Override
+    public abstract KeyExchangeComputations createCopy();
+
     public ModifiableByteArray getPremasterSecret() {
         return premasterSecret;
     }
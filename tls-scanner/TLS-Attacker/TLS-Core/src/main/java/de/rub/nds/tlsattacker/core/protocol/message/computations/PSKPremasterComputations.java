@@ -12,6 +12,7 @@ package de.rub.nds.tlsattacker.core.protocol.message.computations;
 import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,6 +31,17 @@ public class PSKPremasterComputations extends KeyExchangeComputations {
         this.psk = psk;
     }
 
+    public PSKPremasterComputations(PSKPremasterComputations other) {
+        super(other);
+        premasterSecret = CopyUtils.copy(other.premasterSecret);
+        psk = CopyUtils.copy(other.psk);
+    }
+
+    @Override
+    public PSKPremasterComputations createCopy() {
+        return new PSKPremasterComputations(this);
+    }
+
     @Override
     public ModifiableByteArray getPremasterSecret() {
         return premasterSecret;
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class PSKRSAPremasterComputations extends KeyExchangeComputations {
 
@@ -26,6 +27,18 @@ public class PSKRSAPremasterComputations extends KeyExchangeComputations {
     public PSKRSAPremasterComputations() {
     }
 
+    public PSKRSAPremasterComputations(PSKRSAPremasterComputations other) {
+        super(other);
+        padding = CopyUtils.copy(other.padding);
+        encryptedPremasterSecret = CopyUtils.copy(other.encryptedPremasterSecret);
+        psk = CopyUtils.copy(other.psk);
+    }
+
+    @Override
+    public PSKRSAPremasterComputations createCopy() {
+        return new PSKRSAPremasterComputations(this);
+    }
+
     @Override
     public ModifiableByteArray getPremasterSecret() {
         return premasterSecret;
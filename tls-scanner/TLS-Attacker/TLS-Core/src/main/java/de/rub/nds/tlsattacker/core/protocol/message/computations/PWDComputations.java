@@ -42,6 +42,20 @@ public class PWDComputations extends KeyExchangeComputations {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    public PWDComputations() {
+    }
+
+    public PWDComputations(PWDComputations other) {
+        super(other);
+        passwordElement = other.passwordElement;
+        privateKeyScalar = other.privateKeyScalar;
+    }
+
+    @Override
+    public PWDComputations createCopy() {
+        return new PWDComputations(this);
+    }
+
     /**
      * Computes the password element for TLS_ECCPWD according to RFC 8492
      *
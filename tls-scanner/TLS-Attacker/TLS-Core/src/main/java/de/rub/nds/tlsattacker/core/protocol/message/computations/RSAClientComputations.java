@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,6 +34,18 @@ public class RSAClientComputations extends KeyExchangeComputations {
     public RSAClientComputations() {
     }
 
+    public RSAClientComputations(RSAClientComputations other) {
+        super(other);
+        premasterSecretProtocolVersion = CopyUtils.copy(other.premasterSecretProtocolVersion);
+        plainPaddedPremasterSecret = CopyUtils.copy(other.plainPaddedPremasterSecret);
+        padding = CopyUtils.copy(other.padding);
+    }
+
+    @Override
+    public RSAClientComputations createCopy() {
+        return new RSAClientComputations(this);
+    }
+
     public ModifiableByteArray getPlainPaddedPremasterSecret() {
         return plainPaddedPremasterSecret;
     }
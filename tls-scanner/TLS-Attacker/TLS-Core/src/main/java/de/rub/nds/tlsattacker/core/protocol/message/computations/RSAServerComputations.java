@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class RSAServerComputations extends KeyExchangeComputations {
 
@@ -24,6 +25,20 @@ public class RSAServerComputations extends KeyExchangeComputations {
     @ModifiableVariableProperty(type = ModifiableVariableProperty.Type.PUBLIC_KEY)
     private ModifiableBigInteger publicExponent;
 
+    public RSAServerComputations() {
+    }
+
+    public RSAServerComputations(RSAServerComputations other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        publicExponent = CopyUtils.copy(other.publicExponent);
+    }
+
+    @Override
+    public RSAServerComputations createCopy() {
+        return new RSAServerComputations(this);
+    }
+
     public void setModulus(BigInteger modulus) {
         this.modulus = ModifiableVariableFactory.safelySetValue(this.modulus, modulus);
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class SRPClientComputations extends KeyExchangeComputations {
@@ -46,6 +47,21 @@ public class SRPClientComputations extends KeyExchangeComputations {
     public SRPClientComputations() {
     }
 
+    public SRPClientComputations(SRPClientComputations other) {
+        super(other);
+        serverPublicKey = CopyUtils.copy(other.serverPublicKey);
+        modulus = CopyUtils.copy(other.modulus);
+        generator = CopyUtils.copy(other.generator);
+        salt = CopyUtils.copy(other.salt);
+        srpIdentity = CopyUtils.copy(other.srpIdentity);
+        srpPassword = CopyUtils.copy(other.srpPassword);
+    }
+
+    @Override
+    public SRPClientComputations createCopy() {
+        return new SRPClientComputations(this);
+    }
+
     public ModifiableBigInteger getServerPublicKey() {
         return serverPublicKey;
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class SRPServerComputations extends KeyExchangeComputations {
@@ -41,6 +42,20 @@ public class SRPServerComputations extends KeyExchangeComputations {
     public SRPServerComputations() {
     }
 
+    public SRPServerComputations(SRPServerComputations other) {
+        super(other);
+        modulus = CopyUtils.copy(other.modulus);
+        generator = CopyUtils.copy(other.generator);
+        salt = CopyUtils.copy(other.salt);
+        srpIdentity = CopyUtils.copy(other.srpIdentity);
+        srpPassword = CopyUtils.copy(other.srpPassword);
+    }
+
+    @Override
+    public SRPServerComputations createCopy() {
+        return new SRPServerComputations(this);
+    }
+
     public ModifiableByteArray getSRPIdentity() {
         return srpIdentity;
     }
@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.alpn.AlpnEntry;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -42,6 +43,18 @@ public class AlpnExtensionMessage extends ExtensionMessage {
         super(ExtensionType.ALPN);
     }
 
+    public AlpnExtensionMessage(AlpnExtensionMessage other) {
+        super(other);
+        proposedAlpnProtocolsLength = CopyUtils.copy(other.proposedAlpnProtocolsLength);
+        proposedAlpnProtocols = CopyUtils.copy(other.proposedAlpnProtocols);
+        alpnEntryList = CopyUtils.copyList(other.alpnEntryList, AlpnEntry::createCopy);
+    }
+
+    @Override
+    public AlpnExtensionMessage createCopy() {
+        return new AlpnExtensionMessage(this);
+    }
+
     public List<AlpnEntry> getAlpnEntryList() {
         return alpnEntryList;
     }
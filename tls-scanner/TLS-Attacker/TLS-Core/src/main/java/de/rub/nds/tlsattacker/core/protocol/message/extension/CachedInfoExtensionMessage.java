@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.cachedinfo.CachedObject;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -46,6 +47,18 @@ public class CachedInfoExtensionMessage extends ExtensionMessage {
         cachedInfo.addAll(config.getCachedObjectList());
     }
 
+    public CachedInfoExtensionMessage(CachedInfoExtensionMessage other) {
+        super(other);
+        cachedInfoLength = CopyUtils.copy(other.cachedInfoLength);
+        cachedInfo = CopyUtils.copyList(other.cachedInfo, CachedObject::createCopy);
+        cachedInfoBytes = CopyUtils.copy(other.cachedInfoBytes);
+    }
+
+    @Override
+    public CachedInfoExtensionMessage createCopy() {
+        return new CachedInfoExtensionMessage(this);
+    }
+
     public ModifiableInteger getCachedInfoLength() {
         return cachedInfoLength;
     }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -56,6 +57,23 @@ public class CertificateStatusRequestExtensionMessage extends ExtensionMessage {
         super(ExtensionType.STATUS_REQUEST);
     }
 
+    public CertificateStatusRequestExtensionMessage(CertificateStatusRequestExtensionMessage other) {
+        super(other);
+        certificateStatusRequestType = CopyUtils.copy(other.certificateStatusRequestType);
+        responderIDListLength = CopyUtils.copy(other.responderIDListLength);
+        responderIDList = CopyUtils.copy(other.responderIDList);
+        requestExtensionLength = CopyUtils.copy(other.requestExtensionLength);
+        requestExtension = CopyUtils.copy(other.requestExtension);
+        certificateStatusType = CopyUtils.copy(other.certificateStatusType);
+        ocspResponseLength = CopyUtils.copy(other.ocspResponseLength);
+        ocspResponseBytes = CopyUtils.copy(other.ocspResponseBytes);
+    }
+
+    @Override
+    public CertificateStatusRequestExtensionMessage createCopy() {
+        return new CertificateStatusRequestExtensionMessage(this);
+    }
+
     public ModifiableInteger getCertificateStatusRequestType() {
         return certificateStatusRequestType;
     }
@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.statusrequestv2.RequestItemV2;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -41,6 +42,18 @@ public class CertificateStatusRequestV2ExtensionMessage extends ExtensionMessage
         super(ExtensionType.STATUS_REQUEST_V2);
     }
 
+    public CertificateStatusRequestV2ExtensionMessage(CertificateStatusRequestV2ExtensionMessage other) {
+        super(other);
+        statusRequestListLength = CopyUtils.copy(other.statusRequestListLength);
+        statusRequestList = CopyUtils.copyList(other.statusRequestList, RequestItemV2::new);
+        statusRequestBytes = CopyUtils.copy(other.statusRequestBytes);
+    }
+
+    @Override
+    public CertificateStatusRequestV2ExtensionMessage createCopy() {
+        return new CertificateStatusRequestV2ExtensionMessage(this);
+    }
+
     public ModifiableInteger getStatusRequestListLength() {
         return statusRequestListLength;
     }
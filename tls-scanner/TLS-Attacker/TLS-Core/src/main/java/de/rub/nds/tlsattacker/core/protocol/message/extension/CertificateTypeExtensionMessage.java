@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -39,6 +40,18 @@ public class CertificateTypeExtensionMessage extends ExtensionMessage {
         super(ExtensionType.CERT_TYPE);
     }
 
+    public CertificateTypeExtensionMessage(CertificateTypeExtensionMessage other) {
+        super(other);
+        certificateTypesLength = CopyUtils.copy(other.certificateTypesLength);
+        certificateTypes = CopyUtils.copy(other.certificateTypes);
+        isClientMessage = CopyUtils.copy(other.isClientMessage);
+    }
+
+    @Override
+    public CertificateTypeExtensionMessage createCopy() {
+        return new CertificateTypeExtensionMessage(this);
+    }
+
     public ModifiableInteger getCertificateTypesLength() {
         return certificateTypesLength;
     }
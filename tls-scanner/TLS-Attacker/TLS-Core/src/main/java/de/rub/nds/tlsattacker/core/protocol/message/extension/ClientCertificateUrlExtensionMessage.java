@@ -24,4 +24,13 @@ public class ClientCertificateUrlExtensionMessage extends ExtensionMessage {
         super(ExtensionType.CLIENT_CERTIFICATE_URL);
     }
 
+    public ClientCertificateUrlExtensionMessage(ClientCertificateUrlExtensionMessage other) {
+        super(other);
+    }
+
+    @Override
+    public ClientCertificateUrlExtensionMessage createCopy() {
+        return new ClientCertificateUrlExtensionMessage(this);
+    }
+
 }
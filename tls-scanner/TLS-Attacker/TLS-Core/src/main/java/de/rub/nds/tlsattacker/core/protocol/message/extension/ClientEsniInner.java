@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.sni.ServerNamePair;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +42,19 @@ public class ClientEsniInner extends ModifiableVariableHolder implements Seriali
         this.serverNameList = new LinkedList<>();
     }
 
+    public ClientEsniInner(ClientEsniInner other) {
+        clientNonce = CopyUtils.copy(other.clientNonce);
+        serverNameListLength = CopyUtils.copy(other.serverNameListLength);
+        serverNameListBytes = CopyUtils.copy(other.serverNameListBytes);
+        padding = CopyUtils.copy(other.padding);
+        serverNameList = CopyUtils.copyList(other.serverNameList, ServerNamePair::createCopy);
+    }
+
+    @Override
+    public ClientEsniInner createCopy() {
+        return new ClientEsniInner(this);
+    }
+
     public ModifiableByteArray getClientNonce() {
         return clientNonce;
     }
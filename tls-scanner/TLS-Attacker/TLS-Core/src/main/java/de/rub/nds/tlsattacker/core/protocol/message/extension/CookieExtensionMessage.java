@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class CookieExtensionMessage extends ExtensionMessage {
         super(ExtensionType.COOKIE);
     }
 
+    public CookieExtensionMessage(CookieExtensionMessage other) {
+        super(other);
+        cookieLength = CopyUtils.copy(other.cookieLength);
+        cookie = CopyUtils.copy(other.cookie);
+    }
+
+    @Override
+    public CookieExtensionMessage createCopy() {
+        return new CookieExtensionMessage(this);
+    }
+
     public ModifiableInteger getCookieLength() {
         return cookieLength;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class ECPointFormatExtensionMessage extends ExtensionMessage {
         super(ExtensionType.EC_POINT_FORMATS);
     }
 
+    public ECPointFormatExtensionMessage(ECPointFormatExtensionMessage other) {
+        super(other);
+        pointFormatsLength = CopyUtils.copy(other.pointFormatsLength);
+        pointFormats = CopyUtils.copy(other.pointFormats);
+    }
+
+    @Override
+    public ECPointFormatExtensionMessage createCopy() {
+        return new ECPointFormatExtensionMessage(this);
+    }
+
     public ModifiableByteArray getPointFormats() {
         return pointFormats;
     }
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -38,6 +39,17 @@ public class EarlyDataExtensionMessage extends ExtensionMessage {
         super(ExtensionType.EARLY_DATA);
     }
 
+    public EarlyDataExtensionMessage(EarlyDataExtensionMessage other) {
+        super(other);
+        maxEarlyDataSize = CopyUtils.copy(other.maxEarlyDataSize);
+        newSessionTicketExtension = other.newSessionTicketExtension;
+    }
+
+    @Override
+    public EarlyDataExtensionMessage createCopy() {
+        return new EarlyDataExtensionMessage(this);
+    }
+
     /**
      * @return the max_early_data_size
      */
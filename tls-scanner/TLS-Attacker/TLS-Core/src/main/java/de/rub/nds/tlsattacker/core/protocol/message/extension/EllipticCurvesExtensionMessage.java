@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class EllipticCurvesExtensionMessage extends ExtensionMessage {
         super(ExtensionType.ELLIPTIC_CURVES);
     }
 
+    public EllipticCurvesExtensionMessage(EllipticCurvesExtensionMessage other) {
+        super(other);
+        supportedGroupsLength = CopyUtils.copy(other.supportedGroupsLength);
+        supportedGroups = CopyUtils.copy(other.supportedGroups);
+    }
+
+    @Override
+    public EllipticCurvesExtensionMessage createCopy() {
+        return new EllipticCurvesExtensionMessage(this);
+    }
+
     public ModifiableInteger getSupportedGroupsLength() {
         return supportedGroupsLength;
     }
@@ -27,4 +27,13 @@ public class EncryptThenMacExtensionMessage extends ExtensionMessage {
         super(ExtensionType.ENCRYPT_THEN_MAC);
     }
 
+    public EncryptThenMacExtensionMessage(EncryptThenMacExtensionMessage other) {
+        super(other);
+    }
+
+    @Override
+    public EncryptThenMacExtensionMessage createCopy() {
+        return new EncryptThenMacExtensionMessage(this);
+    }
+
 }
@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.keyshare.KeyShareEntry;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -72,6 +73,27 @@ public class EncryptedServerNameIndicationExtensionMessage extends ExtensionMess
         this.encryptedSniComputation = new EncryptedSniComputation();
     }
 
+    public EncryptedServerNameIndicationExtensionMessage(EncryptedServerNameIndicationExtensionMessage other) {
+        super(other);
+        esniMessageTypeConfig = other.esniMessageTypeConfig;
+        cipherSuite = CopyUtils.copy(other.cipherSuite);
+        keyShareEntry = other.keyShareEntry == null ? null : other.keyShareEntry.createCopy();
+        recordDigestLength = CopyUtils.copy(other.recordDigestLength);
+        recordDigest = CopyUtils.copy(other.recordDigest);
+        encryptedSniLength = CopyUtils.copy(other.encryptedSniLength);
+        encryptedSni = CopyUtils.copy(other.encryptedSni);
+        clientEsniInner = other.clientEsniInner == null ? null : other.clientEsniInner.createCopy();
+        clientEsniInnerBytes = CopyUtils.copy(other.clientEsniInnerBytes);
+        encryptedSniComputation =
+            other.encryptedSniComputation == null ? null : other.encryptedSniComputation.createCopy();
+        serverNonce = CopyUtils.copy(other.serverNonce);
+    }
+
+    @Override
+    public EncryptedServerNameIndicationExtensionMessage createCopy() {
+        return new EncryptedServerNameIndicationExtensionMessage(this);
+    }
+
     public ModifiableByteArray getCipherSuite() {
         return cipherSuite;
     }
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class EncryptedSniComputation extends ModifiableVariableHolder {
 
@@ -46,6 +47,27 @@ public class EncryptedSniComputation extends ModifiableVariableHolder {
     @ModifiableVariableProperty
     private ModifiableByteArray esniIv;
 
+    public EncryptedSniComputation() {
+    }
+
+    public EncryptedSniComputation(EncryptedSniComputation other) {
+        clientHelloRandom = CopyUtils.copy(other.clientHelloRandom);
+        esniContents = CopyUtils.copy(other.esniContents);
+        esniRecordBytes = CopyUtils.copy(other.esniRecordBytes);
+        clientHelloKeyShare = CopyUtils.copy(other.clientHelloKeyShare);
+        esniServerPublicKey = CopyUtils.copy(other.esniServerPublicKey);
+        esniContentsHash = CopyUtils.copy(other.esniContentsHash);
+        esniSharedSecret = CopyUtils.copy(other.esniSharedSecret);
+        esniMasterSecret = CopyUtils.copy(other.esniMasterSecret);
+        esniKey = CopyUtils.copy(other.esniKey);
+        esniIv = CopyUtils.copy(other.esniIv);
+    }
+
+    @Override
+    public EncryptedSniComputation createCopy() {
+        return new EncryptedSniComputation(this);
+    }
+
     public ModifiableByteArray getClientHelloRandom() {
         return clientHelloRandom;
     }
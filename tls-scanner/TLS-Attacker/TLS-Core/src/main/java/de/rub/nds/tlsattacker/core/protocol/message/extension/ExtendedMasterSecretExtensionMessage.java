@@ -30,4 +30,13 @@ public class ExtendedMasterSecretExtensionMessage extends ExtensionMessage {
     public ExtendedMasterSecretExtensionMessage(Config config) {
         super(ExtensionType.EXTENDED_MASTER_SECRET);
     }
+
+    public ExtendedMasterSecretExtensionMessage(ExtendedMasterSecretExtensionMessage other) {
+        super(other);
+    }
+
+    @Override
+    public ExtendedMasterSecretExtensionMessage createCopy() {
+        return new ExtendedMasterSecretExtensionMessage(this);
+    }
 }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -38,6 +39,17 @@ public class ExtendedRandomExtensionMessage extends ExtensionMessage {
         super(ExtensionType.EXTENDED_RANDOM);
     }
 
+    public ExtendedRandomExtensionMessage(ExtendedRandomExtensionMessage other) {
+        super(other);
+        extendedRandom = CopyUtils.copy(other.extendedRandom);
+        extendedRandomLength = CopyUtils.copy(other.extendedRandomLength);
+    }
+
+    @Override
+    public ExtendedRandomExtensionMessage createCopy() {
+        return new ExtendedRandomExtensionMessage(this);
+    }
+
     public void setExtendedRandom(ModifiableByteArray extendedRandom) {
         this.extendedRandom = extendedRandom;
     }
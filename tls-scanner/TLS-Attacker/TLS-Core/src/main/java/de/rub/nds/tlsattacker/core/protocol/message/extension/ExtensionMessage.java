@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.DtlsHandshakeMessageFragment;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import javax.xml.bind.annotation.XmlSeeAlso;
 
@@ -58,6 +59,16 @@ public abstract class ExtensionMessage extends ModifiableVariableHolder implemen
         this.extensionTypeConstant = type;
     }
 
+    protected ExtensionMessage(ExtensionMessage other) {
+        extensionTypeConstant = other.extensionTypeConstant;
+        extensionType = CopyUtils.copy(other.extensionType);
+        extensionLength = CopyUtils.copy(other.extensionLength);
+        extensionBytes = CopyUtils.copy(other.extensionBytes);
+    }
+
+    @Override
+    public abstract ExtensionMessage createCopy();
+
     public ModifiableByteArray getExtensionType() {
         return extensionType;
     }
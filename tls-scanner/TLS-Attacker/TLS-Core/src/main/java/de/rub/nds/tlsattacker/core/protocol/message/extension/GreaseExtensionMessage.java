@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -65,6 +66,18 @@ public class GreaseExtensionMessage extends ExtensionMessage {
         this.type = type;
     }
 
+    public GreaseExtensionMessage(GreaseExtensionMessage other) {
+        super(other);
+        randomData = CopyUtils.copy(other.randomData);
+        data = CopyUtils.copy(other.data);
+        type = other.type;
+    }
+
+    @Override
+    public GreaseExtensionMessage createCopy() {
+        return new GreaseExtensionMessage(this);
+    }
+
     @Override
     public ExtensionType getExtensionTypeConstant() {
         return this.type;
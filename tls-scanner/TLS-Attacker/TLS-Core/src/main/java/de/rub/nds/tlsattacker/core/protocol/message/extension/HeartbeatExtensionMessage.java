@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.constants.HeartbeatMode;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -36,6 +37,17 @@ public class HeartbeatExtensionMessage extends ExtensionMessage {
         super(ExtensionType.HEARTBEAT);
     }
 
+    public HeartbeatExtensionMessage(HeartbeatExtensionMessage other) {
+        super(other);
+        heartbeatModeConfig = other.heartbeatModeConfig;
+        heartbeatMode = CopyUtils.copy(other.heartbeatMode);
+    }
+
+    @Override
+    public HeartbeatExtensionMessage createCopy() {
+        return new HeartbeatExtensionMessage(this);
+    }
+
     public ModifiableByteArray getHeartbeatMode() {
         return heartbeatMode;
     }
@@ -20,6 +20,7 @@ import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.keyshare.KeyShareEntry;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -58,6 +59,19 @@ public class KeyShareExtensionMessage extends ExtensionMessage {
         }
     }
 
+    public KeyShareExtensionMessage(KeyShareExtensionMessage other) {
+        super(other);
+        keyShareListLength = CopyUtils.copy(other.keyShareListLength);
+        keyShareListBytes = CopyUtils.copy(other.keyShareListBytes);
+        keyShareList = CopyUtils.copyList(other.keyShareList, KeyShareEntry::createCopy);
+        retryRequestMode = CopyUtils.copy(other.retryRequestMode);
+    }
+
+    @Override
+    public KeyShareExtensionMessage createCopy() {
+        return new KeyShareExtensionMessage(this);
+    }
+
     public ModifiableInteger getKeyShareListLength() {
         return keyShareListLength;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.constants.MaxFragmentLength;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -39,6 +40,17 @@ public class MaxFragmentLengthExtensionMessage extends ExtensionMessage {
         super(ExtensionType.MAX_FRAGMENT_LENGTH);
     }
 
+    public MaxFragmentLengthExtensionMessage(MaxFragmentLengthExtensionMessage other) {
+        super(other);
+        maxFragmentLengthConfig = other.maxFragmentLengthConfig;
+        maxFragmentLength = CopyUtils.copy(other.maxFragmentLength);
+    }
+
+    @Override
+    public MaxFragmentLengthExtensionMessage createCopy() {
+        return new MaxFragmentLengthExtensionMessage(this);
+    }
+
     public ModifiableByteArray getMaxFragmentLength() {
         return maxFragmentLength;
     }
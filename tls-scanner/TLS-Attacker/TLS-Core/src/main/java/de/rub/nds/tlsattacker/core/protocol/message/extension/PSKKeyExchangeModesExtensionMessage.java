@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -53,6 +54,18 @@ public class PSKKeyExchangeModesExtensionMessage extends ExtensionMessage {
         keyExchangeModesConfig = listBytes;
     }
 
+    public PSKKeyExchangeModesExtensionMessage(PSKKeyExchangeModesExtensionMessage other) {
+        super(other);
+        keyExchangeModesConfig = CopyUtils.copy(other.keyExchangeModesConfig);
+        keyExchangeModesListLength = CopyUtils.copy(other.keyExchangeModesListLength);
+        keyExchangeModesListBytes = CopyUtils.copy(other.keyExchangeModesListBytes);
+    }
+
+    @Override
+    public PSKKeyExchangeModesExtensionMessage createCopy() {
+        return new PSKKeyExchangeModesExtensionMessage(this);
+    }
+
     public ModifiableInteger getKeyExchangeModesListLength() {
         return keyExchangeModesListLength;
     }
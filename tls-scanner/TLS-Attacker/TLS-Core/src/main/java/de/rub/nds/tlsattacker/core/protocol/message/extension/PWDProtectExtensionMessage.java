@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class PWDProtectExtensionMessage extends ExtensionMessage {
         super(ExtensionType.PWD_PROTECT);
     }
 
+    public PWDProtectExtensionMessage(PWDProtectExtensionMessage other) {
+        super(other);
+        usernameLength = CopyUtils.copy(other.usernameLength);
+        username = CopyUtils.copy(other.username);
+    }
+
+    @Override
+    public PWDProtectExtensionMessage createCopy() {
+        return new PWDProtectExtensionMessage(this);
+    }
+
     public ModifiableInteger getUsernameLength() {
         return usernameLength;
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -36,6 +37,16 @@ public class PaddingExtensionMessage extends ExtensionMessage {
         super(ExtensionType.PADDING);
     }
 
+    public PaddingExtensionMessage(PaddingExtensionMessage other) {
+        super(other);
+        paddingBytes = CopyUtils.copy(other.paddingBytes);
+    }
+
+    @Override
+    public PaddingExtensionMessage createCopy() {
+        return new PaddingExtensionMessage(this);
+    }
+
     public ModifiableByteArray getPaddingBytes() {
         return paddingBytes;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class PasswordSaltExtensionMessage extends ExtensionMessage {
         super(ExtensionType.PASSWORD_SALT);
     }
 
+    public PasswordSaltExtensionMessage(PasswordSaltExtensionMessage other) {
+        super(other);
+        saltLength = CopyUtils.copy(other.saltLength);
+        salt = CopyUtils.copy(other.salt);
+    }
+
+    @Override
+    public PasswordSaltExtensionMessage createCopy() {
+        return new PasswordSaltExtensionMessage(this);
+    }
+
     public ModifiableInteger getSaltLength() {
         return saltLength;
     }
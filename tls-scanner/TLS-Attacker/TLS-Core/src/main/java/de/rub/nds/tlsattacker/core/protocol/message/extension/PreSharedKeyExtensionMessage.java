@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.psk.PSKBinder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.psk.PSKIdentity;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.psk.PskSet;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.chooser.Chooser;
 import java.util.LinkedList;
 import java.util.List;
@@ -58,6 +59,22 @@ public class PreSharedKeyExtensionMessage extends ExtensionMessage {
         }
     }
 
+    public PreSharedKeyExtensionMessage(PreSharedKeyExtensionMessage other) {
+        super(other);
+        identityListLength = CopyUtils.copy(other.identityListLength);
+        binderListLength = CopyUtils.copy(other.binderListLength);
+        identityListBytes = CopyUtils.copy(other.identityListBytes);
+        binderListBytes = CopyUtils.copy(other.binderListBytes);
+        identities = CopyUtils.copyList(other.identities, PSKIdentity::new);
+        binders = CopyUtils.copyList(other.binders, PSKBinder::createCopy);
+        selectedIdentity = CopyUtils.copy(other.selectedIdentity);
+    }
+
+    @Override
+    public PreSharedKeyExtensionMessage createCopy() {
+        return new PreSharedKeyExtensionMessage(this);
+    }
+
     public List<PSKIdentity> getIdentities() {
         return identities;
     }
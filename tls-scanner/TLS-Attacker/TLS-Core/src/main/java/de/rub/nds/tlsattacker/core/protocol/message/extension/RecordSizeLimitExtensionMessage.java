@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -33,6 +34,16 @@ public class RecordSizeLimitExtensionMessage extends ExtensionMessage {
         super(ExtensionType.RECORD_SIZE_LIMIT);
     }
 
+    public RecordSizeLimitExtensionMessage(RecordSizeLimitExtensionMessage other) {
+        super(other);
+        recordSizeLimit = CopyUtils.copy(other.recordSizeLimit);
+    }
+
+    @Override
+    public RecordSizeLimitExtensionMessage createCopy() {
+        return new RecordSizeLimitExtensionMessage(this);
+    }
+
     public ModifiableByteArray getRecordSizeLimit() {
         return this.recordSizeLimit;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class RenegotiationInfoExtensionMessage extends ExtensionMessage {
         super(ExtensionType.RENEGOTIATION_INFO);
     }
 
+    public RenegotiationInfoExtensionMessage(RenegotiationInfoExtensionMessage other) {
+        super(other);
+        renegotiationInfo = CopyUtils.copy(other.renegotiationInfo);
+        renegotiationInfoLength = CopyUtils.copy(other.renegotiationInfoLength);
+    }
+
+    @Override
+    public RenegotiationInfoExtensionMessage createCopy() {
+        return new RenegotiationInfoExtensionMessage(this);
+    }
+
     public ModifiableByteArray getRenegotiationInfo() {
         return renegotiationInfo;
     }
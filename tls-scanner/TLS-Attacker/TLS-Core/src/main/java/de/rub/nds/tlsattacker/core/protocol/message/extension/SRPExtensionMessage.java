@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -38,6 +39,17 @@ public class SRPExtensionMessage extends ExtensionMessage {
         super(ExtensionType.SRP);
     }
 
+    public SRPExtensionMessage(SRPExtensionMessage other) {
+        super(other);
+        srpIdentifier = CopyUtils.copy(other.srpIdentifier);
+        srpIdentifierLength = CopyUtils.copy(other.srpIdentifierLength);
+    }
+
+    @Override
+    public SRPExtensionMessage createCopy() {
+        return new SRPExtensionMessage(this);
+    }
+
     public ModifiableByteArray getSrpIdentifier() {
         return srpIdentifier;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -36,6 +37,17 @@ public class ServerAuthzExtensionMessage extends ExtensionMessage {
         super(ExtensionType.SERVER_AUTHZ);
     }
 
+    public ServerAuthzExtensionMessage(ServerAuthzExtensionMessage other) {
+        super(other);
+        authzFormatListLength = CopyUtils.copy(other.authzFormatListLength);
+        authzFormatList = CopyUtils.copy(other.authzFormatList);
+    }
+
+    @Override
+    public ServerAuthzExtensionMessage createCopy() {
+        return new ServerAuthzExtensionMessage(this);
+    }
+
     public ModifiableInteger getAuthzFormatListLength() {
         return authzFormatListLength;
     }
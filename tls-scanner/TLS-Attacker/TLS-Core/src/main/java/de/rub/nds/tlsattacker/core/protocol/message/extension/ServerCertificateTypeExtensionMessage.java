@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -39,6 +40,18 @@ public class ServerCertificateTypeExtensionMessage extends ExtensionMessage {
         super(ExtensionType.SERVER_CERTIFICATE_TYPE);
     }
 
+    public ServerCertificateTypeExtensionMessage(ServerCertificateTypeExtensionMessage other) {
+        super(other);
+        certificateTypesLength = CopyUtils.copy(other.certificateTypesLength);
+        certificateTypes = CopyUtils.copy(other.certificateTypes);
+        isClientMessage = CopyUtils.copy(other.isClientMessage);
+    }
+
+    @Override
+    public ServerCertificateTypeExtensionMessage createCopy() {
+        return new ServerCertificateTypeExtensionMessage(this);
+    }
+
     public ModifiableInteger getCertificateTypesLength() {
         return certificateTypesLength;
     }
@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.sni.ServerNamePair;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.LinkedList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -45,6 +46,18 @@ public class ServerNameIndicationExtensionMessage extends ExtensionMessage {
         super(ExtensionType.SERVER_NAME_INDICATION);
     }
 
+    public ServerNameIndicationExtensionMessage(ServerNameIndicationExtensionMessage other) {
+        super(other);
+        serverNameListLength = CopyUtils.copy(other.serverNameListLength);
+        serverNameListBytes = CopyUtils.copy(other.serverNameListBytes);
+        serverNameList = CopyUtils.copyList(other.serverNameList, ServerNamePair::createCopy);
+    }
+
+    @Override
+    public ServerNameIndicationExtensionMessage createCopy() {
+        return new ServerNameIndicationExtensionMessage(this);
+    }
+
     public ModifiableInteger getServerNameListLength() {
         return serverNameListLength;
     }
@@ -41,6 +41,16 @@ public class SessionTicketTLSExtensionMessage extends ExtensionMessage {
         sessionTicket = new SessionTicket();
     }
 
+    public SessionTicketTLSExtensionMessage(SessionTicketTLSExtensionMessage other) {
+        super(other);
+        sessionTicket = other.sessionTicket == null ? null : other.sessionTicket.createCopy();
+    }
+
+    @Override
+    public SessionTicketTLSExtensionMessage createCopy() {
+        return new SessionTicketTLSExtensionMessage(this);
+    }
+
     public SessionTicket getSessionTicket() {
         return sessionTicket;
     }
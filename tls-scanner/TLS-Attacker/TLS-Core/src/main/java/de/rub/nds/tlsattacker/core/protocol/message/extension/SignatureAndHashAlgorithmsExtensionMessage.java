@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,17 @@ public class SignatureAndHashAlgorithmsExtensionMessage extends ExtensionMessage
         super(ExtensionType.SIGNATURE_AND_HASH_ALGORITHMS);
     }
 
+    public SignatureAndHashAlgorithmsExtensionMessage(SignatureAndHashAlgorithmsExtensionMessage other) {
+        super(other);
+        signatureAndHashAlgorithmsLength = CopyUtils.copy(other.signatureAndHashAlgorithmsLength);
+        signatureAndHashAlgorithms = CopyUtils.copy(other.signatureAndHashAlgorithms);
+    }
+
+    @Override
+    public SignatureAndHashAlgorithmsExtensionMessage createCopy() {
+        return new SignatureAndHashAlgorithmsExtensionMessage(this);
+    }
+
     public ModifiableInteger getSignatureAndHashAlgorithmsLength() {
         return signatureAndHashAlgorithmsLength;
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -36,6 +37,16 @@ public class SignedCertificateTimestampExtensionMessage extends ExtensionMessage
         super(ExtensionType.SIGNED_CERTIFICATE_TIMESTAMP);
     }
 
+    public SignedCertificateTimestampExtensionMessage(SignedCertificateTimestampExtensionMessage other) {
+        super(other);
+        singedTimestamp = CopyUtils.copy(other.singedTimestamp);
+    }
+
+    @Override
+    public SignedCertificateTimestampExtensionMessage createCopy() {
+        return new SignedCertificateTimestampExtensionMessage(this);
+    }
+
     /**
      * @return the raw signedTimestamp
      */
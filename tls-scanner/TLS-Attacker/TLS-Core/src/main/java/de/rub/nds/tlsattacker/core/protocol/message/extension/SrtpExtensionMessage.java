@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -40,6 +41,19 @@ public class SrtpExtensionMessage extends ExtensionMessage {
         super(ExtensionType.USE_SRTP);
     }
 
+    public SrtpExtensionMessage(SrtpExtensionMessage other) {
+        super(other);
+        srtpProtectionProfiles = CopyUtils.copy(other.srtpProtectionProfiles);
+        srtpProtectionProfilesLength = CopyUtils.copy(other.srtpProtectionProfilesLength);
+        srtpMki = CopyUtils.copy(other.srtpMki);
+        srtpMkiLength = CopyUtils.copy(other.srtpMkiLength);
+    }
+
+    @Override
+    public SrtpExtensionMessage createCopy() {
+        return new SrtpExtensionMessage(this);
+    }
+
     public ModifiableByteArray getSrtpProtectionProfiles() {
         return srtpProtectionProfiles;
     }
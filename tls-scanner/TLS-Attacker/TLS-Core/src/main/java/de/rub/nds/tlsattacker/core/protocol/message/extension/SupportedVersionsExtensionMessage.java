@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "SupportedVersions")
@@ -34,6 +35,17 @@ public class SupportedVersionsExtensionMessage extends ExtensionMessage {
         super(ExtensionType.SUPPORTED_VERSIONS);
     }
 
+    public SupportedVersionsExtensionMessage(SupportedVersionsExtensionMessage other) {
+        super(other);
+        supportedVersionsLength = CopyUtils.copy(other.supportedVersionsLength);
+        supportedVersions = CopyUtils.copy(other.supportedVersions);
+    }
+
+    @Override
+    public SupportedVersionsExtensionMessage createCopy() {
+        return new SupportedVersionsExtensionMessage(this);
+    }
+
     public ModifiableInteger getSupportedVersionsLength() {
         return supportedVersionsLength;
     }
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -37,6 +38,18 @@ public class TokenBindingExtensionMessage extends ExtensionMessage {
         super(ExtensionType.TOKEN_BINDING);
     }
 
+    public TokenBindingExtensionMessage(TokenBindingExtensionMessage other) {
+        super(other);
+        tokenbindingVersion = CopyUtils.copy(other.tokenbindingVersion);
+        tokenbindingKeyParameters = CopyUtils.copy(other.tokenbindingKeyParameters);
+        parameterListLength = CopyUtils.copy(other.parameterListLength);
+    }
+
+    @Override
+    public TokenBindingExtensionMessage createCopy() {
+        return new TokenBindingExtensionMessage(this);
+    }
+
     public ModifiableByteArray getTokenbindingVersion() {
         return tokenbindingVersion;
     }
@@ -26,4 +26,13 @@ public class TruncatedHmacExtensionMessage extends ExtensionMessage {
     public TruncatedHmacExtensionMessage(Config config) {
         super(ExtensionType.TRUNCATED_HMAC);
     }
+
+    public TruncatedHmacExtensionMessage(TruncatedHmacExtensionMessage other) {
+        super(other);
+    }
+
+    @Override
+    public TruncatedHmacExtensionMessage createCopy() {
+        return new TruncatedHmacExtensionMessage(this);
+    }
 }
@@ -17,6 +17,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.trustedauthority.TrustedAuthority;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.List;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -38,6 +39,18 @@ public class TrustedCaIndicationExtensionMessage extends ExtensionMessage {
         super(ExtensionType.TRUSTED_CA_KEYS);
     }
 
+    public TrustedCaIndicationExtensionMessage(TrustedCaIndicationExtensionMessage other) {
+        super(other);
+        trustedAuthoritiesLength = CopyUtils.copy(other.trustedAuthoritiesLength);
+        trustedAuthorities = CopyUtils.copyList(other.trustedAuthorities, TrustedAuthority::createCopy);
+        trustedAuthoritiesBytes = CopyUtils.copy(other.trustedAuthoritiesBytes);
+    }
+
+    @Override
+    public TrustedCaIndicationExtensionMessage createCopy() {
+        return new TrustedCaIndicationExtensionMessage(this);
+    }
+
     public ModifiableInteger getTrustedAuthoritiesLength() {
         return trustedAuthoritiesLength;
     }
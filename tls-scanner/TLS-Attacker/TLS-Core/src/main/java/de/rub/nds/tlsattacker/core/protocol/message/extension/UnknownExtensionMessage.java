@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
@@ -36,6 +37,19 @@ public class UnknownExtensionMessage extends ExtensionMessage {
         super(ExtensionType.UNKNOWN);
     }
 
+    public UnknownExtensionMessage(UnknownExtensionMessage other) {
+        super(other);
+        typeConfig = CopyUtils.copy(other.typeConfig);
+        lengthConfig = other.lengthConfig;
+        dataConfig = CopyUtils.copy(other.dataConfig);
+        extensionData = CopyUtils.copy(other.extensionData);
+    }
+
+    @Override
+    public UnknownExtensionMessage createCopy() {
+        return new UnknownExtensionMessage(this);
+    }
+
     public Integer getLengthConfig() {
         return lengthConfig;
     }
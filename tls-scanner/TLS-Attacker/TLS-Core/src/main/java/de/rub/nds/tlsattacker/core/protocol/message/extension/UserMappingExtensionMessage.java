@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
 import de.rub.nds.tlsattacker.core.constants.ExtensionType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import javax.xml.bind.annotation.XmlRootElement;
 
 @XmlRootElement(name = "UserMappingExtension")
@@ -25,6 +26,16 @@ public class UserMappingExtensionMessage extends ExtensionMessage {
         super(ExtensionType.USER_MAPPING);
     }
 
+    public UserMappingExtensionMessage(UserMappingExtensionMessage other) {
+        super(other);
+        userMappingType = CopyUtils.copy(other.userMappingType);
+    }
+
+    @Override
+    public UserMappingExtensionMessage createCopy() {
+        return new UserMappingExtensionMessage(this);
+    }
+
     public ModifiableByte getUserMappingType() {
         return userMappingType;
     }
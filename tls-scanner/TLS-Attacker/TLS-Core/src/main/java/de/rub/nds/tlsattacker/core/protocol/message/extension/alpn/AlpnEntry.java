@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.string.ModifiableString;
 import de.rub.nds.modifiablevariable.util.IllegalStringAdapter;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -36,6 +37,17 @@ public class AlpnEntry extends ModifiableVariableHolder implements Serializable
         this.alpnEntryConfig = alpnEntryConfig;
     }
 
+    public AlpnEntry(AlpnEntry other) {
+        alpnEntryLength = CopyUtils.copy(other.alpnEntryLength);
+        alpnEntry = CopyUtils.copy(other.alpnEntry);
+        alpnEntryConfig = other.alpnEntryConfig;
+    }
+
+    @Override
+    public AlpnEntry createCopy() {
+        return new AlpnEntry(this);
+    }
+
     public ModifiableInteger getAlpnEntryLength() {
         return alpnEntryLength;
     }
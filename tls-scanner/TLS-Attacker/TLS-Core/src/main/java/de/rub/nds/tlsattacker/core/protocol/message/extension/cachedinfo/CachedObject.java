@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class CachedObject extends ModifiableVariableHolder {
 
@@ -41,6 +42,20 @@ public class CachedObject extends ModifiableVariableHolder {
     public CachedObject() {
     }
 
+    public CachedObject(CachedObject other) {
+        cachedInformationType = CopyUtils.copy(other.cachedInformationType);
+        hashValueLength = CopyUtils.copy(other.hashValueLength);
+        hashValue = CopyUtils.copy(other.hashValue);
+        cachedInformationTypeConfig = other.cachedInformationTypeConfig;
+        hashValueLengthConfig = other.hashValueLengthConfig;
+        hashValueConfig = CopyUtils.copy(other.hashValueConfig);
+    }
+
+    @Override
+    public CachedObject createCopy() {
+        return new CachedObject(this);
+    }
+
     public ModifiableByte getCachedInformationType() {
         return cachedInformationType;
     }
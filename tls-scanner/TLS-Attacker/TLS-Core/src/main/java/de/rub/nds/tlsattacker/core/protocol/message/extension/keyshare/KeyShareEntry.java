@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.math.BigInteger;
 
 public class KeyShareEntry extends ModifiableVariableHolder {
@@ -36,6 +37,19 @@ public class KeyShareEntry extends ModifiableVariableHolder {
         this.privateKey = privateKey;
     }
 
+    public KeyShareEntry(KeyShareEntry other) {
+        groupConfig = other.groupConfig;
+        privateKey = other.privateKey;
+        group = CopyUtils.copy(other.group);
+        publicKeyLength = CopyUtils.copy(other.publicKeyLength);
+        publicKey = CopyUtils.copy(other.publicKey);
+    }
+
+    @Override
+    public KeyShareEntry createCopy() {
+        return new KeyShareEntry(this);
+    }
+
     public NamedGroup getGroupConfig() {
         return groupConfig;
     }
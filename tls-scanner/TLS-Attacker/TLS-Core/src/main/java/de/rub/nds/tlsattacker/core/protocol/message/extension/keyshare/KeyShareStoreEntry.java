@@ -35,6 +35,11 @@ public class KeyShareStoreEntry implements Serializable {
         this.publicKey = publicKey;
     }
 
+    public KeyShareStoreEntry(KeyShareStoreEntry other) {
+        this.group = other.group;
+        this.publicKey = other.publicKey == null ? null : other.publicKey.clone();
+    }
+
     public NamedGroup getGroup() {
         return group;
     }
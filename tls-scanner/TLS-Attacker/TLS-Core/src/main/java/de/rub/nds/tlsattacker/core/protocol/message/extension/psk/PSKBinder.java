@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 
 public class PSKBinder extends ModifiableVariableHolder implements Serializable {
@@ -26,6 +27,17 @@ public class PSKBinder extends ModifiableVariableHolder implements Serializable
     public PSKBinder() {
     }
 
+    public PSKBinder(PSKBinder other) {
+        binderCipherConfig = other.binderCipherConfig;
+        binderEntryLength = CopyUtils.copy(other.binderEntryLength);
+        binderEntry = CopyUtils.copy(other.binderEntry);
+    }
+
+    @Override
+    public PSKBinder createCopy() {
+        return new PSKBinder(this);
+    }
+
     public void setBinderEntry(ModifiableByteArray binderEntry) {
         this.binderEntry = binderEntry;
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.util.IllegalStringAdapter;
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -40,6 +41,15 @@ public class PSKIdentity implements Serializable {
 
     }
 
+    public PSKIdentity(PSKIdentity other) {
+        identityConfig = CopyUtils.copy(other.identityConfig);
+        ticketAgeConfig = other.ticketAgeConfig;
+        ticketAgeAddConfig = CopyUtils.copy(other.ticketAgeAddConfig);
+        identityLength = CopyUtils.copy(other.identityLength);
+        identity = CopyUtils.copy(other.identity);
+        obfuscatedTicketAge = CopyUtils.copy(other.obfuscatedTicketAge);
+    }
+
     public void setIdentity(ModifiableByteArray identity) {
         this.identity = identity;
     }
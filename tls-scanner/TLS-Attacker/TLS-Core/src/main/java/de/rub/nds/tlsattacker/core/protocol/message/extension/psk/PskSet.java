@@ -70,6 +70,19 @@ public class PskSet implements Serializable {
         this.cipherSuite = cipherSuite;
     }
 
+    public PskSet(PskSet other) {
+        this.preSharedKeyIdentity = copyByteArray(other.preSharedKeyIdentity);
+        this.preSharedKey = copyByteArray(other.preSharedKey);
+        this.ticketAge = other.ticketAge;
+        this.ticketAgeAdd = copyByteArray(other.ticketAgeAdd);
+        this.ticketNonce = copyByteArray(other.ticketNonce);
+        this.cipherSuite = other.cipherSuite;
+    }
+
+    private static byte[] copyByteArray(byte[] array) {
+        return array == null ? null : array.clone();
+    }
+
     /**
      * @return the preSharedKeyIdentity
      */
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
@@ -41,6 +42,19 @@ public class ServerNamePair extends ModifiableVariableHolder implements Serializ
         this.serverNameConfig = serverNameConfig;
     }
 
+    public ServerNamePair(ServerNamePair other) {
+        serverNameTypeConfig = other.serverNameTypeConfig;
+        serverNameConfig = CopyUtils.copy(other.serverNameConfig);
+        serverNameType = CopyUtils.copy(other.serverNameType);
+        serverNameLength = CopyUtils.copy(other.serverNameLength);
+        serverName = CopyUtils.copy(other.serverName);
+    }
+
+    @Override
+    public ServerNamePair createCopy() {
+        return new ServerNamePair(this);
+    }
+
     public ModifiableByte getServerNameType() {
         return serverNameType;
     }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import java.util.List;
 
@@ -55,6 +56,21 @@ public class RequestItemV2 implements Serializable {
         this.requestExtensionsConfig = preparatorRequestExtensions;
     }
 
+    public RequestItemV2(RequestItemV2 other) {
+        requestType = CopyUtils.copy(other.requestType);
+        requestLength = CopyUtils.copy(other.requestLength);
+        responderIdListLength = CopyUtils.copy(other.responderIdListLength);
+        responderIdList = CopyUtils.copyList(other.responderIdList, ResponderId::new);
+        requestExtensionsLength = CopyUtils.copy(other.requestExtensionsLength);
+        requestExtensions = CopyUtils.copy(other.requestExtensions);
+        responderIdListBytes = CopyUtils.copy(other.responderIdListBytes);
+        requestTypeConfig = other.requestTypeConfig;
+        requestLengthConfig = other.requestLengthConfig;
+        responderIdListLengthConfig = other.responderIdListLengthConfig;
+        requestExtensionLengthConfig = other.requestExtensionLengthConfig;
+        requestExtensionsConfig = CopyUtils.copy(other.requestExtensionsConfig);
+    }
+
     public ModifiableInteger getRequestType() {
         return requestType;
     }
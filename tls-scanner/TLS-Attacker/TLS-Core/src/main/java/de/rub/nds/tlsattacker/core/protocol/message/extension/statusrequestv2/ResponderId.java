@@ -14,6 +14,7 @@ import static de.rub.nds.modifiablevariable.ModifiableVariableFactory.safelySetV
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class ResponderId {
 
@@ -33,6 +34,13 @@ public class ResponderId {
     public ResponderId() {
     }
 
+    public ResponderId(ResponderId other) {
+        idLength = CopyUtils.copy(other.idLength);
+        id = CopyUtils.copy(other.id);
+        idLengthConfig = other.idLengthConfig;
+        idConfig = CopyUtils.copy(other.idConfig);
+    }
+
     public ModifiableInteger getIdLength() {
         return idLength;
     }
@@ -16,6 +16,7 @@ import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
 import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -54,6 +55,22 @@ public class TrustedAuthority extends ModifiableVariableHolder implements Serial
         this.distinguishedNameConfig = preparatorDistinguishedName;
     }
 
+    public TrustedAuthority(TrustedAuthority other) {
+        identifierType = CopyUtils.copy(other.identifierType);
+        sha1Hash = CopyUtils.copy(other.sha1Hash);
+        distinguishedNameLength = CopyUtils.copy(other.distinguishedNameLength);
+        distinguishedName = CopyUtils.copy(other.distinguishedName);
+        identifierTypeConfig = other.identifierTypeConfig;
+        sha1HashConfig = CopyUtils.copy(other.sha1HashConfig);
+        distinguishedNameLengthConfig = other.distinguishedNameLengthConfig;
+        distinguishedNameConfig = CopyUtils.copy(other.distinguishedNameConfig);
+    }
+
+    @Override
+    public TrustedAuthority createCopy() {
+        return new TrustedAuthority(this);
+    }
+
     public ModifiableByte getIdentifierType() {
         return identifierType;
     }
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.ModifiableVariableFactory;
 import de.rub.nds.modifiablevariable.ModifiableVariableProperty;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class SupplementalDataEntry {
 
@@ -29,6 +30,12 @@ public class SupplementalDataEntry {
 
     }
 
+    public SupplementalDataEntry(SupplementalDataEntry other) {
+        supplementalDataEntry = CopyUtils.copy(other.supplementalDataEntry);
+        supplementalDataEntryType = CopyUtils.copy(other.supplementalDataEntryType);
+        supplementalDataEntryLength = CopyUtils.copy(other.supplementalDataEntryLength);
+    }
+
     public ModifiableByteArray getSupplementalDataEntry() {
         return this.supplementalDataEntry;
     }
@@ -22,6 +22,7 @@ import de.rub.nds.tlsattacker.core.record.parser.AbstractRecordParser;
 import de.rub.nds.tlsattacker.core.record.preparator.AbstractRecordPreparator;
 import de.rub.nds.tlsattacker.core.record.serializer.AbstractRecordSerializer;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.chooser.Chooser;
 
 public abstract class AbstractRecord extends ModifiableVariableHolder {
@@ -59,6 +60,17 @@ public abstract class AbstractRecord extends ModifiableVariableHolder {
         this.maxRecordLengthConfig = maxRecordLengthConfig;
     }
 
+    protected AbstractRecord(AbstractRecord other) {
+        completeRecordBytes = CopyUtils.copy(other.completeRecordBytes);
+        protocolMessageBytes = CopyUtils.copy(other.protocolMessageBytes);
+        cleanProtocolMessageBytes = CopyUtils.copy(other.cleanProtocolMessageBytes);
+        contentMessageType = other.contentMessageType;
+        maxRecordLengthConfig = other.maxRecordLengthConfig;
+    }
+
+    @Override
+    public abstract AbstractRecord createCopy();
+
     public ProtocolMessageType getContentMessageType() {
         return contentMessageType;
     }
@@ -42,6 +42,16 @@ public class BlobRecord extends AbstractRecord {
         super(maxRecordLengthConfig);
     }
 
+    public BlobRecord(BlobRecord other) {
+        super(other);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public BlobRecord createCopy() {
+        return new BlobRecord(this);
+    }
+
     @Override
     public BlobRecordPreparator getRecordPreparator(Chooser chooser, Encryptor encryptor, RecordCompressor compressor,
         ProtocolMessageType type) {
@@ -25,6 +25,7 @@ import de.rub.nds.tlsattacker.core.record.parser.RecordParser;
 import de.rub.nds.tlsattacker.core.record.preparator.RecordPreparator;
 import de.rub.nds.tlsattacker.core.record.serializer.RecordSerializer;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.chooser.Chooser;
 import java.math.BigInteger;
 import java.util.List;
@@ -74,6 +75,21 @@ public class Record extends AbstractRecord {
         super(maxRecordLengthConfig);
     }
 
+    public Record(Record other) {
+        super(other);
+        contentType = CopyUtils.copy(other.contentType);
+        protocolVersion = CopyUtils.copy(other.protocolVersion);
+        length = CopyUtils.copy(other.length);
+        epoch = CopyUtils.copy(other.epoch);
+        sequenceNumber = CopyUtils.copy(other.sequenceNumber);
+        computations = other.computations == null ? null : other.computations.createCopy();
+    }
+
+    @Override
+    public Record createCopy() {
+        return new Record(this);
+    }
+
     public ModifiableInteger getLength() {
         return length;
     }
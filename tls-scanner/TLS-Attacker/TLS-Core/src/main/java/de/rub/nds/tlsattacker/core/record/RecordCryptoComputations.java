@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
 import de.rub.nds.tlsattacker.core.constants.Tls13KeySetType;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -97,6 +98,32 @@ public class RecordCryptoComputations extends ModifiableVariableHolder implement
     public RecordCryptoComputations() {
     }
 
+    public RecordCryptoComputations(RecordCryptoComputations other) {
+        cipherKey = CopyUtils.copy(other.cipherKey);
+        macKey = CopyUtils.copy(other.macKey);
+        mac = CopyUtils.copy(other.mac);
+        aeadSalt = CopyUtils.copy(other.aeadSalt);
+        explicitNonce = CopyUtils.copy(other.explicitNonce);
+        gcmNonce = CopyUtils.copy(other.gcmNonce);
+        padding = CopyUtils.copy(other.padding);
+        additionalPaddingLength = CopyUtils.copy(other.additionalPaddingLength);
+        plainRecordBytes = CopyUtils.copy(other.plainRecordBytes);
+        authenticatedNonMetaData = CopyUtils.copy(other.authenticatedNonMetaData);
+        ciphertext = CopyUtils.copy(other.ciphertext);
+        cbcInitialisationVector = CopyUtils.copy(other.cbcInitialisationVector);
+        authenticatedMetaData = CopyUtils.copy(other.authenticatedMetaData);
+        authenticationTag = CopyUtils.copy(other.authenticationTag);
+        paddingValid = other.paddingValid;
+        macValid = other.macValid;
+        authenticationTagValid = other.authenticationTagValid;
+        usedTls13KeySetType = other.usedTls13KeySetType;
+    }
+
+    @Override
+    public RecordCryptoComputations createCopy() {
+        return new RecordCryptoComputations(this);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -39,6 +39,10 @@ public class RecordCompressor extends Compressor<AbstractRecord> {
     public void setMethod(CompressionMethod method) {
         LOGGER.debug("Changing Compression method to {}", method);
         AlgorithmFactory factory = new AlgorithmFactory();
+        if (algorithm != null) {
+            // a new connection state starts with a new compression state
+            algorithm.end();
+        }
         algorithm = factory.getAlgorithm(version, method);
     }
 
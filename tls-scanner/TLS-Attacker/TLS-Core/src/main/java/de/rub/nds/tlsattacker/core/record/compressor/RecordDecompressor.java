@@ -38,6 +38,10 @@ public class RecordDecompressor extends Decompressor<AbstractRecord> {
 
     public void setMethod(CompressionMethod method) {
         AlgorithmFactory factory = new AlgorithmFactory();
+        if (algorithm != null) {
+            // a new connection state starts with a new compression state
+            algorithm.end();
+        }
         algorithm = factory.getAlgorithm(version, method);
     }
 
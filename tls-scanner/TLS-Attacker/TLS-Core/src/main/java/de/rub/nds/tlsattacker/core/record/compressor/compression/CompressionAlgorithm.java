@@ -25,4 +25,10 @@ public abstract class CompressionAlgorithm {
     public abstract byte[] compress(byte[] data);
 
     public abstract byte[] decompress(byte[] data);
+
+    /**
+     * Releases the state of the algorithm, it is not used afterwards
+     */
+    public void end() {
+    }
 }
@@ -11,80 +11,91 @@ package de.rub.nds.tlsattacker.core.record.compressor.compression;
 
 import de.rub.nds.tlsattacker.core.constants.CompressionMethod;
 import java.util.Arrays;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
+/**
+ * DEFLATE compression as specified in RFC 3749. The zlib stream and its history are kept across all records of a
+ * connection state, every record ends with a sync flush. The stream header is therefore only part of the first record.
+ */
 public class DeflateCompression extends CompressionAlgorithm {
 
     private static final int MAX_COMPRESSION_TEXT_LENGTH = 0x4400;
-    private static final int MAX_PLAIN_TEXT_LENGTH = 0x4000;
-    private Boolean secondPacketFlagCompression;
-    private Boolean secondPacketFlagDecompression;
+    /**
+     * 2^14 + 1024, the maximum length of a decompressed record in TLS
+     */
+    private static final int MAX_DECOMPRESSED_LENGTH = 0x4400;
+
+    /**
+     * Created on first use, an instance is usually only used in one direction
+     */
+    private Deflater deflater;
+    private Inflater inflater;
+
+    private byte[] compressionBuffer;
+    private byte[] decompressionBuffer;
 
     public DeflateCompression() {
         super(CompressionMethod.DEFLATE);
-        secondPacketFlagCompression = false;
-        secondPacketFlagDecompression = false;
     }
 
+    @Override
     public byte[] compress(byte[] data) {
-
-        byte[] input = data;
-        byte[] output = new byte[MAX_COMPRESSION_TEXT_LENGTH];
-        Deflater compressor = new Deflater();
-
-        compressor.setInput(input, 0, input.length);
-
-        int compressedDataLength = compressor.deflate(output, 0, MAX_COMPRESSION_TEXT_LENGTH, compressor.SYNC_FLUSH);
-
-        byte[] realOutput = new byte[compressedDataLength];
-        System.arraycopy(output, 0, realOutput, 0, compressedDataLength);
-
-        byte[] veryRealOutput;
-
-        if (secondPacketFlagCompression) {
-            veryRealOutput = Arrays.copyOfRange(realOutput, 2, realOutput.length);
-        } else {
-            veryRealOutput = Arrays.copyOfRange(realOutput, 0, realOutput.length);
-            secondPacketFlagCompression = true;
+        if (deflater == null) {
+            deflater = new Deflater();
+            compressionBuffer = new byte[MAX_COMPRESSION_TEXT_LENGTH];
         }
-
-        return veryRealOutput;
+        deflater.setInput(data, 0, data.length);
+        int compressedDataLength = 0;
+        do {
+            if (compressedDataLength == compressionBuffer.length) {
+                // pending output would otherwise end up in the next record
+                compressionBuffer = Arrays.copyOf(compressionBuffer, 2 * compressionBuffer.length);
+            }
+            compressedDataLength += deflater.deflate(compressionBuffer, compressedDataLength,
+                compressionBuffer.length - compressedDataLength, Deflater.SYNC_FLUSH);
+        } while (compressedDataLength == compressionBuffer.length);
+        return Arrays.copyOf(compressionBuffer, compressedDataLength);
     }
 
+    @Override
     public byte[] decompress(byte[] data) {
-
-        byte[] input = data;
-        byte[] output = new byte[MAX_PLAIN_TEXT_LENGTH];
-        byte[] veryRealInput;
-
-        if (secondPacketFlagDecompression) {
-            veryRealInput = new byte[input.length + 2];
-            veryRealInput[0] = (byte) 0x78;
-            veryRealInput[1] = (byte) 0x9C;
-            System.arraycopy(input, 0, veryRealInput, 2, input.length);
-
-        } else {
-            veryRealInput = new byte[input.length];
-            System.arraycopy(input, 0, veryRealInput, 0, input.length);
-            secondPacketFlagDecompression = true;
+        if (inflater == null) {
+            inflater = new Inflater();
+            decompressionBuffer = new byte[MAX_DECOMPRESSED_LENGTH];
         }
-
-        Inflater decompressor = new Inflater();
-        decompressor.setInput(veryRealInput, 0, veryRealInput.length);
+        inflater.setInput(data, 0, data.length);
         int decompressedDataLength = 0;
-
         try {
-            decompressedDataLength = decompressor.inflate(output, 0, MAX_PLAIN_TEXT_LENGTH);
-        } catch (Exception e) {
+            while (decompressedDataLength < decompressionBuffer.length) {
+                int inflated = inflater.inflate(decompressionBuffer, decompressedDataLength,
+                    decompressionBuffer.length - decompressedDataLength);
+                decompressedDataLength += inflated;
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary() || inflater.finished())) {
+                    break;
+                }
+            }
+            if (decompressedDataLength == decompressionBuffer.length && !inflater.needsInput()) {
+                // the rest of the record is dropped, a peer must not make us inflate arbitrary amounts of data
+                LOGGER.debug("The decompressed record exceeds " + MAX_DECOMPRESSED_LENGTH + " bytes");
+            }
+        } catch (DataFormatException e) {
             LOGGER.debug("Couldn't decompress the data");
             LOGGER.trace(e);
         }
-
-        byte[] realOutput = new byte[decompressedDataLength];
-        System.arraycopy(output, 0, realOutput, 0, decompressedDataLength);
-
-        return realOutput;
+        return Arrays.copyOf(decompressionBuffer, decompressedDataLength);
     }
 
+    @Override
+    public void end() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
 }
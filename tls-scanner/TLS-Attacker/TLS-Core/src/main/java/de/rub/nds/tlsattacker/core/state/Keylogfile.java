@@ -9,8 +9,6 @@
 
 package de.rub.nds.tlsattacker.core.state;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import javax.xml.bind.DatatypeConverter;
@@ -43,26 +41,20 @@ public class Keylogfile {
     }
 
     public void writeKey(String identifier, byte[] key) {
-        synchronized (Keylogfile.class) {
-            if (!this.writeKeylog) {
-                return;
-            }
-
-            try {
-                File f = new File(this.path);
-                if (!f.exists()) {
-                    f.getParentFile().mkdirs();
-                    f.createNewFile();
-                }
-
-                FileWriter fw = new FileWriter(this.path, true);
-                fw.write(identifier + " " + DatatypeConverter.printHexBinary(context.getClientRandom()) + " "
-                    + DatatypeConverter.printHexBinary(key) + "\n");
-                fw.close();
-            } catch (Exception e) {
-                LOGGER.error(e);
-            }
+        if (!this.writeKeylog) {
+            return;
         }
+        KeylogfileWriter.append(this.path,
+            identifier + " " + DatatypeConverter.printHexBinary(context.getClientRandom()) + " "
+                + DatatypeConverter.printHexBinary(key) + "\n");
+    }
+
+    /**
+     * Key log lines are written asynchronously, this blocks until all lines which were written before are in their
+     * files
+     */
+    public static void flush() {
+        KeylogfileWriter.flush();
     }
 
 }
@@ -0,0 +1,207 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.state;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Appends the lines of all {@link Keylogfile}s in a single background thread. Handshake threads only enqueue their
+ * lines, the files are kept open and flushed periodically, when {@link #flush()} is called and on shutdown.
+ */
+final class KeylogfileWriter {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    /**
+     * How long the shutdown hook waits for the pending lines, it must not block the JVM exit indefinitely
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private static final BlockingQueue<Entry> QUEUE = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * Only accessed by the writer thread, null values mark files which could not be opened
+     */
+    private static final Map<String, Writer> WRITERS = new HashMap<>();
+
+    static {
+        Thread writerThread = new Thread(KeylogfileWriter::run, "Keylogfile-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(KeylogfileWriter::flushOnShutdown, "Keylogfile-Shutdown"));
+    }
+
+    private static class Entry {
+
+        private final String path;
+
+        private final String line;
+
+        /**
+         * Set for flush requests, which carry no line
+         */
+        private final CountDownLatch flushed;
+
+        Entry(String path, String line, CountDownLatch flushed) {
+            this.path = path;
+            this.line = line;
+            this.flushed = flushed;
+        }
+    }
+
+    /**
+     * Enqueues a line, blocks while the queue is full
+     *
+     * @param path
+     *             The absolute path of the key log file
+     * @param line
+     *             The line including its line separator
+     */
+    static void append(String path, String line) {
+        try {
+            QUEUE.put(new Entry(path, line, null));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while writing to the key log file, the key is lost");
+        }
+    }
+
+    /**
+     * Blocks until all lines which were appended before this call are written and flushed
+     */
+    static void flush() {
+        CountDownLatch flushed = new CountDownLatch(1);
+        try {
+            QUEUE.put(new Entry(null, null, flushed));
+            flushed.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while flushing the key log files");
+        }
+    }
+
+    private static void flushOnShutdown() {
+        CountDownLatch flushed = new CountDownLatch(1);
+        try {
+            if (!QUEUE.offer(new Entry(null, null, flushed), SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                || !flushed.await(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Could not flush the key log files before shutdown");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while flushing the key log files");
+        }
+    }
+
+    private static void run() {
+        long lastFlush = System.currentTimeMillis();
+        List<Entry> entries = new ArrayList<>();
+        while (true) {
+            try {
+                Entry first = QUEUE.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    entries.add(first);
+                    QUEUE.drainTo(entries);
+                }
+                for (Entry entry : entries) {
+                    process(entry);
+                }
+                entries.clear();
+                if (first == null || System.currentTimeMillis() - lastFlush >= FLUSH_INTERVAL_MILLIS) {
+                    flushWriters();
+                    lastFlush = System.currentTimeMillis();
+                }
+            } catch (InterruptedException ex) {
+                LOGGER.warn("Key log writer was interrupted");
+            }
+        }
+    }
+
+    /**
+     * Handles a single entry, a failing entry must not stop the writer thread since all later lines and flushes would
+     * wait for it forever
+     */
+    private static void process(Entry entry) {
+        try {
+            if (entry.flushed != null) {
+                flushWriters();
+            } else {
+                write(entry);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Could not write to the key log file " + entry.path, ex);
+        } finally {
+            if (entry.flushed != null) {
+                entry.flushed.countDown();
+            }
+        }
+    }
+
+    private static void write(Entry entry) {
+        if (!WRITERS.containsKey(entry.path)) {
+            WRITERS.put(entry.path, open(entry.path));
+        }
+        Writer writer = WRITERS.get(entry.path);
+        if (writer != null) {
+            try {
+                writer.write(entry.line);
+            } catch (IOException ex) {
+                LOGGER.error(ex);
+            }
+        }
+    }
+
+    private static void flushWriters() {
+        for (Writer writer : WRITERS.values()) {
+            if (writer != null) {
+                try {
+                    writer.flush();
+                } catch (IOException | RuntimeException ex) {
+                    LOGGER.error(ex);
+                }
+            }
+        }
+    }
+
+    private static Writer open(String path) {
+        try {
+            File f = new File(path);
+            if (!f.exists()) {
+                f.getParentFile().mkdirs();
+                f.createNewFile();
+            }
+            return new BufferedWriter(new FileWriter(path, true));
+        } catch (IOException ex) {
+            LOGGER.error("Could not open key log file " + path, ex);
+            return null;
+        }
+    }
+
+    private KeylogfileWriter() {
+    }
+}
@@ -15,6 +15,7 @@ import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
 import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.Serializable;
 
 public class SessionTicket extends ModifiableVariableHolder implements Serializable {
@@ -51,6 +52,24 @@ public class SessionTicket extends ModifiableVariableHolder implements Serializa
     public SessionTicket() {
     }
 
+    public SessionTicket(SessionTicket other) {
+        keyName = CopyUtils.copy(other.keyName);
+        iv = CopyUtils.copy(other.iv);
+        encryptedStateLength = CopyUtils.copy(other.encryptedStateLength);
+        encryptedState = CopyUtils.copy(other.encryptedState);
+        mac = CopyUtils.copy(other.mac);
+        identity = CopyUtils.copy(other.identity);
+        ticketAgeAdd = CopyUtils.copy(other.ticketAgeAdd);
+        ticketNonce = CopyUtils.copy(other.ticketNonce);
+        identityLength = CopyUtils.copy(other.identityLength);
+        ticketNonceLength = CopyUtils.copy(other.ticketNonceLength);
+    }
+
+    @Override
+    public SessionTicket createCopy() {
+        return new SessionTicket(this);
+    }
+
     public ModifiableByteArray getKeyName() {
         return keyName;
     }
@@ -487,6 +487,11 @@ public class TlsContext {
 
     private Set<Integer> dtlsReceivedHandshakeMessageSequences;
 
+    /**
+     * Number of times the last flights were retransmitted because the peer did not respond as expected
+     */
+    private int dtlsRetransmissions = 0;
+
     /**
      * a fragment manager assembles DTLS fragments into corresponding messages.
      */
@@ -753,6 +758,14 @@ public class TlsContext {
         this.dtlsWriteHandshakeMessageSequence++;
     }
 
+    public int getDtlsRetransmissions() {
+        return dtlsRetransmissions;
+    }
+
+    public void increaseDtlsRetransmissions() {
+        this.dtlsRetransmissions++;
+    }
+
     public int getDtlsWriteHandshakeMessageSequence() {
         return dtlsWriteHandshakeMessageSequence;
     }
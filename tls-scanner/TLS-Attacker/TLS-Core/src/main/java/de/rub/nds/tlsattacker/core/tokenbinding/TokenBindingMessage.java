@@ -18,6 +18,7 @@ import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.protocol.handler.TlsMessageHandler;
 import de.rub.nds.tlsattacker.core.protocol.message.TlsMessage;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 
 public class TokenBindingMessage extends TlsMessage {
 
@@ -68,6 +69,29 @@ public class TokenBindingMessage extends TlsMessage {
         protocolMessageType = ProtocolMessageType.APPLICATION_DATA;
     }
 
+    public TokenBindingMessage(TokenBindingMessage other) {
+        super(other);
+        tokenbindingsLength = CopyUtils.copy(other.tokenbindingsLength);
+        tokenbindingType = CopyUtils.copy(other.tokenbindingType);
+        keyParameter = CopyUtils.copy(other.keyParameter);
+        keyLength = CopyUtils.copy(other.keyLength);
+        modulusLength = CopyUtils.copy(other.modulusLength);
+        modulus = CopyUtils.copy(other.modulus);
+        publicExponentLength = CopyUtils.copy(other.publicExponentLength);
+        publicExponent = CopyUtils.copy(other.publicExponent);
+        pointLength = CopyUtils.copy(other.pointLength);
+        point = CopyUtils.copy(other.point);
+        signatureLength = CopyUtils.copy(other.signatureLength);
+        signature = CopyUtils.copy(other.signature);
+        extensionLength = CopyUtils.copy(other.extensionLength);
+        extensionBytes = CopyUtils.copy(other.extensionBytes);
+    }
+
+    @Override
+    public TokenBindingMessage createCopy() {
+        return new TokenBindingMessage(this);
+    }
+
     @Override
     public String toCompactString() {
         return "TOKENBINDING";
@@ -0,0 +1,282 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.util;
+
+import de.rub.nds.modifiablevariable.ModifiableVariable;
+import de.rub.nds.modifiablevariable.ModificationFilter;
+import de.rub.nds.modifiablevariable.VariableModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerAddModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerExplicitValueModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerMultiplyModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerShiftLeftModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerShiftRightModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerSubtractModification;
+import de.rub.nds.modifiablevariable.biginteger.BigIntegerXorModification;
+import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
+import de.rub.nds.modifiablevariable.bool.BooleanExplicitValueModification;
+import de.rub.nds.modifiablevariable.bool.BooleanToggleModification;
+import de.rub.nds.modifiablevariable.bool.ModifiableBoolean;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayDeleteModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayDuplicateModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayExplicitValueModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayInsertModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayPayloadModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayShuffleModification;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayXorModification;
+import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
+import de.rub.nds.modifiablevariable.filter.AccessModificationFilter;
+import de.rub.nds.modifiablevariable.integer.IntegerAddModification;
+import de.rub.nds.modifiablevariable.integer.IntegerExplicitValueModification;
+import de.rub.nds.modifiablevariable.integer.IntegerShiftLeftModification;
+import de.rub.nds.modifiablevariable.integer.IntegerShiftRightModification;
+import de.rub.nds.modifiablevariable.integer.IntegerSubtractModification;
+import de.rub.nds.modifiablevariable.integer.IntegerXorModification;
+import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
+import de.rub.nds.modifiablevariable.mlong.LongAddModification;
+import de.rub.nds.modifiablevariable.mlong.LongExplicitValueModification;
+import de.rub.nds.modifiablevariable.mlong.LongSubtractModification;
+import de.rub.nds.modifiablevariable.mlong.LongXorModification;
+import de.rub.nds.modifiablevariable.mlong.ModifiableLong;
+import de.rub.nds.modifiablevariable.singlebyte.ByteAddModification;
+import de.rub.nds.modifiablevariable.singlebyte.ByteExplicitValueModification;
+import de.rub.nds.modifiablevariable.singlebyte.ByteSubtractModification;
+import de.rub.nds.modifiablevariable.singlebyte.ByteXorModification;
+import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
+import de.rub.nds.modifiablevariable.string.ModifiableString;
+import de.rub.nds.modifiablevariable.string.StringExplicitValueModification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Helpers for the copy constructors of actions, messages and records. Modifiable variables are copied together with
+ * their modification, assertion and modification filter.
+ */
+public class CopyUtils {
+
+    public static byte[] copy(byte[] array) {
+        return array == null ? null : array.clone();
+    }
+
+    public static <T> List<T> copyList(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    public static <T> List<T> copyList(List<T> list, UnaryOperator<T> copier) {
+        if (list == null) {
+            return null;
+        }
+        List<T> copy = new ArrayList<>(list.size());
+        for (T element : list) {
+            copy.add(element == null ? null : copier.apply(element));
+        }
+        return copy;
+    }
+
+    public static ModifiableByteArray copy(ModifiableByteArray variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableByteArray copy = new ModifiableByteArray();
+        copy.setOriginalValue(copy(variable.getOriginalValue()));
+        copy.setAssertEquals(copy(variable.getAssertEquals()));
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableInteger copy(ModifiableInteger variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableInteger copy = new ModifiableInteger();
+        copy.setOriginalValue(variable.getOriginalValue());
+        copy.setAssertEquals(variable.getAssertEquals());
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableByte copy(ModifiableByte variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableByte copy = new ModifiableByte();
+        copy.setOriginalValue(variable.getOriginalValue());
+        copy.setAssertEquals(variable.getAssertEquals());
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableBigInteger copy(ModifiableBigInteger variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableBigInteger copy = new ModifiableBigInteger();
+        copy.setOriginalValue(variable.getOriginalValue());
+        copy.setAssertEquals(variable.getAssertEquals());
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableLong copy(ModifiableLong variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableLong copy = new ModifiableLong();
+        copy.setOriginalValue(variable.getOriginalValue());
+        copy.setAssertEquals(variable.getAssertEquals());
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableString copy(ModifiableString variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableString copy = new ModifiableString();
+        copy.setOriginalValue(variable.getOriginalValue());
+        copy.setAssertEquals(variable.getAssertEquals());
+        return copyModification(variable, copy);
+    }
+
+    public static ModifiableBoolean copy(ModifiableBoolean variable) {
+        if (variable == null) {
+            return null;
+        }
+        ModifiableBoolean copy = new ModifiableBoolean();
+        copy.setOriginalValue(variable.getOriginalValue());
+        return copyModification(variable, copy);
+    }
+
+    private static <E, V extends ModifiableVariable<E>> V copyModification(V variable, V copy) {
+        if (variable.getModification() != null) {
+            copy.setModification(copy(variable.getModification()));
+        }
+        if (Boolean.TRUE.equals(variable.isCreateRandomModification())) {
+            copy.createRandomModificationAtRuntime();
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a modification of this library. Modifications without parameters of their own, e.g. interactive ones, are
+     * shared.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> VariableModification<E> copy(VariableModification<E> modification) {
+        VariableModification<?> copy = copyModificationParameters(modification);
+        if (copy == modification) {
+            return modification;
+        }
+        copy.setModificationFilter(copy(modification.getModificationFilter()));
+        return (VariableModification<E>) copy;
+    }
+
+    private static VariableModification<?> copyModificationParameters(VariableModification<?> modification) {
+        // byte arrays
+        if (modification instanceof ByteArrayExplicitValueModification) {
+            return new ByteArrayExplicitValueModification(
+                copy(((ByteArrayExplicitValueModification) modification).getExplicitValue()));
+        } else if (modification instanceof ByteArrayXorModification) {
+            ByteArrayXorModification xor = (ByteArrayXorModification) modification;
+            return new ByteArrayXorModification(copy(xor.getXor()), xor.getStartPosition());
+        } else if (modification instanceof ByteArrayInsertModification) {
+            ByteArrayInsertModification insert = (ByteArrayInsertModification) modification;
+            return new ByteArrayInsertModification(copy(insert.getBytesToInsert()), insert.getStartPosition());
+        } else if (modification instanceof ByteArrayDeleteModification) {
+            ByteArrayDeleteModification delete = (ByteArrayDeleteModification) modification;
+            ByteArrayDeleteModification copy = new ByteArrayDeleteModification();
+            copy.setStartPosition(delete.getStartPosition());
+            copy.setCount(delete.getCount());
+            return copy;
+        } else if (modification instanceof ByteArrayPayloadModification) {
+            ByteArrayPayloadModification payload = (ByteArrayPayloadModification) modification;
+            ByteArrayPayloadModification copy = new ByteArrayPayloadModification();
+            copy.setPrependPayload(copy(payload.getPrependPayload()));
+            copy.setPayload(copy(payload.getPayload()));
+            copy.setAppendPayload(copy(payload.getAppendPayload()));
+            copy.setInsert(payload.isInsert());
+            copy.setInsertPosition(payload.getInsertPosition());
+            return copy;
+        } else if (modification instanceof ByteArrayShuffleModification) {
+            return new ByteArrayShuffleModification(copy(((ByteArrayShuffleModification) modification).getShuffle()));
+        } else if (modification instanceof ByteArrayDuplicateModification) {
+            return new ByteArrayDuplicateModification();
+        }
+        // integers
+        if (modification instanceof IntegerExplicitValueModification) {
+            return new IntegerExplicitValueModification(
+                ((IntegerExplicitValueModification) modification).getExplicitValue());
+        } else if (modification instanceof IntegerAddModification) {
+            return new IntegerAddModification(((IntegerAddModification) modification).getSummand());
+        } else if (modification instanceof IntegerSubtractModification) {
+            return new IntegerSubtractModification(((IntegerSubtractModification) modification).getSubtrahend());
+        } else if (modification instanceof IntegerXorModification) {
+            return new IntegerXorModification(((IntegerXorModification) modification).getXor());
+        } else if (modification instanceof IntegerShiftLeftModification) {
+            return new IntegerShiftLeftModification(((IntegerShiftLeftModification) modification).getShift());
+        } else if (modification instanceof IntegerShiftRightModification) {
+            return new IntegerShiftRightModification(((IntegerShiftRightModification) modification).getShift());
+        }
+        // single bytes
+        if (modification instanceof ByteExplicitValueModification) {
+            return new ByteExplicitValueModification(((ByteExplicitValueModification) modification).getExplicitValue());
+        } else if (modification instanceof ByteAddModification) {
+            return new ByteAddModification(((ByteAddModification) modification).getSummand());
+        } else if (modification instanceof ByteSubtractModification) {
+            return new ByteSubtractModification(((ByteSubtractModification) modification).getSubtrahend());
+        } else if (modification instanceof ByteXorModification) {
+            return new ByteXorModification(((ByteXorModification) modification).getXor());
+        }
+        // big integers
+        if (modification instanceof BigIntegerExplicitValueModification) {
+            return new BigIntegerExplicitValueModification(
+                ((BigIntegerExplicitValueModification) modification).getExplicitValue());
+        } else if (modification instanceof BigIntegerAddModification) {
+            return new BigIntegerAddModification(((BigIntegerAddModification) modification).getSummand());
+        } else if (modification instanceof BigIntegerSubtractModification) {
+            return new BigIntegerSubtractModification(((BigIntegerSubtractModification) modification).getSubtrahend());
+        } else if (modification instanceof BigIntegerMultiplyModification) {
+            return new BigIntegerMultiplyModification(((BigIntegerMultiplyModification) modification).getFactor());
+        } else if (modification instanceof BigIntegerXorModification) {
+            return new BigIntegerXorModification(((BigIntegerXorModification) modification).getXor());
+        } else if (modification instanceof BigIntegerShiftLeftModification) {
+            return new BigIntegerShiftLeftModification(((BigIntegerShiftLeftModification) modification).getShift());
+        } else if (modification instanceof BigIntegerShiftRightModification) {
+            return new BigIntegerShiftRightModification(((BigIntegerShiftRightModification) modification).getShift());
+        }
+        // longs
+        if (modification instanceof LongExplicitValueModification) {
+            return new LongExplicitValueModification(((LongExplicitValueModification) modification).getExplicitValue());
+        } else if (modification instanceof LongAddModification) {
+            return new LongAddModification(((LongAddModification) modification).getSummand());
+        } else if (modification instanceof LongSubtractModification) {
+            return new LongSubtractModification(((LongSubtractModification) modification).getSubtrahend());
+        } else if (modification instanceof LongXorModification) {
+            return new LongXorModification(((LongXorModification) modification).getXor());
+        }
+        // booleans and strings
+        if (modification instanceof BooleanExplicitValueModification) {
+            return new BooleanExplicitValueModification(
+                ((BooleanExplicitValueModification) modification).isExplicitValue());
+        } else if (modification instanceof BooleanToggleModification) {
+            return new BooleanToggleModification();
+        } else if (modification instanceof StringExplicitValueModification) {
+            return new StringExplicitValueModification(
+                ((StringExplicitValueModification) modification).getExplicitValue());
+        }
+        return modification;
+    }
+
+    private static ModificationFilter copy(ModificationFilter filter) {
+        if (filter instanceof AccessModificationFilter) {
+            int[] accessNumbers = ((AccessModificationFilter) filter).getAccessNumbers();
+            return new AccessModificationFilter(accessNumbers == null ? null : accessNumbers.clone());
+        }
+        return filter;
+    }
+
+    private CopyUtils() {
+    }
+}
@@ -104,6 +104,7 @@ public class DTLSWorkflowExecutor extends WorkflowExecutor {
                 } else {
                     i = retransmissionActionIndex - 1;
                     retransmissions++;
+                    state.getTlsContext().increaseDtlsRetransmissions();
                 }
             }
         }
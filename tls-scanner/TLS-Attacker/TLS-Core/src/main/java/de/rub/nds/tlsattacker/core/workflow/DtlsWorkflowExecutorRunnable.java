@@ -0,0 +1,70 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import de.rub.nds.tlsattacker.core.connection.AliasedConnection;
+import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.transport.udp.ServerUdpPeerTransportHandler;
+import java.net.InetSocketAddress;
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Executes the workflow trace of the {@link ThreadedDtlsServerWorkflowExecutor} for a single peer.
+ */
+public class DtlsWorkflowExecutorRunnable implements Runnable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    protected final ServerUdpPeerTransportHandler transportHandler;
+    protected final State globalState;
+    protected final ThreadedDtlsServerWorkflowExecutor parent;
+
+    public DtlsWorkflowExecutorRunnable(State globalState, ServerUdpPeerTransportHandler transportHandler,
+        ThreadedDtlsServerWorkflowExecutor parent) {
+        this.globalState = globalState;
+        this.transportHandler = transportHandler;
+        this.parent = parent;
+    }
+
+    @Override
+    public void run() {
+        String loggingContextString =
+            String.format("%s %s", transportHandler.getSrcPort(), transportHandler.getPeerAddress());
+        try (final CloseableThreadContext.Instance ctc = CloseableThreadContext.push(loggingContextString)) {
+            this.runInternal();
+        } catch (WorkflowExecutionException ex) {
+            LOGGER.info("Workflow for {} was not executed completely", transportHandler.getPeerAddress(), ex);
+        } finally {
+            parent.clientDone(transportHandler);
+        }
+    }
+
+    protected void runInternal() {
+        State state = new State(globalState.getConfig(), globalState.getWorkflowTraceCopy());
+        initConnectionForState(state);
+        LOGGER.info("Executing workflow for " + transportHandler.getPeerAddress());
+        WorkflowExecutor workflowExecutor = new DTLSWorkflowExecutor(state);
+        workflowExecutor.executeWorkflow();
+        LOGGER.info("Workflow execution done for " + transportHandler.getPeerAddress());
+    }
+
+    protected void initConnectionForState(State state) {
+        TlsContext serverCtx = state.getInboundTlsContexts().get(0);
+        AliasedConnection serverCon = serverCtx.getConnection();
+        InetSocketAddress peerAddress = transportHandler.getPeerAddress();
+        serverCon.setHostname(peerAddress.getAddress().getHostAddress());
+        serverCon.setIp(peerAddress.getAddress().getHostAddress());
+        serverCon.setPort(peerAddress.getPort());
+        serverCtx.setTransportHandler(transportHandler);
+    }
+}
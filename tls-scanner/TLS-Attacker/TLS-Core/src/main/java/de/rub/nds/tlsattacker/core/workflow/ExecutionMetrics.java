@@ -0,0 +1,170 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
+import de.rub.nds.tlsattacker.transport.TransportHandler;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Accumulates the network activity of {@link TlsTask}s. Every execution attempt of a task is recorded with the traffic
+ * of the transport handlers of its state and its duration, so tasks which are executed multiple times count once as a
+ * task but with every attempt as an execution. The metrics may be shared by concurrently executed tasks.
+ */
+public class ExecutionMetrics {
+
+    private static final int LATENCY_BUCKETS = Long.SIZE;
+
+    private long tasks = 0;
+
+    private long failedTasks = 0;
+
+    private long executions = 0;
+
+    private long connections = 0;
+
+    private long sentBytes = 0;
+
+    private long receivedBytes = 0;
+
+    private long sentPackets = 0;
+
+    private long receivedPackets = 0;
+
+    private long retransmissions = 0;
+
+    private long timeouts = 0;
+
+    private long totalExecutionNanos = 0;
+
+    private long maxExecutionNanos = 0;
+
+    /**
+     * Bucket i counts the executions which took at least 2^(i-1) and less than 2^i nanoseconds
+     */
+    private final long[] latencyBuckets = new long[LATENCY_BUCKETS];
+
+    /**
+     * Records a single execution attempt of a task
+     *
+     * @param state
+     *                      The executed state, may be null if the task does not expose its state
+     * @param durationNanos
+     *                      The duration of the attempt in nanoseconds
+     */
+    public synchronized void recordExecution(State state, long durationNanos) {
+        executions++;
+        totalExecutionNanos += durationNanos;
+        maxExecutionNanos = Math.max(maxExecutionNanos, durationNanos);
+        latencyBuckets[Math.min(LATENCY_BUCKETS - 1, LATENCY_BUCKETS - Long.numberOfLeadingZeros(durationNanos))]++;
+        if (state == null) {
+            return;
+        }
+        for (TlsContext context : state.getAllTlsContexts()) {
+            TransportHandler transportHandler = context.getTransportHandler();
+            if (transportHandler != null && transportHandler.isInitialized()) {
+                connections++;
+                sentBytes += transportHandler.getSentBytes();
+                receivedBytes += transportHandler.getReceivedBytes();
+                sentPackets += transportHandler.getSentPackets();
+                receivedPackets += transportHandler.getReceivedPackets();
+                timeouts += transportHandler.getTimeouts();
+            }
+            retransmissions += context.getDtlsRetransmissions();
+        }
+    }
+
+    /**
+     * Records a finished task after all of its execution attempts
+     *
+     * @param hasError
+     *                 True if the last attempt failed
+     */
+    public synchronized void recordTask(boolean hasError) {
+        tasks++;
+        if (hasError) {
+            failedTasks++;
+        }
+    }
+
+    public synchronized long getTasks() {
+        return tasks;
+    }
+
+    public synchronized long getFailedTasks() {
+        return failedTasks;
+    }
+
+    public synchronized long getExecutions() {
+        return executions;
+    }
+
+    public synchronized long getConnections() {
+        return connections;
+    }
+
+    public synchronized long getSentBytes() {
+        return sentBytes;
+    }
+
+    public synchronized long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * @return The number of send operations, for UDP the number of sent datagrams
+     */
+    public synchronized long getSentPackets() {
+        return sentPackets;
+    }
+
+    /**
+     * @return The number of receive operations which returned data, for UDP the number of received datagrams
+     */
+    public synchronized long getReceivedPackets() {
+        return receivedPackets;
+    }
+
+    /**
+     * @return The number of DTLS flight retransmissions
+     */
+    public synchronized long getRetransmissions() {
+        return retransmissions;
+    }
+
+    public synchronized long getTimeouts() {
+        return timeouts;
+    }
+
+    public synchronized long getTotalExecutionNanos() {
+        return totalExecutionNanos;
+    }
+
+    public synchronized long getMaxExecutionNanos() {
+        return maxExecutionNanos;
+    }
+
+    /**
+     * @return Maps the exclusive upper bound in nanoseconds of every non empty latency bucket to the number of
+     *         executions in the bucket. The buckets are powers of two.
+     */
+    public synchronized SortedMap<Long, Long> getLatencyHistogram() {
+        SortedMap<Long, Long> histogram = new TreeMap<>();
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            if (latencyBuckets[i] > 0) {
+                histogram.put(i == LATENCY_BUCKETS - 1 ? Long.MAX_VALUE : 1L << i, latencyBuckets[i]);
+            }
+        }
+        return histogram;
+    }
+}
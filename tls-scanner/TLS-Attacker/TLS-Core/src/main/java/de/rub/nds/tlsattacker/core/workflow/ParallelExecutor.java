@@ -11,15 +11,19 @@ package de.rub.nds.tlsattacker.core.workflow;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +33,7 @@ import de.rub.nds.tlsattacker.core.workflow.task.ITask;
 import de.rub.nds.tlsattacker.core.workflow.task.StateExecutionTask;
 import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  *
@@ -38,6 +43,8 @@ public class ParallelExecutor {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final ThreadLocal<ExecutionMetrics> THREAD_EXECUTION_METRICS = new ThreadLocal<>();
+
     private final ThreadPoolExecutor executorService;
     private Callable<Integer> timeoutAction;
 
@@ -64,7 +71,7 @@ public class ParallelExecutor {
     }
 
     public ParallelExecutor(ThreadPoolExecutor executorService, int reexecutions) {
-        this(-1, reexecutions, executorService);
+        this(executorService.getMaximumPoolSize(), reexecutions, executorService);
     }
 
     public ParallelExecutor(int size, int reexecutions) {
@@ -77,7 +84,7 @@ public class ParallelExecutor {
             new ThreadPoolExecutor(size, size, 5, TimeUnit.MINUTES, new LinkedBlockingDeque<Runnable>(), factory));
     }
 
-    private Future<ITask> addTask(TlsTask task) {
+    private TlsTask prepareTask(TlsTask task) {
         if (executorService.isShutdown()) {
             throw new RuntimeException("Cannot add Tasks to already shutdown executor");
         }
@@ -93,37 +100,176 @@ public class ParallelExecutor {
         if (defaultAfterExecutionCallback != null && task.getAfterExecutionCallback() == null) {
             task.setAfterExecutionCallback(defaultAfterExecutionCallback);
         }
-        return executorService.submit(task);
-    }
-
-    private Future<ITask> addStateTask(State state) {
-        return addTask(new StateExecutionTask(state, reexecutions));
+        ExecutionMetrics threadExecutionMetrics = THREAD_EXECUTION_METRICS.get();
+        if (threadExecutionMetrics != null && task.getExecutionMetrics() == null) {
+            task.setExecutionMetrics(threadExecutionMetrics);
+        }
+        return task;
     }
 
-    public void bulkExecuteStateTasks(Iterable<State> stateList) {
-        List<Future> futureList = new LinkedList<>();
-        for (State state : stateList) {
-            futureList.add(addStateTask(state));
-        }
-        for (Future future : futureList) {
-            try {
+    /**
+     * Submits the tasks and passes every finished task to the stop condition in the order in which the tasks finish. At
+     * most maxPendingTasks tasks are submitted but not finished at any time, the next task is only taken from the
+     * iterator when a submitted one finished. Once the stop condition is satisfied, no further tasks are submitted and
+     * the submitted tasks which did not start yet are skipped. Tasks which are already running are awaited but not
+     * passed to the stop condition anymore.
+     *
+     * @param  tasks
+     *                         The tasks to execute
+     * @param  maxPendingTasks
+     *                         The maximal number of submitted but unfinished tasks
+     * @param  stopCondition
+     *                         Evaluated in the calling thread for every finished task
+     * @return                 The futures of the submitted tasks in submission order, all of them are done. The futures
+     *                         of skipped tasks return null.
+     */
+    private List<Future<ITask>> executeInCompletionOrder(Iterator<? extends TlsTask> tasks, int maxPendingTasks,
+        Predicate<ITask> stopCondition) {
+        CompletionService<ITask> completionService = new ExecutorCompletionService<>(executorService);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        List<Future<ITask>> futureList = new ArrayList<>();
+        int finishedTasks = 0;
+        try {
+            submitTasks(completionService, tasks, maxPendingTasks, stopped, futureList);
+            while (finishedTasks < futureList.size()) {
+                ITask finishedTask = completionService.take().get();
+                finishedTasks++;
+                if (stopCondition.test(finishedTask)) {
+                    stopped.set(true);
+                    break;
+                }
+                submitTasks(completionService, tasks, maxPendingTasks - futureList.size() + finishedTasks, stopped,
+                    futureList);
+            }
+            for (Future<ITask> future : futureList) {
                 future.get();
-            } catch (InterruptedException | ExecutionException ex) {
-                throw new RuntimeException("Failed to execute tasks!", ex);
             }
+        } catch (InterruptedException | ExecutionException ex) {
+            stopped.set(true);
+            throw new RuntimeException("Failed to execute tasks!", ex);
+        }
+        return futureList;
+    }
+
+    private void submitTasks(CompletionService<ITask> completionService, Iterator<? extends TlsTask> tasks, int count,
+        AtomicBoolean stopped, List<Future<ITask>> futureList) {
+        for (int i = 0; i < count && tasks.hasNext(); i++) {
+            TlsTask preparedTask = prepareTask(tasks.next());
+            // cancelling the futures instead would not allow to wait for the tasks which are already running
+            futureList.add(completionService.submit(() -> stopped.get() ? null : preparedTask.call()));
         }
     }
 
+    private List<Future<ITask>> executeInCompletionOrder(Iterable<? extends TlsTask> taskList,
+        Predicate<ITask> stopCondition) {
+        return executeInCompletionOrder(taskList.iterator(), Integer.MAX_VALUE, stopCondition);
+    }
+
+    public void bulkExecuteStateTasks(Iterable<State> stateList) {
+        executeInCompletionOrder(createStateTasks(stateList), task -> false);
+    }
+
     public void bulkExecuteStateTasks(State... states) {
         this.bulkExecuteStateTasks(new ArrayList<>(Arrays.asList(states)));
     }
 
+    /**
+     * Executes the states with at most maxPendingStates of them submitted but unfinished at a time. A state is only
+     * taken from the iterator when it is submitted, so the states can be created lazily while the others execute.
+     *
+     * @param states
+     *                         The states to execute
+     * @param maxPendingStates
+     *                         The maximal number of submitted but unfinished states, e.g., a small multiple of the size
+     *                         of this executor
+     */
+    public void bulkExecuteStateTasks(Iterator<State> states, int maxPendingStates) {
+        Iterator<StateExecutionTask> tasks = new Iterator<StateExecutionTask>() {
+            @Override
+            public boolean hasNext() {
+                return states.hasNext();
+            }
+
+            @Override
+            public StateExecutionTask next() {
+                return new StateExecutionTask(states.next(), reexecutions);
+            }
+        };
+        executeInCompletionOrder(tasks, maxPendingStates, task -> false);
+    }
+
+    /**
+     * Executes the states concurrently and stops as soon as a finished state satisfies the stop condition, e.g.,
+     * because it already determines the result of the caller. States which were not started at this point are not
+     * executed at all.
+     *
+     * @param  stateList
+     *                       The states to execute
+     * @param  stopCondition
+     *                       Evaluated in the calling thread for every finished state, in the order in which the states
+     *                       finish
+     * @return               The states which were passed to the stop condition, in the order in which they finished
+     */
+    public List<State> bulkExecuteStateTasksUntil(Iterable<State> stateList, Predicate<State> stopCondition) {
+        List<State> finishedStates = new LinkedList<>();
+        executeInCompletionOrder(createStateTasks(stateList), task -> {
+            State state = ((StateExecutionTask) task).getState();
+            finishedStates.add(state);
+            return stopCondition.test(state);
+        });
+        return finishedStates;
+    }
+
+    private List<StateExecutionTask> createStateTasks(Iterable<State> stateList) {
+        List<StateExecutionTask> taskList = new LinkedList<>();
+        for (State state : stateList) {
+            taskList.add(new StateExecutionTask(state, reexecutions));
+        }
+        return taskList;
+    }
+
     public List<ITask> bulkExecuteTasks(Iterable<TlsTask> taskList) {
-        List<Future<ITask>> futureList = new LinkedList<>();
+        return bulkExecuteTasks(taskList.iterator(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executes the tasks concurrently and stops as soon as a finished task satisfies the stop condition, e.g., because
+     * it already determines the result of the caller. Tasks which were not started at this point are not executed at
+     * all, tasks which are running are finished before this method returns.
+     *
+     * @param  taskList
+     *                       The tasks to execute
+     * @param  stopCondition
+     *                       Evaluated in the calling thread for every finished task, in the order in which the tasks
+     *                       finish
+     * @return               The tasks which were passed to the stop condition, in the order in which they finished
+     */
+    public List<ITask> bulkExecuteTasksUntil(Iterable<? extends TlsTask> taskList, Predicate<ITask> stopCondition) {
+        List<ITask> finishedTasks = new LinkedList<>();
+        executeInCompletionOrder(taskList, task -> {
+            finishedTasks.add(task);
+            return stopCondition.test(task);
+        });
+        return finishedTasks;
+    }
+
+    public List<ITask> bulkExecuteTasks(TlsTask... tasks) {
+        return this.bulkExecuteTasks(new ArrayList<>(Arrays.asList(tasks)));
+    }
+
+    /**
+     * Executes the tasks with at most maxPendingTasks of them submitted but unfinished at a time, see
+     * {@link #bulkExecuteStateTasks(Iterator, int)}.
+     *
+     * @param  tasks
+     *                         The tasks to execute
+     * @param  maxPendingTasks
+     *                         The maximal number of submitted but unfinished tasks
+     * @return                 The executed tasks in the order in which they were taken from the iterator
+     */
+    public List<ITask> bulkExecuteTasks(Iterator<? extends TlsTask> tasks, int maxPendingTasks) {
+        List<Future<ITask>> futureList = executeInCompletionOrder(tasks, maxPendingTasks, task -> false);
         List<ITask> resultList = new ArrayList<>(futureList.size());
-        for (TlsTask tlStask : taskList) {
-            futureList.add(addTask(tlStask));
-        }
         for (Future<ITask> future : futureList) {
             try {
                 resultList.add(future.get());
@@ -134,8 +280,23 @@ public class ParallelExecutor {
         return resultList;
     }
 
-    public List<ITask> bulkExecuteTasks(TlsTask... tasks) {
-        return this.bulkExecuteTasks(new ArrayList<>(Arrays.asList(tasks)));
+    /**
+     * Records every task which is submitted by the calling thread to any ParallelExecutor in the given metrics, e.g.,
+     * to attribute the tasks to the component which submits them.
+     *
+     * @param metrics
+     *                The metrics of the calling thread, or null to stop recording
+     */
+    public static void setThreadExecutionMetrics(ExecutionMetrics metrics) {
+        if (metrics == null) {
+            THREAD_EXECUTION_METRICS.remove();
+        } else {
+            THREAD_EXECUTION_METRICS.set(metrics);
+        }
+    }
+
+    public static ExecutionMetrics getThreadExecutionMetrics() {
+        return THREAD_EXECUTION_METRICS.get();
     }
 
     public int getSize() {
@@ -0,0 +1,250 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.action.executor.WorkflowExecutorType;
+import de.rub.nds.tlsattacker.transport.udp.ServerUdpPeerTransportHandler;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * DTLS counterpart of the {@link ThreadedServerWorkflowExecutor}. All peers share one bound datagram socket, incoming
+ * datagrams are demultiplexed by the address of their sender. Every new peer gets its own State and its handshake is
+ * executed by a {@link DTLSWorkflowExecutor} in the thread pool. Peers that stay silent for longer than the configured
+ * idle timeout are evicted.
+ */
+public class ThreadedDtlsServerWorkflowExecutor extends WorkflowExecutor {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Large enough for any UDP payload
+     */
+    private static final int RECEIVE_BUFFER_SIZE = 65536;
+
+    /**
+     * Upper bound in milliseconds for how long idle peers are kept beyond their timeout
+     */
+    private static final int EVICTION_INTERVAL = 1000;
+
+    private final InetAddress bindAddr;
+    private final int bindPort;
+    private final long peerIdleTimeout;
+    private final Map<InetSocketAddress, Peer> peers = new ConcurrentHashMap<>();
+    private DatagramSocket socket;
+    private volatile boolean killed = true;
+    protected final ExecutorService pool;
+
+    public ThreadedDtlsServerWorkflowExecutor(State state, ExecutorService pool) {
+        super(WorkflowExecutorType.THREADED_DTLS_SERVER, state);
+        bindPort = config.getDefaultServerConnection().getPort();
+        String hostname = config.getDefaultServerConnection().getHostname();
+        if (hostname != null) {
+            InetAddress tempBindAddr;
+            try {
+                tempBindAddr = InetAddress.getByName(hostname);
+            } catch (UnknownHostException e) {
+                LOGGER.warn("Failed to resolve bind address {} - Falling back to loopback: {}", hostname, e);
+                tempBindAddr = InetAddress.getLoopbackAddress();
+            }
+            bindAddr = tempBindAddr;
+        } else {
+            bindAddr = null;
+        }
+        peerIdleTimeout = config.getDtlsServerPeerIdleTimeout();
+        this.pool = pool;
+    }
+
+    public ThreadedDtlsServerWorkflowExecutor(State state) {
+        this(state, Executors.newFixedThreadPool(state.getConfig().getDtlsServerPoolSize()));
+    }
+
+    @Override
+    public void executeWorkflow() throws WorkflowExecutionException {
+        initialize();
+        LOGGER.info("Listening for DTLS clients on {}:{}...", bindAddr == null ? "any" : bindAddr, getBoundPort());
+
+        byte[] receiveBuffer = new byte[RECEIVE_BUFFER_SIZE];
+        long lastEviction = System.currentTimeMillis();
+        try {
+            while (!killed) {
+                DatagramPacket packet = new DatagramPacket(receiveBuffer, receiveBuffer.length);
+                try {
+                    socket.receive(packet);
+                    dispatch(packet);
+                } catch (SocketTimeoutException ex) {
+                    // only used to evict idle peers
+                }
+                if (System.currentTimeMillis() - lastEviction >= EVICTION_INTERVAL) {
+                    evictIdlePeers();
+                    lastEviction = System.currentTimeMillis();
+                }
+            }
+        } catch (IOException ex) {
+            if (!killed) {
+                throw new WorkflowExecutionException("Failed to receive datagram", ex);
+            }
+        } finally {
+            killed = true;
+            closePeers();
+            if (socket != null) {
+                socket.close();
+            }
+            shutdownAndAwaitTermination();
+            LOGGER.info("DTLS server shutdown cleanly");
+        }
+    }
+
+    /**
+     * Binds the shared socket. Called by {@link #executeWorkflow()}, may be called beforehand to learn the bound port.
+     */
+    public synchronized void initialize() {
+        if (socket != null && !socket.isClosed()) {
+            LOGGER.debug("Server socket already initialized");
+            return;
+        }
+        LOGGER.info("Initializing DTLS server connection end at port " + bindPort);
+        try {
+            socket = new DatagramSocket(new InetSocketAddress(bindAddr, bindPort));
+            socket.setSoTimeout((int) Math.min(EVICTION_INTERVAL, Math.max(1, peerIdleTimeout)));
+        } catch (SocketException ex) {
+            throw new RuntimeException("Could not instantiate server socket", ex);
+        }
+        killed = false;
+    }
+
+    private void dispatch(DatagramPacket packet) {
+        InetSocketAddress peerAddress = (InetSocketAddress) packet.getSocketAddress();
+        byte[] datagram =
+            Arrays.copyOfRange(packet.getData(), packet.getOffset(), packet.getOffset() + packet.getLength());
+        Peer peer = peers.get(peerAddress);
+        if (peer == null) {
+            LOGGER.debug("New DTLS peer {}", peerAddress);
+            peer = new Peer(new ServerUdpPeerTransportHandler(state.getInboundTlsContexts().get(0).getConnection(),
+                socket, peerAddress, new LinkedBlockingQueue<>()));
+            peers.put(peerAddress, peer);
+            peer.receiveQueue.add(datagram);
+            handleClient(peer.transportHandler);
+        } else {
+            peer.receiveQueue.add(datagram);
+            peer.lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    protected void handleClient(ServerUdpPeerTransportHandler transportHandler) {
+        pool.execute(new DtlsWorkflowExecutorRunnable(state, transportHandler, this));
+    }
+
+    /**
+     * Forgets a peer once its workflow is done. Further datagrams of the same address start a new workflow.
+     *
+     * @param transportHandler
+     *                         The transport handler of the peer
+     */
+    public void clientDone(ServerUdpPeerTransportHandler transportHandler) {
+        // the peer may already have been evicted and replaced by a new one with the same address
+        peers.computeIfPresent(transportHandler.getPeerAddress(),
+            (address, peer) -> peer.transportHandler == transportHandler ? null : peer);
+        closeTransportHandler(transportHandler);
+    }
+
+    private void evictIdlePeers() {
+        long now = System.currentTimeMillis();
+        Iterator<Peer> iterator = peers.values().iterator();
+        while (iterator.hasNext()) {
+            Peer peer = iterator.next();
+            if (now - peer.lastActivity > peerIdleTimeout) {
+                LOGGER.debug("Evicting idle DTLS peer {}", peer.transportHandler.getPeerAddress());
+                iterator.remove();
+                closeTransportHandler(peer.transportHandler);
+            }
+        }
+    }
+
+    private void closePeers() {
+        for (Peer peer : peers.values()) {
+            closeTransportHandler(peer.transportHandler);
+        }
+        peers.clear();
+    }
+
+    private void closeTransportHandler(ServerUdpPeerTransportHandler transportHandler) {
+        try {
+            transportHandler.closeConnection();
+        } catch (IOException ex) {
+            LOGGER.debug("Failed to close transport handler of " + transportHandler.getPeerAddress());
+        }
+    }
+
+    public void kill() {
+        killed = true;
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    public int getPeerCount() {
+        return peers.size();
+    }
+
+    public InetAddress getBoundAddress() {
+        return socket.getLocalAddress();
+    }
+
+    public int getBoundPort() {
+        return socket.getLocalPort();
+    }
+
+    private void shutdownAndAwaitTermination() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException ie) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Peer {
+
+        private final ServerUdpPeerTransportHandler transportHandler;
+
+        private final BlockingQueue<byte[]> receiveQueue;
+
+        private volatile long lastActivity;
+
+        Peer(ServerUdpPeerTransportHandler transportHandler) {
+            this.transportHandler = transportHandler;
+            this.receiveQueue = transportHandler.getReceiveQueue();
+            this.lastActivity = System.currentTimeMillis();
+        }
+    }
+}
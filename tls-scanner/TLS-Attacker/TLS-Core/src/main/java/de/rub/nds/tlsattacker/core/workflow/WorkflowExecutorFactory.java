@@ -22,6 +22,8 @@ public class WorkflowExecutorFactory {
                 return new ThreadedServerWorkflowExecutor(state);
             case DTLS:
                 return new DTLSWorkflowExecutor(state);
+            case THREADED_DTLS_SERVER:
+                return new ThreadedDtlsServerWorkflowExecutor(state);
             default:
                 throw new UnsupportedOperationException(type.name() + " not yet implemented");
         }
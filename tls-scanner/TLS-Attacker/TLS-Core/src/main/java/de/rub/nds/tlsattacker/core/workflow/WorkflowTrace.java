@@ -13,30 +13,23 @@ import de.rub.nds.modifiablevariable.HoldsModifiableVariable;
 import de.rub.nds.tlsattacker.core.connection.AliasedConnection;
 import de.rub.nds.tlsattacker.core.connection.InboundConnection;
 import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
-import de.rub.nds.tlsattacker.core.exceptions.ConfigurationException;
 import de.rub.nds.tlsattacker.core.protocol.ProtocolMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.TlsMessage;
 import de.rub.nds.tlsattacker.core.workflow.action.*;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ActionOption;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.Serializable;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
-import javax.xml.stream.XMLStreamException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,33 +45,13 @@ public class WorkflowTrace implements Serializable {
     /**
      * Copy a workflow trace.
      *
-     * TODO: This should be replaced by a better copy method. Using serialization is slow and needs some additional
-     * "tweaks", i.e. we have to manually restore important fields marked as XmlTransient. This problem arises because
-     * the classes are configured for nice JAXB output, and not for copying/storing full objects.
-     *
      * @param  orig
      *              the original WorkflowTrace object to copy
      * @return      a copy of the original WorkflowTrace
+     * @see         #WorkflowTrace(WorkflowTrace)
      */
     public static WorkflowTrace copy(WorkflowTrace orig) {
-        WorkflowTrace copy = null;
-
-        List<TlsAction> origActions = orig.getTlsActions();
-
-        try {
-            String origTraceStr = WorkflowTraceSerializer.write(orig);
-            InputStream is = new ByteArrayInputStream(origTraceStr.getBytes(StandardCharsets.UTF_8.name()));
-            copy = WorkflowTraceSerializer.insecureRead(is);
-        } catch (JAXBException | IOException | XMLStreamException ex) {
-            throw new ConfigurationException("Could not copy workflow trace: " + ex);
-        }
-
-        List<TlsAction> copiedActions = copy.getTlsActions();
-        for (int i = 0; i < origActions.size(); i++) {
-            copiedActions.get(i).setSingleConnectionWorkflow(origActions.get(i).isSingleConnectionWorkflow());
-        }
-
-        return copy;
+        return new WorkflowTrace(orig);
     }
 
     @XmlElements(value = { @XmlElement(type = AliasedConnection.class, name = "AliasedConnection"),
@@ -176,6 +149,26 @@ public class WorkflowTrace implements Serializable {
         this.connections = cons;
     }
 
+    /**
+     * Creates a deep copy of another workflow trace. Connections are copied with {@link AliasedConnection#getCopy()},
+     * actions with {@link TlsAction#createCopy()}. Like a freshly loaded trace, the copy is marked dirty.
+     *
+     * @param other
+     *              the WorkflowTrace to copy
+     */
+    public WorkflowTrace(WorkflowTrace other) {
+        this.connections = new ArrayList<>(other.connections.size());
+        for (AliasedConnection connection : other.connections) {
+            this.connections.add(connection.getCopy());
+        }
+        this.tlsActions = new LinkedList<>();
+        for (TlsAction action : other.tlsActions) {
+            this.tlsActions.add(action.createCopy());
+        }
+        this.name = other.name;
+        this.description = other.description;
+    }
+
     public void reset() {
         for (TlsAction action : getTlsActions()) {
             action.reset();
@@ -21,10 +21,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.ValidationEvent;
 import javax.xml.bind.ValidationEventHandler;
@@ -54,6 +56,25 @@ public class WorkflowTraceSerializer {
      */
     private static JAXBContext context;
 
+    /**
+     * schema compilation is expensive as well, the compiled schema is thread safe
+     */
+    private static Schema schema;
+
+    /**
+     * (un)marshallers and transformers are not thread safe but can be reused, idle ones are kept here
+     */
+    private static final Queue<Unmarshaller> SECURE_UNMARSHALLER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final Queue<Unmarshaller> INSECURE_UNMARSHALLER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final Queue<Marshaller> MARSHALLER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final Queue<Transformer> TRANSFORMER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY =
+        ThreadLocal.withInitial(WorkflowTraceSerializer::createXMLInputFactory);
+
     static synchronized JAXBContext getJAXBContext() throws JAXBException, IOException {
         if (context == null) {
             context = JAXBContext.newInstance(WorkflowTrace.class);
@@ -61,6 +82,50 @@ public class WorkflowTraceSerializer {
         return context;
     }
 
+    static synchronized Schema getSchema() throws SAXException, IOException {
+        if (schema == null) {
+            String xsd_source = WorkflowTraceSchemaGenerator.AccumulatingSchemaOutputResolver.mapSystemIds();
+            SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            try (InputStream xsdStream = WorkflowTraceSerializer.class.getResourceAsStream("/" + xsd_source)) {
+                schema = sf.newSchema(new StreamSource(xsdStream));
+            }
+        }
+        return schema;
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory xif = XMLInputFactory.newFactory();
+        xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return xif;
+    }
+
+    private static Unmarshaller acquireUnmarshaller(boolean secure) throws JAXBException, IOException, SAXException {
+        Unmarshaller unmarshaller = secure ? SECURE_UNMARSHALLER_POOL.poll() : INSECURE_UNMARSHALLER_POOL.poll();
+        if (unmarshaller == null) {
+            unmarshaller = getJAXBContext().createUnmarshaller();
+            unmarshaller.setEventHandler(new ValidationEventHandler() {
+                @Override
+                public boolean handleEvent(ValidationEvent event) {
+                    // raise an Exception also on Warnings
+                    return false;
+                }
+            });
+            if (secure) {
+                unmarshaller.setSchema(getSchema());
+            }
+        }
+        return unmarshaller;
+    }
+
+    private static void releaseUnmarshaller(Unmarshaller unmarshaller, boolean secure) {
+        if (secure) {
+            SECURE_UNMARSHALLER_POOL.offer(unmarshaller);
+        } else {
+            INSECURE_UNMARSHALLER_POOL.offer(unmarshaller);
+        }
+    }
+
     /**
      * Writes a WorkflowTrace to a File
      *
@@ -108,13 +173,21 @@ public class WorkflowTraceSerializer {
      *                       If something goes wrong while writing to the stream
      */
     public static void write(OutputStream outputStream, WorkflowTrace workflowTrace) throws JAXBException, IOException {
-        context = getJAXBContext();
+        Marshaller marshaller = MARSHALLER_POOL.poll();
+        if (marshaller == null) {
+            marshaller = getJAXBContext().createMarshaller();
+        }
         try (ByteArrayOutputStream xmlOutputStream = new ByteArrayOutputStream()) {
-            Transformer transformer = TransformerFactory.newInstance().newTransformer();
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            transformer.transform(new JAXBSource(context, workflowTrace), new StreamResult(xmlOutputStream));
+            Transformer transformer = TRANSFORMER_POOL.poll();
+            if (transformer == null) {
+                transformer = TransformerFactory.newInstance().newTransformer();
+                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+                transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+                transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+            }
+            transformer.transform(new JAXBSource(marshaller, workflowTrace), new StreamResult(xmlOutputStream));
+            TRANSFORMER_POOL.offer(transformer);
+            MARSHALLER_POOL.offer(marshaller);
 
             String xml_text = xmlOutputStream.toString();
             // and we modify all line separators to the system dependant line separator
@@ -126,6 +199,12 @@ public class WorkflowTraceSerializer {
         outputStream.close();
     }
 
+    private static WorkflowTrace read(InputStream inputStream, Unmarshaller unmarshaller)
+        throws JAXBException, XMLStreamException {
+        XMLStreamReader xsr = XML_INPUT_FACTORY.get().createXMLStreamReader(inputStream);
+        return (WorkflowTrace) unmarshaller.unmarshal(xsr);
+    }
+
     /**
      * @param  inputStream
      *                            The InputStream from which the Parameter should be read. Does NOT perform schema
@@ -140,22 +219,15 @@ public class WorkflowTraceSerializer {
      */
     public static WorkflowTrace insecureRead(InputStream inputStream)
         throws JAXBException, IOException, XMLStreamException {
-        context = getJAXBContext();
-        Unmarshaller unmarshaller = context.createUnmarshaller();
-        unmarshaller.setEventHandler(new ValidationEventHandler() {
-            @Override
-            public boolean handleEvent(ValidationEvent event) {
-                // raise an Exception also on Warnings
-                return false;
-            }
-        });
-        XMLInputFactory xif = XMLInputFactory.newFactory();
-        xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        XMLStreamReader xsr = xif.createXMLStreamReader(inputStream);
-        WorkflowTrace wt = (WorkflowTrace) unmarshaller.unmarshal(xsr);
-        inputStream.close();
-        return wt;
+        try {
+            Unmarshaller unmarshaller = acquireUnmarshaller(false);
+            WorkflowTrace wt = read(inputStream, unmarshaller);
+            releaseUnmarshaller(unmarshaller, false);
+            inputStream.close();
+            return wt;
+        } catch (SAXException ex) {
+            throw new RuntimeException(ex);
+        }
     }
 
     /**
@@ -165,28 +237,19 @@ public class WorkflowTraceSerializer {
      * @return
      */
     public static List<WorkflowTrace> insecureReadFolder(File f) {
-        if (f.isDirectory()) {
-            ArrayList<WorkflowTrace> list = new ArrayList<>();
-            for (File file : f.listFiles()) {
-                if (file.getName().startsWith(".")) {
-                    // We ignore the .gitignore File
-                    continue;
-                }
-                WorkflowTrace trace;
-                try {
-                    trace = WorkflowTraceSerializer.insecureRead(new FileInputStream(file));
-                    trace.setName(file.getAbsolutePath());
-                    list.add(trace);
-                } catch (JAXBException | IOException | XMLStreamException ex) {
-                    LOGGER.warn("Could not read " + file.getAbsolutePath() + " from Folder.");
-                    LOGGER.debug(ex.getLocalizedMessage(), ex);
-                }
-            }
-            return list;
-        } else {
-            throw new IllegalArgumentException("Cannot read Folder, because its not a Folder");
-        }
+        return insecureReadAll(listFolder(f));
+    }
 
+    /**
+     * Reads the files with the same unmarshaller and does not perform schema validation. Files which cannot be read are
+     * skipped.
+     *
+     * @param  files
+     *               The files to read
+     * @return       The traces named after the absolute paths of their files
+     */
+    public static List<WorkflowTrace> insecureReadAll(List<File> files) {
+        return readAll(files, false);
     }
 
     /**
@@ -204,38 +267,10 @@ public class WorkflowTraceSerializer {
     public static WorkflowTrace secureRead(InputStream inputStream)
         throws JAXBException, IOException, XMLStreamException {
         try {
-            context = getJAXBContext();
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-
-            unmarshaller.setEventHandler(new ValidationEventHandler() {
-                @Override
-                public boolean handleEvent(ValidationEvent event) {
-                    // raise an Exception also on Warnings
-                    return false;
-                }
-            });
-
-            String xsd_source = WorkflowTraceSchemaGenerator.AccumulatingSchemaOutputResolver.mapSystemIds();
-            XMLInputFactory xif = XMLInputFactory.newFactory();
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-            XMLStreamReader xsr = xif.createXMLStreamReader(inputStream);
-
-            SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema workflowTraceSchema =
-                sf.newSchema(new StreamSource(WorkflowTraceSerializer.class.getResourceAsStream("/" + xsd_source)));
-            workflowTraceSchema.newValidator();
-            unmarshaller.setSchema(workflowTraceSchema);
-            WorkflowTrace wt = (WorkflowTrace) unmarshaller.unmarshal(xsr);
-            ModvarHelper helper = new ModvarHelper();
-            List<ModifiableVariableField> allSentFields = helper.getAllSentFields(wt);
-            for (ModifiableVariableField field : allSentFields) {
-                if (field.getModifiableVariable() != null && field.getModifiableVariable().getOriginalValue() != null) {
-                    LOGGER.warn(
-                        "Your WorkflowTrace still contains original values. These values will be deleted by TLS-Attacker and ignored for any computations. Use Modifications and/or the Config to change the contet of messages");
-                    break;
-                }
-            }
+            Unmarshaller unmarshaller = acquireUnmarshaller(true);
+            WorkflowTrace wt = read(inputStream, unmarshaller);
+            releaseUnmarshaller(unmarshaller, true);
+            warnAboutOriginalValues(wt);
             inputStream.close();
             return wt;
         } catch (IllegalArgumentException | IllegalAccessException | SAXException ex) {
@@ -243,6 +278,18 @@ public class WorkflowTraceSerializer {
         }
     }
 
+    private static void warnAboutOriginalValues(WorkflowTrace wt) throws IllegalAccessException {
+        ModvarHelper helper = new ModvarHelper();
+        List<ModifiableVariableField> allSentFields = helper.getAllSentFields(wt);
+        for (ModifiableVariableField field : allSentFields) {
+            if (field.getModifiableVariable() != null && field.getModifiableVariable().getOriginalValue() != null) {
+                LOGGER.warn(
+                    "Your WorkflowTrace still contains original values. These values will be deleted by TLS-Attacker and ignored for any computations. Use Modifications and/or the Config to change the contet of messages");
+                break;
+            }
+        }
+    }
+
     /**
      * Reads a folder. Does perform schema validation.
      *
@@ -250,28 +297,59 @@ public class WorkflowTraceSerializer {
      * @return
      */
     public static List<WorkflowTrace> secureReadFolder(File f) {
-        if (f.isDirectory()) {
-            ArrayList<WorkflowTrace> list = new ArrayList<>();
-            for (File file : f.listFiles()) {
-                if (file.getName().startsWith(".")) {
-                    // We ignore the .gitignore File
-                    continue;
-                }
-                WorkflowTrace trace;
-                try {
-                    trace = WorkflowTraceSerializer.secureRead(new FileInputStream(file));
-                    trace.setName(file.getAbsolutePath());
-                    list.add(trace);
-                } catch (JAXBException | IOException | XMLStreamException ex) {
-                    LOGGER.warn("Could not read " + file.getAbsolutePath() + " from Folder.");
-                    LOGGER.debug(ex.getLocalizedMessage(), ex);
-                }
-            }
-            return list;
-        } else {
+        return secureReadAll(listFolder(f));
+    }
+
+    /**
+     * Reads the files with the same unmarshaller and does perform schema validation. Files which cannot be read are
+     * skipped.
+     *
+     * @param  files
+     *               The files to read
+     * @return       The traces named after the absolute paths of their files
+     */
+    public static List<WorkflowTrace> secureReadAll(List<File> files) {
+        return readAll(files, true);
+    }
+
+    private static List<File> listFolder(File f) {
+        if (!f.isDirectory()) {
             throw new IllegalArgumentException("Cannot read Folder, because its not a Folder");
         }
+        List<File> files = new ArrayList<>();
+        for (File file : f.listFiles()) {
+            if (file.getName().startsWith(".")) {
+                // We ignore the .gitignore File
+                continue;
+            }
+            files.add(file);
+        }
+        return files;
+    }
 
+    private static List<WorkflowTrace> readAll(List<File> files, boolean secure) {
+        Unmarshaller unmarshaller;
+        try {
+            unmarshaller = acquireUnmarshaller(secure);
+        } catch (JAXBException | IOException | SAXException ex) {
+            throw new RuntimeException(ex);
+        }
+        List<WorkflowTrace> list = new ArrayList<>(files.size());
+        for (File file : files) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                WorkflowTrace trace = read(inputStream, unmarshaller);
+                if (secure) {
+                    warnAboutOriginalValues(trace);
+                }
+                trace.setName(file.getAbsolutePath());
+                list.add(trace);
+            } catch (JAXBException | IOException | XMLStreamException | IllegalAccessException ex) {
+                LOGGER.warn("Could not read " + file.getAbsolutePath() + " from Folder.");
+                LOGGER.debug(ex.getLocalizedMessage(), ex);
+            }
+        }
+        releaseUnmarshaller(unmarshaller, secure);
+        return list;
     }
 
     private WorkflowTraceSerializer() {
@@ -28,6 +28,13 @@ public abstract class ActivateCryptoAction extends ConnectionBoundAction {
 
     }
 
+    protected ActivateCryptoAction(ActivateCryptoAction other) {
+        super(other);
+    }
+
+    @Override
+    public abstract ActivateCryptoAction createCopy();
+
     @Override
     public boolean equals(Object o) {
         return o instanceof ActivateEncryptionAction;
@@ -16,6 +16,18 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement
 public class ActivateDecryptionAction extends ActivateCryptoAction {
 
+    public ActivateDecryptionAction() {
+    }
+
+    public ActivateDecryptionAction(ActivateDecryptionAction other) {
+        super(other);
+    }
+
+    @Override
+    public ActivateDecryptionAction createCopy() {
+        return new ActivateDecryptionAction(this);
+    }
+
     @Override
     protected void activateCrypto(TlsContext tlsContext, RecordCipher recordCipher) {
         LOGGER.info("Setting new decryption cipher and activating decryption");
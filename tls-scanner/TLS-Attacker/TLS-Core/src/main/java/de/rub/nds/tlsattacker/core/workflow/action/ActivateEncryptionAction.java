@@ -16,6 +16,18 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement
 public class ActivateEncryptionAction extends ActivateCryptoAction {
 
+    public ActivateEncryptionAction() {
+    }
+
+    public ActivateEncryptionAction(ActivateEncryptionAction other) {
+        super(other);
+    }
+
+    @Override
+    public ActivateEncryptionAction createCopy() {
+        return new ActivateEncryptionAction(this);
+    }
+
     @Override
     protected void activateCrypto(TlsContext tlsContext, RecordCipher recordCipher) {
         LOGGER.info("Setting new encryption cipher and activating encryption");
@@ -36,6 +36,15 @@ public class ApplyBufferedMessagesAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public ApplyBufferedMessagesAction(ApplyBufferedMessagesAction other) {
+        super(other);
+    }
+
+    @Override
+    public ApplyBufferedMessagesAction createCopy() {
+        return new ApplyBufferedMessagesAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
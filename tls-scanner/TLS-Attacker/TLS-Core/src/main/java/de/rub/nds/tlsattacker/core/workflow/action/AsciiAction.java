@@ -36,6 +36,15 @@ public abstract class AsciiAction extends TlsAction {
         this.encoding = encoding;
     }
 
+    protected AsciiAction(AsciiAction other) {
+        super(other);
+        asciiText = other.asciiText;
+        encoding = other.encoding;
+    }
+
+    @Override
+    public abstract AsciiAction createCopy();
+
     /**
      * @return the asciiText
      */
@@ -28,6 +28,15 @@ public class BufferedGenericReceiveAction extends GenericReceiveAction {
         super(connectionAlias);
     }
 
+    public BufferedGenericReceiveAction(BufferedGenericReceiveAction other) {
+        super(other);
+    }
+
+    @Override
+    public BufferedGenericReceiveAction createCopy() {
+        return new BufferedGenericReceiveAction(this);
+    }
+
     @Override
     public void execute(State state) {
         super.execute(state);
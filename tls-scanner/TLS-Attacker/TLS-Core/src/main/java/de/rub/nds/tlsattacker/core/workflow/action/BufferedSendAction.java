@@ -39,6 +39,15 @@ public class BufferedSendAction extends MessageAction implements SendingAction {
         super(connectionAlias);
     }
 
+    public BufferedSendAction(BufferedSendAction other) {
+        super(other);
+    }
+
+    @Override
+    public BufferedSendAction createCopy() {
+        return new BufferedSendAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -46,6 +46,17 @@ public class ChangeCipherSuiteAction extends ConnectionBoundAction {
     public ChangeCipherSuiteAction() {
     }
 
+    public ChangeCipherSuiteAction(ChangeCipherSuiteAction other) {
+        super(other);
+        newValue = other.newValue;
+        oldValue = other.oldValue;
+    }
+
+    @Override
+    public ChangeCipherSuiteAction createCopy() {
+        return new ChangeCipherSuiteAction(this);
+    }
+
     public CipherSuite getNewValue() {
         return newValue;
     }
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Arrays;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -38,6 +39,17 @@ public class ChangeClientRandomAction extends ConnectionBoundAction {
     public ChangeClientRandomAction() {
     }
 
+    public ChangeClientRandomAction(ChangeClientRandomAction other) {
+        super(other);
+        newValue = CopyUtils.copy(other.newValue);
+        oldValue = CopyUtils.copy(other.oldValue);
+    }
+
+    @Override
+    public ChangeClientRandomAction createCopy() {
+        return new ChangeClientRandomAction(this);
+    }
+
     public void setNewValue(byte[] newValue) {
         this.newValue = newValue;
     }
@@ -34,6 +34,17 @@ public class ChangeCompressionAction extends ConnectionBoundAction {
     public ChangeCompressionAction() {
     }
 
+    public ChangeCompressionAction(ChangeCompressionAction other) {
+        super(other);
+        newValue = other.newValue;
+        oldValue = other.oldValue;
+    }
+
+    @Override
+    public ChangeCompressionAction createCopy() {
+        return new ChangeCompressionAction(this);
+    }
+
     public void setNewValue(CompressionMethod newValue) {
         this.newValue = newValue;
     }
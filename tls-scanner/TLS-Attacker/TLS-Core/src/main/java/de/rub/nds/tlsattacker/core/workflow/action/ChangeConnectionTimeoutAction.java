@@ -32,6 +32,17 @@ public class ChangeConnectionTimeoutAction extends ConnectionBoundAction {
     public ChangeConnectionTimeoutAction() {
     }
 
+    public ChangeConnectionTimeoutAction(ChangeConnectionTimeoutAction other) {
+        super(other);
+        newValue = other.newValue;
+        oldValue = other.oldValue;
+    }
+
+    @Override
+    public ChangeConnectionTimeoutAction createCopy() {
+        return new ChangeConnectionTimeoutAction(this);
+    }
+
     public void setNewValue(long newValue) {
         this.newValue = newValue;
     }
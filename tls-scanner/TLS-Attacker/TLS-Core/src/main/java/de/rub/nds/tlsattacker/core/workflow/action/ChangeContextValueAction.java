@@ -12,6 +12,7 @@ package de.rub.nds.tlsattacker.core.workflow.action;
 import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -73,6 +74,21 @@ public class ChangeContextValueAction<T> extends ConnectionBoundAction {
     public ChangeContextValueAction() {
     }
 
+    public ChangeContextValueAction(ChangeContextValueAction<T> other) {
+        super(other);
+        newValue = other.newValue;
+        newValueList = CopyUtils.copyList(other.newValueList);
+        oldValue = other.oldValue;
+        oldValueList = CopyUtils.copyList(other.oldValueList);
+        fieldName = other.fieldName;
+        usesList = other.usesList;
+    }
+
+    @Override
+    public ChangeContextValueAction<T> createCopy() {
+        return new ChangeContextValueAction<>(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(getConnectionAlias());
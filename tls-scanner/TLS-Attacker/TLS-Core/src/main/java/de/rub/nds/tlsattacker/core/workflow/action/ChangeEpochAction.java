@@ -28,6 +28,14 @@ public abstract class ChangeEpochAction extends ConnectionBoundAction {
         this.epoch = epoch;
     }
 
+    protected ChangeEpochAction(ChangeEpochAction other) {
+        super(other);
+        epoch = other.epoch;
+    }
+
+    @Override
+    public abstract ChangeEpochAction createCopy();
+
     protected abstract void changeEpoch(TlsContext tlsContext);
 
     @Override
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Arrays;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -38,6 +39,17 @@ public class ChangeMasterSecretAction extends ConnectionBoundAction {
     public ChangeMasterSecretAction() {
     }
 
+    public ChangeMasterSecretAction(ChangeMasterSecretAction other) {
+        super(other);
+        newValue = CopyUtils.copy(other.newValue);
+        oldValue = CopyUtils.copy(other.oldValue);
+    }
+
+    @Override
+    public ChangeMasterSecretAction createCopy() {
+        return new ChangeMasterSecretAction(this);
+    }
+
     public void setNewValue(byte[] newValue) {
         this.newValue = newValue;
     }
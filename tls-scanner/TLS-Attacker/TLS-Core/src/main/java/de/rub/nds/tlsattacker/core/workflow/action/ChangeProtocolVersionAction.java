@@ -34,6 +34,17 @@ public class ChangeProtocolVersionAction extends ConnectionBoundAction {
     public ChangeProtocolVersionAction() {
     }
 
+    public ChangeProtocolVersionAction(ChangeProtocolVersionAction other) {
+        super(other);
+        newValue = other.newValue;
+        oldValue = other.oldValue;
+    }
+
+    @Override
+    public ChangeProtocolVersionAction createCopy() {
+        return new ChangeProtocolVersionAction(this);
+    }
+
     public void setNewValue(ProtocolVersion newValue) {
         this.newValue = newValue;
     }
@@ -22,6 +22,15 @@ public class ChangeReadEpochAction extends ChangeEpochAction {
         super(epoch);
     }
 
+    public ChangeReadEpochAction(ChangeReadEpochAction other) {
+        super(other);
+    }
+
+    @Override
+    public ChangeReadEpochAction createCopy() {
+        return new ChangeReadEpochAction(this);
+    }
+
     @Override
     protected void changeEpoch(TlsContext tlsContext) {
         LOGGER.info("Changed read epoch");
@@ -22,6 +22,15 @@ public class ChangeReadSequenceNumberAction extends ChangeSequenceNumberAction {
         super(sequenceNumber);
     }
 
+    public ChangeReadSequenceNumberAction(ChangeReadSequenceNumberAction other) {
+        super(other);
+    }
+
+    @Override
+    public ChangeReadSequenceNumberAction createCopy() {
+        return new ChangeReadSequenceNumberAction(this);
+    }
+
     @Override
     protected void changeSequenceNumber(TlsContext tlsContext) {
         LOGGER.info("Changed read sequence number of current cipher");
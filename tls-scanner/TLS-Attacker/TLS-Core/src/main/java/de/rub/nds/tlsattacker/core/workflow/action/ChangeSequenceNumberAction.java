@@ -28,6 +28,14 @@ public abstract class ChangeSequenceNumberAction extends ConnectionBoundAction {
         this.sequenceNumber = sequenceNumber;
     }
 
+    protected ChangeSequenceNumberAction(ChangeSequenceNumberAction other) {
+        super(other);
+        sequenceNumber = other.sequenceNumber;
+    }
+
+    @Override
+    public abstract ChangeSequenceNumberAction createCopy();
+
     protected abstract void changeSequenceNumber(TlsContext tlsContext);
 
     @Override
@@ -14,6 +14,7 @@ import de.rub.nds.modifiablevariable.util.UnformattedByteArrayAdapter;
 import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Arrays;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -38,6 +39,17 @@ public class ChangeServerRandomAction extends ConnectionBoundAction {
     public ChangeServerRandomAction() {
     }
 
+    public ChangeServerRandomAction(ChangeServerRandomAction other) {
+        super(other);
+        newValue = CopyUtils.copy(other.newValue);
+        oldValue = CopyUtils.copy(other.oldValue);
+    }
+
+    @Override
+    public ChangeServerRandomAction createCopy() {
+        return new ChangeServerRandomAction(this);
+    }
+
     public void setNewValue(byte[] newValue) {
         this.newValue = newValue;
     }
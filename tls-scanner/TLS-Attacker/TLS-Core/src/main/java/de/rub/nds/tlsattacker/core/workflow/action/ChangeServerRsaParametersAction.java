@@ -34,6 +34,18 @@ public class ChangeServerRsaParametersAction extends ConnectionBoundAction {
     public ChangeServerRsaParametersAction() {
     }
 
+    public ChangeServerRsaParametersAction(ChangeServerRsaParametersAction other) {
+        super(other);
+        modulus = other.modulus;
+        publicExponent = other.publicExponent;
+        privateExponent = other.privateExponent;
+    }
+
+    @Override
+    public ChangeServerRsaParametersAction createCopy() {
+        return new ChangeServerRsaParametersAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         if (isExecuted()) {
@@ -22,6 +22,15 @@ public class ChangeWriteEpochAction extends ChangeEpochAction {
         super(epoch);
     }
 
+    public ChangeWriteEpochAction(ChangeWriteEpochAction other) {
+        super(other);
+    }
+
+    @Override
+    public ChangeWriteEpochAction createCopy() {
+        return new ChangeWriteEpochAction(this);
+    }
+
     @Override
     protected void changeEpoch(TlsContext tlsContext) {
         LOGGER.info("Changed write epoch");
@@ -22,6 +22,15 @@ public class ChangeWriteSequenceNumberAction extends ChangeSequenceNumberAction
         super(sequenceNumber);
     }
 
+    public ChangeWriteSequenceNumberAction(ChangeWriteSequenceNumberAction other) {
+        super(other);
+    }
+
+    @Override
+    public ChangeWriteSequenceNumberAction createCopy() {
+        return new ChangeWriteSequenceNumberAction(this);
+    }
+
     @Override
     protected void changeSequenceNumber(TlsContext tlsContext) {
         LOGGER.info("Changed write sequence number of current cipher");
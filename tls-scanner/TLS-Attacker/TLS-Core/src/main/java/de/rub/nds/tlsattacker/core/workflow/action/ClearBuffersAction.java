@@ -25,6 +25,15 @@ public class ClearBuffersAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public ClearBuffersAction(ClearBuffersAction other) {
+        super(other);
+    }
+
+    @Override
+    public ClearBuffersAction createCopy() {
+        return new ClearBuffersAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -25,6 +25,15 @@ public class ClearDigestAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public ClearDigestAction(ClearDigestAction other) {
+        super(other);
+    }
+
+    @Override
+    public ClearDigestAction createCopy() {
+        return new ClearDigestAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         LOGGER.debug("Resetting digest...");
@@ -38,6 +38,15 @@ public abstract class ConnectionBoundAction extends TlsAction {
         this.connectionAlias = alias;
     }
 
+    protected ConnectionBoundAction(ConnectionBoundAction other) {
+        super(other);
+        connectionAlias = other.connectionAlias;
+        aliases.addAll(other.aliases);
+    }
+
+    @Override
+    public abstract ConnectionBoundAction createCopy();
+
     public String getConnectionAlias() {
         return connectionAlias;
     }
@@ -22,6 +22,15 @@ public class CopyBufferedMessagesAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public CopyBufferedMessagesAction(CopyBufferedMessagesAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyBufferedMessagesAction createCopy() {
+        return new CopyBufferedMessagesAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setMessageBuffer(src.getMessageBuffer());
@@ -23,6 +23,15 @@ public class CopyBufferedRecordsAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public CopyBufferedRecordsAction(CopyBufferedRecordsAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyBufferedRecordsAction createCopy() {
+        return new CopyBufferedRecordsAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setRecordBuffer(src.getRecordBuffer());
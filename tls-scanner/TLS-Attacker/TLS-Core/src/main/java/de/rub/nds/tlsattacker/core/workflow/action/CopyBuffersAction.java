@@ -23,6 +23,15 @@ public class CopyBuffersAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public CopyBuffersAction(CopyBuffersAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyBuffersAction createCopy() {
+        return new CopyBuffersAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setRecordBuffer(src.getRecordBuffer());
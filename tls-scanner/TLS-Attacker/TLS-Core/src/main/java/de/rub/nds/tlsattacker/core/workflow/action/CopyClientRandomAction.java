@@ -31,6 +31,15 @@ public class CopyClientRandomAction extends CopyContextFieldAction {
         super(srcContextAlias, dstConnectionAlias);
     }
 
+    public CopyClientRandomAction(CopyClientRandomAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyClientRandomAction createCopy() {
+        return new CopyClientRandomAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setClientRandom(src.getClientRandom());
@@ -38,6 +38,15 @@ public abstract class CopyContextFieldAction extends TlsAction {
         this.dstConnectionAlias = dstConnectionAlias;
     }
 
+    protected CopyContextFieldAction(CopyContextFieldAction other) {
+        super(other);
+        srcConnectionAlias = other.srcConnectionAlias;
+        dstConnectionAlias = other.dstConnectionAlias;
+    }
+
+    @Override
+    public abstract CopyContextFieldAction createCopy();
+
     /**
      * Invoked on action execution to perform the actual copy operation.
      * 
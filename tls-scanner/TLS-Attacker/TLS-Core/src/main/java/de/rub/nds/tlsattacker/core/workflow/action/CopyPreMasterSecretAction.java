@@ -31,6 +31,15 @@ public class CopyPreMasterSecretAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public CopyPreMasterSecretAction(CopyPreMasterSecretAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyPreMasterSecretAction createCopy() {
+        return new CopyPreMasterSecretAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setPreMasterSecret(src.getPreMasterSecret());
@@ -30,6 +30,15 @@ public class CopyServerRandomAction extends CopyContextFieldAction {
         super(srcContextAlias, dstConnectionAlias);
     }
 
+    public CopyServerRandomAction(CopyServerRandomAction other) {
+        super(other);
+    }
+
+    @Override
+    public CopyServerRandomAction createCopy() {
+        return new CopyServerRandomAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         dst.setServerRandom(src.getServerRandom());
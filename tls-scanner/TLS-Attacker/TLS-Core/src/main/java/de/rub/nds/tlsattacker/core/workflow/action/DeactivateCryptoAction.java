@@ -21,6 +21,13 @@ public abstract class DeactivateCryptoAction extends ConnectionBoundAction {
     public DeactivateCryptoAction() {
     }
 
+    protected DeactivateCryptoAction(DeactivateCryptoAction other) {
+        super(other);
+    }
+
+    @Override
+    public abstract DeactivateCryptoAction createCopy();
+
     protected abstract void deactivateCrypto(TlsContext tlsContext);
 
     @Override
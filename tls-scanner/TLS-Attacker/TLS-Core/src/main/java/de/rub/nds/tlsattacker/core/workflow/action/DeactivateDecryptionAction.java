@@ -17,6 +17,18 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement
 public class DeactivateDecryptionAction extends DeactivateCryptoAction {
 
+    public DeactivateDecryptionAction() {
+    }
+
+    public DeactivateDecryptionAction(DeactivateDecryptionAction other) {
+        super(other);
+    }
+
+    @Override
+    public DeactivateDecryptionAction createCopy() {
+        return new DeactivateDecryptionAction(this);
+    }
+
     @Override
     protected void deactivateCrypto(TlsContext tlsContext) {
         LOGGER.info("Disabling decryption");
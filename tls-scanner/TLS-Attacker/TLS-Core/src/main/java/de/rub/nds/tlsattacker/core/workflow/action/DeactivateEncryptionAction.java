@@ -16,6 +16,18 @@ import javax.xml.bind.annotation.XmlRootElement;
 @XmlRootElement
 public class DeactivateEncryptionAction extends DeactivateCryptoAction {
 
+    public DeactivateEncryptionAction() {
+    }
+
+    public DeactivateEncryptionAction(DeactivateEncryptionAction other) {
+        super(other);
+    }
+
+    @Override
+    public DeactivateEncryptionAction createCopy() {
+        return new DeactivateEncryptionAction(this);
+    }
+
     @Override
     protected void deactivateCrypto(TlsContext tlsContext) {
         LOGGER.info("Disabling encryption");
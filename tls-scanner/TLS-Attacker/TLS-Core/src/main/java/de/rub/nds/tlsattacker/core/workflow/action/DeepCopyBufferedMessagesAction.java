@@ -9,15 +9,8 @@
 
 package de.rub.nds.tlsattacker.core.workflow.action;
 
-import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.protocol.ProtocolMessage;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
-import de.rub.nds.tlsattacker.core.workflow.action.executor.ActionOption;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.LinkedList;
 import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.logging.log4j.LogManager;
@@ -35,6 +28,15 @@ public class DeepCopyBufferedMessagesAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public DeepCopyBufferedMessagesAction(DeepCopyBufferedMessagesAction other) {
+        super(other);
+    }
+
+    @Override
+    public DeepCopyBufferedMessagesAction createCopy() {
+        return new DeepCopyBufferedMessagesAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         deepCopyMessages(src, dst);
@@ -52,27 +54,10 @@ public class DeepCopyBufferedMessagesAction extends CopyContextFieldAction {
 
     private void deepCopyMessages(TlsContext src, TlsContext dst) {
         LinkedList<ProtocolMessage> messageBuffer = new LinkedList<>();
-        ObjectOutputStream outStream;
-        ObjectInputStream inStream;
-        try {
-            for (ProtocolMessage message : src.getMessageBuffer()) {
-
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                outStream = new ObjectOutputStream(stream);
-                outStream.writeObject(message);
-                outStream.close();
-                inStream = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()));
-                ProtocolMessage messageCopy = (ProtocolMessage) inStream.readObject();
-
-                messageBuffer.add(messageCopy);
-                setExecuted(true);
-            }
-        } catch (IOException | ClassNotFoundException ex) {
-            setExecuted(getActionOptions().contains(ActionOption.MAY_FAIL));
-            LOGGER.error("Error while creating deep copy of messageBuffer");
-            throw new WorkflowExecutionException(ex.toString());
+        for (ProtocolMessage message : src.getMessageBuffer()) {
+            messageBuffer.add(message.createCopy());
+            setExecuted(true);
         }
-
         dst.setMessageBuffer(messageBuffer);
     }
 }
@@ -9,15 +9,8 @@
 
 package de.rub.nds.tlsattacker.core.workflow.action;
 
-import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.record.AbstractRecord;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
-import de.rub.nds.tlsattacker.core.workflow.action.executor.ActionOption;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.LinkedList;
 import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.logging.log4j.LogManager;
@@ -36,6 +29,15 @@ public class DeepCopyBufferedRecordsAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public DeepCopyBufferedRecordsAction(DeepCopyBufferedRecordsAction other) {
+        super(other);
+    }
+
+    @Override
+    public DeepCopyBufferedRecordsAction createCopy() {
+        return new DeepCopyBufferedRecordsAction(this);
+    }
+
     @Override
     protected void copyField(TlsContext src, TlsContext dst) {
         deepCopyRecords(src, dst);
@@ -53,27 +55,10 @@ public class DeepCopyBufferedRecordsAction extends CopyContextFieldAction {
 
     private void deepCopyRecords(TlsContext src, TlsContext dst) {
         LinkedList<AbstractRecord> recordBuffer = new LinkedList<>();
-        ObjectOutputStream outStream;
-        ObjectInputStream inStream;
-        try {
-            for (AbstractRecord record : src.getRecordBuffer()) {
-
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                outStream = new ObjectOutputStream(stream);
-                outStream.writeObject(record);
-                outStream.close();
-                inStream = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()));
-                AbstractRecord recordCopy = (AbstractRecord) inStream.readObject();
-
-                recordBuffer.add(recordCopy);
-                setExecuted(true);
-            }
-        } catch (IOException | ClassNotFoundException ex) {
-            setExecuted(getActionOptions().contains(ActionOption.MAY_FAIL));
-            LOGGER.error("Error while creating deep copy of recordBuffer");
-            throw new WorkflowExecutionException(ex.toString());
+        for (AbstractRecord record : src.getRecordBuffer()) {
+            recordBuffer.add(record.createCopy());
+            setExecuted(true);
         }
-
         dst.setRecordBuffer(recordBuffer);
     }
 }
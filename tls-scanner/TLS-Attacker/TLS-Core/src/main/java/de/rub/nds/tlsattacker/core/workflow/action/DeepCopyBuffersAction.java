@@ -26,6 +26,15 @@ public class DeepCopyBuffersAction extends CopyContextFieldAction {
         super(srcConnectionAlias, dstConnectionAlias);
     }
 
+    public DeepCopyBuffersAction(DeepCopyBuffersAction other) {
+        super(other);
+    }
+
+    @Override
+    public DeepCopyBuffersAction createCopy() {
+        return new DeepCopyBuffersAction(this);
+    }
+
     @Override
     public void execute(State state) {
         this.state = state;
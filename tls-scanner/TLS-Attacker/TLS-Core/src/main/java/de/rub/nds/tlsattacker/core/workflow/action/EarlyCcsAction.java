@@ -50,6 +50,17 @@ public class EarlyCcsAction extends TlsAction {
         this.targetOpenssl100 = targetsOpenssl100;
     }
 
+    public EarlyCcsAction(EarlyCcsAction other) {
+        super(other);
+        targetOpenssl100 = other.targetOpenssl100;
+        executedAsPlanned = other.executedAsPlanned;
+    }
+
+    @Override
+    public EarlyCcsAction createCopy() {
+        return new EarlyCcsAction(this);
+    }
+
     /**
      * Sends a ClientKeyExchange message depending on the currently selected cipher suite. Depending on the target
      * version cryptographic material is adjusted.
@@ -17,6 +17,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
 import de.rub.nds.tlsattacker.core.protocol.parser.extension.EsniKeyRecordParser;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
@@ -36,6 +37,19 @@ public class EsniKeyDnsRequestAction extends TlsAction {
 
     private List<ExtensionMessage> extensions;
 
+    public EsniKeyDnsRequestAction() {
+    }
+
+    public EsniKeyDnsRequestAction(EsniKeyDnsRequestAction other) {
+        super(other);
+        extensions = CopyUtils.copyList(other.extensions, ExtensionMessage::createCopy);
+    }
+
+    @Override
+    public EsniKeyDnsRequestAction createCopy() {
+        return new EsniKeyDnsRequestAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext;
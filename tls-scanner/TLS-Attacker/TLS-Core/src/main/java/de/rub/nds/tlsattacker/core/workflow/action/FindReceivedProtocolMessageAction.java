@@ -45,6 +45,17 @@ public class FindReceivedProtocolMessageAction extends ConnectionBoundAction {
         this.protocolMessageType = protocolMessageType;
     }
 
+    public FindReceivedProtocolMessageAction(FindReceivedProtocolMessageAction other) {
+        super(other);
+        protocolMessageType = other.protocolMessageType;
+        found = other.found;
+    }
+
+    @Override
+    public FindReceivedProtocolMessageAction createCopy() {
+        return new FindReceivedProtocolMessageAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(getConnectionAlias());
@@ -27,6 +27,15 @@ public class FlushSessionCacheAction extends TlsAction {
     public FlushSessionCacheAction() {
     }
 
+    public FlushSessionCacheAction(FlushSessionCacheAction other) {
+        super(other);
+    }
+
+    @Override
+    public FlushSessionCacheAction createCopy() {
+        return new FlushSessionCacheAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         LOGGER.info("Reset Connection Cache");
@@ -24,6 +24,7 @@ import de.rub.nds.tlsattacker.core.record.BlobRecord;
 import de.rub.nds.tlsattacker.core.record.Record;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.MessageActionResult;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ReceiveMessageHelper;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.SendMessageHelper;
@@ -148,6 +149,30 @@ public class ForwardMessagesAction extends TlsAction implements ReceivingAction,
         this(receiveFromAlias, forwardToAlias, new ArrayList<>(Arrays.asList(messages)));
     }
 
+    public ForwardMessagesAction(ForwardMessagesAction other) {
+        super(other);
+        receiveFromAlias = other.receiveFromAlias;
+        forwardToAlias = other.forwardToAlias;
+        executedAsPlanned = other.executedAsPlanned;
+        withPrepare = other.withPrepare;
+        receivedMessages = CopyUtils.copyList(other.receivedMessages, ProtocolMessage::createCopy);
+        receivedRecords = CopyUtils.copyList(other.receivedRecords, AbstractRecord::createCopy);
+        receivedFragments = CopyUtils.copyList(other.receivedFragments, DtlsHandshakeMessageFragment::createCopy);
+        messages = CopyUtils.copyList(other.messages, ProtocolMessage::createCopy);
+        records = CopyUtils.copyList(other.records, AbstractRecord::createCopy);
+        fragments = CopyUtils.copyList(other.fragments, DtlsHandshakeMessageFragment::createCopy);
+        sendMessages = CopyUtils.copyList(other.sendMessages, ProtocolMessage::createCopy);
+        sendRecords = CopyUtils.copyList(other.sendRecords, AbstractRecord::createCopy);
+        sendFragments = CopyUtils.copyList(other.sendFragments, DtlsHandshakeMessageFragment::createCopy);
+        receiveMessageHelper = new ReceiveMessageHelper();
+        sendMessageHelper = new SendMessageHelper();
+    }
+
+    @Override
+    public ForwardMessagesAction createCopy() {
+        return new ForwardMessagesAction(this);
+    }
+
     public void setReceiveFromAlias(String receiveFromAlias) {
         this.receiveFromAlias = receiveFromAlias;
     }
@@ -52,4 +52,13 @@ public class ForwardMessagesWithPrepareAction extends ForwardMessagesAction {
         withPrepare = true;
     }
 
+    public ForwardMessagesWithPrepareAction(ForwardMessagesWithPrepareAction other) {
+        super(other);
+    }
+
+    @Override
+    public ForwardMessagesWithPrepareAction createCopy() {
+        return new ForwardMessagesWithPrepareAction(this);
+    }
+
 }
@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.record.BlobRecord;
 import de.rub.nds.tlsattacker.core.record.Record;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ReceiveMessageHelper;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.SendMessageHelper;
 import java.io.IOException;
@@ -85,6 +86,22 @@ public class ForwardRecordsAction extends TlsAction implements ReceivingAction,
         sendMessageHelper = new SendMessageHelper();
     }
 
+    public ForwardRecordsAction(ForwardRecordsAction other) {
+        super(other);
+        receiveFromAlias = other.receiveFromAlias;
+        forwardToAlias = other.forwardToAlias;
+        executedAsPlanned = other.executedAsPlanned;
+        receivedRecords = CopyUtils.copyList(other.receivedRecords, AbstractRecord::createCopy);
+        sendRecords = CopyUtils.copyList(other.sendRecords, AbstractRecord::createCopy);
+        receiveMessageHelper = new ReceiveMessageHelper();
+        sendMessageHelper = new SendMessageHelper();
+    }
+
+    @Override
+    public ForwardRecordsAction createCopy() {
+        return new ForwardRecordsAction(this);
+    }
+
     public void setReceiveFromAlias(String receiveFromAlias) {
         this.receiveFromAlias = receiveFromAlias;
     }
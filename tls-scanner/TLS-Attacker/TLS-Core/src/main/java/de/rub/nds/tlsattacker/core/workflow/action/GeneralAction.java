@@ -43,6 +43,16 @@ public class GeneralAction extends TlsAction {
         this.aliases.addAll(Arrays.asList(aliases));
     }
 
+    public GeneralAction(GeneralAction other) {
+        super(other);
+        aliases.addAll(other.aliases);
+    }
+
+    @Override
+    public GeneralAction createCopy() {
+        return new GeneralAction(this);
+    }
+
     @Override
     public Set<String> getAllAliases() {
         return aliases;
@@ -36,6 +36,15 @@ public class GenericReceiveAction extends MessageAction implements ReceivingActi
         super(connectionAlias);
     }
 
+    public GenericReceiveAction(GenericReceiveAction other) {
+        super(other);
+    }
+
+    @Override
+    public GenericReceiveAction createCopy() {
+        return new GenericReceiveAction(this);
+    }
+
     @Override
     public void execute(State state) {
         if (isExecuted()) {
@@ -29,6 +29,15 @@ public class GenericReceiveAsciiAction extends AsciiAction {
         super(encoding);
     }
 
+    public GenericReceiveAsciiAction(GenericReceiveAsciiAction other) {
+        super(other);
+    }
+
+    @Override
+    public GenericReceiveAsciiAction createCopy() {
+        return new GenericReceiveAsciiAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext();
@@ -26,6 +26,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.*;
 import de.rub.nds.tlsattacker.core.record.AbstractRecord;
 import de.rub.nds.tlsattacker.core.record.BlobRecord;
 import de.rub.nds.tlsattacker.core.record.Record;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ReceiveMessageHelper;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.SendMessageHelper;
 import javax.xml.bind.annotation.XmlElementRef;
@@ -93,6 +94,18 @@ public abstract class MessageAction extends ConnectionBoundAction {
         this(connectionAlias, new ArrayList<>(Arrays.asList(messages)));
     }
 
+    protected MessageAction(MessageAction other) {
+        super(other);
+        messages = CopyUtils.copyList(other.messages, ProtocolMessage::createCopy);
+        records = CopyUtils.copyList(other.records, AbstractRecord::createCopy);
+        fragments = CopyUtils.copyList(other.fragments, DtlsHandshakeMessageFragment::createCopy);
+        receiveMessageHelper = new ReceiveMessageHelper();
+        sendMessageHelper = new SendMessageHelper();
+    }
+
+    @Override
+    public abstract MessageAction createCopy();
+
     public void setReceiveMessageHelper(ReceiveMessageHelper receiveMessageHelper) {
         this.receiveMessageHelper = receiveMessageHelper;
     }
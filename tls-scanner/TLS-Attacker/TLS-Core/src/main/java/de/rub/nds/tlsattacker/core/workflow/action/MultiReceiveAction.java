@@ -12,6 +12,7 @@ package de.rub.nds.tlsattacker.core.workflow.action;
 import de.rub.nds.tlsattacker.core.protocol.message.AlertMessage;
 import de.rub.nds.tlsattacker.core.protocol.ProtocolMessage;
 import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ActionOption;
 import java.util.Arrays;
 import java.util.List;
@@ -41,6 +42,28 @@ public class MultiReceiveAction extends GenericReceiveAction {
         super.records = null;
     }
 
+    public MultiReceiveAction(MultiReceiveAction other) {
+        super(other);
+        expectedActionCandidates = CopyUtils.copyList(other.expectedActionCandidates, ReceiveAction::createCopy);
+        // the selected action is usually one of the candidates, the copy has to select the copied candidate
+        int selectedIndex = -1;
+        for (int i = 0; other.expectedActionCandidates != null && i < other.expectedActionCandidates.size(); i++) {
+            if (other.expectedActionCandidates.get(i) == other.selectedAction) {
+                selectedIndex = i;
+            }
+        }
+        if (selectedIndex >= 0) {
+            selectedAction = expectedActionCandidates.get(selectedIndex);
+        } else {
+            selectedAction = other.selectedAction == null ? null : other.selectedAction.createCopy();
+        }
+    }
+
+    @Override
+    public MultiReceiveAction createCopy() {
+        return new MultiReceiveAction(this);
+    }
+
     @Override
     public boolean executedAsPlanned() {
         return selectedAction.executedAsPlanned();
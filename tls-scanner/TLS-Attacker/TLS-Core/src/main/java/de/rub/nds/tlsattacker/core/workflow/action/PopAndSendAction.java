@@ -48,6 +48,16 @@ public class PopAndSendAction extends MessageAction implements SendingAction {
         this.index = index;
     }
 
+    public PopAndSendAction(PopAndSendAction other) {
+        super(other);
+        index = other.index;
+    }
+
+    @Override
+    public PopAndSendAction createCopy() {
+        return new PopAndSendAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -38,6 +38,15 @@ public class PopAndSendMessageAction extends MessageAction implements SendingAct
         super(connectionAlias);
     }
 
+    public PopAndSendMessageAction(PopAndSendMessageAction other) {
+        super(other);
+    }
+
+    @Override
+    public PopAndSendMessageAction createCopy() {
+        return new PopAndSendMessageAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
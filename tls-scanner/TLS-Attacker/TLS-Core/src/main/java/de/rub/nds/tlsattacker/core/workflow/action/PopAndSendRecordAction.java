@@ -38,6 +38,16 @@ public class PopAndSendRecordAction extends MessageAction implements SendingActi
         super(connectionAlias);
     }
 
+    public PopAndSendRecordAction(PopAndSendRecordAction other) {
+        super(other);
+        asPlanned = other.asPlanned;
+    }
+
+    @Override
+    public PopAndSendRecordAction createCopy() {
+        return new PopAndSendRecordAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
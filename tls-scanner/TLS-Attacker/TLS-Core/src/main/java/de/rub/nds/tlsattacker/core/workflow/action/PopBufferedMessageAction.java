@@ -25,6 +25,15 @@ public class PopBufferedMessageAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public PopBufferedMessageAction(PopBufferedMessageAction other) {
+        super(other);
+    }
+
+    @Override
+    public PopBufferedMessageAction createCopy() {
+        return new PopBufferedMessageAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(getConnectionAlias());
@@ -24,6 +24,15 @@ public class PopBufferedRecordAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public PopBufferedRecordAction(PopBufferedRecordAction other) {
+        super(other);
+    }
+
+    @Override
+    public PopBufferedRecordAction createCopy() {
+        return new PopBufferedRecordAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
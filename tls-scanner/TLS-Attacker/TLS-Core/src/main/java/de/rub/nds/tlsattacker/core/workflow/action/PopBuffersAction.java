@@ -25,6 +25,15 @@ public class PopBuffersAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public PopBuffersAction(PopBuffersAction other) {
+        super(other);
+    }
+
+    @Override
+    public PopBuffersAction createCopy() {
+        return new PopBuffersAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(getConnectionAlias());
@@ -49,6 +49,17 @@ public class PrintLastHandledApplicationDataAction extends ConnectionBoundAction
         super(connectionAlias);
     }
 
+    public PrintLastHandledApplicationDataAction(PrintLastHandledApplicationDataAction other) {
+        super(other);
+        lastHandledApplicationData = other.lastHandledApplicationData;
+        stringEncoding = other.stringEncoding;
+    }
+
+    @Override
+    public PrintLastHandledApplicationDataAction createCopy() {
+        return new PrintLastHandledApplicationDataAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         byte[] rawBytes = state.getTlsContext(getConnectionAlias()).getLastHandledApplicationMessageData();
@@ -33,6 +33,15 @@ public class PrintProposedExtensionsAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public PrintProposedExtensionsAction(PrintProposedExtensionsAction other) {
+        super(other);
+    }
+
+    @Override
+    public PrintProposedExtensionsAction createCopy() {
+        return new PrintProposedExtensionsAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
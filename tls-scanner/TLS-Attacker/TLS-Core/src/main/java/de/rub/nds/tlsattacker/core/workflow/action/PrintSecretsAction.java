@@ -31,6 +31,15 @@ public class PrintSecretsAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public PrintSecretsAction(PrintSecretsAction other) {
+        super(other);
+    }
+
+    @Override
+    public PrintSecretsAction createCopy() {
+        return new PrintSecretsAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
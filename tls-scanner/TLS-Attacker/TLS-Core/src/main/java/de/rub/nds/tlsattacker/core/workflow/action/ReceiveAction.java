@@ -21,6 +21,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.*;
 import de.rub.nds.tlsattacker.core.record.AbstractRecord;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.ActionOption;
 import de.rub.nds.tlsattacker.core.workflow.action.executor.MessageActionResult;
 import java.util.ArrayList;
@@ -94,6 +95,16 @@ public class ReceiveAction extends MessageAction implements ReceivingAction {
         this(connectionAliasAlias, new ArrayList<>(Arrays.asList(messages)));
     }
 
+    public ReceiveAction(ReceiveAction other) {
+        super(other);
+        expectedMessages = CopyUtils.copyList(other.expectedMessages, ProtocolMessage::createCopy);
+    }
+
+    @Override
+    public ReceiveAction createCopy() {
+        return new ReceiveAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(getConnectionAlias());
@@ -38,6 +38,16 @@ public class ReceiveAsciiAction extends AsciiAction {
         receivedAsciiString = null;
     }
 
+    public ReceiveAsciiAction(ReceiveAsciiAction other) {
+        super(other);
+        receivedAsciiString = other.receivedAsciiString;
+    }
+
+    @Override
+    public ReceiveAsciiAction createCopy() {
+        return new ReceiveAsciiAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext();
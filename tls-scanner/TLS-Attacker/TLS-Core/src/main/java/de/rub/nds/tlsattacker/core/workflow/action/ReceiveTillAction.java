@@ -54,6 +54,16 @@ public class ReceiveTillAction extends MessageAction implements ReceivingAction
         this.waitTillMessage = waitTillMessage;
     }
 
+    public ReceiveTillAction(ReceiveTillAction other) {
+        super(other);
+        waitTillMessage = other.waitTillMessage == null ? null : other.waitTillMessage.createCopy();
+    }
+
+    @Override
+    public ReceiveTillAction createCopy() {
+        return new ReceiveTillAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(getConnectionAlias());
@@ -15,6 +15,7 @@ import de.rub.nds.tlsattacker.core.exceptions.WorkflowExecutionException;
 import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -75,6 +76,16 @@ public class RemBufferedChCiphersAction extends ConnectionBoundAction {
         this.removeCiphers = new ArrayList<>(Arrays.asList(removeCiphers));
     }
 
+    public RemBufferedChCiphersAction(RemBufferedChCiphersAction other) {
+        super(other);
+        removeCiphers = CopyUtils.copyList(other.removeCiphers);
+    }
+
+    @Override
+    public RemBufferedChCiphersAction createCopy() {
+        return new RemBufferedChCiphersAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
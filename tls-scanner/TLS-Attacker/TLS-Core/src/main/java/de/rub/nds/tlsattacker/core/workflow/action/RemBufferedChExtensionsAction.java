@@ -16,6 +16,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -75,6 +76,16 @@ public class RemBufferedChExtensionsAction extends ConnectionBoundAction {
         this.removeExtensions = new ArrayList<>(Arrays.asList(removeExtensions));
     }
 
+    public RemBufferedChExtensionsAction(RemBufferedChExtensionsAction other) {
+        super(other);
+        removeExtensions = CopyUtils.copyList(other.removeExtensions);
+    }
+
+    @Override
+    public RemBufferedChExtensionsAction createCopy() {
+        return new RemBufferedChExtensionsAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext ctx = state.getTlsContext(connectionAlias);
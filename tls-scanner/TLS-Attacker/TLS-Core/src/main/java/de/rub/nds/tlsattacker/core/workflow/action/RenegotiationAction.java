@@ -31,6 +31,16 @@ public class RenegotiationAction extends ConnectionBoundAction {
         this.resetLastVerifyData = resetLastVerifyData;
     }
 
+    public RenegotiationAction(RenegotiationAction other) {
+        super(other);
+        resetLastVerifyData = other.resetLastVerifyData;
+    }
+
+    @Override
+    public RenegotiationAction createCopy() {
+        return new RenegotiationAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(getConnectionAlias());
@@ -41,6 +41,17 @@ public class ResetConnectionAction extends ConnectionBoundAction {
         super(connectionAlias);
     }
 
+    public ResetConnectionAction(ResetConnectionAction other) {
+        super(other);
+        asPlanned = other.asPlanned;
+        resetContext = other.resetContext;
+    }
+
+    @Override
+    public ResetConnectionAction createCopy() {
+        return new ResetConnectionAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
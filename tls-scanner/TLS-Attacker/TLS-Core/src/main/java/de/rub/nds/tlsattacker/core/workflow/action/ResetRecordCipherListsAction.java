@@ -34,6 +34,17 @@ public class ResetRecordCipherListsAction extends ConnectionBoundAction {
         this.toRemoveEncryptor = 1;
     }
 
+    public ResetRecordCipherListsAction(ResetRecordCipherListsAction other) {
+        super(other);
+        toRemoveEncryptor = other.toRemoveEncryptor;
+        toRemoveDecryptor = other.toRemoveDecryptor;
+    }
+
+    @Override
+    public ResetRecordCipherListsAction createCopy() {
+        return new ResetRecordCipherListsAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext context = state.getTlsContext(getConnectionAlias());
@@ -80,6 +80,15 @@ public class SendAction extends MessageAction implements SendingAction {
         super(connectionAlias, new ArrayList<>(Arrays.asList(messages)));
     }
 
+    public SendAction(SendAction other) {
+        super(other);
+    }
+
+    @Override
+    public SendAction createCopy() {
+        return new SendAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
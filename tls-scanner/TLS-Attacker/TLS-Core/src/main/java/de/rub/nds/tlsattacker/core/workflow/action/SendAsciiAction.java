@@ -34,6 +34,15 @@ public class SendAsciiAction extends AsciiAction {
         super(encoding);
     }
 
+    public SendAsciiAction(SendAsciiAction other) {
+        super(other);
+    }
+
+    @Override
+    public SendAsciiAction createCopy() {
+        return new SendAsciiAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext();
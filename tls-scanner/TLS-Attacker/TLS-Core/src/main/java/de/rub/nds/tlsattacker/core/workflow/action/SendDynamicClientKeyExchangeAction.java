@@ -47,6 +47,15 @@ public class SendDynamicClientKeyExchangeAction extends MessageAction implements
         super(connectionAlias);
     }
 
+    public SendDynamicClientKeyExchangeAction(SendDynamicClientKeyExchangeAction other) {
+        super(other);
+    }
+
+    @Override
+    public SendDynamicClientKeyExchangeAction createCopy() {
+        return new SendDynamicClientKeyExchangeAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -46,6 +46,15 @@ public class SendDynamicServerCertificateAction extends MessageAction implements
         super(connectionAlias);
     }
 
+    public SendDynamicServerCertificateAction(SendDynamicServerCertificateAction other) {
+        super(other);
+    }
+
+    @Override
+    public SendDynamicServerCertificateAction createCopy() {
+        return new SendDynamicServerCertificateAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -49,6 +49,15 @@ public class SendDynamicServerKeyExchangeAction extends MessageAction implements
         super(connectionAlias);
     }
 
+    public SendDynamicServerKeyExchangeAction(SendDynamicServerKeyExchangeAction other) {
+        super(other);
+    }
+
+    @Override
+    public SendDynamicServerKeyExchangeAction createCopy() {
+        return new SendDynamicServerKeyExchangeAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
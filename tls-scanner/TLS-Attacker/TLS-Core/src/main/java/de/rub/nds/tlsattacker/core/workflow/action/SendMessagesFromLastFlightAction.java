@@ -59,6 +59,16 @@ public class SendMessagesFromLastFlightAction extends MessageAction implements S
         this.depth = depth;
     }
 
+    public SendMessagesFromLastFlightAction(SendMessagesFromLastFlightAction other) {
+        super(other);
+        depth = other.depth;
+    }
+
+    @Override
+    public SendMessagesFromLastFlightAction createCopy() {
+        return new SendMessagesFromLastFlightAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
@@ -57,6 +57,17 @@ public class SendRaccoonCkeAction extends MessageAction implements SendingAction
         super(connectionAlias);
     }
 
+    public SendRaccoonCkeAction(SendRaccoonCkeAction other) {
+        super(other);
+        withNullByte = other.withNullByte;
+        initialSecret = other.initialSecret;
+    }
+
+    @Override
+    public SendRaccoonCkeAction createCopy() {
+        return new SendRaccoonCkeAction(this);
+    }
+
     public BigInteger getInitialSecret() {
         return initialSecret;
     }
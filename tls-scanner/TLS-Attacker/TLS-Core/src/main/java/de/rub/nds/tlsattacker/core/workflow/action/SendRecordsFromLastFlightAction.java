@@ -49,6 +49,16 @@ public class SendRecordsFromLastFlightAction extends MessageAction implements Se
         this.depth = depth;
     }
 
+    public SendRecordsFromLastFlightAction(SendRecordsFromLastFlightAction other) {
+        super(other);
+        depth = other.depth;
+    }
+
+    @Override
+    public SendRecordsFromLastFlightAction createCopy() {
+        return new SendRecordsFromLastFlightAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         TlsContext tlsContext = state.getTlsContext(connectionAlias);
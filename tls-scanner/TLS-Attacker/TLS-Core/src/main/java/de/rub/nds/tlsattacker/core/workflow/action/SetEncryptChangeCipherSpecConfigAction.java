@@ -26,6 +26,16 @@ public class SetEncryptChangeCipherSpecConfigAction extends ConnectionBoundActio
         this.setting = setting;
     }
 
+    public SetEncryptChangeCipherSpecConfigAction(SetEncryptChangeCipherSpecConfigAction other) {
+        super(other);
+        setting = other.setting;
+    }
+
+    @Override
+    public SetEncryptChangeCipherSpecConfigAction createCopy() {
+        return new SetEncryptChangeCipherSpecConfigAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         state.getConfig().setEncryptChangeCipherSpec(setting);
@@ -58,6 +58,18 @@ public abstract class TlsAction implements Serializable, Aliasable {
     public TlsAction() {
     }
 
+    protected TlsAction(TlsAction other) {
+        executed = other.executed;
+        actionOptions = other.actionOptions == null ? null : new HashSet<>(other.actionOptions);
+        singleConnectionWorkflow = other.singleConnectionWorkflow;
+        aliases.addAll(other.aliases);
+    }
+
+    /**
+     * @return A deep copy of this action, including the modifications of its messages and records
+     */
+    public abstract TlsAction createCopy();
+
     public boolean isExecuted() {
         if (executed == null) {
             return EXECUTED_DEFAULT;
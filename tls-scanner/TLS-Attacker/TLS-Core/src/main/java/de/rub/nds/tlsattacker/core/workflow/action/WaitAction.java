@@ -41,6 +41,17 @@ public class WaitAction extends TlsAction {
     public WaitAction() {
     }
 
+    public WaitAction(WaitAction other) {
+        super(other);
+        asPlanned = other.asPlanned;
+        time = other.time;
+    }
+
+    @Override
+    public WaitAction createCopy() {
+        return new WaitAction(this);
+    }
+
     @Override
     public void execute(State state) throws WorkflowExecutionException {
         LOGGER.info("Waiting " + time + "ms...");
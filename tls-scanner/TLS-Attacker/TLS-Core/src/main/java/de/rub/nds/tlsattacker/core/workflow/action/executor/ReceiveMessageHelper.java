@@ -15,6 +15,7 @@ import de.rub.nds.tlsattacker.core.constants.HandshakeByteLength;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.constants.Tls13KeySetType;
+import de.rub.nds.tlsattacker.core.crypto.MessageDigestCollector;
 import de.rub.nds.tlsattacker.core.dtls.FragmentManager;
 import de.rub.nds.tlsattacker.core.exceptions.AdjustmentException;
 import de.rub.nds.tlsattacker.core.exceptions.ParserException;
@@ -148,7 +149,6 @@ public class ReceiveMessageHelper {
     public MessageActionResult handleReceivedBytes(byte[] receivedBytes, TlsContext context) {
         MessageActionResult result = new MessageActionResult();
         failedToReceiveMoreRecords = false;
-        byte[] preservedDigest = context.getDigest().getRawBytes();
         if (receivedBytes.length > 0) {
             List<AbstractRecord> tempRecords = parseRecords(receivedBytes, context);
             result = processUngroupedRecords(tempRecords, context);
@@ -167,7 +167,7 @@ public class ReceiveMessageHelper {
             RecordGroup currentGroup = recordGroups.get(groupIndex);
 
             boolean foundValidRecordInGroup = false;
-            byte[] preservedDigest = context.getDigest().getRawBytes();
+            MessageDigestCollector.Snapshot preservedDigest = context.getDigest().createSnapshot();
             CipherState state = context.getRecordLayer().getDecryptor().getRecordMostRecentCipher().getState();
             long preservedReadSQN = state.getReadSequenceNumber();
 
@@ -196,8 +196,9 @@ public class ReceiveMessageHelper {
         return result;
     }
 
-    private void restorePreGroupState(TlsContext context, byte[] preservedDigest, long preservedReadSQN) {
-        context.getDigest().setRawBytes(preservedDigest);
+    private void restorePreGroupState(TlsContext context, MessageDigestCollector.Snapshot preservedDigest,
+        long preservedReadSQN) {
+        context.getDigest().restore(preservedDigest);
         context.getRecordLayer().getDecryptor().getRecordMostRecentCipher().getState()
             .setReadSequenceNumber(preservedReadSQN);
     }
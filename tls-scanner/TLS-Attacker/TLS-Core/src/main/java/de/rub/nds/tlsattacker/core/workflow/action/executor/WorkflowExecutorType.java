@@ -12,5 +12,6 @@ package de.rub.nds.tlsattacker.core.workflow.action.executor;
 public enum WorkflowExecutorType {
     DEFAULT,
     THREADED_SERVER,
-    DTLS
+    DTLS,
+    THREADED_DTLS_SERVER
 }
@@ -34,6 +34,7 @@ public class StateExecutionTask extends TlsTask {
         return true;
     }
 
+    @Override
     public State getState() {
         return state;
     }
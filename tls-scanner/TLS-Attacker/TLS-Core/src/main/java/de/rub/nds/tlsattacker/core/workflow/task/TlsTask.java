@@ -11,6 +11,7 @@ package de.rub.nds.tlsattacker.core.workflow.task;
 
 import de.rub.nds.tlsattacker.core.exceptions.TransportHandlerConnectException;
 import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.ExecutionMetrics;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowExecutor;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowExecutorFactory;
 import java.util.concurrent.Callable;
@@ -40,6 +41,8 @@ public abstract class TlsTask implements ITask, Callable<ITask> {
 
     private Function<State, Integer> afterExecutionCallback = null;
 
+    private ExecutionMetrics executionMetrics = null;
+
     public TlsTask(int reexecutions) {
         this.reexecutions = reexecutions;
         additionalSleepTime = 1000;
@@ -64,7 +67,13 @@ public abstract class TlsTask implements ITask, Callable<ITask> {
                 if (sleepTime > 0) {
                     Thread.sleep(sleepTime);
                 }
-                boolean executionSuccess = execute();
+                boolean executionSuccess;
+                long executionStartTime = System.nanoTime();
+                try {
+                    executionSuccess = execute();
+                } finally {
+                    recordExecution(System.nanoTime() - executionStartTime);
+                }
                 if (executionSuccess) {
                     hasError = false;
                     break;
@@ -105,9 +114,35 @@ public abstract class TlsTask implements ITask, Callable<ITask> {
         if (hasError) {
             LOGGER.warn("Could not execute Workflow.", exception);
         }
+        if (executionMetrics != null) {
+            executionMetrics.recordTask(hasError);
+        }
         return this;
     }
 
+    private void recordExecution(long durationNanos) {
+        if (executionMetrics != null) {
+            executionMetrics.recordExecution(getState(), durationNanos);
+        }
+    }
+
+    /**
+     * Tasks which execute a state should return it, so its traffic is included in the execution metrics
+     *
+     * @return The state of the current execution attempt, or null
+     */
+    public State getState() {
+        return null;
+    }
+
+    public ExecutionMetrics getExecutionMetrics() {
+        return executionMetrics;
+    }
+
+    public void setExecutionMetrics(ExecutionMetrics executionMetrics) {
+        this.executionMetrics = executionMetrics;
+    }
+
     public boolean isHasError() {
         return hasError;
     }
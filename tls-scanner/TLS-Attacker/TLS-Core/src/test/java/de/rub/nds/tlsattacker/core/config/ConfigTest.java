@@ -11,11 +11,13 @@ package de.rub.nds.tlsattacker.core.config;
 
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
 import de.rub.nds.modifiablevariable.util.ArrayConverter;
+import de.rub.nds.tlsattacker.core.connection.AliasedConnection;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
 import de.rub.nds.tlsattacker.core.constants.SignatureAndHashAlgorithm;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.keyshare.KeyShareEntry;
+import de.rub.nds.tlsattacker.core.protocol.message.extension.keyshare.KeyShareStoreEntry;
 import de.rub.nds.tlsattacker.core.record.layer.RecordLayerType;
 import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
 import org.junit.Before;
@@ -24,13 +26,21 @@ import org.junit.Test;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 
 @SuppressWarnings("SpellCheckingInspection")
 public class ConfigTest {
@@ -52,6 +62,45 @@ public class ConfigTest {
         ConfigIO.write(new Config(), new File("src/main/resources/default_config.xml"));
     }
 
+    @Test
+    public void testCreateCopyEqualsSerializedCopy() {
+        List<Config> configs = new LinkedList<>();
+        configs.add(Config.createConfig());
+        for (File configFile : new File("src/../../resources/configs/").listFiles()) {
+            configs.add(Config.createConfig(configFile));
+        }
+        for (Config config : configs) {
+            assertEquals(toXml(ConfigIO.copy(config)), toXml(config.createCopy()));
+        }
+    }
+
+    @Test
+    public void testCreateCopyIsIndependent() throws IllegalAccessException {
+        Config config = Config.createConfig();
+        Config copy = config.createCopy();
+        for (Field f : Config.class.getDeclaredFields()) {
+            if (Modifier.isStatic(f.getModifiers())) {
+                continue;
+            }
+            f.setAccessible(true);
+            Object value = f.get(config);
+            if (value instanceof byte[] || value instanceof List || value instanceof AliasedConnection
+                || value instanceof KeyShareStoreEntry) {
+                assertNotSame("Field " + f.getName() + " is shared with the copy", value, f.get(copy));
+            }
+        }
+        config.getDefaultClientSupportedCipherSuites().clear();
+        config.getDefaultClientConnection().setHostname("copy.test");
+        assertFalse(copy.getDefaultClientSupportedCipherSuites().isEmpty());
+        assertNotEquals("copy.test", copy.getDefaultClientConnection().getHostname());
+    }
+
+    private String toXml(Config config) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ConfigIO.write(config, stream);
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     private void stripConfig(Config config) {
         Field[] declaredFields = config.getClass().getDeclaredFields();
         for (Field f : declaredFields) {
@@ -14,8 +14,11 @@ import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import javax.xml.bind.JAXBException;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -41,6 +44,17 @@ public class TlsConfigIOTest {
         assertNotNull(config);
     }
 
+    @Test
+    public void testReadAll() throws IOException {
+        try (InputStream incomplete = Config.class.getResourceAsStream("/test_incomplete_config.xml");
+            InputStream client = Config.class.getResourceAsStream("/test_config_custom_client_connection.xml")) {
+            List<Config> configs = ConfigIO.readAll(Arrays.asList(incomplete, client));
+            assertEquals(2, configs.size());
+            assertEquals(1, configs.get(0).getDefaultClientSupportedCipherSuites().size());
+            assertEquals("testHostname", configs.get(1).getDefaultClientConnection().getHostname());
+        }
+    }
+
     @Test
     public void testEmptyConfig() {
         InputStream stream = Config.class.getResourceAsStream("/test_empty_config.xml");
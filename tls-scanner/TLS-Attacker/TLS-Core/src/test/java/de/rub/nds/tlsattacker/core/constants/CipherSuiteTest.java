@@ -11,8 +11,19 @@ package de.rub.nds.tlsattacker.core.constants;
 
 import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.exceptions.UnknownCipherSuiteException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import static org.junit.Assert.*;
@@ -23,6 +34,71 @@ public class CipherSuiteTest {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final String CLASSIFICATION_TABLE = "cipher_suite_classification.tsv";
+
+    private static final ProtocolVersion[] TABLE_VERSIONS =
+        { ProtocolVersion.SSL3, ProtocolVersion.TLS10, ProtocolVersion.TLS11, ProtocolVersion.TLS12,
+            ProtocolVersion.TLS13, ProtocolVersion.DTLS10, ProtocolVersion.DTLS12 };
+
+    private static final List<Map.Entry<String, Function<CipherSuite, Object>>> CHECKS = new ArrayList<>();
+
+    static {
+        addCheck("isRealCipherSuite", CipherSuite::isRealCipherSuite);
+        addCheck("isTLS13", CipherSuite::isTLS13);
+        addCheck("isImplemented", CipherSuite::isImplemented);
+        addCheck("isEphemeral", CipherSuite::isEphemeral);
+        addCheck("isPskOrDhPsk", CipherSuite::isPskOrDhPsk);
+        addCheck("isPsk", CipherSuite::isPsk);
+        addCheck("isSrpSha", CipherSuite::isSrpSha);
+        addCheck("isSrp", CipherSuite::isSrp);
+        addCheck("isExport", CipherSuite::isExport);
+        addCheck("isGrease", CipherSuite::isGrease);
+        addCheck("isExportSymmetricCipher", CipherSuite::isExportSymmetricCipher);
+        addCheck("isCBC", CipherSuite::isCBC);
+        addCheck("isUsingMac", CipherSuite::isUsingMac);
+        addCheck("isSCSV", CipherSuite::isSCSV);
+        addCheck("isGCM", CipherSuite::isGCM);
+        addCheck("isCCM", CipherSuite::isCCM);
+        addCheck("isCCM_8", CipherSuite::isCCM_8);
+        addCheck("isOCB", CipherSuite::isOCB);
+        addCheck("isSteamCipherWithIV", CipherSuite::isSteamCipherWithIV);
+        addCheck("isAEAD", CipherSuite::isAEAD);
+        addCheck("usesSHA384", CipherSuite::usesSHA384);
+        addCheck("usesGOSTR3411", CipherSuite::usesGOSTR3411);
+        addCheck("usesGOSTR34112012", CipherSuite::usesGOSTR34112012);
+        addCheck("usesStrictExplicitIv", CipherSuite::usesStrictExplicitIv);
+        addCheck("usesDH", CipherSuite::usesDH);
+        addCheck("isSHA", CipherSuite::isSHA);
+        addCheck("isSHA256", CipherSuite::isSHA256);
+        addCheck("isChachaPoly", CipherSuite::isChachaPoly);
+        addCheck("isSHA384", CipherSuite::isSHA384);
+        addCheck("isSHA512", CipherSuite::isSHA512);
+        addCheck("isECDSA", CipherSuite::isECDSA);
+        addCheck("isAnon", CipherSuite::isAnon);
+        addCheck("isNull", CipherSuite::isNull);
+        addCheck("isPWD", CipherSuite::isPWD);
+        addCheck("isDSS", CipherSuite::isDSS);
+        addCheck("isGOST", CipherSuite::isGOST);
+        addCheck("isWeak", CipherSuite::isWeak);
+        addCheck("requiresServerCertificateMessage", CipherSuite::requiresServerCertificateMessage);
+        addCheck("getKeyExchangeAlgorithm", AlgorithmResolver::getKeyExchangeAlgorithm);
+        addCheck("getCertificateKeyType", AlgorithmResolver::getCertificateKeyType);
+        addCheck("getRequiredKeystoreAlgorithms",
+            suite -> new TreeSet<>(AlgorithmResolver.getRequiredKeystoreAlgorithms(suite)));
+        addCheck("getRequiredSignatureAlgorithm", AlgorithmResolver::getRequiredSignatureAlgorithm);
+        addCheck("getCipher", AlgorithmResolver::getCipher);
+        addCheck("getBulkCipherAlgorithm", AlgorithmResolver::getBulkCipherAlgorithm);
+        addCheck("getCipherType", AlgorithmResolver::getCipherType);
+        addCheck("getHKDFAlgorithm", AlgorithmResolver::getHKDFAlgorithm);
+        for (ProtocolVersion version : TABLE_VERSIONS) {
+            addCheck("isSupportedInProtocol(" + version + ")", suite -> suite.isSupportedInProtocol(version));
+            addCheck("getMacAlgorithm(" + version + ")", suite -> AlgorithmResolver.getMacAlgorithm(version, suite));
+            addCheck("getPRFAlgorithm(" + version + ")", suite -> AlgorithmResolver.getPRFAlgorithm(version, suite));
+            addCheck("getDigestAlgorithm(" + version + ")",
+                suite -> AlgorithmResolver.getDigestAlgorithm(version, suite));
+        }
+    }
+
     public CipherSuiteTest() {
     }
 
@@ -90,4 +166,67 @@ public class CipherSuiteTest {
         assertFalse(CipherSuite.TLS_AES_256_GCM_SHA384.isUsingMac());
     }
 
+    /**
+     * The classification of every suite has to match the table which was recorded with the string matching that the
+     * precomputed attributes replaced. Each row holds the results of the checks in {@link #describe(CipherSuite)},
+     * booleans as 1 or 0 and exceptions by their class name.
+     */
+    @Test
+    public void testClassificationMatchesPinnedTable() throws IOException {
+        Map<String, List<String>> table = new HashMap<>();
+        List<String> header;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            getClass().getClassLoader().getResourceAsStream(CLASSIFICATION_TABLE), StandardCharsets.UTF_8))) {
+            header = Arrays.asList(reader.readLine().split("\t"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> row = Arrays.asList(line.split("\t"));
+                table.put(row.get(0), row);
+            }
+        }
+        assertEquals(getColumns(), header);
+        assertEquals(CipherSuite.values().length, table.size());
+        for (CipherSuite suite : CipherSuite.values()) {
+            List<String> expected = table.get(suite.name());
+            assertNotNull(suite.name(), expected);
+            List<String> actual = describe(suite);
+            for (int i = 1; i < header.size(); i++) {
+                assertEquals(suite.name() + " " + header.get(i), expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    private static void addCheck(String name, Function<CipherSuite, Object> check) {
+        CHECKS.add(new AbstractMap.SimpleImmutableEntry<>(name, check));
+    }
+
+    static List<String> getColumns() {
+        List<String> columns = new ArrayList<>();
+        columns.add("suite");
+        for (Map.Entry<String, Function<CipherSuite, Object>> check : CHECKS) {
+            columns.add(check.getKey());
+        }
+        return columns;
+    }
+
+    /**
+     * @return The row of the suite in the classification table
+     */
+    static List<String> describe(CipherSuite suite) {
+        List<String> row = new ArrayList<>();
+        row.add(suite.name());
+        for (Map.Entry<String, Function<CipherSuite, Object>> check : CHECKS) {
+            try {
+                Object result = check.getValue().apply(suite);
+                if (result instanceof Boolean) {
+                    row.add((Boolean) result ? "1" : "0");
+                } else {
+                    row.add(String.valueOf(result));
+                }
+            } catch (RuntimeException e) {
+                row.add("!" + e.getClass().getSimpleName());
+            }
+        }
+        return row;
+    }
 }
@@ -9,15 +9,19 @@
 
 package de.rub.nds.tlsattacker.core.crypto;
 
+import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import java.security.MessageDigest;
 import java.security.Security;
+import java.util.Random;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.After;
 import org.junit.AfterClass;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import org.junit.Before;
@@ -84,6 +88,57 @@ public class MessageDigestCollectorTest {
      */
     @Test
     public void testAppend() {
+        digest.append(testarray);
+        digest.append(testarray2);
+        assertArrayEquals(ArrayConverter.concatenate(testarray, testarray2), digest.getRawBytes());
+        assertEquals(testarray.length + testarray2.length, digest.getLength());
+    }
+
+    /**
+     * The running digests have to match a digest over the complete transcript, no matter when they are first queried
+     */
+    @Test
+    public void testDigestAfterAppend() throws Exception {
+        byte[] largeMessage = new byte[5000];
+        new Random(0).nextBytes(largeMessage);
+        digest.append(testarray);
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(testarray),
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+        digest.append(largeMessage);
+        digest.append(testarray2);
+        byte[] transcript = ArrayConverter.concatenate(testarray, largeMessage, testarray2);
+
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(transcript),
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+        assertArrayEquals(MessageDigest.getInstance("SHA-384").digest(transcript),
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_CECPQ1_RSA_WITH_AES_256_GCM_SHA384));
+        assertArrayEquals(
+            ArrayConverter.concatenate(MessageDigest.getInstance("MD5").digest(transcript),
+                MessageDigest.getInstance("SHA-1").digest(transcript)),
+            digest.digest(ProtocolVersion.TLS10, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+        // querying a digest must not change the running digest
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(transcript),
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+
+        digest.setRawBytes(testarray2);
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(testarray2),
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+    }
+
+    @Test
+    public void testRestoreSnapshot() {
+        digest.append(testarray);
+        byte[] expectedDigest = digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA);
+        MessageDigestCollector.Snapshot snapshot = digest.createSnapshot();
+        digest.append(testarray2);
+        digest.restore(snapshot);
+        assertArrayEquals(testarray, digest.getRawBytes());
+        assertArrayEquals(expectedDigest,
+            digest.digest(ProtocolVersion.TLS12, CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA));
+        // bytes appended after the restore must not leak into the snapshot
+        digest.append(testarray);
+        digest.restore(snapshot);
+        assertArrayEquals(testarray, digest.getRawBytes());
     }
 
     /**
@@ -11,11 +11,13 @@ package de.rub.nds.tlsattacker.core.crypto.cipher;
 
 import de.rub.nds.tlsattacker.core.constants.BulkCipherAlgorithm;
 import de.rub.nds.tlsattacker.core.constants.CipherAlgorithm;
+import de.rub.nds.tlsattacker.core.exceptions.CryptoException;
 import de.rub.nds.tlsattacker.util.UnlimitedStrengthEnabler;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import javax.crypto.Cipher;
@@ -26,6 +28,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import static org.bouncycastle.asn1.bsi.BSIObjectIdentifiers.algorithm;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -89,4 +93,33 @@ public class JavaCipherTest {
             JavaCipher cipher = new JavaCipher(algo, key, false);
         }
     }
+
+    @Test
+    public void testRepeatedGcmEncryptionWithSameNonce() throws CryptoException {
+        byte[] nonce = new byte[12];
+        byte[] aad = new byte[13];
+        byte[] plaintext = new byte[] { 1, 2, 3, 4, 5 };
+        JavaCipher cipher = new JavaCipher(CipherAlgorithm.AES_128_GCM, new byte[16], false);
+        byte[] first = cipher.encrypt(nonce, 128, aad, plaintext);
+        // reusing a nonce must be possible, e.g. to send a record twice
+        byte[] second = cipher.encrypt(nonce, 128, aad, plaintext);
+        assertArrayEquals(first, second);
+        assertArrayEquals(plaintext, cipher.decrypt(nonce, 128, aad, first));
+    }
+
+    @Test
+    public void testInterleavedCiphersWithDifferentKeys() throws CryptoException {
+        byte[] iv = new byte[16];
+        byte[] plaintext = new byte[32];
+        byte[] otherKey = new byte[16];
+        otherKey[0] = 1;
+        JavaCipher cipher = new JavaCipher(CipherAlgorithm.AES_128_CBC, new byte[16], false);
+        JavaCipher otherCipher = new JavaCipher(CipherAlgorithm.AES_128_CBC, otherKey, false);
+        byte[] ciphertext = cipher.encrypt(iv, plaintext);
+        byte[] otherCiphertext = otherCipher.encrypt(iv, plaintext);
+        assertFalse(Arrays.equals(ciphertext, otherCiphertext));
+        assertArrayEquals(ciphertext, cipher.encrypt(iv, plaintext));
+        assertArrayEquals(plaintext, otherCipher.decrypt(iv, otherCiphertext));
+        assertArrayEquals(plaintext, cipher.decrypt(iv, ciphertext));
+    }
 }
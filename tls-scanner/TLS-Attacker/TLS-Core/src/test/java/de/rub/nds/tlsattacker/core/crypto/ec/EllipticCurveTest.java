@@ -9,8 +9,11 @@
 
 package de.rub.nds.tlsattacker.core.crypto.ec;
 
+import de.rub.nds.tlsattacker.core.constants.GOSTCurve;
 import de.rub.nds.tlsattacker.core.constants.NamedGroup;
 import java.math.BigInteger;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
@@ -68,6 +71,44 @@ public class EllipticCurveTest {
 
     }
 
+    @Test
+    public void testMultMatchesAffineMult() {
+        List<EllipticCurve> curves = new LinkedList<>();
+        for (NamedGroup name : NamedGroup.values()) {
+            try {
+                curves.add(CurveFactory.getCurve(name));
+            } catch (UnsupportedOperationException e) {
+            }
+        }
+        for (GOSTCurve name : GOSTCurve.values()) {
+            curves.add(CurveFactory.getCurve(name));
+        }
+
+        for (EllipticCurve curve : curves) {
+            if (!(curve instanceof EllipticCurveOverFp)) {
+                // binary curves still use the affine multiplication
+                continue;
+            }
+            Point basePoint = curve.getBasePoint();
+            BigInteger order = curve.getBasePointOrder();
+            // a point of another curve with the same a, as used by invalid curve attacks
+            Point offCurvePoint =
+                curve.getPoint(basePoint.getFieldX().getData().add(BigInteger.ONE), basePoint.getFieldY().getData());
+            List<BigInteger> scalars = new LinkedList<>();
+            scalars.add(BigInteger.ZERO);
+            scalars.add(BigInteger.ONE);
+            scalars.add(BigInteger.valueOf(-7));
+            scalars.add(order);
+            scalars.add(new BigInteger(order.bitLength(), rnd));
+            scalars.add(new BigInteger(order.bitLength() + 16, rnd).negate());
+            for (BigInteger k : scalars) {
+                assertEquals(curve.multAffine(k, basePoint), curve.mult(k, basePoint));
+                assertEquals(curve.multAffine(k, offCurvePoint), curve.mult(k, offCurvePoint));
+                assertEquals(curve.multAffine(k, inf), curve.mult(k, inf));
+            }
+        }
+    }
+
     private void testCurveParameters(EllipticCurve curve, Point basePoint) {
         assertEquals(true, curve.isOnCurve(basePoint));
 
@@ -9,6 +9,9 @@
 
 package de.rub.nds.tlsattacker.core.dtls;
 
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Random;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -88,4 +91,117 @@ public class FragmentStreamTest {
         stream.insertByteArray(new byte[] { 1, 2, 3 }, 0);
         stream.isComplete(-4);
     }
+
+    @Test
+    public void testOutOfOrderInsertion() {
+        stream.insertByteArray(new byte[] { 8, 9 }, 8);
+        stream.insertByteArray(new byte[] { 4, 5, 6, 7 }, 4);
+        assertFalse(stream.isComplete(1));
+        stream.insertByteArray(new byte[] { 0, 1 }, 0);
+        assertTrue(stream.isComplete(2));
+        assertFalse(stream.isComplete(3));
+        assertArrayEquals(new byte[] { 0, 1, 4, 5, 6, 7, 8, 9 }, stream.getCompleteTruncatedStream());
+        stream.insertByteArray(new byte[] { 2, 3 }, 2);
+        assertTrue(stream.isComplete(10));
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, stream.getCompleteTruncatedStream());
+    }
+
+    @Test
+    public void testOverlappingFragments() {
+        stream.insertByteArray(new byte[] { 2, 3, 4, 5 }, 2);
+        assertTrue(stream.canInsertByteArray(new byte[] { 0, 1, 2, 3 }, 0));
+        stream.insertByteArray(new byte[] { 0, 1, 2, 3 }, 0);
+        assertTrue(stream.canInsertByteArray(new byte[] { 1, 2, 3, 4, 5, 6, 7 }, 1));
+        stream.insertByteArray(new byte[] { 1, 2, 3, 4, 5, 6, 7 }, 1);
+        assertTrue(stream.canInsertByteArray(new byte[] { 3, 4 }, 3));
+        stream.insertByteArray(new byte[] { 8, 9 }, 8);
+        assertTrue(stream.isComplete(10));
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, stream.getCompleteFilledStream((byte) 0xFF));
+    }
+
+    @Test
+    public void testConflictingFragments() {
+        stream.insertByteArray(new byte[] { 0, 1 }, 0);
+        stream.insertByteArray(new byte[] { 6, 7 }, 6);
+        // the gap between both fragments may be filled with anything
+        assertTrue(stream.canInsertByteArray(new byte[] { 42, 42, 42, 42 }, 2));
+        // conflicts in the last overlapping byte
+        assertFalse(stream.canInsertByteArray(new byte[] { 42, 42, 42, 42, 6, 8 }, 2));
+        // conflicts with both fragments
+        assertFalse(stream.canInsertByteArray(new byte[] { 9, 9, 9, 9, 9, 9, 9, 9, 9, 9 }, 0));
+        // conflicts beyond the intended size are detected as well
+        stream.insertByteArray(new byte[] { 12, 13 }, 12);
+        assertFalse(stream.canInsertByteArray(new byte[] { 12, 14 }, 12));
+
+        // rewriting content overwrites the old bytes
+        stream.insertByteArray(new byte[] { 5, 5, 5 }, 5);
+        assertArrayEquals(new byte[] { 0, 1, 5, 5, 5 }, stream.getCompleteTruncatedStream());
+        assertTrue(stream.canInsertByteArray(new byte[] { 5, 5, 5 }, 5));
+        assertFalse(stream.canInsertByteArray(new byte[] { 6, 7 }, 6));
+    }
+
+    @Test
+    public void testEmptyAndNegativeFragments() {
+        stream.insertByteArray(new byte[0], 5);
+        assertTrue(stream.canInsertByteArray(new byte[0], 5));
+        assertArrayEquals(new byte[0], stream.getCompleteTruncatedStream());
+        stream.insertByteArray(new byte[] { -2, -1, 0, 1 }, -2);
+        assertTrue(stream.isComplete(2));
+        assertFalse(stream.canInsertByteArray(new byte[] { 0, 0 }, -1));
+        assertArrayEquals(new byte[] { 0, 1 }, stream.getCompleteTruncatedStream());
+    }
+
+    /**
+     * Compares the stream against a per byte reference implementation with random fragments
+     */
+    @Test
+    public void testRandomFragmentsAgainstReference() {
+        Random random = new Random(0);
+        for (int round = 0; round < 200; round++) {
+            int intendedSize = random.nextInt(200);
+            byte[] message = new byte[intendedSize + 20];
+            random.nextBytes(message);
+            FragmentStream fragmentStream = new FragmentStream(intendedSize);
+            HashMap<Integer, Byte> reference = new HashMap<>();
+            for (int i = 0; i < 15; i++) {
+                int offset = random.nextInt(message.length);
+                int length = random.nextInt(message.length - offset + 1);
+                byte[] fragment = new byte[length];
+                System.arraycopy(message, offset, fragment, 0, length);
+                if (random.nextInt(4) == 0 && length > 0) {
+                    fragment[random.nextInt(length)] ^= 0x01;
+                }
+                boolean canInsert = true;
+                for (int j = 0; j < length; j++) {
+                    Byte existing = reference.get(offset + j);
+                    if (existing != null && existing != fragment[j]) {
+                        canInsert = false;
+                    }
+                }
+                assertEquals(canInsert, fragmentStream.canInsertByteArray(fragment, offset));
+                for (int j = 0; j < length; j++) {
+                    reference.put(offset + j, fragment[j]);
+                }
+                fragmentStream.insertByteArray(fragment, offset);
+
+                int tillIndex = random.nextInt(message.length + 1);
+                boolean complete = true;
+                for (int j = 0; j < tillIndex; j++) {
+                    complete &= reference.containsKey(j);
+                }
+                assertEquals(complete, fragmentStream.isComplete(tillIndex));
+            }
+            ByteArrayOutputStream filled = new ByteArrayOutputStream();
+            ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+            for (int j = 0; j < intendedSize; j++) {
+                Byte b = reference.get(j);
+                filled.write(b == null ? (byte) 0xFF : b);
+                if (b != null) {
+                    truncated.write(b);
+                }
+            }
+            assertArrayEquals(filled.toByteArray(), fragmentStream.getCompleteFilledStream((byte) 0xFF));
+            assertArrayEquals(truncated.toByteArray(), fragmentStream.getCompleteTruncatedStream());
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.record.compressor.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.junit.Test;
+
+public class DeflateCompressionTest {
+
+    private static final byte[] RECORD =
+        ("GET / HTTP/1.1\r\nHost: tls-attacker.com\r\nCookie: secret=0123456789abcdef\r\n\r\n")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void testHistoryIsKeptAcrossRecords() throws Exception {
+        DeflateCompression compression = new DeflateCompression();
+        DeflateCompression decompression = new DeflateCompression();
+        byte[] first = compression.compress(RECORD);
+        byte[] second = compression.compress(RECORD);
+        // only the first record carries the zlib header
+        assertEquals((byte) 0x78, first[0]);
+        assertNotEquals((byte) 0x78, second[0]);
+        // the second record refers to the first one
+        assertTrue(second.length < first.length / 2);
+        assertArrayEquals(RECORD, decompression.decompress(first));
+        assertArrayEquals(RECORD, decompression.decompress(second));
+
+        // a continuous zlib stream reads the records as well
+        Inflater inflater = new Inflater();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(first);
+        stream.write(second);
+        inflater.setInput(stream.toByteArray());
+        byte[] output = new byte[2 * RECORD.length];
+        assertEquals(output.length, inflater.inflate(output));
+        inflater.end();
+        compression.end();
+        decompression.end();
+    }
+
+    @Test
+    public void testDecompressContinuousStream() {
+        Deflater deflater = new Deflater();
+        DeflateCompression decompression = new DeflateCompression();
+        for (int i = 0; i < 3; i++) {
+            deflater.setInput(RECORD);
+            byte[] output = new byte[1024];
+            int length = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+            byte[] record = new byte[length];
+            System.arraycopy(output, 0, record, 0, length);
+            assertArrayEquals(RECORD, decompression.decompress(record));
+        }
+        deflater.end();
+        decompression.end();
+    }
+
+    @Test
+    public void testIncompressibleRecord() {
+        byte[] data = new byte[0x4000];
+        new Random(0).nextBytes(data);
+        DeflateCompression compression = new DeflateCompression();
+        DeflateCompression decompression = new DeflateCompression();
+        for (int i = 0; i < 2; i++) {
+            assertArrayEquals(data, decompression.decompress(compression.compress(data)));
+        }
+        compression.end();
+        decompression.end();
+    }
+
+    @Test
+    public void testCompressionBombIsCut() {
+        // a megabyte of zeros compresses to about a kilobyte
+        DeflateCompression compression = new DeflateCompression();
+        byte[] bomb = compression.compress(new byte[1 << 20]);
+        assertTrue(bomb.length < 0x4000);
+
+        DeflateCompression decompression = new DeflateCompression();
+        assertEquals(0x4000 + 1024, decompression.decompress(bomb).length);
+        compression.end();
+        decompression.end();
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.state;
+
+import static org.junit.Assert.assertEquals;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class KeylogfileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testConcurrentWriteKey() throws Exception {
+        File keylogFile = new File(folder.getRoot(), "keys/keyfile.log");
+        Config config = Config.createConfig();
+        config.setWriteKeylogFile(true);
+        config.setKeylogFilePath(keylogFile.getPath());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            byte clientRandom = (byte) i;
+            threads.add(new Thread(() -> {
+                TlsContext context = new TlsContext(config);
+                context.setClientRandom(new byte[] { clientRandom, 0x0A });
+                for (int j = 0; j < 100; j++) {
+                    context.setMasterSecret(new byte[] { (byte) j });
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Keylogfile.flush();
+
+        List<String> lines = Files.readAllLines(keylogFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(400, lines.size());
+        assertEquals(100, lines.stream().filter(line -> line.startsWith("CLIENT_RANDOM 020A ")).count());
+        assertEquals(4, lines.stream().filter(line -> line.endsWith(" 63")).count());
+    }
+
+    @Test(timeout = 10000)
+    public void testWriterSurvivesFailingEntry() throws Exception {
+        File keylogFile = new File(folder.getRoot(), "keyfile.log");
+        // a null path makes the writer thread fail with a RuntimeException
+        KeylogfileWriter.append(null, "lost" + System.lineSeparator());
+        KeylogfileWriter.append(keylogFile.getAbsolutePath(), "kept" + System.lineSeparator());
+        KeylogfileWriter.flush();
+
+        assertEquals(Collections.singletonList("kept"),
+            Files.readAllLines(keylogFile.toPath(), StandardCharsets.UTF_8));
+    }
+}
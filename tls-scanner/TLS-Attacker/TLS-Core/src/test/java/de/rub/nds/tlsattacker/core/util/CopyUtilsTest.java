@@ -0,0 +1,366 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.util;
+
+import de.rub.nds.modifiablevariable.ModifiableVariable;
+import de.rub.nds.modifiablevariable.biginteger.ModifiableBigInteger;
+import de.rub.nds.modifiablevariable.bool.ModifiableBoolean;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayModificationFactory;
+import de.rub.nds.modifiablevariable.bytearray.ByteArrayXorModification;
+import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
+import de.rub.nds.modifiablevariable.filter.AccessModificationFilter;
+import de.rub.nds.modifiablevariable.integer.IntegerModificationFactory;
+import de.rub.nds.modifiablevariable.integer.ModifiableInteger;
+import de.rub.nds.modifiablevariable.mlong.ModifiableLong;
+import de.rub.nds.modifiablevariable.singlebyte.ModifiableByte;
+import de.rub.nds.modifiablevariable.string.ModifiableString;
+import de.rub.nds.modifiablevariable.util.Modifiable;
+import de.rub.nds.tlsattacker.core.protocol.ModifiableVariableHolder;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.action.TlsAction;
+import de.rub.nds.tlsattacker.core.workflow.action.executor.ReceiveMessageHelper;
+import de.rub.nds.tlsattacker.core.workflow.action.executor.SendMessageHelper;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.Reflections;
+
+public class CopyUtilsTest {
+
+    @Test
+    public void testCopyModifiableByteArray() {
+        ModifiableByteArray original = Modifiable.xor(new byte[] { 1, 1 }, 0);
+        original.setOriginalValue(new byte[] { 2, 3 });
+        original.setAssertEquals(new byte[] { 3, 2 });
+
+        ModifiableByteArray copy = CopyUtils.copy(original);
+        assertNotSame(original, copy);
+        assertNotSame(original.getOriginalValue(), copy.getOriginalValue());
+        assertNotSame(original.getModification(), copy.getModification());
+        assertArrayEquals(new byte[] { 3, 2 }, copy.getValue());
+        assertTrue(copy.validateAssertions());
+
+        ((ByteArrayXorModification) copy.getModification()).setXor(new byte[] { 0, 0 });
+        copy.getOriginalValue()[0] = 0;
+        assertArrayEquals(new byte[] { 3, 2 }, original.getValue());
+    }
+
+    @Test
+    public void testCopyKeepsModificationFilter() {
+        ModifiableInteger original = new ModifiableInteger();
+        original.setOriginalValue(5);
+        original.setModification(IntegerModificationFactory.add(1));
+        original.getModification().setModificationFilter(new AccessModificationFilter(new int[] { 2 }));
+
+        ModifiableInteger copy = CopyUtils.copy(original);
+        assertNotSame(original.getModification().getModificationFilter(),
+            copy.getModification().getModificationFilter());
+        assertEquals(6, (int) copy.getValue());
+        assertEquals(5, (int) copy.getValue());
+        assertEquals(6, (int) original.getValue());
+    }
+
+    @Test
+    public void testCopyWithoutModification() {
+        assertNull(CopyUtils.copy((ModifiableByteArray) null));
+        ModifiableByteArray original = new ModifiableByteArray();
+        original.setOriginalValue(new byte[] { 1 });
+        ModifiableByteArray copy = CopyUtils.copy(original);
+        assertNull(copy.getModification());
+        assertEquals(original, copy);
+
+        original.setModification(ByteArrayModificationFactory.duplicate());
+        assertArrayEquals(new byte[] { 1, 1 }, CopyUtils.copy(original).getValue());
+    }
+
+    /**
+     * Fields of these types belong to a single execution of an action, a copy starts without them
+     */
+    private static final Set<Class<?>> EXECUTION_TYPES =
+        new HashSet<>(Arrays.asList(State.class, ReceiveMessageHelper.class, SendMessageHelper.class));
+
+    private static Reflections reflections;
+
+    private static List<Class<?>> copyableClasses;
+
+    /**
+     * The concrete actions and holders which can be created with their default constructor
+     */
+    @BeforeClass
+    public static void setUpClass() {
+        reflections = new Reflections("de.rub.nds.tlsattacker.core");
+        Set<Class<?>> classes = new HashSet<>(reflections.getSubTypesOf(ModifiableVariableHolder.class));
+        classes.addAll(reflections.getSubTypesOf(TlsAction.class));
+        copyableClasses = new LinkedList<>();
+        for (Class<?> someClass : classes) {
+            if (!someClass.getName().contains("Test") && getDefaultConstructor(someClass) != null) {
+                copyableClasses.add(someClass);
+            }
+        }
+    }
+
+    private static Constructor<?> getDefaultConstructor(Class<?> someClass) {
+        if (Modifier.isAbstract(someClass.getModifiers()) || someClass.isInterface()) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = someClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object createCopy(Object original) {
+        return original instanceof TlsAction ? ((TlsAction) original).createCopy()
+            : ((ModifiableVariableHolder) original).createCopy();
+    }
+
+    /**
+     * Every concrete action and holder has to override createCopy(), otherwise it would be copied as its super class.
+     */
+    @Test
+    public void testCreateCopyKeepsClass() throws Exception {
+        assertFalse(copyableClasses.isEmpty());
+        for (Class<?> someClass : copyableClasses) {
+            Object original = getDefaultConstructor(someClass).newInstance();
+            Object copy = createCopy(original);
+            assertNotSame(original, copy);
+            assertEquals(someClass.getName(), someClass, copy.getClass());
+        }
+    }
+
+    /**
+     * Sets every field of every concrete action and holder, including the modifications and assertions of the
+     * modifiable variables, and checks that createCopy() carries all of them over.
+     */
+    @Test
+    public void testCreateCopyKeepsFields() throws Exception {
+        List<String> differences = new LinkedList<>();
+        for (Class<?> someClass : copyableClasses) {
+            Object original = getDefaultConstructor(someClass).newInstance();
+            fillFields(original, 2);
+            Object copy = createCopy(original);
+            collectDifferences(someClass.getSimpleName(), original, copy, new IdentityHashMap<>(), differences);
+        }
+        assertTrue("Not copied: " + differences, differences.isEmpty());
+    }
+
+    private static List<Field> getFields(Class<?> someClass) {
+        List<Field> fields = new LinkedList<>();
+        for (Class<?> current = someClass; current != null && current != Object.class;
+            current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()
+                    && !EXECUTION_TYPES.contains(field.getType())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fillFields(Object object, int depth) throws Exception {
+        for (Field field : getFields(object.getClass())) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                Object current = field.get(object);
+                if (current instanceof Collection && field.getGenericType() instanceof ParameterizedType) {
+                    Object element =
+                        createValue(((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0], depth);
+                    if (element != null) {
+                        ((Collection<Object>) current).add(element);
+                    }
+                }
+                continue;
+            }
+            Object value = createValue(field.getGenericType(), depth);
+            if (value != null) {
+                field.set(object, value);
+            }
+        }
+    }
+
+    /**
+     * @return A value which differs from the defaults, or null if no value of the type can be created
+     */
+    private static Object createValue(Type type, int depth) throws Exception {
+        if (type instanceof ParameterizedType) {
+            Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+            List<Object> list = rawType.isAssignableFrom(ArrayList.class) ? new ArrayList<>()
+                : rawType.isAssignableFrom(LinkedList.class) ? new LinkedList<>() : null;
+            if (list != null) {
+                Object element = createValue(((ParameterizedType) type).getActualTypeArguments()[0], depth);
+                if (element != null) {
+                    list.add(element);
+                }
+                return list;
+            }
+            return null;
+        }
+        if (!(type instanceof Class)) {
+            return null;
+        }
+        Class<?> someClass = (Class<?>) type;
+        if (someClass == boolean.class || someClass == Boolean.class) {
+            return true;
+        } else if (someClass == int.class || someClass == Integer.class) {
+            return 7;
+        } else if (someClass == long.class || someClass == Long.class) {
+            return 7L;
+        } else if (someClass == short.class || someClass == Short.class) {
+            return (short) 7;
+        } else if (someClass == byte.class || someClass == Byte.class) {
+            return (byte) 7;
+        } else if (someClass == double.class || someClass == Double.class) {
+            return 7.0;
+        } else if (someClass == char.class || someClass == Character.class) {
+            return 'c';
+        } else if (someClass == String.class) {
+            return "copy";
+        } else if (someClass == BigInteger.class) {
+            return BigInteger.valueOf(7);
+        } else if (someClass == byte[].class) {
+            return new byte[] { 1, 2, 3 };
+        } else if (someClass.isEnum()) {
+            Object[] constants = someClass.getEnumConstants();
+            return constants.length == 0 ? null : constants[constants.length - 1];
+        }
+        Object variable = createModifiableVariable(someClass);
+        if (variable != null || depth == 0 || !someClass.getName().startsWith("de.rub.nds.tlsattacker")) {
+            return variable;
+        }
+        Class<?> concreteClass = someClass;
+        if (getDefaultConstructor(someClass) == null) {
+            concreteClass = null;
+            for (Class<?> subClass : reflections.getSubTypesOf(someClass)) {
+                if (getDefaultConstructor(subClass) != null) {
+                    concreteClass = subClass;
+                    break;
+                }
+            }
+        }
+        Constructor<?> constructor = concreteClass == null ? null : getDefaultConstructor(concreteClass);
+        if (constructor == null) {
+            return null;
+        }
+        Object object = constructor.newInstance();
+        fillFields(object, depth - 1);
+        return object;
+    }
+
+    private static ModifiableVariable<?> createModifiableVariable(Class<?> someClass) {
+        ModifiableVariable<?> variable;
+        if (someClass == ModifiableByteArray.class) {
+            ModifiableByteArray byteArray = Modifiable.xor(new byte[] { 1 }, 0);
+            byteArray.setOriginalValue(new byte[] { 2, 3 });
+            byteArray.setAssertEquals(new byte[] { 3, 3 });
+            variable = byteArray;
+        } else if (someClass == ModifiableInteger.class) {
+            ModifiableInteger integer = Modifiable.add(1);
+            integer.setOriginalValue(7);
+            integer.setAssertEquals(8);
+            variable = integer;
+        } else if (someClass == ModifiableByte.class) {
+            ModifiableByte singleByte = Modifiable.add((byte) 1);
+            singleByte.setOriginalValue((byte) 7);
+            singleByte.setAssertEquals((byte) 8);
+            variable = singleByte;
+        } else if (someClass == ModifiableBigInteger.class) {
+            ModifiableBigInteger bigInteger = Modifiable.add(BigInteger.ONE);
+            bigInteger.setOriginalValue(BigInteger.valueOf(7));
+            bigInteger.setAssertEquals(BigInteger.valueOf(8));
+            variable = bigInteger;
+        } else if (someClass == ModifiableLong.class) {
+            ModifiableLong mlong = Modifiable.add(1L);
+            mlong.setOriginalValue(7L);
+            mlong.setAssertEquals(8L);
+            variable = mlong;
+        } else if (someClass == ModifiableString.class) {
+            ModifiableString string = Modifiable.explicit("modified");
+            string.setOriginalValue("original");
+            string.setAssertEquals("modified");
+            variable = string;
+        } else if (someClass == ModifiableBoolean.class) {
+            ModifiableBoolean bool = Modifiable.toggle();
+            bool.setOriginalValue(false);
+            variable = bool;
+        } else {
+            return null;
+        }
+        variable.getModification().setModificationFilter(new AccessModificationFilter(new int[] { 1 }));
+        return variable;
+    }
+
+    /**
+     * Adds the paths of all values of the original which are missing in the copy to the differences
+     */
+    private static void collectDifferences(String path, Object expected, Object actual, Map<Object, Object> visited,
+        List<String> differences) throws Exception {
+        if (expected == null || actual == null) {
+            if (expected != actual) {
+                differences.add(path);
+            }
+            return;
+        }
+        Class<?> someClass = expected.getClass();
+        if (someClass != actual.getClass()) {
+            differences.add(path);
+        } else if (someClass.isArray()) {
+            if (Array.getLength(expected) != Array.getLength(actual)) {
+                differences.add(path);
+                return;
+            }
+            for (int i = 0; i < Array.getLength(expected); i++) {
+                collectDifferences(path + "[" + i + "]", Array.get(expected, i), Array.get(actual, i), visited,
+                    differences);
+            }
+        } else if (expected instanceof Collection) {
+            List<?> expectedList = new ArrayList<>((Collection<?>) expected);
+            List<?> actualList = new ArrayList<>((Collection<?>) actual);
+            if (expectedList.size() != actualList.size()) {
+                differences.add(path);
+                return;
+            }
+            for (int i = 0; i < expectedList.size(); i++) {
+                collectDifferences(path + "[" + i + "]", expectedList.get(i), actualList.get(i), visited, differences);
+            }
+        } else if (someClass.isEnum() || !someClass.getName().startsWith("de.rub.nds")) {
+            // values of the JDK and other libraries are compared by value, or shared
+            if (expected != actual && !expected.equals(actual)) {
+                differences.add(path);
+            }
+        } else if (visited.put(expected, actual) == null) {
+            for (Field field : getFields(someClass)) {
+                collectDifferences(path + "." + field.getName(), field.get(expected), field.get(actual), visited,
+                    differences);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
+import org.junit.After;
+import org.junit.Test;
+
+public class ExecutionMetricsTest {
+
+    /**
+     * Fails the given number of times before it succeeds
+     */
+    private static class FailingTask extends TlsTask {
+
+        private int remainingFailures;
+
+        FailingTask(int failures, int reexecutions) {
+            super(reexecutions, 0, false, 0);
+            this.remainingFailures = failures;
+        }
+
+        @Override
+        public boolean execute() {
+            return remainingFailures-- <= 0;
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    @After
+    public void tearDown() {
+        ParallelExecutor.setThreadExecutionMetrics(null);
+    }
+
+    @Test
+    public void testThreadExecutionMetrics() {
+        ParallelExecutor executor = new ParallelExecutor(2, 0);
+        try {
+            ExecutionMetrics metrics = new ExecutionMetrics();
+            ParallelExecutor.setThreadExecutionMetrics(metrics);
+            executor.bulkExecuteTasks(new FailingTask(1, 2), new FailingTask(0, 2), new FailingTask(3, 1));
+
+            assertEquals(3, metrics.getTasks());
+            assertEquals(1, metrics.getFailedTasks());
+            assertEquals(5, metrics.getExecutions());
+            assertEquals(5, metrics.getLatencyHistogram().values().stream().mapToLong(Long::longValue).sum());
+            // the tasks have no state
+            assertEquals(0, metrics.getConnections());
+
+            ParallelExecutor.setThreadExecutionMetrics(null);
+            assertNull(ParallelExecutor.getThreadExecutionMetrics());
+            executor.bulkExecuteTasks(new FailingTask(0, 0));
+            assertEquals(3, metrics.getTasks());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import de.rub.nds.tlsattacker.core.workflow.task.ITask;
+import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelExecutorTest {
+
+    /**
+     * Finishes once its latch is released or its timeout elapsed
+     */
+    private static class LatchTask extends TlsTask {
+
+        private final CountDownLatch latch;
+
+        private final long timeoutMillis;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        LatchTask(CountDownLatch latch) {
+            this(latch, 10000);
+        }
+
+        LatchTask(CountDownLatch latch, long timeoutMillis) {
+            super(0, 0, false, 0);
+            this.latch = latch;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public boolean execute() {
+            started.countDown();
+            try {
+                return latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        public boolean isExecuted() {
+            return started.getCount() == 0;
+        }
+
+        public CountDownLatch getStarted() {
+            return started;
+        }
+    }
+
+    private ParallelExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ParallelExecutor(2, 0);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testBulkExecuteTasksKeepsSubmissionOrder() {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(0);
+        LatchTask slowTask = new LatchTask(blocked);
+        LatchTask fastTask = new LatchTask(released);
+        List<ITask> finishedTasks = executor.bulkExecuteTasksUntil(List.of(slowTask, fastTask), task -> {
+            blocked.countDown();
+            return false;
+        });
+        assertEquals(List.of(fastTask, slowTask), finishedTasks);
+
+        List<TlsTask> taskList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            taskList.add(new LatchTask(released));
+        }
+        List<ITask> results = executor.bulkExecuteTasks(taskList);
+        assertEquals(taskList, results);
+    }
+
+    @Test
+    public void testBulkExecuteTasksUntilSkipsPendingTasks() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        // keeps the second thread busy until the stop condition is evaluated
+        LatchTask runningTask = new LatchTask(neverReleased, 500);
+        LatchTask decisiveTask = new LatchTask(runningTask.getStarted());
+        List<LatchTask> taskList = new ArrayList<>();
+        taskList.add(decisiveTask);
+        taskList.add(runningTask);
+        for (int i = 0; i < 10; i++) {
+            taskList.add(new LatchTask(neverReleased, 100));
+        }
+        long start = System.nanoTime();
+        List<ITask> finishedTasks = executor.bulkExecuteTasksUntil(taskList, task -> task == decisiveTask);
+
+        assertEquals(1, finishedTasks.size());
+        assertSame(decisiveTask, finishedTasks.get(0));
+        // the running task is awaited
+        assertTrue(runningTask.isExecuted());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(500));
+        // the first thread may have started one more task before the stop condition was evaluated
+        long executedPendingTasks = taskList.subList(2, taskList.size()).stream().filter(LatchTask::isExecuted).count();
+        assertTrue(executedPendingTasks <= 1);
+    }
+
+    @Test
+    public void testBulkExecuteTasksLimitsPendingTasks() {
+        CountDownLatch released = new CountDownLatch(0);
+        AtomicInteger createdTasks = new AtomicInteger();
+        AtomicInteger maxUnfinishedTasks = new AtomicInteger();
+        List<LatchTask> taskList = new ArrayList<>();
+        Iterator<LatchTask> tasks = new Iterator<LatchTask>() {
+            @Override
+            public boolean hasNext() {
+                return createdTasks.get() < 20;
+            }
+
+            @Override
+            public LatchTask next() {
+                createdTasks.incrementAndGet();
+                long unfinishedTasks = taskList.stream().filter(task -> !task.isExecuted()).count();
+                maxUnfinishedTasks.accumulateAndGet((int) unfinishedTasks, Math::max);
+                LatchTask task = new LatchTask(released);
+                taskList.add(task);
+                return task;
+            }
+        };
+        List<ITask> results = executor.bulkExecuteTasks(tasks, 3);
+
+        assertEquals(taskList, results);
+        assertTrue(taskList.stream().allMatch(LatchTask::isExecuted));
+        // a task is only taken from the iterator when fewer than three submitted tasks are unfinished
+        assertTrue(maxUnfinishedTasks.get() < 3);
+    }
+}
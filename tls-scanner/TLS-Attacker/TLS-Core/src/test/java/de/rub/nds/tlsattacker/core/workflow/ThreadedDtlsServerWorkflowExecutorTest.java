@@ -0,0 +1,109 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.core.workflow;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.CipherSuite;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.constants.RunningModeType;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.action.executor.WorkflowExecutorType;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
+import de.rub.nds.tlsattacker.transport.TransportHandlerType;
+import de.rub.nds.tlsattacker.util.tests.IntegrationTests;
+import java.net.InetAddress;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ThreadedDtlsServerWorkflowExecutorTest {
+
+    private static final int TIMEOUT = 1000;
+
+    /**
+     * The server loads its certificates during the first handshake, which can take longer than the default timeout
+     */
+    private static final int CLIENT_TIMEOUT = 10000;
+
+    private static final int CLIENT_COUNT = 4;
+
+    @Before
+    public void setUp() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    private Config createConfig(RunningModeType runningMode, int port) {
+        Config config = Config.createConfig();
+        config.setHighestProtocolVersion(ProtocolVersion.DTLS12);
+        config.setDefaultSelectedProtocolVersion(ProtocolVersion.DTLS12);
+        config.setWorkflowExecutorType(WorkflowExecutorType.DTLS);
+        config.setWorkflowTraceType(WorkflowTraceType.HANDSHAKE);
+        config.setDefaultRunningMode(runningMode);
+        config.setDefaultClientSupportedCipherSuites(CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA);
+        config.setDefaultServerSupportedCipherSuites(CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA);
+        config.setDefaultSelectedCipherSuite(CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA);
+        config.getDefaultClientConnection().setTransportHandlerType(TransportHandlerType.UDP);
+        config.getDefaultClientConnection().setHostname("localhost");
+        config.getDefaultClientConnection().setIp(InetAddress.getLoopbackAddress().getHostAddress());
+        config.getDefaultClientConnection().setPort(port);
+        config.getDefaultClientConnection().setTimeout(CLIENT_TIMEOUT);
+        config.getDefaultServerConnection().setHostname(InetAddress.getLoopbackAddress().getHostAddress());
+        config.getDefaultServerConnection().setPort(port);
+        config.getDefaultServerConnection().setTimeout(TIMEOUT);
+        return config;
+    }
+
+    @Test
+    @Category(IntegrationTests.class)
+    public void testConcurrentHandshakes() throws Exception {
+        Config serverConfig = createConfig(RunningModeType.SERVER, 0);
+        serverConfig.setDtlsServerPoolSize(CLIENT_COUNT);
+        serverConfig.setDtlsServerPeerIdleTimeout(5000L);
+        ThreadedDtlsServerWorkflowExecutor server = new ThreadedDtlsServerWorkflowExecutor(new State(serverConfig));
+        server.initialize();
+        int port = server.getBoundPort();
+        Thread serverThread = new Thread(server::executeWorkflow);
+        serverThread.start();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_COUNT);
+        try {
+            List<Future<State>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENT_COUNT; i++) {
+                futures.add(clients.submit(() -> {
+                    State clientState = new State(createConfig(RunningModeType.CLIENT, port));
+                    new DTLSWorkflowExecutor(clientState).executeWorkflow();
+                    return clientState;
+                }));
+            }
+            for (Future<State> future : futures) {
+                assertTrue(future.get().getWorkflowTrace().executedAsPlanned());
+            }
+            // peers are forgotten once their workflow is done
+            long deadline = System.currentTimeMillis() + 5000;
+            while (server.getPeerCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getPeerCount());
+        } finally {
+            clients.shutdownNow();
+            server.kill();
+            serverThread.join();
+        }
+    }
+}
@@ -110,6 +110,31 @@ public class WorkflowTraceSerializerTest {
         }
     }
 
+    @Test
+    public void testSecureReadFolder() throws Exception {
+        File traceFolder = folder.newFolder();
+        WorkflowConfigurationFactory factory = new WorkflowConfigurationFactory(config);
+        WorkflowTraceSerializer.write(new File(traceFolder, "full.xml"),
+            factory.createWorkflowTrace(WorkflowTraceType.FULL, RunningModeType.CLIENT));
+        WorkflowTraceSerializer.write(new File(traceFolder, "hello.xml"),
+            factory.createWorkflowTrace(WorkflowTraceType.HELLO, RunningModeType.CLIENT));
+        try (PrintWriter writer = new PrintWriter(new File(traceFolder, "invalid.xml"))) {
+            writer.print("<workflowTrace><unknownAction/></workflowTrace>");
+        }
+        try (PrintWriter writer = new PrintWriter(new File(traceFolder, ".gitignore"))) {
+            writer.print("*");
+        }
+
+        List<WorkflowTrace> traces = WorkflowTraceSerializer.secureReadFolder(traceFolder);
+        // the invalid trace is skipped
+        Assert.assertEquals(2, traces.size());
+        for (WorkflowTrace trace : traces) {
+            Assert.assertTrue(trace.getName().endsWith("full.xml") || trace.getName().endsWith("hello.xml"));
+            Assert.assertFalse(trace.getTlsActions().isEmpty());
+        }
+        Assert.assertTrue(WorkflowTraceSerializer.insecureReadFolder(traceFolder).size() >= 2);
+    }
+
     /**
      * Verify that serialized/XML with default connection end looks as expected. If there is no custom connection end
      * defined in the workflow trace, the default connection end from the config should be used. The default connection
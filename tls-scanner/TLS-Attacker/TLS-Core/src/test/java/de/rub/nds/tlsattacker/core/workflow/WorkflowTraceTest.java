@@ -9,7 +9,9 @@
 
 package de.rub.nds.tlsattacker.core.workflow;
 
+import de.rub.nds.modifiablevariable.util.Modifiable;
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.RunningModeType;
 import de.rub.nds.tlsattacker.core.protocol.message.AlertMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.HeartbeatMessage;
@@ -19,6 +21,8 @@ import de.rub.nds.tlsattacker.core.workflow.action.ChangeClientRandomAction;
 import de.rub.nds.tlsattacker.core.workflow.action.ReceiveAction;
 import de.rub.nds.tlsattacker.core.workflow.action.SendAction;
 import de.rub.nds.tlsattacker.core.workflow.action.TlsAction;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowConfigurationFactory;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
 import java.util.LinkedList;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -276,4 +280,47 @@ public class WorkflowTraceTest {
         assertEquals(ch, trace.getFirstSendMessage(ClientHelloMessage.class));
         assertEquals(hb, trace.getFirstSendMessage(HeartbeatMessage.class));
     }
+
+    @Test
+    public void testCopy() throws Exception {
+        WorkflowConfigurationFactory factory = new WorkflowConfigurationFactory(config);
+        for (WorkflowTraceType type : WorkflowTraceType.values()) {
+            RunningModeType mode = type.name().contains("MITM") || type.name().contains("PROXY") ? RunningModeType.MITM
+                : RunningModeType.CLIENT;
+            WorkflowTrace original = factory.createWorkflowTrace(type, mode);
+            original.setName(type.name());
+            original.getTlsActions().forEach(action -> action.setSingleConnectionWorkflow(false));
+
+            WorkflowTrace copy = WorkflowTrace.copy(original);
+            assertEquals(WorkflowTraceSerializer.write(original), WorkflowTraceSerializer.write(copy));
+            assertEquals(original.getTlsActions().size(), copy.getTlsActions().size());
+            for (int i = 0; i < original.getTlsActions().size(); i++) {
+                assertNotSame(original.getTlsActions().get(i), copy.getTlsActions().get(i));
+                assertFalse(copy.getTlsActions().get(i).isSingleConnectionWorkflow());
+            }
+            for (int i = 0; i < original.getConnections().size(); i++) {
+                assertNotSame(original.getConnections().get(i), copy.getConnections().get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testCopyWithModifications() throws Exception {
+        ClientHelloMessage clientHello = new ClientHelloMessage(config);
+        clientHello.setRandom(Modifiable.explicit(new byte[32]));
+        WorkflowTrace original = new WorkflowTrace();
+        original.addTlsAction(new SendAction(clientHello));
+        original.getTlsActions().get(0).setSingleConnectionWorkflow(false);
+
+        WorkflowTrace copy = WorkflowTrace.copy(original);
+        assertEquals(WorkflowTraceSerializer.write(original), WorkflowTraceSerializer.write(copy));
+        assertNotSame(original.getTlsActions().get(0), copy.getTlsActions().get(0));
+        assertFalse(copy.getTlsActions().get(0).isSingleConnectionWorkflow());
+
+        ClientHelloMessage copiedHello =
+            (ClientHelloMessage) ((SendAction) copy.getTlsActions().get(0)).getMessages().get(0);
+        assertNotSame(clientHello.getRandom(), copiedHello.getRandom());
+        assertNotSame(clientHello.getRandom().getModification(), copiedHello.getRandom().getModification());
+        assertArrayEquals(new byte[32], copiedHello.getRandom().getValue());
+    }
 }
@@ -74,6 +74,15 @@ public class SendActionTest {
         assertTrue(action.isExecuted());
     }
 
+    @Test
+    public void testExecuteCopy() {
+        SendAction copy = (SendAction) WorkflowTrace.copy(state.getWorkflowTrace()).getTlsActions().get(0);
+        assertNotSame(action, copy);
+        copy.execute(state);
+        assertTrue(copy.isExecuted());
+        assertFalse(action.isExecuted());
+    }
+
     @Test
     public void testReset() {
         assertFalse(action.isExecuted());
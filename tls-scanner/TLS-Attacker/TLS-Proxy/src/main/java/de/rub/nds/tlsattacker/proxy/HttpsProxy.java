@@ -9,11 +9,16 @@
 
 package de.rub.nds.tlsattacker.proxy;
 
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.config.ConfigIO;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -44,17 +49,28 @@ public class HttpsProxy {
     public void start() throws IOException {
         LOGGER.info("Proxy started...");
         ServerSocketFactory ssf = getServerSocketFactory();
-        ServerSocket serverSocket = new ServerSocket(proxyConfig.getListeningPort());
-        while (true) {
-            try {
-                Socket socket = serverSocket.accept();
-                LOGGER.info("Received a connection");
-                ProxyConnection proxyConnection = new ProxyConnection(proxyConfig, socket);
-                Thread t = new Thread(proxyConnection);
-                t.start();
-            } catch (IOException ex) {
-                LOGGER.error("Caught an IO exception...", ex);
+        Config config;
+        if (proxyConfig.getDefaultConfig() != null) {
+            config = ConfigIO.read(new File(proxyConfig.getDefaultConfig()));
+        } else {
+            config = Config.createConfig();
+        }
+        ProxyEventLoop eventLoop =
+            new ProxyEventLoop(proxyConfig.getThreads(), proxyConfig.getConnectThreads(), proxyConfig.getIdleTimeout());
+        new Thread(eventLoop, "ProxyEventLoop").start();
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            serverChannel.bind(new InetSocketAddress(proxyConfig.getListeningPort()));
+            while (true) {
+                try {
+                    SocketChannel channel = serverChannel.accept();
+                    LOGGER.info("Received a connection");
+                    eventLoop.register(channel, new ProxyConnection(proxyConfig, config.createCopy(), channel));
+                } catch (IOException ex) {
+                    LOGGER.error("Caught an IO exception...", ex);
+                }
             }
+        } finally {
+            eventLoop.close();
         }
     }
 
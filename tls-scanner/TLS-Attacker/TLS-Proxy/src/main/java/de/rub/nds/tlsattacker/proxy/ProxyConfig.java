@@ -32,6 +32,17 @@ public class ProxyConfig {
     @Parameter(names = "-password", required = true, description = "The password of the certificate")
     private String password = null;
 
+    @Parameter(names = "-threads", description = "The number of threads which handle the data of the connections")
+    private int threads = 4;
+
+    @Parameter(names = "-connectThreads",
+        description = "The number of threads which connect to the destinations, further connections wait for one")
+    private int connectThreads = 16;
+
+    @Parameter(names = "-idleTimeout",
+        description = "Connections which did not send data for this many milliseconds are closed")
+    private long idleTimeout = 60000;
+
     public ProxyConfig() {
     }
 
@@ -82,4 +93,28 @@ public class ProxyConfig {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getConnectThreads() {
+        return connectThreads;
+    }
+
+    public void setConnectThreads(int connectThreads) {
+        this.connectThreads = connectThreads;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
 }
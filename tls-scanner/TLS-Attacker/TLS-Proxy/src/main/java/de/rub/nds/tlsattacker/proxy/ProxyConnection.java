@@ -10,88 +10,199 @@
 package de.rub.nds.tlsattacker.proxy;
 
 import de.rub.nds.tlsattacker.core.config.Config;
-import de.rub.nds.tlsattacker.core.config.ConfigIO;
 import de.rub.nds.tlsattacker.core.socket.TlsAttackerSslSocket;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.InputStream;
-import java.net.Socket;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class ProxyConnection implements Runnable {
+/**
+ * A connection of a client to the proxy. The data of the client is buffered until the next step, i.e. the Socks5
+ * greeting or the request, is complete. Afterwards it is relayed to the server.
+ */
+public class ProxyConnection implements Closeable {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
-    private final Socket incomingSocket;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final SocketChannel incomingChannel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
 
     private TlsAttackerSslSocket socket;
 
-    private final boolean initialized = false;
+    /**
+     * Set once a CONNECT request is received, until then the requested destination is unknown
+     */
+    private String destinationHostname;
+    private int destinationPort;
+
+    private boolean initialized = false;
     private final Config config;
     private final ProxyConfig proxyConfig;
 
-    public ProxyConnection(ProxyConfig proxyConfig, Socket socket) throws FileNotFoundException {
-        this.incomingSocket = socket;
+    private volatile long lastActivity;
+
+    public ProxyConnection(ProxyConfig proxyConfig, Config config, SocketChannel incomingChannel) {
+        this.incomingChannel = incomingChannel;
         this.proxyConfig = proxyConfig;
-        if (proxyConfig.getDefaultConfig() != null) {
-            config = ConfigIO.read(new FileInputStream(proxyConfig.getDefaultConfig()));
-        } else {
-            config = Config.createConfig();
+        this.config = config;
+        this.lastActivity = System.currentTimeMillis();
+        LOGGER.debug("Accepted a connection!");
+    }
+
+    /**
+     * Handles the data which is available on the non-blocking incoming channel. Only called by one thread at a time.
+     *
+     * @return             False if the connection should be closed
+     * @throws IOException
+     *                     If the data cannot be read or relayed
+     */
+    public boolean onReadable() throws IOException {
+        int read = incomingChannel.read(buffer);
+        if (read < 0) {
+            LOGGER.debug("Client closed the connection");
+            return false;
         }
-        System.out.println("Accepted a connection!");
+        lastActivity = System.currentTimeMillis();
+        buffer.flip();
+        boolean open = processBuffer();
+        buffer.compact();
+        if (open && !buffer.hasRemaining()) {
+            LOGGER.warn("Request does not fit into " + BUFFER_SIZE + " bytes");
+            return false;
+        }
+        return open;
     }
 
-    @Override
-    public void run() {
-        while (!incomingSocket.isClosed()) {
-            try {
-                if (incomingSocket.getInputStream().available() > 0) {
-                    if (!initialized) {
-
-                        System.out.println("Received data");
-                        InputStream inputStream = incomingSocket.getInputStream();
-                        if (inputStream.read() != 5) {
-                            throw new Exception("Connection is not Socks5 - only socks5 supported");
-                        }
-                        int length = inputStream.read();
-                        System.out.println("Read:" + length);
-                        for (int i = 0; i < length; i++) {
-                            System.out.println("Reading authentication method");
-                            inputStream.read();
-                        }
-                        System.out.println("Sending answer");
-                        incomingSocket.getOutputStream().write(new byte[] { 0x05, 0x00 });
-                        incomingSocket.getOutputStream().flush();
-                        String line = "";
-                        LOGGER.info("Received: " + line);
-                        String[] parsed = line.split(" ");
-                        if (parsed.length >= 3) {
-                            String method = parsed[0];
-                            String destinationhostport = parsed[1];
-                            String protocol = parsed[2];
-
-                            if (method.equals("CONNECT")) {
-                                String hostname = destinationhostport.split(":")[0];
-                                int port = Integer.parseInt(destinationhostport.split(":")[1]);
-                                socket = new TlsAttackerSslSocket(config, hostname, port,
-                                    config.getDefaultClientConnection().getTimeout());
-                            } else {
-                                // ???
-                            }
-                        }
-
-                    }
-                } else {
-                    Thread.currentThread().sleep(50);
-                }
-            } catch (Exception E) {
+    private boolean processBuffer() throws IOException {
+        if (!initialized) {
+            if (buffer.remaining() < 2) {
+                return true;
             }
+            if (buffer.get(buffer.position()) != 5) {
+                LOGGER.warn("Connection is not Socks5 - only socks5 supported");
+                return false;
+            }
+            int length = buffer.get(buffer.position() + 1) & 0xFF;
+            if (buffer.remaining() < 2 + length) {
+                return true;
+            }
+            // the authentication methods are ignored
+            buffer.position(buffer.position() + 2 + length);
+            LOGGER.debug("Sending answer");
+            ByteBuffer answer = ByteBuffer.wrap(new byte[] { 0x05, 0x00 });
+            while (answer.hasRemaining()) {
+                incomingChannel.write(answer);
+            }
+            initialized = true;
+        }
+        while (socket == null) {
+            if (isConnectPending()) {
+                // the remaining data is relayed once the connection is established
+                return true;
+            }
+            String line = readLine();
+            if (line == null) {
+                return true;
+            }
+            LOGGER.info("Received: " + line);
+            handleRequest(line);
         }
+        relayBuffer();
+        return true;
+    }
+
+    private void relayBuffer() throws IOException {
+        if (buffer.hasRemaining()) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            outputStream.flush();
+            buffer.position(buffer.limit());
+        }
+    }
+
+    /**
+     * @return True if a CONNECT request was received and {@link #connect()} has to be called before further data can be
+     *         relayed
+     */
+    public boolean isConnectPending() {
+        return socket == null && destinationHostname != null;
+    }
+
+    /**
+     * Connects to the requested destination, performs the TLS handshake and relays the data which was received in the
+     * meantime. Every step blocks for up to the timeout of the connection, so this is not called by the read workers.
+     *
+     * @throws IOException
+     *                     If the destination cannot be reached or the data cannot be relayed
+     */
+    public void connect() throws IOException {
+        LOGGER.debug("Connecting to " + destinationHostname + ":" + destinationPort);
+        TlsAttackerSslSocket newSocket = new TlsAttackerSslSocket(config, destinationHostname, destinationPort,
+            config.getDefaultClientConnection().getTimeout());
+        socket = newSocket;
+        newSocket.startHandshake();
+        lastActivity = System.currentTimeMillis();
+        buffer.flip();
+        try {
+            relayBuffer();
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * @return The next complete line in the buffer without its line break, null if the buffer holds no complete line
+     */
+    private String readLine() {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) == '\n') {
+                byte[] line = new byte[i - buffer.position()];
+                buffer.get(line);
+                buffer.get();
+                return new String(line, StandardCharsets.US_ASCII).trim();
+            }
+        }
+        return null;
+    }
+
+    private void handleRequest(String line) throws IOException {
+        String[] parsed = line.split(" ");
+        if (parsed.length >= 3) {
+            String method = parsed[0];
+            String destinationhostport = parsed[1];
+
+            if (method.equals("CONNECT")) {
+                destinationHostname = destinationhostport.split(":")[0];
+                destinationPort = Integer.parseInt(destinationhostport.split(":")[1]);
+            } else {
+                LOGGER.warn("Unsupported method: " + method);
+            }
+        }
+    }
+
+    public long getLastActivity() {
+        return lastActivity;
     }
 
     public void setSocket(TlsAttackerSslSocket socket) {
         this.socket = socket;
     }
 
+    @Override
+    public void close() throws IOException {
+        try {
+            incomingChannel.close();
+        } finally {
+            if (socket != null) {
+                socket.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,200 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.proxy;
+
+import de.rub.nds.tlsattacker.core.workflow.NamedThreadFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Waits for data on all proxy connections in a single selector thread. Readable connections are handled by a fixed
+ * number of worker threads, so idle connections do not occupy a thread. The connections to the destinations block for
+ * up to their timeout and are therefore established by a fixed number of separate connector threads. Connections which
+ * wait for a free connector are not read and not closed as idle. Connections which stay idle longer than the idle
+ * timeout are closed.
+ */
+public class ProxyEventLoop implements Runnable, Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final long MAX_SELECT_MILLIS = 1000;
+
+    private final Selector selector;
+
+    private final ExecutorService workers;
+
+    private final ExecutorService connectors;
+
+    private final long idleTimeout;
+
+    /**
+     * Changes of the registrations, only the selector thread may apply them
+     */
+    private final Queue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+
+    public ProxyEventLoop(int threads, int connectThreads, long idleTimeout) throws IOException {
+        this.selector = Selector.open();
+        this.workers = Executors.newFixedThreadPool(threads, new NamedThreadFactory("ProxyWorker"));
+        this.connectors = Executors.newFixedThreadPool(connectThreads, new NamedThreadFactory("ProxyConnector"));
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Switches the channel to non-blocking mode and watches it for incoming data
+     *
+     * @param  channel
+     *                     The accepted channel
+     * @param  connection
+     *                     The connection which handles the data of the channel
+     * @throws IOException
+     *                     If the channel cannot be switched to non-blocking mode
+     */
+    public void register(SocketChannel channel, ProxyConnection connection) throws IOException {
+        channel.configureBlocking(false);
+        update(() -> {
+            try {
+                channel.register(selector, SelectionKey.OP_READ, connection);
+            } catch (ClosedChannelException ex) {
+                LOGGER.debug("Connection was closed before it was registered");
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        while (selector.isOpen()) {
+            try {
+                selector.select(Math.min(idleTimeout, MAX_SELECT_MILLIS));
+                Runnable update;
+                while ((update = pendingUpdates.poll()) != null) {
+                    update.run();
+                }
+                if (!selector.isOpen()) {
+                    break;
+                }
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (key.isValid() && key.isReadable()) {
+                        // the key is re-armed once the worker is done
+                        key.interestOps(0);
+                        workers.execute(() -> handle(key));
+                    }
+                }
+                closeIdleConnections();
+            } catch (ClosedSelectorException ex) {
+                break;
+            } catch (IOException ex) {
+                LOGGER.error("Caught an IO exception...", ex);
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        ProxyConnection connection = (ProxyConnection) key.attachment();
+        boolean open;
+        try {
+            open = connection.onReadable();
+        } catch (Exception ex) {
+            LOGGER.warn("Closing connection", ex);
+            open = false;
+        }
+        if (open && connection.isConnectPending()) {
+            // the key stays disarmed, so the connection is neither read nor closed as idle while it waits for a
+            // connector or connects
+            connectors.execute(() -> connect(key));
+        } else {
+            rearmOrClose(key, open);
+        }
+    }
+
+    private void connect(SelectionKey key) {
+        boolean open = false;
+        try {
+            ((ProxyConnection) key.attachment()).connect();
+            open = true;
+        } catch (Exception ex) {
+            LOGGER.warn("Could not connect to the destination, closing connection", ex);
+        } finally {
+            // errors must not leave the connection disarmed forever
+            rearmOrClose(key, open);
+        }
+    }
+
+    private void rearmOrClose(SelectionKey key, boolean open) {
+        if (open) {
+            update(() -> {
+                if (key.isValid()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            });
+        } else {
+            close(key);
+        }
+    }
+
+    private void closeIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (SelectionKey key : selector.keys()) {
+            // connections which are handled by a worker are not idle
+            if (key.isValid() && key.interestOps() != 0
+                && now - ((ProxyConnection) key.attachment()).getLastActivity() > idleTimeout) {
+                LOGGER.debug("Closing idle connection");
+                close(key);
+            }
+        }
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            ((ProxyConnection) key.attachment()).close();
+        } catch (IOException ex) {
+            LOGGER.debug("Could not close connection", ex);
+        }
+    }
+
+    private void update(Runnable update) {
+        pendingUpdates.add(update);
+        selector.wakeup();
+    }
+
+    /**
+     * Closes all connections and stops the selector, worker and connector threads
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        connectors.shutdownNow();
+        update(() -> {
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException ex) {
+                LOGGER.debug("Could not close selector", ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.Security;
+import java.util.LinkedList;
+import java.util.List;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ProxyEventLoopTest {
+
+    private static final long IDLE_TIMEOUT = 300;
+
+    private static final int CONNECT_THREADS = 2;
+
+    private final InetAddress localhost = InetAddress.getLoopbackAddress();
+
+    private final List<Socket> clients = new LinkedList<>();
+
+    private Config config;
+
+    private ServerSocketChannel serverChannel;
+
+    private ProxyEventLoop eventLoop;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        config = Config.createConfig();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(localhost, 0));
+        // a single worker, so a blocked worker would stall every connection
+        eventLoop = new ProxyEventLoop(1, CONNECT_THREADS, IDLE_TIMEOUT);
+        new Thread(eventLoop, "ProxyEventLoopTest").start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        eventLoop.close();
+        for (Socket client : clients) {
+            client.close();
+        }
+        serverChannel.close();
+    }
+
+    private Socket connectClient() throws IOException {
+        Socket client = new Socket(localhost, serverChannel.socket().getLocalPort());
+        client.setSoTimeout(5000);
+        clients.add(client);
+        SocketChannel channel = serverChannel.accept();
+        eventLoop.register(channel, new ProxyConnection(new ProxyConfig(), config, channel));
+        return client;
+    }
+
+    private Socket connectClientTo(ServerSocket destination) throws IOException {
+        Socket client = connectClient();
+        OutputStream outputStream = client.getOutputStream();
+        outputStream.write(new byte[] { 0x05, 0x01, 0x00 });
+        outputStream.write(("CONNECT " + localhost.getHostAddress() + ":" + destination.getLocalPort() + " HTTP/1.1\n")
+            .getBytes(StandardCharsets.US_ASCII));
+        outputStream.flush();
+        return client;
+    }
+
+    private static long countConnectorThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("ProxyConnector")).count();
+    }
+
+    private byte[] readGreetingAnswer(Socket client) throws IOException {
+        InputStream inputStream = client.getInputStream();
+        return new byte[] { (byte) inputStream.read(), (byte) inputStream.read() };
+    }
+
+    @Test
+    public void testSplitGreeting() throws Exception {
+        Socket client = connectClient();
+        OutputStream outputStream = client.getOutputStream();
+        outputStream.write(new byte[] { 0x05 });
+        outputStream.flush();
+        Thread.sleep(100);
+        outputStream.write(new byte[] { 0x01, 0x00 });
+        outputStream.flush();
+
+        assertArrayEquals(new byte[] { 0x05, 0x00 }, readGreetingAnswer(client));
+    }
+
+    @Test
+    public void testNonSocks5ConnectionIsClosed() throws IOException {
+        Socket client = connectClient();
+        client.getOutputStream().write(new byte[] { 0x04, 0x01, 0x00 });
+        client.getOutputStream().flush();
+
+        assertEquals(-1, client.getInputStream().read());
+    }
+
+    @Test
+    public void testIdleConnectionIsClosed() throws IOException {
+        long start = System.currentTimeMillis();
+        Socket client = connectClient();
+
+        assertEquals(-1, client.getInputStream().read());
+        assertTrue(System.currentTimeMillis() - start >= IDLE_TIMEOUT);
+    }
+
+    /**
+     * A destination which accepts the connection but never answers the ClientHello must not stall the other connections
+     * while the handshake waits for its timeout
+     */
+    @Test
+    public void testConnectDoesNotBlockWorkers() throws IOException {
+        config.getDefaultClientConnection().setTimeout(3000);
+        try (ServerSocket silentDestination = new ServerSocket(0, 50, localhost)) {
+            Socket connectingClient = connectClientTo(silentDestination);
+            assertArrayEquals(new byte[] { 0x05, 0x00 }, readGreetingAnswer(connectingClient));
+
+            Socket otherClient = connectClient();
+            otherClient.setSoTimeout(1000);
+            otherClient.getOutputStream().write(new byte[] { 0x05, 0x01, 0x00 });
+            otherClient.getOutputStream().flush();
+            assertArrayEquals(new byte[] { 0x05, 0x00 }, readGreetingAnswer(otherClient));
+        }
+    }
+
+    /**
+     * Many connections to a silent destination must wait for the fixed number of connector threads instead of each
+     * occupying a thread of its own
+     */
+    @Test
+    public void testConnectThreadsAreBounded() throws Exception {
+        config.getDefaultClientConnection().setTimeout(3000);
+        long threadsBefore = countConnectorThreads();
+        try (ServerSocket silentDestination = new ServerSocket(0, 50, localhost)) {
+            List<Socket> connectingClients = new LinkedList<>();
+            for (int i = 0; i < 20; i++) {
+                connectingClients.add(connectClientTo(silentDestination));
+            }
+            for (Socket connectingClient : connectingClients) {
+                assertArrayEquals(new byte[] { 0x05, 0x00 }, readGreetingAnswer(connectingClient));
+            }
+            // give every CONNECT request the time to reach the connectors
+            Thread.sleep(500);
+
+            assertTrue(countConnectorThreads() - threadsBefore <= CONNECT_THREADS);
+        }
+    }
+}
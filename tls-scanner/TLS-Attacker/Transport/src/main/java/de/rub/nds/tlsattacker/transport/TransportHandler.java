@@ -40,6 +40,16 @@ public abstract class TransportHandler {
 
     protected SocketState cachedSocketState = null;
 
+    private long sentBytes = 0;
+
+    private long receivedBytes = 0;
+
+    private long sentPackets = 0;
+
+    private long receivedPackets = 0;
+
+    private long timeouts = 0;
+
     public TransportHandler(Connection con) {
         this.firstTimeout = con.getFirstTimeout();
         this.connectionEndType = con.getLocalConnectionEndType();
@@ -72,6 +82,7 @@ public abstract class TransportHandler {
         for (int i = 0; i < amountOfData; i++) {
             stream.write(inStream.read());
         }
+        receivedBytes += amountOfData;
         return stream.toByteArray();
     }
 
@@ -87,6 +98,7 @@ public abstract class TransportHandler {
             if (inStream.available() != 0) {
                 byte[] data = new byte[inStream.available()];
                 inStream.read(data);
+                countReceivedData(data.length);
                 return data;
             } else {
                 int read = inStream.read();
@@ -98,6 +110,7 @@ public abstract class TransportHandler {
                         inStream.read(data);
                         stream.write(data);
                     }
+                    countReceivedData(stream.size());
                     return stream.toByteArray();
                 } else {
                     cachedSocketState = SocketState.CLOSED;
@@ -109,16 +122,24 @@ public abstract class TransportHandler {
             cachedSocketState = SocketState.SOCKET_EXCEPTION;
             return new byte[0];
         } catch (SocketTimeoutException E) {
+            timeouts++;
             return new byte[0];
         }
     }
 
+    private void countReceivedData(int length) {
+        receivedBytes += length;
+        receivedPackets++;
+    }
+
     public void sendData(byte[] data) throws IOException {
         if (!initialized) {
             throw new IOException("Transport handler is not initialized!");
         }
         outStream.write(data);
         outStream.flush();
+        sentBytes += data.length;
+        sentPackets++;
     }
 
     protected final void setStreams(PushbackInputStream inStream, OutputStream outStream) {
@@ -143,4 +164,35 @@ public abstract class TransportHandler {
 
     public abstract void setTimeout(long timeout);
 
+    public long getSentBytes() {
+        return sentBytes;
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * @return The number of calls to {@link #sendData(byte[])}, for UDP transport handlers every call sends one
+     *         datagram
+     */
+    public long getSentPackets() {
+        return sentPackets;
+    }
+
+    /**
+     * @return The number of calls to {@link #fetchData()} which returned data, for UDP transport handlers this is the
+     *         number of received datagrams
+     */
+    public long getReceivedPackets() {
+        return receivedPackets;
+    }
+
+    /**
+     * @return The number of calls to {@link #fetchData()} which ran into the timeout
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
 }
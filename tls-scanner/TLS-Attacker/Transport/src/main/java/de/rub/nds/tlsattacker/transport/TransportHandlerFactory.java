@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.transport.tcp.timing.TimingClientTcpTransportHandl
 import de.rub.nds.tlsattacker.transport.tcp.timing.TimingServerTcpTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.ClientUdpTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.ServerUdpTransportHandler;
+import de.rub.nds.tlsattacker.transport.udp.nio.ClientNioUdpTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.proxy.ProxyClientUdpTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.timing.TimingClientUdpTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.timing.TimingServerUdpTransportHandler;
@@ -83,6 +84,12 @@ public class TransportHandlerFactory {
                 } else {
                     return new ServerTcpFragmentationTransportHandler(con);
                 }
+            case UDP_NIO:
+                if (localConEndType == ConnectionEndType.CLIENT) {
+                    return new ClientNioUdpTransportHandler(con);
+                } else {
+                    return new ServerUdpTransportHandler(con);
+                }
             default:
                 throw new UnsupportedOperationException(
                     "Transport handler " + con.getTransportHandlerType() + " is not supported");
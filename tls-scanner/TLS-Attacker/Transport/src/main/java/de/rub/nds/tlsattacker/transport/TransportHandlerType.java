@@ -20,6 +20,7 @@ public enum TransportHandlerType {
     UDP_PROXY,
     TCP_PROXY_TIMING,
     TCP_NO_DELAY,
-    TCP_FRAGMENTATION
+    TCP_FRAGMENTATION,
+    UDP_NIO
 
 }
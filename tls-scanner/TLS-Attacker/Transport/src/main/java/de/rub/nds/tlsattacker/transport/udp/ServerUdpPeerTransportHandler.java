@@ -0,0 +1,96 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp;
+
+import de.rub.nds.tlsattacker.transport.Connection;
+import de.rub.nds.tlsattacker.transport.udp.nio.DatagramQueueInputStream;
+import de.rub.nds.tlsattacker.transport.udp.stream.UdpOutputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Server transport handler for a single peer of a shared, unconnected datagram socket. The datagrams of the peer are
+ * demultiplexed by the owner of the socket and put into the receive queue, responses are sent to the address of the
+ * peer. Closing the handler does not close the shared socket.
+ */
+public class ServerUdpPeerTransportHandler extends UdpTransportHandler {
+
+    private final InetSocketAddress peerAddress;
+
+    private final BlockingQueue<byte[]> receiveQueue;
+
+    private DatagramQueueInputStream datagramInStream;
+
+    private volatile boolean closed = false;
+
+    public ServerUdpPeerTransportHandler(Connection con, DatagramSocket socket, InetSocketAddress peerAddress,
+        BlockingQueue<byte[]> receiveQueue) {
+        super(con);
+        this.socket = socket;
+        this.port = socket.getLocalPort();
+        this.peerAddress = peerAddress;
+        this.receiveQueue = receiveQueue;
+    }
+
+    @Override
+    public void preInitialize() throws IOException {
+        // the shared socket is already bound
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        datagramInStream = new DatagramQueueInputStream(receiveQueue, timeout);
+        setStreams(new PushbackInputStream(datagramInStream),
+            new UdpOutputStream(socket, peerAddress.getAddress().getHostAddress(), peerAddress.getPort()));
+        cachedSocketState = null;
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+        if (datagramInStream != null) {
+            datagramInStream.setTimeout(timeout);
+        }
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        closed = true;
+        if (datagramInStream != null) {
+            datagramInStream.close();
+        }
+    }
+
+    @Override
+    public void closeClientConnection() throws IOException {
+        closeConnection();
+    }
+
+    @Override
+    public boolean isClosed() throws IOException {
+        return closed || socket.isClosed();
+    }
+
+    @Override
+    public int getDstPort() {
+        return peerAddress.getPort();
+    }
+
+    public InetSocketAddress getPeerAddress() {
+        return peerAddress;
+    }
+
+    public BlockingQueue<byte[]> getReceiveQueue() {
+        return receiveQueue;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.nio;
+
+import de.rub.nds.tlsattacker.transport.Connection;
+import de.rub.nds.tlsattacker.transport.udp.ClientUdpTransportHandler;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Client UDP transport handler that uses a non-blocking {@link DatagramChannel}. Instead of blocking a thread on a
+ * socket, the channel is registered with the shared {@link DatagramSelector} which queues received datagrams for this
+ * connection. Every call to {@link #fetchData()} returns at most one datagram.
+ */
+public class ClientNioUdpTransportHandler extends ClientUdpTransportHandler {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private DatagramChannel channel;
+
+    private DatagramQueueInputStream datagramInStream;
+
+    private final BlockingQueue<byte[]> receiveQueue = new LinkedBlockingQueue<>();
+
+    public ClientNioUdpTransportHandler(Connection connection) {
+        super(connection);
+    }
+
+    public ClientNioUdpTransportHandler(long firstTimeout, long timeout, String hostname, int port) {
+        super(firstTimeout, timeout, hostname, port);
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        LOGGER.debug("Initializing ClientNioUdpTransportHandler host: {}, port: {}", hostname, port);
+        channel = DatagramChannel.open();
+        if (sourcePort == null) {
+            channel.bind(null);
+        } else {
+            channel.bind(new InetSocketAddress(sourcePort));
+        }
+        channel.connect(new InetSocketAddress(hostname, port));
+        channel.configureBlocking(false);
+        socket = channel.socket();
+        cachedSocketState = null;
+        DatagramSelector.getInstance().register(channel, receiveQueue);
+        datagramInStream = new DatagramQueueInputStream(receiveQueue, timeout);
+        setStreams(new PushbackInputStream(datagramInStream), new DatagramChannelOutputStream(channel));
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+        if (datagramInStream != null) {
+            datagramInStream.setTimeout(timeout);
+        }
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        if (channel == null) {
+            throw new IOException("Transport handler is not initialized!");
+        }
+        DatagramSelector.getInstance().deregister(channel);
+        channel.close();
+        inStream.close();
+        outStream.close();
+    }
+
+    @Override
+    public boolean isClosed() throws IOException {
+        return channel == null || !channel.isOpen();
+    }
+
+    @Override
+    public int getDstPort() {
+        if (channel == null) {
+            return -1;
+        }
+        InetSocketAddress remoteAddress;
+        try {
+            remoteAddress = (InetSocketAddress) channel.getRemoteAddress();
+        } catch (IOException e) {
+            return -1;
+        }
+        return remoteAddress == null ? -1 : remoteAddress.getPort();
+    }
+}
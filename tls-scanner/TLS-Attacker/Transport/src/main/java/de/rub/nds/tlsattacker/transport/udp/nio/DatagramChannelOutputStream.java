@@ -0,0 +1,76 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.nio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Buffers written bytes and sends them as one datagram on {@link #flush()}. The channel has to be connected.
+ */
+public class DatagramChannelOutputStream extends OutputStream {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final int BUFFER_SIZE = 16384;
+
+    private final DatagramChannel channel;
+
+    private final ByteBuffer dataBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    public DatagramChannelOutputStream(DatagramChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(int i) throws IOException {
+        dataBuffer.put((byte) (i & 0x0ff));
+        if (!dataBuffer.hasRemaining()) {
+            flush();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int toCopy = Math.min(len, dataBuffer.remaining());
+            dataBuffer.put(b, off, toCopy);
+            off += toCopy;
+            len -= toCopy;
+            if (!dataBuffer.hasRemaining()) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        dataBuffer.flip();
+        if (dataBuffer.hasRemaining()) {
+            int length = dataBuffer.remaining();
+            // a non-blocking channel sends the whole datagram or nothing at all
+            if (channel.write(dataBuffer) == 0) {
+                LOGGER.warn("Send buffer is full, dropped datagram of {} bytes", length);
+            }
+        }
+        dataBuffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.nio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads datagrams that have been received by the {@link DatagramSelector}. {@link #available()} never exceeds the
+ * remaining bytes of the current datagram, so callers that read everything available consume exactly one datagram.
+ */
+public class DatagramQueueInputStream extends InputStream {
+
+    private final BlockingQueue<byte[]> receiveQueue;
+
+    private long timeout;
+
+    /**
+     * The datagram that is currently read
+     */
+    private byte[] datagram = new byte[0];
+
+    /**
+     * The index of the next byte to be read in the datagram
+     */
+    private int index = 0;
+
+    private volatile boolean closed = false;
+
+    public DatagramQueueInputStream(BlockingQueue<byte[]> receiveQueue, long timeout) {
+        this.receiveQueue = receiveQueue;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Blocks until a datagram is received or the timeout is reached. Only returns -1 if the stream has been closed.
+     */
+    @Override
+    public int read() throws IOException {
+        if (!ensureData()) {
+            return -1;
+        }
+        return datagram[index++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || b.length - off < len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        int toCopy = Math.min(len, datagram.length - index);
+        System.arraycopy(datagram, index, b, off, toCopy);
+        index += toCopy;
+        return toCopy;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (datagram.length - index == 0) {
+            byte[] next = receiveQueue.poll();
+            if (next != null) {
+                setDatagram(next);
+            }
+        }
+        return datagram.length - index;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /*
+     * Makes sure that the current datagram has unread bytes. Returns false if the stream is closed and no data is left.
+     */
+    private boolean ensureData() throws IOException {
+        while (datagram.length - index == 0) {
+            if (closed && receiveQueue.isEmpty()) {
+                return false;
+            }
+            byte[] next;
+            try {
+                next = receiveQueue.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a datagram");
+            }
+            if (next == null) {
+                throw new SocketTimeoutException("Did not receive a datagram within " + timeout + "ms");
+            }
+            setDatagram(next);
+        }
+        return true;
+    }
+
+    private void setDatagram(byte[] datagram) {
+        this.datagram = datagram;
+        this.index = 0;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Shares a single selector thread between all non-blocking datagram channels of the JVM. Every datagram that is
+ * received on a registered channel is copied into the receive queue of that channel, so datagram boundaries are
+ * preserved and no thread has to block on a socket per connection.
+ */
+public class DatagramSelector implements Runnable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Large enough for any UDP payload
+     */
+    private static final int RECEIVE_BUFFER_SIZE = 65536;
+
+    private static DatagramSelector instance = null;
+
+    public static synchronized DatagramSelector getInstance() throws IOException {
+        if (instance == null) {
+            instance = new DatagramSelector();
+            Thread selectorThread = new Thread(instance, "DatagramSelector");
+            selectorThread.setDaemon(true);
+            selectorThread.start();
+        }
+        return instance;
+    }
+
+    private final Selector selector;
+
+    private final Queue<PendingRegistration> pendingRegistrations = new ConcurrentLinkedQueue<>();
+
+    private final Queue<DatagramChannel> pendingDeregistrations = new ConcurrentLinkedQueue<>();
+
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(RECEIVE_BUFFER_SIZE);
+
+    private DatagramSelector() throws IOException {
+        selector = Selector.open();
+    }
+
+    /**
+     * Registers a non-blocking channel. Received datagrams are appended to the given queue until the channel is
+     * deregistered or closed.
+     *
+     * @param channel
+     *                     The channel to watch, has to be in non-blocking mode
+     * @param receiveQueue
+     *                     The queue received datagrams are put into
+     */
+    public void register(DatagramChannel channel, BlockingQueue<byte[]> receiveQueue) {
+        if (channel.isBlocking()) {
+            throw new IllegalArgumentException("Only non-blocking channels can be registered");
+        }
+        pendingRegistrations.add(new PendingRegistration(channel, receiveQueue));
+        selector.wakeup();
+    }
+
+    public void deregister(DatagramChannel channel) {
+        pendingDeregistrations.add(channel);
+        selector.wakeup();
+    }
+
+    public int getRegisteredChannelCount() {
+        return selector.keys().size();
+    }
+
+    @Override
+    public void run() {
+        while (selector.isOpen()) {
+            try {
+                selector.select();
+                processPendingDeregistrations();
+                processPendingRegistrations();
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    readDatagrams(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Error in datagram selector loop", e);
+            }
+        }
+    }
+
+    private void processPendingRegistrations() {
+        PendingRegistration registration;
+        while ((registration = pendingRegistrations.poll()) != null) {
+            try {
+                registration.channel.register(selector, SelectionKey.OP_READ, registration.receiveQueue);
+            } catch (ClosedChannelException e) {
+                LOGGER.debug("Channel was closed before it could be registered");
+            }
+        }
+    }
+
+    private void processPendingDeregistrations() {
+        DatagramChannel channel;
+        while ((channel = pendingDeregistrations.poll()) != null) {
+            SelectionKey key = channel.keyFor(selector);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readDatagrams(SelectionKey key) {
+        DatagramChannel channel = (DatagramChannel) key.channel();
+        BlockingQueue<byte[]> receiveQueue = (BlockingQueue<byte[]>) key.attachment();
+        try {
+            if (!key.isReadable()) {
+                return;
+            }
+            receiveBuffer.clear();
+            while (channel.receive(receiveBuffer) != null) {
+                receiveBuffer.flip();
+                byte[] datagram = new byte[receiveBuffer.remaining()];
+                receiveBuffer.get(datagram);
+                receiveQueue.add(datagram);
+                receiveBuffer.clear();
+            }
+        } catch (CancelledKeyException | ClosedChannelException e) {
+            key.cancel();
+        } catch (IOException e) {
+            // e.g. ICMP port unreachable on a connected channel, the next read may succeed again
+            LOGGER.debug("Could not read datagram", e);
+        }
+    }
+
+    private static class PendingRegistration {
+
+        private final DatagramChannel channel;
+
+        private final BlockingQueue<byte[]> receiveQueue;
+
+        PendingRegistration(DatagramChannel channel, BlockingQueue<byte[]> receiveQueue) {
+            this.channel = channel;
+            this.receiveQueue = receiveQueue;
+        }
+    }
+}
@@ -12,9 +12,14 @@ package de.rub.nds.tlsattacker.transport.udp.timing;
 import de.rub.nds.tlsattacker.transport.Connection;
 import de.rub.nds.tlsattacker.transport.TimeableTransportHandler;
 import de.rub.nds.tlsattacker.transport.udp.ClientUdpTransportHandler;
+import java.io.IOException;
 
 public class TimingClientUdpTransportHandler extends ClientUdpTransportHandler implements TimeableTransportHandler {
 
+    private Long measurement = null;
+
+    private Long lastSendTime = null;
+
     public TimingClientUdpTransportHandler(Connection connection) {
         super(connection);
     }
@@ -23,8 +28,35 @@ public class TimingClientUdpTransportHandler extends ClientUdpTransportHandler i
         super(firstTimeout, timeout, hostname, port);
     }
 
+    /**
+     * Sends the data without waiting for a response. The measurement of a flight starts with its last datagram, i.e.,
+     * with the last call before the next {@link #fetchData()}.
+     */
+    @Override
+    public void sendData(byte[] data) throws IOException {
+        measurement = null;
+        lastSendTime = System.nanoTime();
+        super.sendData(data);
+    }
+
+    /**
+     * The first call after a flight measures the time from its last datagram until the first datagram of the response
+     * is received. If the peer does not answer within the timeout, no measurement is available.
+     */
+    @Override
+    public byte[] fetchData() throws IOException {
+        byte[] data = super.fetchData();
+        if (lastSendTime != null) {
+            if (data.length > 0) {
+                measurement = System.nanoTime() - lastSendTime;
+            }
+            lastSendTime = null;
+        }
+        return data;
+    }
+
     @Override
     public Long getLastMeasurement() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return measurement;
     }
 }
@@ -0,0 +1,114 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.nio;
+
+import de.rub.nds.modifiablevariable.util.RandomHelper;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.util.LinkedList;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClientNioUdpTransportHandlerTest {
+
+    private final InetAddress localhost = InetAddress.getLoopbackAddress();
+
+    @Test
+    public void testSendData() throws Exception {
+        try (DatagramSocket testSocket = new DatagramSocket()) {
+            ClientNioUdpTransportHandler udpTH =
+                new ClientNioUdpTransportHandler(1, 1, localhost.getHostName(), testSocket.getLocalPort());
+
+            udpTH.initialize();
+
+            byte[] txData = new byte[8192];
+            RandomHelper.getRandom().nextBytes(txData);
+            byte[] rxData = new byte[8192];
+            DatagramPacket rxPacket = new DatagramPacket(rxData, rxData.length, localhost, testSocket.getLocalPort());
+
+            udpTH.sendData(txData);
+            testSocket.receive(rxPacket);
+
+            assertEquals("Confirm size of the sent data", txData.length, rxPacket.getLength());
+            assertArrayEquals("Confirm sent data equals received data", txData, rxPacket.getData());
+            assertEquals(udpTH.getSrcPort(), rxPacket.getPort());
+
+            udpTH.closeConnection();
+            assertTrue(udpTH.isClosed());
+        }
+    }
+
+    @Test
+    public void testFetchDataPreservesDatagramBoundaries() throws Exception {
+        try (DatagramSocket testSocket = new DatagramSocket()) {
+            ClientNioUdpTransportHandler udpTH =
+                new ClientNioUdpTransportHandler(1, 1, localhost.getHostName(), testSocket.getLocalPort());
+
+            udpTH.initialize();
+            udpTH.setTimeout(1000);
+            assertEquals(testSocket.getLocalPort(), udpTH.getDstPort());
+
+            List<byte[]> sentDatagrams = new LinkedList<>();
+            for (int i = 0; i < 10; i++) {
+                byte[] txData = new byte[RandomHelper.getRandom().nextInt(4095) + 1];
+                RandomHelper.getRandom().nextBytes(txData);
+                testSocket.send(new DatagramPacket(txData, txData.length, localhost, udpTH.getSrcPort()));
+                sentDatagrams.add(txData);
+            }
+            for (byte[] txData : sentDatagrams) {
+                assertArrayEquals("Every fetch returns exactly one datagram", txData, udpTH.fetchData());
+            }
+
+            udpTH.closeConnection();
+        }
+    }
+
+    @Test
+    public void testFetchTimeout() throws Exception {
+        ClientNioUdpTransportHandler udpTH = new ClientNioUdpTransportHandler(1, 1, localhost.getHostName(), 12345);
+        udpTH.initialize();
+
+        byte[] rxData;
+        rxData = udpTH.fetchData();
+        assertEquals(0, rxData.length);
+        rxData = udpTH.fetchData();
+        assertEquals(0, rxData.length);
+        udpTH.closeConnection();
+    }
+
+    @Test
+    public void testManyConcurrentSessions() throws Exception {
+        int numberOfSessions = 200;
+        try (DatagramSocket testSocket = new DatagramSocket()) {
+            List<ClientNioUdpTransportHandler> handlers = new LinkedList<>();
+            for (int i = 0; i < numberOfSessions; i++) {
+                ClientNioUdpTransportHandler udpTH =
+                    new ClientNioUdpTransportHandler(1000, 1000, localhost.getHostName(), testSocket.getLocalPort());
+                udpTH.initialize();
+                handlers.add(udpTH);
+            }
+            for (ClientNioUdpTransportHandler udpTH : handlers) {
+                byte[] txData = new byte[] { (byte) (udpTH.getSrcPort() >> 8), (byte) udpTH.getSrcPort() };
+                testSocket.send(new DatagramPacket(txData, txData.length, localhost, udpTH.getSrcPort()));
+            }
+            for (ClientNioUdpTransportHandler udpTH : handlers) {
+                byte[] expected = new byte[] { (byte) (udpTH.getSrcPort() >> 8), (byte) udpTH.getSrcPort() };
+                assertArrayEquals(expected, udpTH.fetchData());
+            }
+            for (ClientNioUdpTransportHandler udpTH : handlers) {
+                udpTH.closeConnection();
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.transport.udp.timing;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TimingServerUdpTransportHandlerTest {
+
+    private final InetAddress localhost = InetAddress.getLoopbackAddress();
+
+    @Test
+    public void testMeasurement() throws Exception {
+        try (DatagramSocket testSocket = new DatagramSocket(0, localhost)) {
+            TimingServerUdpTransportHandler handler = new TimingServerUdpTransportHandler(1000, 1000, 0);
+            handler.preInitialize();
+            InetSocketAddress serverAddress = new InetSocketAddress(localhost, handler.getSrcPort());
+            testSocket.send(new DatagramPacket(new byte[] { 1 }, 1, serverAddress));
+            handler.initialize();
+            assertArrayEquals(new byte[] { 1 }, handler.fetchData());
+
+            Thread peer = new Thread(() -> {
+                try {
+                    byte[] buffer = new byte[16];
+                    DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                    // the response is only sent after the whole flight
+                    testSocket.receive(packet);
+                    testSocket.receive(packet);
+                    Thread.sleep(50);
+                    testSocket.send(new DatagramPacket(new byte[] { 6, 6, 6 }, 3, serverAddress));
+                } catch (Exception ignored) {
+                }
+            });
+            peer.start();
+
+            handler.sendData(new byte[] { 2, 3 });
+            handler.sendData(new byte[] { 4, 5 });
+            assertNull(handler.getLastMeasurement());
+            assertArrayEquals(new byte[] { 6, 6, 6 }, handler.fetchData());
+            peer.join();
+            Long timing = handler.getLastMeasurement();
+            assertTrue(timing >= 50_000_000L);
+            handler.closeConnection();
+        }
+    }
+
+    @Test
+    public void testNoResponse() throws Exception {
+        try (DatagramSocket testSocket = new DatagramSocket(0, localhost)) {
+            TimingServerUdpTransportHandler handler = new TimingServerUdpTransportHandler(10, 10, 0);
+            handler.preInitialize();
+            testSocket.send(new DatagramPacket(new byte[] { 1 }, 1, localhost, handler.getSrcPort()));
+            handler.initialize();
+            handler.fetchData();
+
+            handler.sendData(new byte[] { 2, 3 });
+            assertEquals(0, handler.fetchData().length);
+            assertNull(handler.getLastMeasurement());
+            handler.closeConnection();
+        }
+    }
+}
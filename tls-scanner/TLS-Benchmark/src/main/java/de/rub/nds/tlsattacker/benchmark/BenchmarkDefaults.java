@@ -0,0 +1,24 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+/**
+ * Settings shared by all benchmarks
+ */
+public final class BenchmarkDefaults {
+
+    /**
+     * Replaces the debug logging configuration of TLS-Core in the forked benchmark JVMs
+     */
+    public static final String LOG_CONFIG = "-Dlog4j.configurationFile=log4j2-benchmark.xml";
+
+    private BenchmarkDefaults() {
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.RunningModeType;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowConfigurationFactory;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Copies of the default config and of a full handshake trace, which the scanner creates for every connection
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@State(Scope.Thread)
+public class CopyBenchmark {
+
+    private Config config;
+
+    private WorkflowTrace trace;
+
+    @Setup
+    public void setUp() {
+        config = Config.createConfig();
+        trace = new WorkflowConfigurationFactory(config).createWorkflowTrace(WorkflowTraceType.FULL,
+            RunningModeType.CLIENT);
+    }
+
+    @Benchmark
+    public Config copyConfig() {
+        return config.createCopy();
+    }
+
+    @Benchmark
+    public WorkflowTrace copyWorkflowTrace() {
+        return WorkflowTrace.copy(trace);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.CipherSuite;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.constants.RunningModeType;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowExecutor;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowExecutorFactory;
+import de.rub.nds.tlsattacker.core.workflow.action.executor.WorkflowExecutorType;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
+import java.security.Security;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a complete DTLS 1.2 handshake between a TLS-Attacker client and a TLS-Attacker server in the same JVM. The
+ * peers exchange their datagrams through an {@link InMemoryTransportHandler} pair, so no port is bound and the
+ * measurement covers TLS-Attacker rather than the network stack.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+public class DtlsHandshakeBenchmark {
+
+    private static final int TIMEOUT = 1000;
+
+    @Param({ "TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256", "TLS_RSA_WITH_AES_128_CBC_SHA" })
+    public String cipherSuite;
+
+    private ExecutorService serverExecutor;
+
+    @Setup
+    public void setUp() {
+        Security.addProvider(new BouncyCastleProvider());
+        serverExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        serverExecutor.shutdownNow();
+    }
+
+    private Config createConfig(RunningModeType runningMode) {
+        Config config = Config.createConfig();
+        config.setHighestProtocolVersion(ProtocolVersion.DTLS12);
+        config.setDefaultSelectedProtocolVersion(ProtocolVersion.DTLS12);
+        config.setWorkflowExecutorType(WorkflowExecutorType.DTLS);
+        config.setWorkflowTraceType(WorkflowTraceType.HANDSHAKE);
+        config.setDefaultRunningMode(runningMode);
+        config.setDefaultClientSupportedCipherSuites(CipherSuite.valueOf(cipherSuite));
+        config.setDefaultServerSupportedCipherSuites(CipherSuite.valueOf(cipherSuite));
+        config.setDefaultSelectedCipherSuite(CipherSuite.valueOf(cipherSuite));
+        config.setAddECPointFormatExtension(true);
+        config.setAddEllipticCurveExtension(true);
+        return config;
+    }
+
+    @Benchmark
+    public boolean handshake() throws InterruptedException, ExecutionException {
+        State serverState = new State(createConfig(RunningModeType.SERVER));
+        State clientState = new State(createConfig(RunningModeType.CLIENT));
+        InMemoryTransportHandler[] transportHandlers = InMemoryTransportHandler.createPair(TIMEOUT);
+        clientState.getTlsContext().setTransportHandler(transportHandlers[0]);
+        serverState.getTlsContext().setTransportHandler(transportHandlers[1]);
+
+        // the server waits for the ClientHello in its queue, so the client may start right away
+        WorkflowExecutor serverWorkflowExecutor =
+            WorkflowExecutorFactory.createWorkflowExecutor(WorkflowExecutorType.DTLS, serverState);
+        Future<?> server = serverExecutor.submit(serverWorkflowExecutor::executeWorkflow);
+        WorkflowExecutorFactory.createWorkflowExecutor(WorkflowExecutorType.DTLS, clientState).executeWorkflow();
+        server.get();
+        if (!clientState.getWorkflowTrace().executedAsPlanned()) {
+            throw new IllegalStateException("The DTLS handshake was not executed as planned");
+        }
+        return serverState.getWorkflowTrace().executedAsPlanned();
+    }
+}
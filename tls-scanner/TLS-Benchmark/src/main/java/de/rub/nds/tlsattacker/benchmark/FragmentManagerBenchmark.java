@@ -0,0 +1,89 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
+import de.rub.nds.tlsattacker.core.dtls.FragmentManager;
+import de.rub.nds.tlsattacker.core.protocol.message.DtlsHandshakeMessageFragment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reassembles a DTLS handshake message from fragments which arrive in random order, e.g., a large certificate message
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@State(Scope.Thread)
+public class FragmentManagerBenchmark {
+
+    @Param({ "4096", "65536" })
+    public int messageLength;
+
+    @Param({ "256", "1200" })
+    public int fragmentLength;
+
+    private Config config;
+
+    private List<DtlsHandshakeMessageFragment> fragments;
+
+    @Setup
+    public void setUp() {
+        config = Config.createConfig();
+        byte[] message = new byte[messageLength];
+        Random random = new Random(0);
+        random.nextBytes(message);
+        fragments = new ArrayList<>();
+        for (int offset = 0; offset < messageLength; offset += fragmentLength) {
+            int length = Math.min(fragmentLength, messageLength - offset);
+            fragments.add(fragment(Arrays.copyOfRange(message, offset, offset + length), offset));
+        }
+        Collections.shuffle(fragments, random);
+    }
+
+    private DtlsHandshakeMessageFragment fragment(byte[] content, int offset) {
+        DtlsHandshakeMessageFragment fragment = new DtlsHandshakeMessageFragment();
+        fragment.setType(HandshakeMessageType.CERTIFICATE.getValue());
+        fragment.setMessageSeq(0);
+        fragment.setEpoch(0);
+        fragment.setLength(messageLength);
+        fragment.setFragmentOffset(offset);
+        fragment.setFragmentLength(content.length);
+        fragment.setContent(content);
+        return fragment;
+    }
+
+    @Benchmark
+    public DtlsHandshakeMessageFragment reassemble() {
+        FragmentManager fragmentManager = new FragmentManager(config);
+        for (DtlsHandshakeMessageFragment fragment : fragments) {
+            fragmentManager.addMessageFragment(fragment);
+        }
+        return fragmentManager.getCombinedMessageFragment(0, 0);
+    }
+}
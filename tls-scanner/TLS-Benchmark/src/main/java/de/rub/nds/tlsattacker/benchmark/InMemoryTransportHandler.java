@@ -0,0 +1,105 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.transport.ConnectionEndType;
+import de.rub.nds.tlsattacker.transport.TransportHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passes datagrams to its peer through an in-memory queue. A pair of these handlers connects a client and a server in
+ * the same JVM without binding a port, so the benchmarks neither race other processes for ports nor measure the
+ * network stack.
+ */
+public class InMemoryTransportHandler extends TransportHandler {
+
+    private final BlockingQueue<byte[]> receivedDatagrams = new LinkedBlockingQueue<>();
+
+    private InMemoryTransportHandler peer;
+
+    private boolean closed = false;
+
+    private InMemoryTransportHandler(long timeout, ConnectionEndType type) {
+        super(timeout, timeout, type);
+    }
+
+    /**
+     * @param  timeout
+     *                 The time in milliseconds to wait for a datagram
+     * @return         The client handler at index 0 and the server handler at index 1, connected to each other
+     */
+    public static InMemoryTransportHandler[] createPair(long timeout) {
+        InMemoryTransportHandler client = new InMemoryTransportHandler(timeout, ConnectionEndType.CLIENT);
+        InMemoryTransportHandler server = new InMemoryTransportHandler(timeout, ConnectionEndType.SERVER);
+        client.peer = server;
+        server.peer = client;
+        return new InMemoryTransportHandler[] { client, server };
+    }
+
+    @Override
+    public void preInitialize() throws IOException {
+        // nothing to do here
+    }
+
+    @Override
+    public void initialize() throws IOException {
+        // the streams are never used, the datagrams are passed by sendData and fetchData
+        setStreams(new PushbackInputStream(InputStream.nullInputStream()), OutputStream.nullOutputStream());
+    }
+
+    /**
+     * @return One datagram of the peer, or an empty array if none arrives within the timeout
+     */
+    @Override
+    public byte[] fetchData() throws IOException {
+        try {
+            byte[] datagram = receivedDatagrams.poll(timeout, TimeUnit.MILLISECONDS);
+            return datagram == null ? new byte[0] : datagram;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a datagram");
+        }
+    }
+
+    @Override
+    public void sendData(byte[] data) throws IOException {
+        if (closed) {
+            throw new IOException("Transport handler is closed");
+        }
+        peer.receivedDatagrams.add(data.clone());
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        closed = true;
+    }
+
+    @Override
+    public void closeClientConnection() throws IOException {
+        closeConnection();
+    }
+
+    @Override
+    public boolean isClosed() throws IOException {
+        return closed;
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+}
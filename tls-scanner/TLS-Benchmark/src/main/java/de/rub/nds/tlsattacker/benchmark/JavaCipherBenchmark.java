@@ -0,0 +1,97 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.constants.CipherSuite;
+import de.rub.nds.tlsattacker.core.crypto.cipher.CipherWrapper;
+import de.rub.nds.tlsattacker.core.crypto.cipher.EncryptionCipher;
+import de.rub.nds.tlsattacker.core.exceptions.CryptoException;
+import de.rub.nds.tlsattacker.core.record.cipher.cryptohelper.KeySet;
+import de.rub.nds.tlsattacker.transport.ConnectionEndType;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encrypts record sized plaintexts with the AES-CBC and AES-GCM JavaCiphers the record layer uses, every call uses a
+ * fresh IV
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@State(Scope.Thread)
+public class JavaCipherBenchmark {
+
+    private static final int GCM_TAG_LENGTH = 128;
+
+    @Param({ "64", "16384" })
+    public int plaintextLength;
+
+    private EncryptionCipher cbcCipher;
+
+    private EncryptionCipher gcmCipher;
+
+    private byte[] plaintext;
+
+    private byte[] additionalAuthenticatedData;
+
+    private byte[] iv;
+
+    private long ivCounter = 0;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        byte[] key = new byte[16];
+        random.nextBytes(key);
+        KeySet keySet = new KeySet();
+        keySet.setClientWriteKey(key);
+        cbcCipher = CipherWrapper.getEncryptionCipher(CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA,
+            ConnectionEndType.CLIENT, keySet);
+        gcmCipher = CipherWrapper.getEncryptionCipher(CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256,
+            ConnectionEndType.CLIENT, keySet);
+        plaintext = new byte[plaintextLength];
+        random.nextBytes(plaintext);
+        additionalAuthenticatedData = new byte[13];
+        random.nextBytes(additionalAuthenticatedData);
+        iv = new byte[16];
+    }
+
+    private byte[] nextIv(int length) {
+        ivCounter++;
+        for (int i = 0; i < 8; i++) {
+            iv[i] = (byte) (ivCounter >>> (8 * i));
+        }
+        return Arrays.copyOf(iv, length);
+    }
+
+    @Benchmark
+    public byte[] encryptCbc() throws CryptoException {
+        return cbcCipher.encrypt(nextIv(16), plaintext);
+    }
+
+    @Benchmark
+    public byte[] encryptGcm() throws CryptoException {
+        return gcmCipher.encrypt(nextIv(12), GCM_TAG_LENGTH, additionalAuthenticatedData, plaintext);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.constants.CipherSuite;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.crypto.MessageDigestCollector;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Appends the messages of a handshake to the transcript and queries the digest after every message, as the handlers
+ * of a TLS 1.3 handshake do
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@State(Scope.Thread)
+public class MessageDigestCollectorBenchmark {
+
+    @Param({ "10", "50" })
+    public int messageCount;
+
+    @Param({ "4096" })
+    public int messageLength;
+
+    @Param({ "TLS12", "TLS10" })
+    public String protocolVersion;
+
+    private byte[] message;
+
+    private ProtocolVersion version;
+
+    @Setup
+    public void setUp() {
+        message = new byte[messageLength];
+        new Random(0).nextBytes(message);
+        version = ProtocolVersion.valueOf(protocolVersion);
+    }
+
+    @Benchmark
+    public void appendAndDigest(Blackhole blackhole) {
+        MessageDigestCollector collector = new MessageDigestCollector();
+        for (int i = 0; i < messageCount; i++) {
+            collector.append(message);
+            blackhole.consume(collector.digest(version, CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * TLS-Attacker - A Modular Penetration Testing Framework for TLS
+ *
+ * Copyright 2014-2022 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsattacker.benchmark;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.constants.RunningModeType;
+import de.rub.nds.tlsattacker.core.record.AbstractRecord;
+import de.rub.nds.tlsattacker.core.record.Record;
+import de.rub.nds.tlsattacker.core.record.layer.RecordLayerType;
+import de.rub.nds.tlsattacker.core.record.layer.TlsRecordLayer;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.state.TlsContext;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowConfigurationFactory;
+import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes plaintext data into records and parses the resulting bytes again with the TlsRecordLayer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDefaults.LOG_CONFIG)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+public class RecordLayerBenchmark {
+
+    private static final int MAX_RECORD_LENGTH = 16384;
+
+    @Param({ "TLS12", "DTLS12" })
+    public String protocolVersion;
+
+    @Param({ "1024", "65536" })
+    public int dataLength;
+
+    private TlsRecordLayer recordLayer;
+
+    private byte[] data;
+
+    private byte[] serializedRecords;
+
+    @Setup
+    public void setUp() {
+        Config config = Config.createConfig();
+        config.setRecordLayerType(RecordLayerType.RECORD);
+        config.setHighestProtocolVersion(ProtocolVersion.valueOf(protocolVersion));
+        WorkflowTrace trace = new WorkflowConfigurationFactory(config).createWorkflowTrace(WorkflowTraceType.HANDSHAKE,
+            RunningModeType.CLIENT);
+        TlsContext context = new State(config, trace).getTlsContext();
+        context.setSelectedProtocolVersion(ProtocolVersion.valueOf(protocolVersion));
+        recordLayer = new TlsRecordLayer(context);
+        context.setRecordLayer(recordLayer);
+        data = new byte[dataLength];
+        new Random(0).nextBytes(data);
+        serializedRecords = prepareRecords();
+    }
+
+    @Benchmark
+    public byte[] prepareRecords() {
+        List<AbstractRecord> records = new LinkedList<>();
+        for (int i = 0; i < dataLength; i += MAX_RECORD_LENGTH) {
+            Record record = new Record();
+            record.setMaxRecordLengthConfig(MAX_RECORD_LENGTH);
+            records.add(record);
+        }
+        return recordLayer.prepareRecords(data, ProtocolMessageType.APPLICATION_DATA, records);
+    }
+
+    @Benchmark
+    public List<AbstractRecord> parseRecords() {
+        return recordLayer.parseRecords(serializedRecords);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.scanner.core.execution;
+
+import de.rub.nds.scanner.core.constants.ProbeType;
+import de.rub.nds.scanner.core.probe.ScannerProbe;
+import de.rub.nds.scanner.core.report.ScanReport;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks which probes of a scan job are still waiting for required probes. A probe becomes ready exactly when the last
+ * of its required probes has been executed. Required probes which are not part of the job never get executed, so probes
+ * waiting for them never become ready. Probes which do not declare their required probes are handed out after every
+ * executed probe until they are removed.
+ */
+class ProbeDependencyGraph {
+
+    private final Map<ProbeType, List<ScannerProbe>> dependentProbes = new HashMap<>();
+
+    private final Map<ScannerProbe, Integer> missingProbeCount = new IdentityHashMap<>();
+
+    private final List<ScannerProbe> readyProbes = new LinkedList<>();
+
+    private final List<ScannerProbe> undeclaredProbes = new LinkedList<>();
+
+    ProbeDependencyGraph(List<ScannerProbe> probes, ScanReport report) {
+        for (ScannerProbe probe : probes) {
+            Set<ProbeType> requiredProbes = probe.getRequiredProbes();
+            if (requiredProbes == null) {
+                undeclaredProbes.add(probe);
+                continue;
+            }
+            int missingProbes = 0;
+            for (ProbeType requiredProbe : requiredProbes) {
+                if (!report.isProbeAlreadyExecuted(requiredProbe)) {
+                    dependentProbes.computeIfAbsent(requiredProbe, type -> new LinkedList<>()).add(probe);
+                    missingProbes++;
+                }
+            }
+            if (missingProbes == 0) {
+                readyProbes.add(probe);
+            } else {
+                missingProbeCount.put(probe, missingProbes);
+            }
+        }
+    }
+
+    /**
+     * Resolves the given probe type for all probes waiting for it.
+     *
+     * @param type
+     *             The type of the probe which has just been executed
+     */
+    void markAsExecuted(ProbeType type) {
+        List<ScannerProbe> waitingProbes = dependentProbes.remove(type);
+        if (waitingProbes == null) {
+            return;
+        }
+        for (ScannerProbe probe : waitingProbes) {
+            int missingProbes = missingProbeCount.get(probe) - 1;
+            if (missingProbes == 0) {
+                missingProbeCount.remove(probe);
+                readyProbes.add(probe);
+            } else {
+                missingProbeCount.put(probe, missingProbes);
+            }
+        }
+    }
+
+    /**
+     * Returns all probes which became ready since the last call. Each of them is only returned once.
+     */
+    List<ScannerProbe> pollReadyProbes() {
+        List<ScannerProbe> probes = new LinkedList<>(readyProbes);
+        readyProbes.clear();
+        return probes;
+    }
+
+    /**
+     * Returns the probes which do not declare their required probes and have not been removed yet
+     */
+    List<ScannerProbe> getUndeclaredProbes() {
+        return undeclaredProbes;
+    }
+
+    int getWaitingProbeCount() {
+        return missingProbeCount.size();
+    }
+}
@@ -20,10 +20,10 @@ import de.rub.nds.scanner.core.util.ConsoleLogger;
 import de.rub.nds.tlsattacker.core.workflow.NamedThreadFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -33,7 +33,13 @@ import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobExecutor<Report> implements Observer {
+/**
+ * Executes the probes of a scan job in parallel. Probes are scheduled along the dependency graph given by
+ * {@link ScannerProbe#getRequiredProbes()}: canBeExecuted of a probe is evaluated once, as soon as the last of its
+ * required probes has been merged into the report. Probes which do not declare their required probes are checked again
+ * after every merged probe.
+ */
+public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobExecutor<Report> {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
@@ -41,9 +47,11 @@ public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobE
 
     private final ScanJob scanJob;
 
-    private List<ScannerProbe> notScheduledTasks = new LinkedList<>();
+    private List<ScannerProbe> notScheduledTasks = new ArrayList<>();
 
-    private List<Future<ProbeResult>> futureResults = new LinkedList<>();
+    private final Map<Future<ProbeResult>, ScannerProbe> runningProbes = new LinkedHashMap<>();
+
+    private ProbeDependencyGraph dependencyGraph;
 
     private final ThreadPoolExecutor executor;
 
@@ -67,10 +75,9 @@ public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobE
     @Override
     public Report execute(Report report) {
         this.notScheduledTasks = new ArrayList<>(scanJob.getProbeList());
+        this.dependencyGraph = new ProbeDependencyGraph(scanJob.getProbeList(), report);
 
-        report.addObserver(this);
-
-        checkForExecutableProbes(report);
+        scheduleReadyProbes(report);
         executeProbesTillNoneCanBeExecuted(report);
         updateSiteReportWithNotExecutedProbes(report);
         reportAboutNotExecutedProbes();
@@ -78,7 +85,6 @@ public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobE
         executeAfterProbes(report);
 
         LOGGER.info("Finished scan");
-        report.deleteObserver(this);
         return report;
     }
 
@@ -88,54 +94,77 @@ public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobE
         }
     }
 
-    private void checkForExecutableProbes(Report report) {
-        update(report, null);
-    }
-
     private void executeProbesTillNoneCanBeExecuted(Report report) {
-        while (true) {
-            // handle all Finished Results
-            long lastMerge = System.currentTimeMillis();
-            List<Future<ProbeResult>> finishedFutures = new LinkedList<>();
-            for (Future<ProbeResult> result : futureResults) {
-                if (result.isDone()) {
-                    lastMerge = System.currentTimeMillis();
-                    try {
-                        ProbeResult probeResult = result.get();
-                        ConsoleLogger.CONSOLE.info("+++" + probeResult.getType().getName() + " probe executed");
-                        finishedFutures.add(result);
-                        report.markProbeAsExecuted(result.get().getType());
-                        probeResult.merge(report);
-                    } catch (InterruptedException | ExecutionException ex) {
-                        LOGGER.error("Encountered an exception before we could merge the result. Killing the task.",
-                            ex);
-                        result.cancel(true);
-                        finishedFutures.add(result);
-                    } catch (CancellationException ex) {
-                        LOGGER.info("Could not retrieve a task because it was cancelled after "
-                            + config.getProbeTimeout() + " milliseconds");
-                        finishedFutures.add(result);
-                    }
-                }
+        while (!runningProbes.isEmpty()) {
+            try {
+                // wait for at least one probe to finish executing before checking again
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                LOGGER.info("Interrupted while waiting for probe execution");
             }
-            futureResults.removeAll(finishedFutures);
-            int oldFutures = futureResults.size();
-            // execute possible new probes
-            update(report, this);
-            if (futureResults.isEmpty()) {
-                // nothing can be executed anymore
-                return;
-            } else {
+            boolean mergedProbe = false;
+            Iterator<Map.Entry<Future<ProbeResult>, ScannerProbe>> iterator = runningProbes.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Future<ProbeResult> result = iterator.next().getKey();
+                if (!result.isDone()) {
+                    continue;
+                }
+                iterator.remove();
                 try {
-                    // wait for at least one probe to finish executing before checking again
-                    semaphore.acquire();
-                } catch (Exception e) {
-                    LOGGER.info("Interrupted while waiting for probe execution");
+                    ProbeResult probeResult = result.get();
+                    ConsoleLogger.CONSOLE.info("+++" + probeResult.getType().getName() + " probe executed");
+                    report.markProbeAsExecuted(probeResult.getType());
+                    probeResult.merge(report);
+                    dependencyGraph.markAsExecuted(probeResult.getType());
+                    mergedProbe = true;
+                } catch (InterruptedException | ExecutionException ex) {
+                    LOGGER.error("Encountered an exception before we could merge the result. Killing the task.", ex);
+                    result.cancel(true);
+                } catch (CancellationException ex) {
+                    LOGGER.info("Could not retrieve a task because it was cancelled after " + config.getProbeTimeout()
+                        + " milliseconds");
                 }
             }
+            if (mergedProbe) {
+                scheduleReadyProbes(report);
+            }
+        }
+        if (dependencyGraph.getWaitingProbeCount() > 0) {
+            LOGGER.debug("{} probes are still waiting for required probes which were not executed",
+                dependencyGraph.getWaitingProbeCount());
+        }
+    }
+
+    /**
+     * Schedules all probes whose required probes have just been executed if they can be executed. Those which cannot be
+     * executed are not checked again. Afterwards all probes without declared requirements are checked.
+     */
+    private void scheduleReadyProbes(Report report) {
+        for (ScannerProbe probe : dependencyGraph.pollReadyProbes()) {
+            if (probe.canBeExecuted(report)) {
+                schedule(probe, report);
+            } else {
+                LOGGER.debug("Requirements of {} are met, but it cannot be executed", probe.getProbeName());
+            }
+        }
+        Iterator<ScannerProbe> iterator = dependencyGraph.getUndeclaredProbes().iterator();
+        while (iterator.hasNext()) {
+            ScannerProbe probe = iterator.next();
+            if (probe.canBeExecuted(report)) {
+                iterator.remove();
+                schedule(probe, report);
+            }
         }
     }
 
+    private void schedule(ScannerProbe probe, Report report) {
+        probe.adjustConfig(report);
+        LOGGER.debug("Scheduling: " + probe.getProbeName());
+        Future<ProbeResult> future = executor.submit(probe);
+        runningProbes.put(future, probe);
+        notScheduledTasks.remove(probe);
+    }
+
     private void reportAboutNotExecutedProbes() {
         LOGGER.debug("Did not execute the following probes:");
         for (ScannerProbe probe : notScheduledTasks) {
@@ -177,26 +206,4 @@ public class ThreadedScanJobExecutor<Report extends ScanReport> extends ScanJobE
     public void shutdown() {
         executor.shutdown();
     }
-
-    @Override
-    public synchronized void update(Observable o, Object o1) {
-        if (o != null && o instanceof ScanReport) {
-            ScanReport report = (ScanReport) o;
-            List<ScannerProbe> newNotSchedulesTasksList = new LinkedList<>();
-            for (ScannerProbe probe : notScheduledTasks) {
-                if (probe.canBeExecuted(report)) {
-                    probe.adjustConfig(report);
-                    LOGGER.debug("Scheduling: " + probe.getProbeName());
-                    Future<ProbeResult> future = executor.submit(probe);
-                    futureResults.add(future);
-                } else {
-                    newNotSchedulesTasksList.add(probe);
-                }
-            }
-            this.notScheduledTasks = newNotSchedulesTasksList;
-        } else {
-            LOGGER.error(this.getClass().getName() + " received an update from a non-siteReport");
-        }
-
-    }
 }
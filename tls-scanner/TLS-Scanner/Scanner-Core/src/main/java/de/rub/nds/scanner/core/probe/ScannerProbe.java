@@ -13,6 +13,12 @@ import de.rub.nds.scanner.core.constants.ProbeType;
 import de.rub.nds.scanner.core.passive.StatsWriter;
 import de.rub.nds.scanner.core.probe.result.ProbeResult;
 import de.rub.nds.scanner.core.report.ScanReport;
+import de.rub.nds.tlsattacker.core.workflow.ExecutionMetrics;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,6 +32,8 @@ public abstract class ScannerProbe<Report extends ScanReport, Result extends Pro
 
     private StatsWriter writer;
 
+    private Set<ProbeType> requiredProbes = null;
+
     public ScannerProbe(ProbeType type) {
         this.type = type;
     }
@@ -34,6 +42,21 @@ public abstract class ScannerProbe<Report extends ScanReport, Result extends Pro
         return type;
     }
 
+    /**
+     * Returns the probes whose results are read by canBeExecuted and adjustConfig. The probe is only considered for
+     * execution once all of them have been executed, and canBeExecuted is then evaluated exactly once.
+     *
+     * @return The required probe types, or null if the probe did not declare them. Such probes are checked again
+     *         whenever another probe has been executed.
+     */
+    public Set<ProbeType> getRequiredProbes() {
+        return requiredProbes;
+    }
+
+    protected void setRequiredProbes(ProbeType... requiredProbes) {
+        this.requiredProbes = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(requiredProbes)));
+    }
+
     public String getProbeName() {
         return getType().getName();
     }
@@ -46,15 +69,31 @@ public abstract class ScannerProbe<Report extends ScanReport, Result extends Pro
 
     public abstract void adjustConfig(Report report);
 
+    /**
+     * Executes the probe. All TLS tasks which the probe submits to a ParallelExecutor from the calling thread are
+     * recorded in the execution metrics of the result.
+     */
     @Override
     public Result call() {
         LOGGER.debug("Executing: {}", getProbeName());
+        ExecutionMetrics executionMetrics = new ExecutionMetrics();
+        ExecutionMetrics previousMetrics = ParallelExecutor.getThreadExecutionMetrics();
+        ParallelExecutor.setThreadExecutionMetrics(executionMetrics);
         long startTime = System.currentTimeMillis();
-        Result result = executeTest();
+        long startNanos = System.nanoTime();
+        Result result;
+        try {
+            result = executeTest();
+        } finally {
+            ParallelExecutor.setThreadExecutionMetrics(previousMetrics);
+        }
+        long durationNanos = System.nanoTime() - startNanos;
         long stopTime = System.currentTimeMillis();
         if (result != null) {
             result.setStartTime(startTime);
             result.setStopTime(stopTime);
+            result.setDurationNanos(durationNanos);
+            result.setExecutionMetrics(executionMetrics);
         } else {
             LOGGER.warn("{} - is null result", getProbeName());
         }
@@ -12,12 +12,15 @@ package de.rub.nds.scanner.core.probe.result;
 import de.rub.nds.scanner.core.constants.ProbeType;
 import de.rub.nds.scanner.core.report.PerformanceData;
 import de.rub.nds.scanner.core.report.ScanReport;
+import de.rub.nds.tlsattacker.core.workflow.ExecutionMetrics;
 
 public abstract class ProbeResult<T extends ScanReport> {
 
     private final ProbeType type;
     private long startTime;
     private long stopTime;
+    private long durationNanos;
+    private ExecutionMetrics executionMetrics;
 
     public ProbeResult(ProbeType type) {
         this.type = type;
@@ -32,7 +35,7 @@ public abstract class ProbeResult<T extends ScanReport> {
     }
 
     public PerformanceData getPerformanceData() {
-        return new PerformanceData(type, startTime, stopTime);
+        return new PerformanceData(type, startTime, stopTime, durationNanos, executionMetrics);
     }
 
     public long getStartTime() {
@@ -51,12 +54,27 @@ public abstract class ProbeResult<T extends ScanReport> {
         this.stopTime = stopTime;
     }
 
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public ExecutionMetrics getExecutionMetrics() {
+        return executionMetrics;
+    }
+
+    public void setExecutionMetrics(ExecutionMetrics executionMetrics) {
+        this.executionMetrics = executionMetrics;
+    }
+
     public void merge(T report) {
         if (startTime != 0 && stopTime != 0) {
             report.getPerformanceList().add(getPerformanceData());
         }
         this.mergeData(report);
-        report.markAsChangedAndNotify();
     }
 
     protected abstract void mergeData(T report);
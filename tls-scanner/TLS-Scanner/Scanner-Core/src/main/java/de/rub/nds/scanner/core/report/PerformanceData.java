@@ -10,12 +10,15 @@
 package de.rub.nds.scanner.core.report;
 
 import de.rub.nds.scanner.core.constants.ProbeType;
+import de.rub.nds.tlsattacker.core.workflow.ExecutionMetrics;
 
 public class PerformanceData {
 
     private ProbeType type;
     private long startTime;
     private long stopTime;
+    private long durationNanos;
+    private ExecutionMetrics executionMetrics;
 
     private PerformanceData() {
     }
@@ -26,6 +29,25 @@ public class PerformanceData {
         this.stopTime = stopTime;
     }
 
+    /**
+     * @param type
+     *                         The type of the probe
+     * @param startTime
+     *                         The start of the probe in milliseconds since the epoch
+     * @param stopTime
+     *                         The end of the probe in milliseconds since the epoch
+     * @param durationNanos
+     *                         The duration of the probe measured in nanoseconds
+     * @param executionMetrics
+     *                         The network activity of the probe, may be null
+     */
+    public PerformanceData(ProbeType type, long startTime, long stopTime, long durationNanos,
+        ExecutionMetrics executionMetrics) {
+        this(type, startTime, stopTime);
+        this.durationNanos = durationNanos;
+        this.executionMetrics = executionMetrics;
+    }
+
     public ProbeType getType() {
         return type;
     }
@@ -50,4 +72,20 @@ public class PerformanceData {
         this.stopTime = stopTime;
     }
 
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public ExecutionMetrics getExecutionMetrics() {
+        return executionMetrics;
+    }
+
+    public void setExecutionMetrics(ExecutionMetrics executionMetrics) {
+        this.executionMetrics = executionMetrics;
+    }
+
 }
@@ -23,10 +23,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Observable;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-public abstract class ScanReport extends Observable implements Serializable {
+public abstract class ScanReport implements Serializable {
 
     private final HashMap<String, TestResult> resultMap;
 
@@ -38,6 +38,8 @@ public abstract class ScanReport extends Observable implements Serializable {
 
     private int performedTcpConnections = 0;
 
+    private transient List<ScanReportListener> listeners;
+
     public ScanReport() {
         performanceList = new LinkedList<>();
         resultMap = new HashMap<>();
@@ -79,18 +81,42 @@ public abstract class ScanReport extends Observable implements Serializable {
         resultMap.remove(property.toString());
     }
 
-    public synchronized void putResult(AnalyzedProperty property, TestResult result) {
-        resultMap.put(property.toString(), result);
+    public void putResult(AnalyzedProperty property, TestResult result) {
+        List<ScanReportListener> currentListeners;
+        synchronized (this) {
+            resultMap.put(property.toString(), result);
+            currentListeners = listeners;
+        }
+        // listeners are notified outside of the lock, so they may block or access the report themselves
+        if (currentListeners != null) {
+            for (ScanReportListener listener : currentListeners) {
+                listener.onResultPut(this, property, result);
+            }
+        }
     }
 
-    public synchronized void putResult(AnalyzedProperty property, Boolean result) {
+    public void putResult(AnalyzedProperty property, Boolean result) {
         this.putResult(property, Objects.equals(result, Boolean.TRUE) ? TestResults.TRUE
             : Objects.equals(result, Boolean.FALSE) ? TestResults.FALSE : TestResults.UNCERTAIN);
     }
 
-    public synchronized void markAsChangedAndNotify() {
-        this.hasChanged();
-        this.notifyObservers();
+    /**
+     * Registers a listener which is notified about every result put into this report. Listeners are not serialized.
+     *
+     * @param listener
+     *                 The listener to add
+     */
+    public synchronized void addListener(ScanReportListener listener) {
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    public synchronized void removeListener(ScanReportListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
     }
 
     public synchronized boolean isProbeAlreadyExecuted(ProbeType type) {
@@ -0,0 +1,32 @@
+/**
+ * Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.scanner.core.report;
+
+import de.rub.nds.scanner.core.constants.AnalyzedProperty;
+import de.rub.nds.scanner.core.constants.TestResult;
+
+/**
+ * Receives the results of a {@link ScanReport} while the scan is still running, e.g., to persist them incrementally.
+ */
+public interface ScanReportListener {
+
+    /**
+     * Called after a result was put into the report. The call happens on the thread which put the result, without
+     * holding the lock of the report.
+     *
+     * @param report
+     *                 The report the result was put into
+     * @param property
+     *                 The property
+     * @param result
+     *                 The new result of the property
+     */
+    public void onResultPut(ScanReport report, AnalyzedProperty property, TestResult result);
+}
@@ -0,0 +1,235 @@
+/**
+ * Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.scanner.core.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import de.rub.nds.scanner.core.config.ScannerConfig;
+import de.rub.nds.scanner.core.constants.ProbeType;
+import de.rub.nds.scanner.core.constants.ScannerDetail;
+import de.rub.nds.scanner.core.passive.StatsWriter;
+import de.rub.nds.scanner.core.probe.ScannerProbe;
+import de.rub.nds.scanner.core.probe.result.ProbeResult;
+import de.rub.nds.scanner.core.report.PerformanceData;
+import de.rub.nds.scanner.core.report.ScanReport;
+import de.rub.nds.tlsattacker.core.config.delegate.GeneralDelegate;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ThreadedScanJobExecutorTest {
+
+    private enum TestProbeType implements ProbeType {
+        FIRST,
+        SECOND,
+        THIRD,
+        NOT_IN_JOB,
+        WAITS_FOR_MISSING,
+        UNDECLARED;
+
+        @Override
+        public String getName() {
+            return name();
+        }
+    }
+
+    private static class TestReport extends ScanReport {
+
+        private final List<ProbeType> mergedResults = Collections.synchronizedList(new LinkedList<>());
+
+        private final List<ProbeType> notExecutedResults = Collections.synchronizedList(new LinkedList<>());
+
+        @Override
+        public String getFullReport(ScannerDetail detail, boolean printColorful) {
+            return "";
+        }
+    }
+
+    private static class TestResult extends ProbeResult<TestReport> {
+
+        private final boolean executed;
+
+        TestResult(ProbeType type, boolean executed) {
+            super(type);
+            this.executed = executed;
+        }
+
+        @Override
+        protected void mergeData(TestReport report) {
+            if (executed) {
+                report.mergedResults.add(getType());
+            } else {
+                report.notExecutedResults.add(getType());
+            }
+        }
+    }
+
+    private static class TestProbe extends ScannerProbe<TestReport, TestResult> {
+
+        private final Predicate<TestReport> executable;
+
+        private int canBeExecutedCalls = 0;
+
+        private ParallelExecutor parallelExecutor = null;
+
+        private int taskCount = 0;
+
+        TestProbe(ProbeType type, Predicate<TestReport> executable, ProbeType... requiredProbes) {
+            super(type);
+            this.executable = executable;
+            if (requiredProbes != null) {
+                setRequiredProbes(requiredProbes);
+            }
+            setWriter(new StatsWriter());
+        }
+
+        @Override
+        public TestResult executeTest() {
+            if (parallelExecutor != null) {
+                List<TlsTask> tasks = new LinkedList<>();
+                for (int i = 0; i < taskCount; i++) {
+                    tasks.add(new TlsTask(0) {
+                        @Override
+                        public boolean execute() {
+                            return true;
+                        }
+
+                        @Override
+                        public void reset() {
+                        }
+                    });
+                }
+                parallelExecutor.bulkExecuteTasks(tasks);
+            }
+            return new TestResult(getType(), true);
+        }
+
+        @Override
+        public boolean canBeExecuted(TestReport report) {
+            canBeExecutedCalls++;
+            return executable.test(report);
+        }
+
+        @Override
+        public TestResult getCouldNotExecuteResult() {
+            return new TestResult(getType(), false);
+        }
+
+        @Override
+        public void adjustConfig(TestReport report) {
+        }
+    }
+
+    private static TestProbe createTaskProbe(ProbeType type, ParallelExecutor parallelExecutor, int taskCount) {
+        TestProbe probe = new TestProbe(type, report -> true);
+        probe.parallelExecutor = parallelExecutor;
+        probe.taskCount = taskCount;
+        return probe;
+    }
+
+    private ScannerConfig config;
+
+    @Before
+    public void setUp() {
+        config = new ScannerConfig(new GeneralDelegate()) {
+        };
+        config.setProbeTimeout(10000);
+    }
+
+    private TestReport execute(List<ScannerProbe> probes) {
+        ThreadedScanJobExecutor<TestReport> executor =
+            new ThreadedScanJobExecutor<>(config, new ScanJob(probes, new LinkedList<>()), 2, "Test");
+        try {
+            return executor.execute(new TestReport());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testProbesAreReleasedAfterTheirRequiredProbes() {
+        TestProbe third = new TestProbe(TestProbeType.THIRD,
+            report -> report.isProbeAlreadyExecuted(TestProbeType.SECOND), TestProbeType.FIRST, TestProbeType.SECOND);
+        TestProbe second = new TestProbe(TestProbeType.SECOND,
+            report -> report.isProbeAlreadyExecuted(TestProbeType.FIRST), TestProbeType.FIRST);
+        TestProbe first = new TestProbe(TestProbeType.FIRST, report -> true);
+
+        TestReport report = execute(Arrays.asList(third, second, first));
+
+        assertEquals(Arrays.asList(TestProbeType.FIRST, TestProbeType.SECOND, TestProbeType.THIRD),
+            report.mergedResults);
+        assertTrue(report.notExecutedResults.isEmpty());
+        assertEquals(1, first.canBeExecutedCalls);
+        assertEquals(1, second.canBeExecutedCalls);
+        assertEquals(1, third.canBeExecutedCalls);
+    }
+
+    @Test
+    public void testProbesWhichCannotBeExecuted() {
+        TestProbe first = new TestProbe(TestProbeType.FIRST, report -> true);
+        TestProbe rejecting = new TestProbe(TestProbeType.SECOND, report -> false, TestProbeType.FIRST);
+        TestProbe waiting = new TestProbe(TestProbeType.WAITS_FOR_MISSING, report -> true, TestProbeType.NOT_IN_JOB);
+
+        TestReport report = execute(Arrays.asList(first, rejecting, waiting));
+
+        assertEquals(Arrays.asList(TestProbeType.FIRST), report.mergedResults);
+        assertEquals(Arrays.asList(TestProbeType.SECOND, TestProbeType.WAITS_FOR_MISSING), report.notExecutedResults);
+        assertFalse(report.isProbeAlreadyExecuted(TestProbeType.WAITS_FOR_MISSING));
+        assertEquals(1, rejecting.canBeExecutedCalls);
+        assertEquals(0, waiting.canBeExecutedCalls);
+    }
+
+    @Test
+    public void testUndeclaredProbesAreCheckedAfterEveryProbe() {
+        TestProbe first = new TestProbe(TestProbeType.FIRST, report -> true);
+        TestProbe second = new TestProbe(TestProbeType.SECOND, report -> true, TestProbeType.FIRST);
+        TestProbe undeclared = new TestProbe(TestProbeType.UNDECLARED,
+            report -> report.isProbeAlreadyExecuted(TestProbeType.SECOND), (ProbeType[]) null);
+
+        TestReport report = execute(Arrays.asList(undeclared, first, second));
+
+        assertEquals(Arrays.asList(TestProbeType.FIRST, TestProbeType.SECOND, TestProbeType.UNDECLARED),
+            report.mergedResults);
+        assertEquals(3, undeclared.canBeExecutedCalls);
+    }
+
+    @Test
+    public void testExecutionMetricsArePerProbe() {
+        ParallelExecutor parallelExecutor = new ParallelExecutor(2, 0);
+        try {
+            TestReport report = execute(Arrays.asList(createTaskProbe(TestProbeType.FIRST, parallelExecutor, 3),
+                createTaskProbe(TestProbeType.SECOND, parallelExecutor, 5),
+                new TestProbe(TestProbeType.THIRD, probeReport -> true)));
+
+            Map<ProbeType, PerformanceData> performanceMap = new HashMap<>();
+            for (PerformanceData data : report.getPerformanceList()) {
+                performanceMap.put(data.getType(), data);
+            }
+            assertEquals(3, performanceMap.size());
+            assertEquals(3, performanceMap.get(TestProbeType.FIRST).getExecutionMetrics().getTasks());
+            assertEquals(5, performanceMap.get(TestProbeType.SECOND).getExecutionMetrics().getTasks());
+            assertEquals(5, performanceMap.get(TestProbeType.SECOND).getExecutionMetrics().getExecutions());
+            assertEquals(0, performanceMap.get(TestProbeType.THIRD).getExecutionMetrics().getTasks());
+            assertTrue(performanceMap.get(TestProbeType.SECOND).getDurationNanos() > 0);
+        } finally {
+            parallelExecutor.shutdown();
+        }
+    }
+}
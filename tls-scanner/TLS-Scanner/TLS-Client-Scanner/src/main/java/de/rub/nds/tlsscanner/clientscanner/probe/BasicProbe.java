@@ -37,6 +37,7 @@ public class BasicProbe extends TlsClientProbe<ClientScannerConfig, ClientReport
 
     public BasicProbe(ParallelExecutor parallelExecutor, ClientScannerConfig scannerConfig) {
         super(parallelExecutor, TlsProbeType.BASIC, scannerConfig);
+        setRequiredProbes();
     }
 
     @Override
@@ -30,6 +30,7 @@ public class ClientRecordFragmentationProbe
 
     public ClientRecordFragmentationProbe(ClientScannerConfig scannerConfig, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.RECORD_FRAGMENTATION, scannerConfig);
+        setRequiredProbes();
     }
 
     @Override
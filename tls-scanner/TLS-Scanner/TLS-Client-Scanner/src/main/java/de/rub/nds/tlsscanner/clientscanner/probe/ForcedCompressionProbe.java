@@ -30,6 +30,7 @@ public class ForcedCompressionProbe extends TlsClientProbe<ClientScannerConfig,
 
     public ForcedCompressionProbe(ParallelExecutor executor, ClientScannerConfig scannerConfig) {
         super(executor, TlsProbeType.FORCED_COMPRESSION, scannerConfig);
+        setRequiredProbes();
     }
 
     @Override
@@ -38,6 +38,7 @@ public class Version13RandomProbe extends TlsClientProbe<ClientScannerConfig, Cl
 
     public Version13RandomProbe(ParallelExecutor executor, ClientScannerConfig scannerConfig) {
         super(executor, TlsProbeType.VERSION_1_3_RANDOM_DOWNGRADE, scannerConfig);
+        setRequiredProbes();
     }
 
     @Override
@@ -36,6 +36,7 @@ public class VersionProbe extends TlsClientProbe<ClientScannerConfig, ClientRepo
 
     public VersionProbe(ParallelExecutor executor, ClientScannerConfig scannerConfig) {
         super(executor, TlsProbeType.PROTOCOL_VERSION, scannerConfig);
+        setRequiredProbes(TlsProbeType.BASIC);
     }
 
     protected Config getTls13Config() {
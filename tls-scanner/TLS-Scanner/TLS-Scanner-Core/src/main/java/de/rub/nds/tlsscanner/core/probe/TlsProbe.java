@@ -17,6 +17,8 @@ import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
 import de.rub.nds.tlsscanner.core.constants.TlsProbeType;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,6 +51,39 @@ public abstract class TlsProbe<Report extends ScanReport, Result extends ProbeRe
 
     }
 
+    /**
+     * Executes the states with at most maxPendingStates of them submitted to the executor at a time, see
+     * {@link ParallelExecutor#bulkExecuteStateTasks(Iterator, int)}.
+     *
+     * @param  states
+     *                          The states to execute, they are only taken from the iterator when they are submitted
+     * @param  maxPendingStates
+     *                          The maximal number of submitted but unfinished states
+     * @return                  The executed states in the order of the iterator
+     */
+    public final List<State> executeState(Iterator<State> states, int maxPendingStates) {
+        List<State> executedStates = new LinkedList<>();
+        parallelExecutor.bulkExecuteStateTasks(new Iterator<State>() {
+            @Override
+            public boolean hasNext() {
+                return states.hasNext();
+            }
+
+            @Override
+            public State next() {
+                State state = states.next();
+                executedStates.add(state);
+                return state;
+            }
+        }, maxPendingStates);
+        if (getWriter() != null) {
+            for (State state : executedStates) {
+                getWriter().extract(state);
+            }
+        }
+        return executedStates;
+    }
+
     public ParallelExecutor getParallelExecutor() {
         return parallelExecutor;
     }
@@ -10,9 +10,14 @@
 package de.rub.nds.tlsscanner.core.vector.response;
 
 import de.rub.nds.tlsattacker.core.record.Record;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class FingerprintChecker {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     public static EqualityError checkEquality(ResponseFingerprint fingerprint1, ResponseFingerprint fingerprint2) {
         boolean foundRecordContentMismatch = false;
         if (fingerprint1.getMessageList().size() == fingerprint2.getMessageList().size()) {
@@ -80,6 +85,57 @@ public class FingerprintChecker {
         return EqualityError.NONE;
     }
 
+    /**
+     * Returns the first EqualityError found when comparing every fingerprint of the list with every other fingerprint
+     * of the list, in the order of the list. If all fingerprints have a {@link FingerprintKey} this is done in a single
+     * pass, as the first error is then the one between the first fingerprint and the first fingerprint with a different
+     * key.
+     *
+     * @param  fingerprintList
+     *                         The fingerprints to compare
+     * @return                 The first EqualityError or {@link EqualityError#NONE} if all fingerprints are equal
+     */
+    public static EqualityError getEqualityError(List<ResponseFingerprint> fingerprintList) {
+        if (fingerprintList.isEmpty()) {
+            return EqualityError.NONE;
+        }
+        ResponseFingerprint reference = fingerprintList.get(0);
+        FingerprintKey referenceKey = FingerprintKey.exact(reference);
+        ResponseFingerprint firstDifferent = null;
+        for (ResponseFingerprint fingerprint : fingerprintList) {
+            FingerprintKey key = FingerprintKey.exact(fingerprint);
+            if (referenceKey == null || key == null) {
+                return getEqualityErrorPairwise(fingerprintList);
+            }
+            if (firstDifferent == null && !referenceKey.equals(key)) {
+                firstDifferent = fingerprint;
+            }
+        }
+        if (firstDifferent == null) {
+            return EqualityError.NONE;
+        }
+        return logEqualityError(reference, firstDifferent);
+    }
+
+    private static EqualityError getEqualityErrorPairwise(List<ResponseFingerprint> fingerprintList) {
+        for (int i = 0; i < fingerprintList.size(); i++) {
+            for (int j = 0; j < fingerprintList.size(); j++) {
+                if (i != j && checkEquality(fingerprintList.get(i), fingerprintList.get(j)) != EqualityError.NONE) {
+                    return logEqualityError(fingerprintList.get(i), fingerprintList.get(j));
+                }
+            }
+        }
+        return EqualityError.NONE;
+    }
+
+    private static EqualityError logEqualityError(ResponseFingerprint fingerprint1, ResponseFingerprint fingerprint2) {
+        EqualityError error = checkEquality(fingerprint1, fingerprint2);
+        LOGGER.debug("Found an EqualityError: " + error);
+        LOGGER.debug("Fingerprint1: " + fingerprint1.toString());
+        LOGGER.debug("Fingerprint2: " + fingerprint2.toString());
+        return error;
+    }
+
     private FingerprintChecker() {
     }
 }
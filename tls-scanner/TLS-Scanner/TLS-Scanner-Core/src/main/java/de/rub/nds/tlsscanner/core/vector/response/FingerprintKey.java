@@ -0,0 +1,116 @@
+/**
+ * TLS-Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.core.vector.response;
+
+import de.rub.nds.modifiablevariable.util.ArrayConverter;
+import de.rub.nds.tlsattacker.core.protocol.ProtocolMessage;
+import de.rub.nds.tlsattacker.core.record.AbstractRecord;
+import de.rub.nds.tlsattacker.core.record.Record;
+import de.rub.nds.tlsattacker.transport.socket.SocketState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Canonical form of a {@link ResponseFingerprint}. Two keys are equal if and only if the {@link FingerprintChecker}
+ * considers the fingerprints equal, so fingerprints can be grouped with a hash map instead of comparing every pair.
+ * Fingerprints without a record list or with records other than {@link Record}s are not comparable in a transitive way
+ * by the FingerprintChecker and have no key.
+ */
+public final class FingerprintKey {
+
+    private final List<String> messages;
+
+    private final List<String> records;
+
+    private final SocketState socketState;
+
+    private FingerprintKey(List<String> messages, List<String> records, SocketState socketState) {
+        this.messages = messages;
+        this.records = records;
+        this.socketState = socketState;
+    }
+
+    /**
+     * @param  fingerprint
+     *                     The fingerprint
+     * @return             A key which equals the key of another fingerprint if
+     *                     {@link FingerprintChecker#checkEquality(ResponseFingerprint, ResponseFingerprint)} returns
+     *                     {@link EqualityError#NONE} for both, or null if there is no such key
+     */
+    public static FingerprintKey exact(ResponseFingerprint fingerprint) {
+        return create(fingerprint, true);
+    }
+
+    /**
+     * @param  fingerprint
+     *                     The fingerprint
+     * @return             A key which equals the key of another fingerprint if
+     *                     {@link ResponseFingerprint#equals(Object)} is true for both, that is if the fingerprints only
+     *                     differ in the length of their records, or null if there is no such key
+     */
+    public static FingerprintKey ignoringRecordContent(ResponseFingerprint fingerprint) {
+        return create(fingerprint, false);
+    }
+
+    private static FingerprintKey create(ResponseFingerprint fingerprint, boolean includeRecordLengths) {
+        if (fingerprint == null || fingerprint.getMessageList() == null || fingerprint.getRecordList() == null) {
+            return null;
+        }
+        List<String> messages = new ArrayList<>(fingerprint.getMessageList().size());
+        for (ProtocolMessage message : fingerprint.getMessageList()) {
+            messages.add(message.toCompactString());
+        }
+        List<String> records = new ArrayList<>(fingerprint.getRecordList().size());
+        for (AbstractRecord abstractRecord : fingerprint.getRecordList()) {
+            if (!(abstractRecord instanceof Record)) {
+                return null;
+            }
+            Record record = (Record) abstractRecord;
+            Byte contentType =
+                record.getContentMessageType() == null ? null : record.getContentMessageType().getValue();
+            byte[] version = record.getProtocolVersion() == null ? null : record.getProtocolVersion().getValue();
+            byte[] completeRecordBytes =
+                record.getCompleteRecordBytes() == null ? null : record.getCompleteRecordBytes().getValue();
+            if (contentType == null || version == null || (includeRecordLengths && completeRecordBytes == null)) {
+                return null;
+            }
+            StringBuilder recordKey = new StringBuilder();
+            recordKey.append(record.getClass().getName()).append('|').append(contentType).append('|')
+                .append(ArrayConverter.bytesToHexString(version, false));
+            if (includeRecordLengths) {
+                recordKey.append('|').append(completeRecordBytes.length);
+            }
+            records.add(recordKey.toString());
+        }
+        return new FingerprintKey(messages, records, fingerprint.getSocketState());
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + messages.hashCode();
+        hash = 31 * hash + records.hashCode();
+        hash = 31 * hash + Objects.hashCode(socketState);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        FingerprintKey other = (FingerprintKey) obj;
+        return socketState == other.socketState && messages.equals(other.messages) && records.equals(other.records);
+    }
+}
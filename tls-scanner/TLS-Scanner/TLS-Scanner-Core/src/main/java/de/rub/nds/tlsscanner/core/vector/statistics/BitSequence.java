@@ -0,0 +1,181 @@
+/**
+ * TLS-Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.core.vector.statistics;
+
+/**
+ * Immutable sequence of bits packed into longs. The first bit of the sequence is the most significant bit of the first
+ * word, so consecutive bits can be read as a big endian number.
+ */
+public class BitSequence {
+
+    private static final int WORD_SIZE = 64;
+
+    private final long[] words;
+
+    private final int length;
+
+    private BitSequence(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * @param  byteArray
+     *                   The bytes, each one is read from the most to the least significant bit
+     * @return           The bits of the bytes
+     */
+    public static BitSequence fromByteArray(byte[] byteArray) {
+        long[] words = new long[(byteArray.length + 7) / 8];
+        for (int i = 0; i < byteArray.length; i++) {
+            words[i / 8] |= (byteArray[i] & 0xFFL) << (56 - 8 * (i % 8));
+        }
+        return new BitSequence(words, byteArray.length * 8);
+    }
+
+    /**
+     * @param  bitString
+     *                   A string consisting of the characters 0 and 1
+     * @return           The bits of the string
+     */
+    public static BitSequence fromBitString(String bitString) {
+        long[] words = new long[(bitString.length() + WORD_SIZE - 1) / WORD_SIZE];
+        for (int i = 0; i < bitString.length(); i++) {
+            char bit = bitString.charAt(i);
+            if (bit == '1') {
+                words[i / WORD_SIZE] |= 1L << (WORD_SIZE - 1 - i % WORD_SIZE);
+            } else if (bit != '0') {
+                throw new IllegalArgumentException("Not a bit string, found '" + bit + "' at index " + i);
+            }
+        }
+        return new BitSequence(words, bitString.length());
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * @param  index
+     *               Index of the bit
+     * @return       0 or 1
+     */
+    public int getBit(int index) {
+        return (int) (words[index / WORD_SIZE] >>> (WORD_SIZE - 1 - index % WORD_SIZE)) & 1;
+    }
+
+    /**
+     * Reads up to 32 consecutive bits as a big endian number
+     *
+     * @param  from
+     *               Index of the first bit
+     * @param  count
+     *               Number of bits to read
+     * @return       The bits, the bit at index from being the most significant one
+     */
+    public int getBits(int from, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        int wordIndex = from / WORD_SIZE;
+        int offset = from % WORD_SIZE;
+        long bits = words[wordIndex] << offset;
+        if (offset + count > WORD_SIZE) {
+            bits |= words[wordIndex + 1] >>> (WORD_SIZE - offset);
+        }
+        return (int) (bits >>> (WORD_SIZE - count));
+    }
+
+    /**
+     * Like {@link #getBits(int, int)}, but wraps around to the start of the sequence when reading past its end
+     *
+     * @param  from
+     *               Index of the first bit
+     * @param  count
+     *               Number of bits to read
+     * @return       The bits, the bit at index from being the most significant one
+     */
+    public int getCyclicBits(int from, int count) {
+        if (from + count <= length) {
+            return getBits(from, count);
+        }
+        int bits = 0;
+        for (int i = 0; i < count; i++) {
+            bits = (bits << 1) | getBit((from + i) % length);
+        }
+        return bits;
+    }
+
+    /**
+     * @param  from
+     *              Index of the first bit, inclusive
+     * @param  to
+     *              Index of the last bit, exclusive
+     * @return      The number of ones in the range
+     */
+    public int countOnes(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int firstWord = from / WORD_SIZE;
+        int lastWord = (to - 1) / WORD_SIZE;
+        long firstMask = -1L >>> (from % WORD_SIZE);
+        long lastMask = -1L << (WORD_SIZE - 1 - (to - 1) % WORD_SIZE);
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int ones = Long.bitCount(words[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            ones += Long.bitCount(words[i]);
+        }
+        return ones + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    public int countOnes() {
+        return countOnes(0, length);
+    }
+
+    /**
+     * @return The number of indices i at which bit i differs from bit i - 1
+     */
+    public int countBitChanges() {
+        int changes = 0;
+        long previousWord = 0;
+        for (int i = 0; i < words.length; i++) {
+            // aligns every bit with its predecessor
+            long predecessors = (words[i] >>> 1) | (previousWord << (WORD_SIZE - 1));
+            long differences = (words[i] ^ predecessors) & validBitsMask(i);
+            if (i == 0) {
+                // the first bit has no predecessor
+                differences &= Long.MAX_VALUE;
+            }
+            changes += Long.bitCount(differences);
+            previousWord = words[i];
+        }
+        return changes;
+    }
+
+    private long validBitsMask(int wordIndex) {
+        int validBits = Math.min(WORD_SIZE, length - wordIndex * WORD_SIZE);
+        return validBits == WORD_SIZE ? -1L : -1L << (WORD_SIZE - validBits);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(getBit(i) == 1 ? '1' : '0');
+        }
+        return builder.toString();
+    }
+}
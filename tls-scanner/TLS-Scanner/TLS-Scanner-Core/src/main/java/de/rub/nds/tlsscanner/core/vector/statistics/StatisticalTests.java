@@ -11,11 +11,6 @@ package de.rub.nds.tlsscanner.core.vector.statistics;
 
 import de.rub.nds.scanner.core.constants.RandomnessConstants;
 import static java.lang.Math.*;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.math3.distribution.NormalDistribution;
 import static org.apache.commons.math3.special.Erf.erfc;
 import org.apache.commons.math3.special.Gamma;
@@ -27,6 +22,14 @@ public class StatisticalTests {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final int[] TEMPLATE_NINE_VALUES = new int[RandomnessConstants.TEMPLATE_NINE.length];
+
+    static {
+        for (int i = 0; i < TEMPLATE_NINE_VALUES.length; i++) {
+            TEMPLATE_NINE_VALUES[i] = Integer.parseInt(RandomnessConstants.TEMPLATE_NINE[i][0], 2);
+        }
+    }
+
     /**
      * Test checking for increasing cumulative sums when mapping 0 to -1 and 1, comparing the results to the
      * expectation.
@@ -38,8 +41,7 @@ public class StatisticalTests {
      * @return              P-Value of the test
      */
     public static Double cumuluativeSumTest(byte[] byteSequence, boolean forwardMode) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return cumuluativeSumTest(bitString, forwardMode);
+        return cumuluativeSumTest(BitSequence.fromByteArray(byteSequence), forwardMode);
     }
 
     /**
@@ -53,35 +55,37 @@ public class StatisticalTests {
      * @return             P-Value of the test
      */
     public static Double cumuluativeSumTest(String bitString, boolean forwardMode) {
+        return cumuluativeSumTest(BitSequence.fromBitString(bitString), forwardMode);
+    }
+
+    /**
+     * Test checking for increasing cumulative sums when mapping 0 to -1 and 1, comparing the results to the
+     * expectation.
+     *
+     * @param  bits
+     *                     The random bits
+     * @param  forwardMode
+     *                     TRUE if forward-mode should be used, FALSE if backwards-mode should be used
+     * @return             P-Value of the test
+     */
+    public static Double cumuluativeSumTest(BitSequence bits, boolean forwardMode) {
         double pValue;
+        int n = bits.length();
 
-        if (bitString.length() == 0) {
+        if (n == 0) {
             return 0.0;
         }
 
-        int[] convertedSequence = new int[bitString.length()];
-
-        // Convert 0 to -1 and 1 to +1
-        for (int i = 0; i < bitString.length(); i++) {
-            convertedSequence[i] = 2 * Character.getNumericValue(bitString.charAt(i)) - 1;
+        // Convert 0 to -1 and 1 to +1 and sum up
+        int cuSum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            cuSum = cuSum + 2 * bits.getBit(forwardMode ? i : n - 1 - i) - 1;
+            min = Math.min(min, cuSum);
+            max = Math.max(max, cuSum);
         }
 
-        if (!forwardMode) {
-            ArrayUtils.reverse(convertedSequence);
-        }
-
-        int cuSums[] = new int[bitString.length()];
-
-        for (int i = 0; i < bitString.length(); i++) {
-            for (int j = 0; j < i + 1; j++) {
-                cuSums[i] = cuSums[i] + convertedSequence[j];
-            }
-        }
-
-        IntSummaryStatistics stat = Arrays.stream(cuSums).summaryStatistics();
-        int min = stat.getMin();
-        int max = stat.getMax();
-
         int z;
 
         if (abs(min) > max) {
@@ -95,20 +99,20 @@ public class StatisticalTests {
         double probSum1 = 0.0;
         double probSum2 = 0.0;
 
-        int sumStart = ((-bitString.length() / z) + 1) / 4;
-        int sumEnd = ((bitString.length() / z) - 1) / 4;
+        int sumStart = ((-n / z) + 1) / 4;
+        int sumEnd = ((n / z) - 1) / 4;
 
         for (int i = sumStart; i < sumEnd + 1; i++) {
-            probSum1 = probSum1 + dst.cumulativeProbability(((4 * i + 1) * z) / sqrt(bitString.length()));
-            probSum1 = probSum1 - dst.cumulativeProbability(((4 * i - 1) * z) / sqrt(bitString.length()));
+            probSum1 = probSum1 + dst.cumulativeProbability(((4 * i + 1) * z) / sqrt(n));
+            probSum1 = probSum1 - dst.cumulativeProbability(((4 * i - 1) * z) / sqrt(n));
         }
 
-        sumStart = ((-bitString.length() / z) - 3) / 4;
-        sumEnd = ((bitString.length() / z) - 1) / 4;
+        sumStart = ((-n / z) - 3) / 4;
+        sumEnd = ((n / z) - 1) / 4;
 
         for (int i = sumStart; i < sumEnd + 1; i++) {
-            probSum2 = probSum2 + dst.cumulativeProbability(((4 * i + 3) * z) / sqrt(bitString.length()));
-            probSum2 = probSum2 - dst.cumulativeProbability(((4 * i + 1) * z) / sqrt(bitString.length()));
+            probSum2 = probSum2 + dst.cumulativeProbability(((4 * i + 3) * z) / sqrt(n));
+            probSum2 = probSum2 - dst.cumulativeProbability(((4 * i + 1) * z) / sqrt(n));
         }
 
         pValue = 1 - probSum1 + probSum2;
@@ -127,8 +131,7 @@ public class StatisticalTests {
      * @return              P-Value of the test
      */
     public static Double approximateEntropyTest(byte[] byteSequence, int blockLength) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return approximateEntropyTest(bitString, blockLength);
+        return approximateEntropyTest(BitSequence.fromByteArray(byteSequence), blockLength);
     }
 
     /**
@@ -142,60 +145,54 @@ public class StatisticalTests {
      * @return             P-Value of the test
      */
     public static Double approximateEntropyTest(String bitString, int blockLength) {
+        return approximateEntropyTest(BitSequence.fromBitString(bitString), blockLength);
+    }
+
+    /**
+     * * Test to check the frequency of all possible bit-patterns of size blockLength, comparing them to the
+     * expectation.
+     *
+     * @param  bits
+     *                     the random bits
+     * @param  blockLength
+     *                     length of bit-patterns to check
+     * @return             P-Value of the test
+     */
+    public static Double approximateEntropyTest(BitSequence bits, int blockLength) {
         // TODO: Select m and n such that m < log_2)(n) - 5
         // TODO: ie. for 1096 recommend is blockLength of 5
         // TODO: currently set to the value best fit for the expected amount of
         // bytes of a scan.
         double pValue;
+        int n = bits.length();
 
-        if (bitString.length() == 0) {
+        if (n == 0) {
             return 0.0;
         }
 
-        String extendedSequence = bitString + bitString.substring(0, blockLength - 1);
-        String extendedSecondSequence = bitString + bitString.substring(0, blockLength);
-
         // Round 1
-        String[] mBitSequence = generateAllBitStrings(blockLength);
-        int[] mBitSequenceCount = new int[mBitSequence.length];
-        double phi = 0.0;
-
-        for (int i = 0; i < bitString.length(); i++) {
-            int index = ArrayUtils.indexOf(mBitSequence, extendedSequence.substring(i, i + blockLength));
-            mBitSequenceCount[index]++;
-        }
-
-        for (int i = 0; i < mBitSequence.length; i++) {
-            if (mBitSequenceCount[i] > 0) {
-                double proportion = (double) mBitSequenceCount[i] / bitString.length();
-                phi = phi + (proportion) * log(proportion);
-            }
-        }
+        double phi = phi(countCyclicPatterns(bits, blockLength), n);
 
         // Round 2
-        String[] mPlusOneBitSequence = generateAllBitStrings(blockLength + 1);
-        int[] mPlusOneBitCount = new int[mPlusOneBitSequence.length];
-        double phiTwo = 0.0;
+        double phiTwo = phi(countCyclicPatterns(bits, blockLength + 1), n);
 
-        for (int i = 0; i < bitString.length(); i++) {
-            int index =
-                ArrayUtils.indexOf(mPlusOneBitSequence, extendedSecondSequence.substring(i, i + blockLength + 1));
-            mPlusOneBitCount[index]++;
-        }
-
-        for (int i = 0; i < mPlusOneBitSequence.length; i++) {
-            if (mPlusOneBitCount[i] > 0) {
-                double proportion = (double) mPlusOneBitCount[i] / bitString.length();
-                phiTwo = phiTwo + (proportion) * log(proportion);
-            }
-        }
-
-        double chiSquare = 2.0 * bitString.length() * (log(2) - (phi - phiTwo));
+        double chiSquare = 2.0 * n * (log(2) - (phi - phiTwo));
         pValue = Gamma.regularizedGammaQ(pow(2, blockLength - 1), chiSquare / 2.0);
 
         return pValue;
     }
 
+    private static double phi(int[] patternCount, int n) {
+        double phi = 0.0;
+        for (int i = 0; i < patternCount.length; i++) {
+            if (patternCount[i] > 0) {
+                double proportion = (double) patternCount[i] / n;
+                phi = phi + (proportion) * log(proportion);
+            }
+        }
+        return phi;
+    }
+
     /**
      * * Test to check the frequency of all possible overlapping bit patterns of length blockLength, checking it against
      * the expectation.
@@ -207,8 +204,7 @@ public class StatisticalTests {
      * @return              P-Value of the test
      */
     public static Double serialTest(byte[] byteSequence, int blockLength) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return serialTest(bitString, blockLength);
+        return serialTest(BitSequence.fromByteArray(byteSequence), blockLength);
     }
 
     /**
@@ -222,80 +218,57 @@ public class StatisticalTests {
      * @return             P-Value of the test
      */
     public static Double serialTest(String bitString, int blockLength) {
+        return serialTest(BitSequence.fromBitString(bitString), blockLength);
+    }
+
+    /**
+     * * Test to check the frequency of all possible overlapping bit patterns of length blockLength, checking it against
+     * the expectation.
+     *
+     * @param  bits
+     *                     the random bits
+     * @param  blockLength
+     *                     length of bit-patterns to check
+     * @return             P-Value of the test
+     */
+    public static Double serialTest(BitSequence bits, int blockLength) {
         double pValue;
+        int n = bits.length();
 
-        if (bitString.length() == 0) {
+        if (n == 0) {
             return 0.0;
         }
 
-        // Extend the input sequence by appending beginning bits to the end of
-        // the full sequence
-        String extendedFullSequence = bitString + bitString.substring(0, blockLength - 1);
-        String extendedFullSequenceMinusOne = bitString + bitString.substring(0, blockLength - 2);
-        String extendedFullSequenceMinusTwo = bitString + bitString.substring(0, blockLength - 3);
-
         // Determine frequency of all possible overlapping blockLength bit
         // blocks, all possible blockLength-1 bit blocks
-        // all possible overlapping blockLength-2 bit blocks.
-        String[] blockLengthBlocks = generateAllBitStrings(blockLength);
-        int[] blockOccurrence = new int[blockLengthBlocks.length];
+        // all possible overlapping blockLength-2 bit blocks. The sequence is
+        // extended by appending its beginning bits to its end.
         // TODO: IMPLEMENT CHECK FOR BLOCKLENGTH-1 <= 0 !
-        String[] blockLengthMinusOneBlocks = generateAllBitStrings(blockLength - 1);
-        int[] blockOccurrenceMinusOne = new int[blockLengthMinusOneBlocks.length];
-        String[] blockLengthMinusTwoBlocks = generateAllBitStrings(blockLength - 2);
-        int[] blockOccurrenceMinusTwo = new int[blockLengthMinusTwoBlocks.length];
-
-        // one for loop through the full sequence
-        for (int currentIndex = 0; currentIndex < bitString.length(); currentIndex++) {
-            // Find sequence in array and add to count of that particular bit
-            // string
-            // through blockLengthBlocks?
-            String compareString = extendedFullSequence.substring(currentIndex, blockLength + currentIndex);
-            for (int i = 0; i < blockLengthBlocks.length; i++) {
-                if (compareString.equals(blockLengthBlocks[i])) {
-                    blockOccurrence[i]++;
-                    break;
-                }
-            }
-
-            compareString = extendedFullSequenceMinusOne.substring(currentIndex, blockLength + currentIndex - 1);
-            for (int i = 0; i < blockLengthMinusOneBlocks.length; i++) {
-                if (compareString.equals(blockLengthMinusOneBlocks[i])) {
-                    blockOccurrenceMinusOne[i]++;
-                    break;
-                }
-            }
-
-            compareString = extendedFullSequenceMinusTwo.substring(currentIndex, blockLength + currentIndex - 2);
-            for (int i = 0; i < blockLengthMinusTwoBlocks.length; i++) {
-                if (compareString.equals(blockLengthMinusTwoBlocks[i])) {
-                    blockOccurrenceMinusTwo[i]++;
-                    break;
-                }
-            }
-        }
+        int[] blockOccurrence = countCyclicPatterns(bits, blockLength);
+        int[] blockOccurrenceMinusOne = countCyclicPatterns(bits, blockLength - 1);
+        int[] blockOccurrenceMinusTwo = countCyclicPatterns(bits, blockLength - 2);
 
         double psi = 0.0;
         double psiMinusOne = 0.0;
         double psiMinusTwo = 0.0;
 
-        for (int i = 0; i < blockLengthBlocks.length; i++) {
+        for (int i = 0; i < blockOccurrence.length; i++) {
             psi = psi + pow(blockOccurrence[i], 2);
         }
 
-        psi = pow(2, blockLength) / ((double) bitString.length()) * psi - bitString.length();
+        psi = pow(2, blockLength) / ((double) n) * psi - n;
 
-        for (int i = 0; i < blockLengthMinusOneBlocks.length; i++) {
+        for (int i = 0; i < blockOccurrenceMinusOne.length; i++) {
             psiMinusOne = psiMinusOne + pow(blockOccurrenceMinusOne[i], 2);
         }
 
-        psiMinusOne = pow(2, blockLength - 1) / ((double) bitString.length()) * psiMinusOne - bitString.length();
+        psiMinusOne = pow(2, blockLength - 1) / ((double) n) * psiMinusOne - n;
 
-        for (int i = 0; i < blockLengthMinusTwoBlocks.length; i++) {
+        for (int i = 0; i < blockOccurrenceMinusTwo.length; i++) {
             psiMinusTwo = psiMinusTwo + pow(blockOccurrenceMinusTwo[i], 2);
         }
 
-        psiMinusTwo = pow(2, blockLength - 2) / ((double) bitString.length()) * psiMinusTwo - bitString.length();
+        psiMinusTwo = pow(2, blockLength - 2) / ((double) n) * psiMinusTwo - n;
 
         double delta = psi - psiMinusOne;
         double deltaSquared = psi - 2.0 * psiMinusOne + psiMinusTwo;
@@ -331,8 +304,7 @@ public class StatisticalTests {
      * @return                 The ratio of failed tests to number of tests
      */
     public static Double nonOverlappingTemplateTest(byte[] byteSequence, int templateSize, double minimum_p_value) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return nonOverlappingTemplateTest(bitString, templateSize, minimum_p_value);
+        return nonOverlappingTemplateTest(BitSequence.fromByteArray(byteSequence), templateSize, minimum_p_value);
     }
 
     /**
@@ -349,6 +321,23 @@ public class StatisticalTests {
      * @return                 The ratio of failed tests to number of tests
      */
     public static Double nonOverlappingTemplateTest(String bitString, int templateSize, double minimum_p_value) {
+        return nonOverlappingTemplateTest(BitSequence.fromBitString(bitString), templateSize, minimum_p_value);
+    }
+
+    /**
+     * * Divides the bit sequence into 8 blocks and examines the blocks via a window of templateSize and counts the
+     * occurrences of pre-defined templates and compares it to the theoretical mean and variance.This is used to detect
+     * non-periodic patterns in the generated sequence. Note, that frequencyTest etc. should be executed before this, as
+     * a sequence consisting of only 1's would pass this test with a good p-value.
+     *
+     * @param  bits
+     *                         The bit sequence to be examined
+     * @param  templateSize
+     *                         The size of the templates which are examined for (NOTE: ONLY "9" CURRENTLY SUPPORTED)
+     * @param  minimum_p_value
+     * @return                 The ratio of failed tests to number of tests
+     */
+    public static Double nonOverlappingTemplateTest(BitSequence bits, int templateSize, double minimum_p_value) {
         int NUMBER_OF_BLOCKS = 8;
         int failedTests = 0;
         double fisherSum = 0.0;
@@ -359,12 +348,12 @@ public class StatisticalTests {
             return 0.0;
         }
 
-        if (bitString.length() == 0) {
+        if (bits.isEmpty()) {
             return 0.0;
         }
 
         // fixed to 8 for this test
-        int blockSize = bitString.length() / NUMBER_OF_BLOCKS;
+        int blockSize = bits.length() / NUMBER_OF_BLOCKS;
 
         // μ = (M-m+1)/2^m
         double theoMean = (blockSize - templateSize + 1.0) / pow(2, templateSize);
@@ -374,17 +363,16 @@ public class StatisticalTests {
 
         for (int currentTemplate = 0; currentTemplate < RandomnessConstants.TEMPLATE_NINE.length; currentTemplate++) {
             int[] templateCount = new int[NUMBER_OF_BLOCKS];
-            Matcher m = Pattern.compile(".{1," + blockSize + "}").matcher(bitString);
+            int template = TEMPLATE_NINE_VALUES[currentTemplate];
 
             for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
-                String currentBlock = m.find() ? bitString.substring(m.start(), m.end()) : "";
+                int blockStart = i * blockSize;
                 int currentIndex = 0;
                 int currentTemplateCount = 0;
                 // Check for template until the window reaches the end of the
                 // block
-                while (currentIndex <= (currentBlock.length() - templateSize)) {
-                    String window = currentBlock.substring(currentIndex, currentIndex + templateSize);
-                    if (window.equals(RandomnessConstants.TEMPLATE_NINE[currentTemplate][0])) {
+                while (currentIndex <= (blockSize - templateSize)) {
+                    if (bits.getBits(blockStart + currentIndex, templateSize) == template) {
                         currentTemplateCount++;
                         currentIndex = currentIndex + templateSize;
                     } else {
@@ -448,8 +436,7 @@ public class StatisticalTests {
      * @return              p values of the experiment
      */
     public static Double discreteFourierTest(byte[] byteSequence) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return discreteFourierTest(bitString);
+        return discreteFourierTest(BitSequence.fromByteArray(byteSequence));
     }
 
     /**
@@ -464,7 +451,22 @@ public class StatisticalTests {
      * @return           p values of the experiment
      */
     public static Double discreteFourierTest(String bitString) {
-        int n = bitString.length();
+        return discreteFourierTest(BitSequence.fromBitString(bitString));
+    }
+
+    /**
+     * * Test which uses the discrete Fourier Transformation to detect periodic features of the sequence which would
+     * indicate a deviation from assumed randomness. Recommended input size is 1000 bits.
+     *
+     * Shamelessly stolen from https://github.com/stamfest/randomtests/blob/master/src/main/java/net/
+     * stamfest/randomtests/nist/DiscreteFourierTransform.java
+     *
+     * @param  bits
+     *              The random bits
+     * @return      p values of the experiment
+     */
+    public static Double discreteFourierTest(BitSequence bits) {
+        int n = bits.length();
 
         if (n == 0) {
             LOGGER.debug("Only Sequences longer than 0 are allowed.");
@@ -482,7 +484,7 @@ public class StatisticalTests {
         int i, count;
 
         for (i = 0; i < n; i++) {
-            X[i] = 2 * Character.getNumericValue(bitString.charAt(i)) - 1;
+            X[i] = 2 * bits.getBit(i) - 1;
 
         }
 
@@ -526,8 +528,7 @@ public class StatisticalTests {
      * @return              p values of the experiment
      */
     public static Double longestRunWithinBlock(byte[] byteSequence, int blockLength) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return longestRunWithinBlock(bitString, blockLength);
+        return longestRunWithinBlock(BitSequence.fromByteArray(byteSequence), blockLength);
     }
 
     /**
@@ -541,31 +542,45 @@ public class StatisticalTests {
      * @return             p values of the experiment
      */
     public static Double longestRunWithinBlock(String bitString, int blockLength) {
+        return longestRunWithinBlock(BitSequence.fromBitString(bitString), blockLength);
+    }
+
+    /**
+     * * Divides the bit sequence into blocks of size blockLength and counts the longest run of 1's in those blocks. The
+     * found number of longest runs are then compared to the expected number of longest runs.
+     *
+     * @param  bits
+     *                     The random bits
+     * @param  blockLength
+     *                     The size of the blocks subdividing the sequence. Allowed values are 8, 128 and 10^4
+     * @return             p values of the experiment
+     */
+    public static Double longestRunWithinBlock(BitSequence bits, int blockLength) {
         double pValue = 0.0;
         short category = -1;
         double chiSquareFit = 0.0;
 
-        if (bitString.length() == 0) {
+        if (bits.isEmpty()) {
             return 0.0;
         }
 
         if (blockLength == RandomnessConstants.LONGEST_RUN_VALUES[0][0]) {
             category = 0;
-            if (bitString.length() < 128) {
+            if (bits.length() < 128) {
                 LOGGER.debug("Sequence is too short for this block size");
                 return pValue;
             }
         }
         if (blockLength == RandomnessConstants.LONGEST_RUN_VALUES[1][0]) {
             category = 1;
-            if (bitString.length() < 6272) {
+            if (bits.length() < 6272) {
                 LOGGER.debug("Sequence is too short for this block size");
                 return pValue;
             }
         }
         if (blockLength == RandomnessConstants.LONGEST_RUN_VALUES[2][0]) {
             category = 2;
-            if (bitString.length() < 750000) {
+            if (bits.length() < 750000) {
                 LOGGER.debug("Sequence is too short for this block size");
                 return pValue;
             }
@@ -576,24 +591,19 @@ public class StatisticalTests {
             return pValue;
         }
 
-        if (!bitString.isEmpty()) {
+        if (!bits.isEmpty()) {
 
             // Discard trailing bits
-            Integer numberOfBlocks = (int) floor(bitString.length() / blockLength);
+            Integer numberOfBlocks = (int) floor(bits.length() / blockLength);
             int[] runInBlock = new int[numberOfBlocks];
-            List<Integer> distinctLengths = new ArrayList<Integer>();
-
-            // Create Regex-Matcher, which splits the fullSequence into blocks
-            // of length numberOfBlocks
-            Matcher m = Pattern.compile(".{1," + blockLength + "}").matcher(bitString);
 
             for (int i = 0; i < numberOfBlocks; i++) {
-                String currentBlock = m.find() ? bitString.substring(m.start(), m.end()) : "";
+                int blockStart = i * blockLength;
                 int longestRun = 0;
                 int runCounter = 0;
 
                 for (int j = 0; j < blockLength; j++) {
-                    if (currentBlock.charAt(j) == '1') {
+                    if (bits.getBit(blockStart + j) == 1) {
                         runCounter++;
                         longestRun = Math.max(longestRun, runCounter);
                     } else {
@@ -601,10 +611,6 @@ public class StatisticalTests {
                     }
                 }
 
-                // Take note of distinct longest run lengths
-                if (!distinctLengths.contains(longestRun)) {
-                    distinctLengths.add(longestRun);
-                }
                 runInBlock[i] = longestRun;
             }
 
@@ -678,8 +684,7 @@ public class StatisticalTests {
      * @return              The P-Value resulting from the Test.
      */
     public static Double runsTest(byte[] byteSequence) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return runsTest(bitString);
+        return runsTest(BitSequence.fromByteArray(byteSequence));
     }
 
     /**
@@ -693,6 +698,20 @@ public class StatisticalTests {
      * @return           The P-Value resulting from the Test.
      */
     public static Double runsTest(String bitString) {
+        return runsTest(BitSequence.fromBitString(bitString));
+    }
+
+    /**
+     * * This Test inspects the total number of runs in a sequence, i.e. the uninterrupted sequences of identical bits.
+     * The purpose of this test is to determine whether the number of runs of ones and zeroes are as expected as from
+     * random sequences. NOTE: This test requires frequencyTest to be ran beforehand! Recommended Input Size is 100
+     * bits. For cryptographic applications the P-Value should be > 0.01.
+     *
+     * @param  bits
+     *              The random bits to be inspected.
+     * @return      The P-Value resulting from the Test.
+     */
+    public static Double runsTest(BitSequence bits) {
         double pValue = 0.0;
 
         int occurences = 0;
@@ -700,25 +719,18 @@ public class StatisticalTests {
 
         // Run First frequencyTest! If frequencyTest has failed, this Test does
         // not have to be run.
-        if (!bitString.isEmpty()) {
+        if (!bits.isEmpty()) {
 
-            occurences = StringUtils.countMatches(bitString, "1");
-            proportion = (double) occurences / (double) bitString.length();
+            occurences = bits.countOnes();
+            proportion = (double) occurences / (double) bits.length();
 
-            // Initialize with 1
-            int runCounter = 1;
-            for (int i = 1; i < bitString.length(); i++) {
-                // Check if previous Character is identical to current one
-                if (!(bitString.charAt(i) == bitString.charAt(i - 1))) {
-                    runCounter++;
-                }
-            }
+            // Initialize with 1, every change of the bit value starts a new run
+            int runCounter = 1 + bits.countBitChanges();
 
             // Chi-square fitting
             double numerator =
-                (double) runCounter - (double) 2 * (double) bitString.length() * proportion * ((double) 1 - proportion);
-            double denominator =
-                (double) 2 * Math.sqrt(2 * bitString.length()) * proportion * ((double) 1 - proportion);
+                (double) runCounter - (double) 2 * (double) bits.length() * proportion * ((double) 1 - proportion);
+            double denominator = (double) 2 * Math.sqrt(2 * bits.length()) * proportion * ((double) 1 - proportion);
 
             pValue = erfc(Math.abs(numerator) / denominator);
 
@@ -739,8 +751,7 @@ public class StatisticalTests {
      * @return              P-Value of the Test
      */
     public static Double frequencyTest(byte[] byteSequence, Integer blockLength) {
-        String bitString = byteArrayToBitString(byteSequence);
-        return frequencyTest(bitString, blockLength);
+        return frequencyTest(BitSequence.fromByteArray(byteSequence), blockLength);
     }
 
     /**
@@ -755,23 +766,34 @@ public class StatisticalTests {
      * @return           P-Value of the Test
      */
     public static Double frequencyTest(String bitString, Integer blockLength) {
+        return frequencyTest(BitSequence.fromBitString(bitString), blockLength);
+    }
+
+    /**
+     * * Simple Frequency-Test. For truly random sequences, the count of 0 and 1 in the bit-sequence should be
+     * converging towards 50% in each block. For blockLength 1, the Test is equal to the general Monobit-Test where the
+     * number of 0's and 1's are compared on the full Sequence. Recommended minimum-length of bits by NIST: 100.
+     * Recommended Block size M : M=>20, M>.01n and N<100, with n = Sequence Length, N = Number of Blocks. For
+     * cryptographic Applications the P-Value should be > 0.01
+     *
+     * @param  bits
+     *              The random bits
+     * @return      P-Value of the Test
+     */
+    public static Double frequencyTest(BitSequence bits, Integer blockLength) {
         double pValue = 0.0;
-        if (!bitString.isEmpty()) {
+        if (!bits.isEmpty()) {
 
             // General Case for frequency Test with blockLength =/= 1
             if (!(blockLength == 1)) {
                 // Trailing bits are discarded
-                Integer numberOfBlocks = (int) floor(bitString.length() / blockLength);
+                Integer numberOfBlocks = (int) floor(bits.length() / blockLength);
                 double[] proportionOfBlocks = new double[numberOfBlocks];
 
-                // Create Regex-Matcher, which splits the fullSequence into
-                // blocks
-                // of length numberOfBlocks
-                Matcher m = Pattern.compile(".{1," + blockLength + "}").matcher(bitString);
-
                 for (int i = 0; i < numberOfBlocks; i++) {
-                    String currentBlock = m.find() ? bitString.substring(m.start(), m.end()) : "";
-                    proportionOfBlocks[i] = (double) StringUtils.countMatches(currentBlock, "1") / (double) blockLength;
+                    int blockStart = i * blockLength;
+                    proportionOfBlocks[i] =
+                        (double) bits.countOnes(blockStart, blockStart + blockLength) / (double) blockLength;
                 }
 
                 // Chi-squared Fitting
@@ -790,12 +812,12 @@ public class StatisticalTests {
 
             } // Special Case for Block-length == 1
             else {
-                Integer zeroMatches = StringUtils.countMatches(bitString, "0");
-                Integer oneMatches = bitString.length() - zeroMatches;
+                Integer zeroMatches = bits.length() - bits.countOnes();
+                Integer oneMatches = bits.length() - zeroMatches;
                 // Convert 1 to value "1" and 0 "-1"
                 Integer bitDifference = oneMatches - zeroMatches;
 
-                double statistics = (double) abs(bitDifference) / sqrt(bitString.length());
+                double statistics = (double) abs(bitDifference) / sqrt(bits.length());
                 // complementary error function
                 pValue = erfc(statistics / sqrt(2));
             }
@@ -819,19 +841,19 @@ public class StatisticalTests {
     }
 
     /**
-     * * Small helper method to generate all possible bit strings of certain length
+     * * Counts the occurrences of all possible bit patterns of certain length, the sequence is extended by appending
+     * its beginning bits to its end
      *
+     * @param  bits
      * @param  blockLength
-     * @return
+     * @return             The occurrences, indexed by the value of the pattern
      */
-    private static String[] generateAllBitStrings(int blockLength) {
-        int combinations = (int) pow(2, blockLength);
-        String[] bitStrings = new String[combinations];
-        for (int i = 0; i < combinations; i++) {
-            String representation = Integer.toBinaryString(i);
-            bitStrings[i] = String.format("%" + blockLength + "s", representation).replace(' ', '0');
-        }
-        return bitStrings;
+    private static int[] countCyclicPatterns(BitSequence bits, int blockLength) {
+        int[] patternCount = new int[1 << blockLength];
+        for (int i = 0; i < bits.length(); i++) {
+            patternCount[bits.getCyclicBits(i, blockLength)]++;
+        }
+        return patternCount;
     }
 
 }
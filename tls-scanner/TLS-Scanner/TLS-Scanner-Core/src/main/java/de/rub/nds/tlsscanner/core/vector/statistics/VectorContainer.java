@@ -10,10 +10,14 @@
 package de.rub.nds.tlsscanner.core.vector.statistics;
 
 import de.rub.nds.tlsscanner.core.vector.Vector;
+import de.rub.nds.tlsscanner.core.vector.response.FingerprintKey;
 import de.rub.nds.tlsscanner.core.vector.response.ResponseFingerprint;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class VectorContainer {
@@ -28,18 +32,51 @@ public class VectorContainer {
         this.vector = vector;
         this.distinctResponsesCounterList = new LinkedList<>();
         this.responseList = responseFingerprintList;
-        List<ResponseFingerprint> fingerprintSet = getUniqueFingerprints(responseFingerprintList);
-        for (ResponseFingerprint fingerprint : fingerprintSet) {
-            int counter = 0;
-            for (ResponseFingerprint tempFingerprint : responseFingerprintList) {
-                if (Objects.equals(fingerprint, tempFingerprint)) {
-                    counter++;
+        Map<FingerprintKey, ResponseCounter> counterMap = countByKey(responseFingerprintList);
+        if (counterMap != null) {
+            distinctResponsesCounterList.addAll(counterMap.values());
+        } else {
+            List<ResponseFingerprint> fingerprintSet = getUniqueFingerprints(responseFingerprintList);
+            for (ResponseFingerprint fingerprint : fingerprintSet) {
+                int counter = 0;
+                for (ResponseFingerprint tempFingerprint : responseFingerprintList) {
+                    if (Objects.equals(fingerprint, tempFingerprint)) {
+                        counter++;
+                    }
                 }
+                distinctResponsesCounterList
+                    .add(new ResponseCounter(fingerprint, counter, responseFingerprintList.size()));
             }
-            distinctResponsesCounterList.add(new ResponseCounter(fingerprint, counter, responseFingerprintList.size()));
         }
     }
 
+    /**
+     * Groups the fingerprints by their {@link FingerprintKey} in a single pass, the first fingerprint of each group
+     * represents it
+     *
+     * @param  responseFingerprintList
+     * @return                         The counters in the order of their first occurrence or null if a fingerprint has
+     *                                 no key
+     */
+    private static Map<FingerprintKey, ResponseCounter> countByKey(List<ResponseFingerprint> responseFingerprintList) {
+        Map<FingerprintKey, ResponseFingerprint> representatives = new LinkedHashMap<>();
+        Map<FingerprintKey, Integer> counters = new HashMap<>();
+        for (ResponseFingerprint fingerprint : responseFingerprintList) {
+            FingerprintKey key = FingerprintKey.ignoringRecordContent(fingerprint);
+            if (key == null) {
+                return null;
+            }
+            representatives.putIfAbsent(key, fingerprint);
+            counters.merge(key, 1, Integer::sum);
+        }
+        Map<FingerprintKey, ResponseCounter> counterMap = new LinkedHashMap<>();
+        for (Map.Entry<FingerprintKey, ResponseFingerprint> entry : representatives.entrySet()) {
+            counterMap.put(entry.getKey(),
+                new ResponseCounter(entry.getValue(), counters.get(entry.getKey()), responseFingerprintList.size()));
+        }
+        return counterMap;
+    }
+
     public boolean areResponsesPlausibleConnectionBased() {
         for (ResponseCounter counterOne : distinctResponsesCounterList) {
             for (ResponseCounter counterTwo : distinctResponsesCounterList) {
@@ -14,6 +14,7 @@ import de.rub.nds.tlsscanner.core.vector.VectorResponse;
 import de.rub.nds.tlsscanner.core.vector.response.EqualityError;
 import de.rub.nds.tlsscanner.core.vector.response.ResponseFingerprint;
 import de.rub.nds.tlsscanner.core.vector.response.FingerprintChecker;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -161,16 +162,7 @@ public abstract class VectorStatisticTest<T extends TestInfo> {
     }
 
     public EqualityError getEqualityError() {
-        Set<ResponseFingerprint> fingerPrintSet = getAllResponseFingerprints();
-        for (ResponseFingerprint fingerprint1 : fingerPrintSet) {
-            for (ResponseFingerprint fingerprint2 : fingerPrintSet) {
-                EqualityError equalityError = FingerprintChecker.checkEquality(fingerprint1, fingerprint2);
-                if (equalityError != EqualityError.NONE) {
-                    return equalityError;
-                }
-            }
-        }
-        return EqualityError.NONE;
+        return FingerprintChecker.getEqualityError(new ArrayList<>(getAllResponseFingerprints()));
     }
 
     protected final void updateInternals() {
@@ -23,6 +23,8 @@ import de.rub.nds.tlsattacker.core.record.AbstractRecord;
 import de.rub.nds.tlsattacker.core.record.Record;
 import de.rub.nds.tlsattacker.core.record.BlobRecord;
 import de.rub.nds.tlsattacker.transport.socket.SocketState;
+import de.rub.nds.tlsscanner.core.vector.statistics.ResponseCounter;
+import de.rub.nds.tlsscanner.core.vector.statistics.VectorContainer;
 import java.util.LinkedList;
 import java.util.List;
 import de.rub.nds.modifiablevariable.bytearray.ModifiableByteArray;
@@ -488,4 +490,31 @@ public class FingerprintCheckerTest {
 
     }
 
+    @Test
+    public void testFingerprintKey() {
+        FingerprintKey key1 = FingerprintKey.exact(fingerprint1);
+        FingerprintKey key2 = FingerprintKey.exact(fingerprint2);
+        if (key1 != null && key2 != null) {
+            assertEquals(expectedError == EqualityError.NONE, key1.equals(key2));
+            assertEquals(fingerprint1.equals(fingerprint2), FingerprintKey.ignoringRecordContent(fingerprint1)
+                .equals(FingerprintKey.ignoringRecordContent(fingerprint2)));
+
+            VectorContainer container =
+                new VectorContainer(null, new LinkedList<>(Arrays.asList(fingerprint1, fingerprint2, fingerprint1)));
+            List<ResponseCounter> counterList = container.getDistinctResponsesCounterList();
+            if (fingerprint1.equals(fingerprint2)) {
+                assertEquals(1, counterList.size());
+                assertEquals(3, counterList.get(0).getCounter());
+            } else {
+                assertEquals(2, counterList.size());
+                assertEquals(2, counterList.get(0).getCounter());
+                assertEquals(1, counterList.get(1).getCounter());
+            }
+            assertSame(fingerprint1, counterList.get(0).getFingerprint());
+        }
+        assertEquals(expectedError, FingerprintChecker.getEqualityError(Arrays.asList(fingerprint1, fingerprint2)));
+        assertEquals(EqualityError.NONE,
+            FingerprintChecker.getEqualityError(Arrays.asList(fingerprint1, fingerprint1, fingerprint1)));
+    }
+
 }
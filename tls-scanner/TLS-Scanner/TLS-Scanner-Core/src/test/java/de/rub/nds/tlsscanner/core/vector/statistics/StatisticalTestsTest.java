@@ -0,0 +1,106 @@
+/**
+ * TLS-Scanner-Core - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.core.vector.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * The expected p-values were computed with the former String based implementation and have to match exactly
+ */
+public class StatisticalTestsTest {
+
+    /**
+     * Example sequence of NIST SP 800-22, section 2.1.8 and following
+     */
+    private static final String NIST_EPSILON =
+        "1100100100001111110110101010001000100001011010001100001000110100110001001100011001100010100010111000";
+
+    private static byte[] randomBytes() {
+        byte[] bytes = new byte[4000];
+        new Random(0).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] counterBytes() {
+        byte[] bytes = new byte[4000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i / 7);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void testNistExample() {
+        BitSequence bits = BitSequence.fromBitString(NIST_EPSILON);
+        assertEquals(0.2191939934856263, StatisticalTests.cumuluativeSumTest(bits, true), 0.0);
+        assertEquals(0.11486621530252139, StatisticalTests.cumuluativeSumTest(bits, false), 0.0);
+        assertEquals(0.23530074585897964, StatisticalTests.approximateEntropyTest(bits, 2), 0.0);
+        assertEquals(0.330947861571392, StatisticalTests.serialTest(bits, 3), 0.0);
+        assertEquals(0.07432432432432433, StatisticalTests.nonOverlappingTemplateTest(bits, 9, 0.01), 0.0);
+        assertEquals(0.6463551955394902, StatisticalTests.discreteFourierTest(bits), 0.0);
+        assertEquals(0.5007979178870903, StatisticalTests.runsTest(bits), 0.0);
+        assertEquals(0.10959858339911588, StatisticalTests.frequencyTest(bits, 1), 0.0);
+        assertEquals(0.7064384496412813, StatisticalTests.frequencyTest(bits, 10), 0.0);
+        // the String based API is backed by the same implementation
+        assertEquals(0.5007979178870903, StatisticalTests.runsTest(NIST_EPSILON), 0.0);
+    }
+
+    @Test
+    public void testRandomBytes() {
+        BitSequence bits = BitSequence.fromByteArray(randomBytes());
+        assertEquals(0.25956620017300835, StatisticalTests.cumuluativeSumTest(bits, true), 0.0);
+        assertEquals(0.5492040922917232, StatisticalTests.cumuluativeSumTest(bits, false), 0.0);
+        assertEquals(0.7481091566725837, StatisticalTests.approximateEntropyTest(bits, 10), 0.0);
+        assertEquals(0.47612313606845874, StatisticalTests.serialTest(bits, 5), 0.0);
+        assertEquals(0.013513513513513514, StatisticalTests.nonOverlappingTemplateTest(bits, 9, 0.01), 0.0);
+        assertEquals(0.057688185025407776, StatisticalTests.discreteFourierTest(bits), 0.0);
+        assertEquals(0.010120992609833413, StatisticalTests.longestRunWithinBlock(bits, 8), 0.0);
+        assertEquals(0.689424721348343, StatisticalTests.longestRunWithinBlock(bits, 128), 0.0);
+        assertEquals(0.03851010634923978, StatisticalTests.runsTest(bits), 0.0);
+        assertEquals(0.6709439001361088, StatisticalTests.frequencyTest(bits, 1), 0.0);
+        assertEquals(0.5884631034652692, StatisticalTests.frequencyTest(bits, 128), 0.0);
+    }
+
+    @Test
+    public void testCounterBytes() {
+        BitSequence bits = BitSequence.fromByteArray(counterBytes());
+        assertEquals(5.5556448330662533E-11, StatisticalTests.cumuluativeSumTest(bits, true), 0.0);
+        assertEquals(1.6050222551022841E-7, StatisticalTests.cumuluativeSumTest(bits, false), 0.0);
+        assertEquals(0.0, StatisticalTests.approximateEntropyTest(bits, 10), 0.0);
+        assertEquals(0.5027091366937317, StatisticalTests.serialTest(bits, 5), 0.0);
+        assertEquals(1.0, StatisticalTests.nonOverlappingTemplateTest(bits, 9, 0.01), 0.0);
+        assertEquals(5.598548517637861E-77, StatisticalTests.discreteFourierTest(bits), 0.0);
+        assertEquals(0.056411292306359474, StatisticalTests.longestRunWithinBlock(bits, 8), 0.0);
+        assertEquals(1.1197049822635925E-238, StatisticalTests.longestRunWithinBlock(bits, 128), 0.0);
+        assertEquals(0.06072219280929115, StatisticalTests.runsTest(bits), 0.0);
+        assertEquals(8.02511126692758E-8, StatisticalTests.frequencyTest(bits, 1), 0.0);
+        assertEquals(4.229794621190562E-49, StatisticalTests.frequencyTest(bits, 10), 0.0);
+    }
+
+    @Test
+    public void testBitSequence() {
+        byte[] bytes = randomBytes();
+        String bitString = StatisticalTests.byteArrayToBitString(bytes);
+        BitSequence bits = BitSequence.fromByteArray(bytes);
+        assertEquals(bitString, bits.toString());
+        assertEquals(bitString, BitSequence.fromBitString(bitString).toString());
+
+        BitSequence nistBits = BitSequence.fromBitString(NIST_EPSILON);
+        assertEquals(100, nistBits.length());
+        assertEquals(42, nistBits.countOnes());
+        assertEquals(NIST_EPSILON.substring(60, 90).replace("0", "").length(), nistBits.countOnes(60, 90));
+        assertEquals(Integer.parseInt(NIST_EPSILON.substring(60, 80), 2), nistBits.getBits(60, 20));
+        assertEquals(Integer.parseInt(NIST_EPSILON.substring(95) + NIST_EPSILON.substring(0, 5), 2),
+            nistBits.getCyclicBits(95, 10));
+    }
+}
@@ -15,12 +15,19 @@ import de.rub.nds.scanner.core.report.AnsiColor;
 import de.rub.nds.scanner.core.util.ConsoleLogger;
 import de.rub.nds.tlsattacker.core.config.delegate.GeneralDelegate;
 import de.rub.nds.tlsattacker.core.exceptions.ConfigurationException;
+import de.rub.nds.tlsattacker.core.workflow.NamedThreadFactory;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
 import de.rub.nds.tlsscanner.serverscanner.config.ServerScannerConfig;
+import de.rub.nds.tlsscanner.serverscanner.execution.MultiTargetServerScanner;
 import de.rub.nds.tlsscanner.serverscanner.execution.TlsServerScanner;
 import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
 import de.rub.nds.tlsscanner.serverscanner.report.ServerReportSerializer;
+import de.rub.nds.tlsscanner.serverscanner.report.ServerReportStreamSerializer;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,14 +39,27 @@ public class Main {
         ServerScannerConfig config = new ServerScannerConfig(new GeneralDelegate());
         JCommander commander = new JCommander(config);
         try {
-            commander.parse(args);
+            if (isTargetListScan(args)) {
+                // -connect is replaced by the target list
+                commander.parseWithoutValidation(args);
+            } else {
+                commander.parse(args);
+            }
             if (config.getGeneralDelegate().isHelp()) {
                 commander.usage();
                 return;
             }
             // Cmd was parsable
+            if (config.getTargetListFile() != null) {
+                scanTargetList(config, args);
+                return;
+            }
+            ServerReportStreamSerializer streamSerializer = createStreamSerializer(config);
             try {
                 TlsServerScanner scanner = new TlsServerScanner(config);
+                if (streamSerializer != null && config.isStreamResults()) {
+                    scanner.addReportListener(streamSerializer);
+                }
                 long time = System.currentTimeMillis();
                 LOGGER.info("Performing Scan, this may take some time...");
                 ServerReport report = scanner.scan();
@@ -47,16 +67,82 @@ public class Main {
                 ConsoleLogger.CONSOLE
                     .info(AnsiColor.RESET.getCode() + "Scanned in: " + ((System.currentTimeMillis() - time) / 1000)
                         + "s\n" + report.getFullReport(config.getReportDetail(), !config.isNoColor()));
-                if (config.isWriteReportToFile()) {
+                if (streamSerializer != null) {
+                    streamSerializer.writeReport(report);
+                } else if (config.isWriteReportToFile()) {
                     File outputFile = new File(config.getOutputFile());
                     ServerReportSerializer.serialize(outputFile, report);
                 }
             } catch (ConfigurationException e) {
                 LOGGER.error("Encountered a ConfigurationException aborting.", e);
+            } finally {
+                if (streamSerializer != null) {
+                    streamSerializer.close();
+                }
             }
         } catch (ParameterException e) {
             LOGGER.error("Could not parse provided parameters", e);
             commander.usage();
         }
     }
+
+    private static boolean isTargetListScan(String[] args) {
+        return Arrays.asList(args).contains("-targetList");
+    }
+
+    private static void scanTargetList(ServerScannerConfig config, String[] args) throws IOException {
+        List<ServerScannerConfig> targetConfigs = new LinkedList<>();
+        for (String target : MultiTargetServerScanner.readTargetList(new File(config.getTargetListFile()))) {
+            ServerScannerConfig targetConfig = new ServerScannerConfig(new GeneralDelegate());
+            new JCommander(targetConfig).parseWithoutValidation(args);
+            try {
+                targetConfig.getClientDelegate().setHost(target);
+                targetConfigs.add(targetConfig);
+            } catch (ParameterException e) {
+                LOGGER.error("Skipping invalid target " + target, e);
+            }
+        }
+        ServerReportStreamSerializer streamSerializer = createStreamSerializer(config);
+        File outputDirectory =
+            config.isWriteReportToFile() && streamSerializer == null ? new File(config.getOutputFile()) : null;
+        if (outputDirectory != null && !outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Could not create report directory " + outputDirectory);
+        }
+        ParallelExecutor parallelExecutor = new ParallelExecutor(config.getOverallThreads() * config.getParallelHosts(),
+            3, new NamedThreadFactory("MultiTarget-Worker"));
+        try {
+            long time = System.currentTimeMillis();
+            LOGGER.info("Scanning " + targetConfigs.size() + " targets, this may take some time...");
+            MultiTargetServerScanner scanner =
+                new MultiTargetServerScanner(targetConfigs, config.getParallelHosts(), parallelExecutor);
+            if (streamSerializer != null && config.isStreamResults()) {
+                scanner.setReportListener(streamSerializer);
+            }
+            int scannedTargets = scanner.scan(report -> {
+                if (streamSerializer != null) {
+                    streamSerializer.writeReport(report);
+                } else if (outputDirectory != null) {
+                    File outputFile = new File(outputDirectory, report.getHost() + "_" + report.getPort() + ".json");
+                    ServerReportSerializer.serialize(outputFile, report);
+                } else {
+                    ConsoleLogger.CONSOLE.info(AnsiColor.RESET.getCode()
+                        + report.getFullReport(config.getReportDetail(), !config.isNoColor()));
+                }
+            });
+            LOGGER.info("Scanned " + scannedTargets + " of " + targetConfigs.size() + " targets in: "
+                + ((System.currentTimeMillis() - time) / 1000) + "s");
+        } finally {
+            parallelExecutor.shutdown();
+            if (streamSerializer != null) {
+                streamSerializer.close();
+            }
+        }
+    }
+
+    private static ServerReportStreamSerializer createStreamSerializer(ServerScannerConfig config) throws IOException {
+        if (!config.isJsonLines() || !config.isWriteReportToFile()) {
+            return null;
+        }
+        return new ServerReportStreamSerializer(new File(config.getOutputFile()));
+    }
 }
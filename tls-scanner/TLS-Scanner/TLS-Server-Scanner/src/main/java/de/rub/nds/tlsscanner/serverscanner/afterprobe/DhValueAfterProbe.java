@@ -18,10 +18,11 @@ import de.rub.nds.tlsscanner.core.constants.TlsAnalyzedProperty;
 import de.rub.nds.tlsscanner.core.passive.TrackableValueType;
 import de.rub.nds.tlsscanner.serverscanner.afterprobe.prime.CommonDhLoader;
 import de.rub.nds.tlsscanner.serverscanner.afterprobe.prime.CommonDhValues;
+import de.rub.nds.tlsscanner.serverscanner.afterprobe.prime.DhModulusAnalysis;
 import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
 import java.math.BigInteger;
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public class DhValueAfterProbe extends AfterProbe<ServerReport> {
@@ -36,7 +37,6 @@ public class DhValueAfterProbe extends AfterProbe<ServerReport> {
         ExtractedValueContainer<?> publicKeyContainer =
             report.getExtractedValueContainerMap().get(TrackableValueType.DHE_PUBLICKEY);
 
-        List<CommonDhValues> loadedCommonDhValues = CommonDhLoader.loadCommonDhValues();
         Set<CommonDhValues> usedCommonValues = new HashSet<>();
         onlyPrime = TestResults.TRUE;
         onlySafePrime = TestResults.TRUE;
@@ -58,24 +58,26 @@ public class DhValueAfterProbe extends AfterProbe<ServerReport> {
         }
 
         if (publicKeyContainer != null && !publicKeyContainer.getExtractedValueList().isEmpty()) {
+            Set<BigInteger> moduli = new LinkedHashSet<>();
             for (Object o : publicKeyContainer.getExtractedValueList()) {
-                CustomDhPublicKey publicKey = (CustomDhPublicKey) o;
-                if (onlyPrime == TestResults.TRUE && !publicKey.getModulus().isProbablePrime(30)) {
+                moduli.add(((CustomDhPublicKey) o).getModulus());
+            }
+            for (BigInteger modulus : moduli) {
+                DhModulusAnalysis analysis = DhModulusAnalysis.analyze(modulus);
+                if (!analysis.isPrime()) {
                     onlyPrime = TestResults.FALSE;
                 }
-                if (onlySafePrime == TestResults.TRUE && !isSafePrime(publicKey.getModulus())) {
+                if (!analysis.isSafePrime()) {
                     onlySafePrime = TestResults.FALSE;
                 }
 
-                for (CommonDhValues value : loadedCommonDhValues) {
-                    if (value.getModulus().equals(publicKey.getModulus())) {
-                        usedCommonValues.add(value);
-                        break;
-                    }
+                CommonDhValues commonValue = CommonDhLoader.getCommonDhValues(modulus);
+                if (commonValue != null) {
+                    usedCommonValues.add(commonValue);
                 }
 
-                if (shortestBitLength > ((BigInteger) publicKey.getModulus()).bitLength()) {
-                    shortestBitLength = ((BigInteger) publicKey.getModulus()).bitLength();
+                if (shortestBitLength > modulus.bitLength()) {
+                    shortestBitLength = modulus.bitLength();
                 }
             }
             if (usedCommonValues.size() > 0) {
@@ -105,10 +107,6 @@ public class DhValueAfterProbe extends AfterProbe<ServerReport> {
         }
     }
 
-    private boolean isSafePrime(BigInteger bigInteger) {
-        return bigInteger.shiftRight(1).isProbablePrime(30);
-    }
-
     public TestResult getOnlyPrime() {
         return this.onlyPrime;
     }
@@ -13,6 +13,7 @@ import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.scanner.core.afterprobe.AfterProbe;
 import de.rub.nds.scanner.core.passive.ExtractedValueContainer;
 import de.rub.nds.scanner.core.util.ComparableByteArray;
+import de.rub.nds.tlsscanner.core.vector.statistics.BitSequence;
 import de.rub.nds.tlsscanner.core.vector.statistics.StatisticalTests;
 import de.rub.nds.tlsattacker.core.constants.HandshakeByteLength;
 import de.rub.nds.tlsscanner.core.constants.TlsAnalyzedProperty;
@@ -119,22 +120,20 @@ public class RandomnessAfterProbe extends AfterProbe<ServerReport> {
 
     public EntropyReport createEntropyReport(List<ComparableByteArray> byteArrayList, RandomType type) {
         byte[] bytesToAnalyze = convertToSingleByteArray(byteArrayList);
-        StatisticalTests.approximateEntropyTest(HELLO_RETRY_REQUEST_CONST, LONGEST_RUN_BLOCK_SIZE);
         int totalDuplicates = getNumberOfDuplicates(byteArrayList);
         boolean duplicates = totalDuplicates > 0;
-        String bitString = StatisticalTests.byteArrayToBitString(bytesToAnalyze);
+        BitSequence bits = BitSequence.fromByteArray(bytesToAnalyze);
         boolean entropyTestPassed =
-            StatisticalTests.approximateEntropyTest(bitString, ENTROPY_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
-        boolean discreteFourierTestPassed = StatisticalTests.discreteFourierTest(bitString) <= MINIMUM_P_VALUE;
+            StatisticalTests.approximateEntropyTest(bits, ENTROPY_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
+        boolean discreteFourierTestPassed = StatisticalTests.discreteFourierTest(bits) <= MINIMUM_P_VALUE;
         boolean frequencyTestPassed =
-            StatisticalTests.frequencyTest(bitString, FREQUENCY_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
+            StatisticalTests.frequencyTest(bits, FREQUENCY_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
         boolean longestRunTestPassed =
-            StatisticalTests.longestRunWithinBlock(bitString, LONGEST_RUN_BLOCK_SIZE) <= MINIMUM_P_VALUE;
-        boolean runsTestPassed = StatisticalTests.runsTest(bitString) <= MINIMUM_P_VALUE;
-        boolean monobitTestPassed =
-            StatisticalTests.frequencyTest(bitString, MONOBIT_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
+            StatisticalTests.longestRunWithinBlock(bits, LONGEST_RUN_BLOCK_SIZE) <= MINIMUM_P_VALUE;
+        boolean runsTestPassed = StatisticalTests.runsTest(bits) <= MINIMUM_P_VALUE;
+        boolean monobitTestPassed = StatisticalTests.frequencyTest(bits, MONOBIT_TEST_BLOCK_SIZE) <= MINIMUM_P_VALUE;
         double templateTests =
-            StatisticalTests.nonOverlappingTemplateTest(bitString, TEMPLATE_TEST_BLOCK_SIZE, MINIMUM_P_VALUE);
+            StatisticalTests.nonOverlappingTemplateTest(bits, TEMPLATE_TEST_BLOCK_SIZE, MINIMUM_P_VALUE);
 
         return new EntropyReport(type, byteArrayList.size(), bytesToAnalyze.length, duplicates, totalDuplicates,
             frequencyTestPassed, monobitTestPassed, runsTestPassed, longestRunTestPassed, discreteFourierTestPassed,
@@ -13,9 +13,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -26,7 +29,28 @@ public class CommonDhLoader {
     private CommonDhLoader() {
     }
 
+    /**
+     * Returns the common DH values, they are parsed only once per JVM
+     *
+     * @return An unmodifiable list of the common DH values
+     */
     public static List<CommonDhValues> loadCommonDhValues() {
+        return CommonDhValuesHolder.COMMON_DH_VALUES;
+    }
+
+    /**
+     * Looks up the common DH values with the given modulus. If multiple entries share a modulus, the first one is
+     * returned.
+     *
+     * @param  modulus
+     *                 The DH modulus
+     * @return         The common DH values or null if the modulus is not a common one
+     */
+    public static CommonDhValues getCommonDhValues(BigInteger modulus) {
+        return CommonDhValuesHolder.COMMON_DH_VALUES_BY_MODULUS.get(modulus);
+    }
+
+    private static List<CommonDhValues> parseCommonDhValues() {
         try {
             List<CommonDhValues> commonValuesList = new LinkedList<>();
             JSONParser parser = new JSONParser();
@@ -54,4 +78,22 @@ public class CommonDhLoader {
         }
     }
 
+    /**
+     * Lazily initialized on first use
+     */
+    private static class CommonDhValuesHolder {
+
+        private static final List<CommonDhValues> COMMON_DH_VALUES =
+            Collections.unmodifiableList(parseCommonDhValues());
+
+        private static final Map<BigInteger, CommonDhValues> COMMON_DH_VALUES_BY_MODULUS = indexByModulus();
+
+        private static Map<BigInteger, CommonDhValues> indexByModulus() {
+            Map<BigInteger, CommonDhValues> valuesByModulus = new HashMap<>();
+            for (CommonDhValues value : COMMON_DH_VALUES) {
+                valuesByModulus.putIfAbsent(value.getModulus(), value);
+            }
+            return valuesByModulus;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.afterprobe.prime;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Primality analysis of a DH modulus. Servers usually reuse a handful of moduli, so the results are kept in a bounded
+ * cache shared by all scans in the JVM.
+ */
+public class DhModulusAnalysis {
+
+    private static final int PRIME_CERTAINTY = 30;
+
+    private static final int MAX_CACHED_MODULI = 1024;
+
+    private static final Map<BigInteger, DhModulusAnalysis> CACHE =
+        Collections.synchronizedMap(new LinkedHashMap<BigInteger, DhModulusAnalysis>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BigInteger, DhModulusAnalysis> eldest) {
+                return size() > MAX_CACHED_MODULI;
+            }
+        });
+
+    private final boolean prime;
+
+    private final boolean safePrime;
+
+    private DhModulusAnalysis(BigInteger modulus) {
+        prime = modulus.isProbablePrime(PRIME_CERTAINTY);
+        safePrime = prime && modulus.shiftRight(1).isProbablePrime(PRIME_CERTAINTY);
+    }
+
+    /**
+     * Returns the analysis of the modulus, it is only computed if the modulus is not cached yet
+     *
+     * @param  modulus
+     *                 The DH modulus
+     * @return         The analysis of the modulus
+     */
+    public static DhModulusAnalysis analyze(BigInteger modulus) {
+        DhModulusAnalysis analysis = CACHE.get(modulus);
+        if (analysis == null) {
+            // computed outside the lock, concurrent scans may analyze the same modulus twice
+            analysis = new DhModulusAnalysis(modulus);
+            CACHE.put(modulus, analysis);
+        }
+        return analysis;
+    }
+
+    public boolean isPrime() {
+        return prime;
+    }
+
+    public boolean isSafePrime() {
+        return safePrime;
+    }
+}
@@ -67,6 +67,22 @@ public class ServerScannerConfig extends ScannerConfig {
         description = "Pause between config tests to ensure the server finished processing the previously rejected messages")
     private boolean configSearchCooldown = false;
 
+    @Parameter(names = "-targetList", required = false,
+        description = "File with one target (host:port) per line. Replaces -connect, every target is scanned with the remaining parameters and the reports are written into the directory specified by -outputFile, or into this file with -jsonLines.")
+    private String targetListFile = null;
+
+    @Parameter(names = "-parallelHosts", required = false,
+        description = "The maximum number of targets from the target list which are scanned at the same time.")
+    private int parallelHosts = 1;
+
+    @Parameter(names = "-jsonLines", required = false,
+        description = "Writes the reports as newline delimited JSON into the file specified by -outputFile, one report per line. With -targetList all reports are written into this file.")
+    private boolean jsonLines = false;
+
+    @Parameter(names = "-streamResults", required = false,
+        description = "Together with -jsonLines, every result is additionally written as its own line as soon as a probe determined it.")
+    private boolean streamResults = false;
+
     private List<ProbeType> probes = null;
 
     public ServerScannerConfig(GeneralDelegate delegate) {
@@ -175,4 +191,36 @@ public class ServerScannerConfig extends ScannerConfig {
         this.configSearchCooldown = configSearchCooldown;
     }
 
+    public String getTargetListFile() {
+        return targetListFile;
+    }
+
+    public void setTargetListFile(String targetListFile) {
+        this.targetListFile = targetListFile;
+    }
+
+    public int getParallelHosts() {
+        return parallelHosts;
+    }
+
+    public void setParallelHosts(int parallelHosts) {
+        this.parallelHosts = parallelHosts;
+    }
+
+    public boolean isJsonLines() {
+        return jsonLines;
+    }
+
+    public void setJsonLines(boolean jsonLines) {
+        this.jsonLines = jsonLines;
+    }
+
+    public boolean isStreamResults() {
+        return streamResults;
+    }
+
+    public void setStreamResults(boolean streamResults) {
+        this.streamResults = streamResults;
+    }
+
 }
@@ -0,0 +1,144 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.execution;
+
+import de.rub.nds.scanner.core.report.ScanReportListener;
+import de.rub.nds.tlsattacker.core.workflow.NamedThreadFactory;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsscanner.serverscanner.config.ServerScannerConfig;
+import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scans a list of targets within one JVM. All targets share one ParallelExecutor and the resources which are loaded
+ * once per JVM (trust anchors, guidelines and ratings). At most parallelHosts targets are scanned at the same time and
+ * every report is handed out as soon as its scan is finished.
+ */
+public class MultiTargetServerScanner {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final List<ServerScannerConfig> targetConfigs;
+
+    private final int parallelHosts;
+
+    private final ParallelExecutor parallelExecutor;
+
+    private ScanReportListener reportListener;
+
+    /**
+     * @param targetConfigs
+     *                         One scanner config per target
+     * @param parallelHosts
+     *                         The maximum number of targets which are scanned concurrently
+     * @param parallelExecutor
+     *                         The executor shared by the scans of all targets, it is not shut down by this scanner
+     */
+    public MultiTargetServerScanner(List<ServerScannerConfig> targetConfigs, int parallelHosts,
+        ParallelExecutor parallelExecutor) {
+        if (parallelHosts < 1) {
+            throw new IllegalArgumentException("At least one host has to be scanned at a time");
+        }
+        this.targetConfigs = targetConfigs;
+        this.parallelHosts = parallelHosts;
+        this.parallelExecutor = parallelExecutor;
+    }
+
+    /**
+     * Scans all targets. The reports are passed to the consumer in the order in which the scans finish. The consumer is
+     * only called from the calling thread, so it does not have to be thread safe.
+     *
+     * @param  reportConsumer
+     *                        Receives every finished report, e.g., to write it to a file
+     * @return                The number of targets which were scanned without an error
+     */
+    public int scan(Consumer<ServerReport> reportConsumer) {
+        ExecutorService hostExecutor =
+            Executors.newFixedThreadPool(parallelHosts, new NamedThreadFactory("MultiTargetScanner"));
+        CompletionService<ServerReport> completionService = new ExecutorCompletionService<>(hostExecutor);
+        Map<Future<ServerReport>, String> targetMap = new HashMap<>();
+        int scannedTargets = 0;
+        try {
+            for (ServerScannerConfig targetConfig : targetConfigs) {
+                // the probes of a target are only created once its scan starts
+                Future<ServerReport> future = completionService.submit(() -> {
+                    TlsServerScanner scanner = new TlsServerScanner(targetConfig, parallelExecutor);
+                    if (reportListener != null) {
+                        scanner.addReportListener(reportListener);
+                    }
+                    return scanner.scan();
+                });
+                targetMap.put(future, targetConfig.getClientDelegate().getHost());
+            }
+            for (int i = 0; i < targetMap.size(); i++) {
+                Future<ServerReport> future = completionService.take();
+                try {
+                    ServerReport report = future.get();
+                    LOGGER.info("Finished scan of {} ({}/{})", targetMap.get(future), i + 1, targetMap.size());
+                    reportConsumer.accept(report);
+                    scannedTargets++;
+                } catch (ExecutionException e) {
+                    LOGGER.error("Could not scan " + targetMap.get(future), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for scan results");
+            Thread.currentThread().interrupt();
+        } finally {
+            hostExecutor.shutdownNow();
+        }
+        return scannedTargets;
+    }
+
+    /**
+     * @param reportListener
+     *                       Registered at the report of every target, it is called concurrently by the scans of
+     *                       different targets
+     */
+    public void setReportListener(ScanReportListener reportListener) {
+        this.reportListener = reportListener;
+    }
+
+    /**
+     * Reads a target list. Every non empty line which does not start with '#' is a target.
+     *
+     * @param  targetListFile
+     *                        The file to read
+     * @return                The targets in the order of the file
+     * @throws IOException
+     *                        If the file cannot be read
+     */
+    public static List<String> readTargetList(File targetListFile) throws IOException {
+        List<String> targets = new LinkedList<>();
+        for (String line : Files.readAllLines(targetListFile.toPath(), StandardCharsets.UTF_8)) {
+            String target = line.trim();
+            if (!target.isEmpty() && !target.startsWith("#")) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+}
@@ -14,6 +14,7 @@ import de.rub.nds.scanner.core.execution.ScanJob;
 import de.rub.nds.scanner.core.execution.ThreadedScanJobExecutor;
 import de.rub.nds.scanner.core.passive.StatsWriter;
 import de.rub.nds.scanner.core.probe.ScannerProbe;
+import de.rub.nds.scanner.core.report.ScanReportListener;
 import de.rub.nds.scanner.core.report.rating.ScoreReport;
 import de.rub.nds.scanner.core.report.rating.SiteReportRater;
 import de.rub.nds.tlsattacker.core.config.Config;
@@ -102,6 +103,7 @@ import de.rub.nds.tlsscanner.serverscanner.trust.TrustAnchorManager;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.xml.bind.JAXBException;
@@ -113,10 +115,15 @@ public final class TlsServerScanner extends TlsScanner {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final List<String> GUIDELINE_NAMES = Arrays.asList("bsi.xml", "nist.xml");
+
+    private static List<Guideline> guidelines = null;
+
     private final ConfigSelector configSelector;
     private final ParallelExecutor parallelExecutor;
     private final ServerScannerConfig config;
     private boolean closeAfterFinishParallel;
+    private final List<ScanReportListener> reportListeners = new LinkedList<>();
 
     public TlsServerScanner(ServerScannerConfig config) {
         super(config.getProbes());
@@ -265,9 +272,8 @@ public final class TlsServerScanner extends TlsScanner {
     }
 
     public ServerReport scan() {
-        LOGGER.debug("Initializing TrustAnchorManager");
+        // starts loading the trust anchors in the background while the first probes are executed
         TrustAnchorManager.getInstance();
-        LOGGER.debug("Finished TrustAnchorManager initialization");
 
         boolean isConnectable = false;
         boolean speaksProtocol = false;
@@ -278,6 +284,9 @@ public final class TlsServerScanner extends TlsScanner {
             // TODO Kind of hacky - this extracts the hosts from the client delegate - otherwise its not initialized
             ServerReport serverReport = new ServerReport(config.getClientDelegate().getExtractedHost(),
                 config.getClientDelegate().getExtractedPort());
+            for (ScanReportListener listener : reportListeners) {
+                serverReport.addListener(listener);
+            }
             if (isConnectable()) {
                 isConnectable = true;
                 LOGGER.debug(config.getClientDelegate().getHost() + " is connectable");
@@ -330,20 +339,31 @@ public final class TlsServerScanner extends TlsScanner {
 
     private void executeGuidelineEvaluation(ServerReport report) {
         LOGGER.debug("Evaluating guidelines...");
-        List<String> guidelines = Arrays.asList("bsi.xml", "nist.xml");
+        for (Guideline guideline : getGuidelines()) {
+            LOGGER.debug("Evaluating guideline {} ...", guideline.getName());
+            GuidelineChecker checker = new GuidelineChecker(guideline);
+            checker.fillReport(report);
+        }
+        LOGGER.debug("Finished evaluating guidelines");
+    }
 
-        for (String guidelineName : guidelines) {
-            try {
-                InputStream guideLineStream = GuidelineIO.class.getResourceAsStream("/guideline/" + guidelineName);
-                Guideline guideline = GuidelineIO.read(guideLineStream);
-                LOGGER.debug("Evaluating guideline {} ...", guideline.getName());
-                GuidelineChecker checker = new GuidelineChecker(guideline);
-                checker.fillReport(report);
-            } catch (JAXBException | IOException | XMLStreamException ex) {
-                LOGGER.error("Could not read guideline", ex);
+    /**
+     * The guidelines are only read during the evaluation, so they are parsed once and shared by all scanners of this
+     * JVM.
+     */
+    private static synchronized List<Guideline> getGuidelines() {
+        if (guidelines == null) {
+            guidelines = new LinkedList<>();
+            for (String guidelineName : GUIDELINE_NAMES) {
+                try {
+                    InputStream guideLineStream = GuidelineIO.class.getResourceAsStream("/guideline/" + guidelineName);
+                    guidelines.add(GuidelineIO.read(guideLineStream));
+                } catch (JAXBException | IOException | XMLStreamException ex) {
+                    LOGGER.error("Could not read guideline", ex);
+                }
             }
         }
-        LOGGER.debug("Finished evaluating guidelines");
+        return guidelines;
     }
 
     private void closeParallelExecutorIfNeeded() {
@@ -374,6 +394,16 @@ public final class TlsServerScanner extends TlsScanner {
         }
     }
 
+    /**
+     * Registers a listener at the report of every following scan before the first probe is executed
+     *
+     * @param listener
+     *                 The listener
+     */
+    public void addReportListener(ScanReportListener listener) {
+        reportListeners.add(listener);
+    }
+
     public void setCloseAfterFinishParallel(boolean closeAfterFinishParallel) {
         this.closeAfterFinishParallel = closeAfterFinishParallel;
     }
@@ -29,6 +29,7 @@ public class AlpacaProbe extends TlsServerProbe<ConfigSelector, ServerReport, Al
 
     public AlpacaProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CROSS_PROTOCOL_ALPACA, configSelector);
+        setRequiredProbes(TlsProbeType.EXTENSIONS);
     }
 
     @Override
@@ -28,6 +28,7 @@ public class AlpnProbe extends TlsServerProbe<ConfigSelector, ServerReport, Alpn
 
     public AlpnProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.ALPN, configSelector);
+        setRequiredProbes(TlsProbeType.EXTENSIONS);
     }
 
     @Override
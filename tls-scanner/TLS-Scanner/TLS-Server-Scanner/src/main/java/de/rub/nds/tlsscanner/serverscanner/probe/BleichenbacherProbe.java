@@ -46,6 +46,7 @@ public class BleichenbacherProbe extends TlsServerProbe<ConfigSelector, ServerRe
 
     public BleichenbacherProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.BLEICHENBACHER, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.PROTOCOL_VERSION);
         scanDetail = configSelector.getScannerConfig().getScanDetail();
         numberOfIterations = scanDetail.isGreaterEqualTo(ScannerDetail.NORMAL) ? NUMBER_OF_ITERATIONS
             : NUMBER_OF_ITERATIONS_IN_QUICK_MODE;
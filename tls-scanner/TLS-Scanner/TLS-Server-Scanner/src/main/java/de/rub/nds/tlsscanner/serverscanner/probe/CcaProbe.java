@@ -51,6 +51,7 @@ public class CcaProbe extends TlsServerProbe<ConfigSelector, ServerReport, CcaRe
 
     public CcaProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CCA, configSelector);
+        setRequiredProbes(TlsProbeType.CCA_REQUIRED, TlsProbeType.CIPHER_SUITE);
         versionSuiteListPairsList = new LinkedList<>();
     }
 
@@ -30,6 +30,7 @@ public class CcaRequiredProbe extends TlsServerProbe<ConfigSelector, ServerRepor
 
     public CcaRequiredProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CCA_SUPPORT, configSelector);
+        setRequiredProbes(TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
@@ -25,6 +25,7 @@ public class CcaSupportProbe extends TlsServerProbe<ConfigSelector, ServerReport
 
     public CcaSupportProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CCA_SUPPORT, configSelector);
+        setRequiredProbes();
     }
 
     @Override
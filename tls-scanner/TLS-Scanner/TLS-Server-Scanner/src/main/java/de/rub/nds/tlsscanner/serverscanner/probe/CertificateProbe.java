@@ -52,6 +52,7 @@ public class CertificateProbe extends TlsServerProbe<ConfigSelector, ServerRepor
 
     public CertificateProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CERTIFICATE, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
@@ -56,6 +56,7 @@ public class CertificateTransparencyProbe
 
     public CertificateTransparencyProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CERTIFICATE_TRANSPARENCY, configSelector);
+        setRequiredProbes(TlsProbeType.CERTIFICATE, TlsProbeType.OCSP);
     }
 
     @Override
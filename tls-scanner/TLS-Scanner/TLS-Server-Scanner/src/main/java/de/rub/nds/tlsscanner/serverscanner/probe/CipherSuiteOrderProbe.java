@@ -28,6 +28,7 @@ public class CipherSuiteOrderProbe extends TlsServerProbe<ConfigSelector, Server
 
     public CipherSuiteOrderProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CIPHER_SUITE_ORDER, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -13,9 +13,7 @@ import de.rub.nds.scanner.core.constants.TestResults;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
-import de.rub.nds.tlsattacker.core.constants.ProtocolMessageType;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
-import de.rub.nds.tlsattacker.core.protocol.message.AlertMessage;
 import de.rub.nds.tlsattacker.core.state.State;
 import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTraceUtil;
@@ -28,6 +26,8 @@ import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
 import de.rub.nds.tlsscanner.serverscanner.selector.ConfigSelector;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -37,6 +37,7 @@ public class CipherSuiteProbe extends TlsServerProbe<ConfigSelector, ServerRepor
 
     public CipherSuiteProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CIPHER_SUITE, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
         protocolVersions = new LinkedList<>();
     }
 
@@ -118,52 +119,161 @@ public class CipherSuiteProbe extends TlsServerProbe<ConfigSelector, ServerRepor
         return getSupportedCipherSuitesWithIntolerance(new ArrayList<>(CipherSuite.getImplemented()), version);
     }
 
+    /**
+     * Determines the cipher suites of the list the server supports for the given version, in the order in which the
+     * server selects them if the remaining suites are offered.
+     * <p>
+     * This order can only be measured with one handshake per supported suite, each depending on the previous one. If
+     * the server follows the order of the client, it is the order of the list instead and the supported suites are
+     * searched in concurrent partitions. The first handshake offers the list in reversed order as well to detect this.
+     */
     public List<CipherSuite> getSupportedCipherSuitesWithIntolerance(List<CipherSuite> toTestList,
         ProtocolVersion version) {
-        List<CipherSuite> listWeSupport = new LinkedList<>(toTestList);
-        List<CipherSuite> supported = new LinkedList<>();
+        State initialState = createState(toTestList, version);
+        if (getParallelExecutor().getSize() <= 1 || toTestList.size() < 2) {
+            // the reversed handshake would only add a round trip
+            executeState(initialState);
+            return getSupportedCipherSuitesSerially(initialState, toTestList, version);
+        }
+        List<CipherSuite> reversedList = new ArrayList<>(toTestList);
+        Collections.reverse(reversedList);
+        State reversedState = createState(reversedList, version);
+        executeState(initialState, reversedState);
+        CipherSuite preferredSuite =
+            isVersionSelected(initialState, version) ? getSelectedCipherSuite(initialState, toTestList) : null;
+        CipherSuite reversedPreferredSuite =
+            isVersionSelected(reversedState, version) ? getSelectedCipherSuite(reversedState, reversedList) : null;
+        if (preferredSuite == null || reversedPreferredSuite == null || preferredSuite == reversedPreferredSuite) {
+            // the server enforces its own order, supports a single suite or did not answer
+            return getSupportedCipherSuitesSerially(initialState, toTestList, version);
+        }
+        List<CipherSuite> supported =
+            getSupportedCipherSuitesInPartitions(toTestList, version, preferredSuite, reversedPreferredSuite);
+        supported.sort(Comparator.comparingInt(toTestList::indexOf));
+        if (supported.get(0) != preferredSuite) {
+            // the server follows the order of the client only in parts, e.g., for equally preferred suites
+            return getSupportedCipherSuitesSerially(initialState, toTestList, version);
+        }
+        return supported;
+    }
 
-        boolean supportsMore = false;
-        do {
-            Config config = configSelector.getBaseConfig();
-            config.setWorkflowTraceType(WorkflowTraceType.DYNAMIC_HELLO);
-            config.setDefaultClientSupportedCipherSuites(listWeSupport);
-            config.setDefaultSelectedProtocolVersion(version);
-            config.setHighestProtocolVersion(version);
-            config.setEnforceSettings(true);
-            configSelector.repairConfig(config);
-            State state = new State(config);
-            executeState(state);
-            if (WorkflowTraceUtil.didReceiveMessage(HandshakeMessageType.SERVER_HELLO, state.getWorkflowTrace())) {
-                if (state.getTlsContext().getSelectedProtocolVersion() != version) {
-                    LOGGER.debug("Server does not support " + version);
-                    return new LinkedList<>();
-                }
-                LOGGER.debug("Server chose " + state.getTlsContext().getSelectedCipherSuite().name());
-                if (listWeSupport.contains(state.getTlsContext().getSelectedCipherSuite())) {
-                    supportsMore = true;
-                    supported.add(state.getTlsContext().getSelectedCipherSuite());
-                    listWeSupport.remove(state.getTlsContext().getSelectedCipherSuite());
-                } else {
-                    supportsMore = false;
-                    LOGGER.warn("Server chose not proposed cipher suite");
+    /**
+     * Searches the supported suites in as many partitions as the parallel executor has threads. A partition which
+     * yields a suite may contain further ones, so its halves are searched in the next round.
+     */
+    private List<CipherSuite> getSupportedCipherSuitesInPartitions(List<CipherSuite> toTestList,
+        ProtocolVersion version, CipherSuite... knownSuites) {
+        List<CipherSuite> supported = new LinkedList<>(Arrays.asList(knownSuites));
+        List<CipherSuite> remainingSuites = new ArrayList<>(toTestList);
+        remainingSuites.removeAll(supported);
+        List<List<CipherSuite>> partitions =
+            splitIntoPartitions(remainingSuites, Math.min(getParallelExecutor().getSize(), remainingSuites.size()));
+        while (!partitions.isEmpty()) {
+            List<State> states = new LinkedList<>();
+            for (List<CipherSuite> partition : partitions) {
+                states.add(createState(partition, version));
+            }
+            executeState(states);
+            List<List<CipherSuite>> nextPartitions = new LinkedList<>();
+            for (int i = 0; i < partitions.size(); i++) {
+                List<CipherSuite> partition = partitions.get(i);
+                CipherSuite selectedSuite = null;
+                if (isVersionSelected(states.get(i), version)) {
+                    selectedSuite = getSelectedCipherSuite(states.get(i), partition);
                 }
-            } else {
-                supportsMore = false;
-                LOGGER.debug("Server did not send ServerHello");
-                LOGGER.debug(state.getWorkflowTrace().toString());
-                if (state.getTlsContext().isReceivedFatalAlert()) {
-                    LOGGER.debug("Received Fatal Alert");
-//                    AlertMessage alert = (AlertMessage) WorkflowTraceUtil
-//                        .getFirstReceivedMessage(ProtocolMessageType.ALERT, state.getWorkflowTrace());
-//                    LOGGER.debug("Type:" + alert.toString());
-
+                if (selectedSuite != null) {
+                    supported.add(selectedSuite);
+                    partition.remove(selectedSuite);
+                    if (!partition.isEmpty()) {
+                        nextPartitions.addAll(splitIntoPartitions(partition, Math.min(2, partition.size())));
+                    }
                 }
             }
-        } while (supportsMore);
+            partitions = nextPartitions;
+        }
         return supported;
     }
 
+    /**
+     * Offers the remaining suites until the server selects none of them, starting with the executed initial state.
+     */
+    private List<CipherSuite> getSupportedCipherSuitesSerially(State initialState, List<CipherSuite> toTestList,
+        ProtocolVersion version) {
+        List<CipherSuite> listWeSupport = new LinkedList<>(toTestList);
+        List<CipherSuite> supported = new LinkedList<>();
+        State state = initialState;
+        while (true) {
+            if (WorkflowTraceUtil.didReceiveMessage(HandshakeMessageType.SERVER_HELLO, state.getWorkflowTrace())
+                && !isVersionSelected(state, version)) {
+                return new LinkedList<>();
+            }
+            CipherSuite selectedSuite = getSelectedCipherSuite(state, listWeSupport);
+            if (selectedSuite == null) {
+                return supported;
+            }
+            supported.add(selectedSuite);
+            listWeSupport.remove(selectedSuite);
+            if (listWeSupport.isEmpty()) {
+                return supported;
+            }
+            state = createState(listWeSupport, version);
+            executeState(state);
+        }
+    }
+
+    private State createState(List<CipherSuite> toTestList, ProtocolVersion version) {
+        Config config = configSelector.getBaseConfig();
+        config.setWorkflowTraceType(WorkflowTraceType.DYNAMIC_HELLO);
+        config.setDefaultClientSupportedCipherSuites(toTestList);
+        config.setDefaultSelectedProtocolVersion(version);
+        config.setHighestProtocolVersion(version);
+        config.setEnforceSettings(true);
+        configSelector.repairConfig(config);
+        return new State(config);
+    }
+
+    private boolean isVersionSelected(State state, ProtocolVersion version) {
+        if (!WorkflowTraceUtil.didReceiveMessage(HandshakeMessageType.SERVER_HELLO, state.getWorkflowTrace())) {
+            return false;
+        }
+        if (state.getTlsContext().getSelectedProtocolVersion() != version) {
+            LOGGER.debug("Server does not support " + version);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the suite the server selected from the offered ones, or null if it did not send a ServerHello or selected
+     * a suite that was not offered.
+     */
+    private CipherSuite getSelectedCipherSuite(State state, List<CipherSuite> offeredSuites) {
+        if (!WorkflowTraceUtil.didReceiveMessage(HandshakeMessageType.SERVER_HELLO, state.getWorkflowTrace())) {
+            LOGGER.debug("Server did not send ServerHello");
+            LOGGER.debug(state.getWorkflowTrace().toString());
+            if (state.getTlsContext().isReceivedFatalAlert()) {
+                LOGGER.debug("Received Fatal Alert");
+            }
+            return null;
+        }
+        CipherSuite selectedSuite = state.getTlsContext().getSelectedCipherSuite();
+        LOGGER.debug("Server chose " + selectedSuite.name());
+        if (!offeredSuites.contains(selectedSuite)) {
+            LOGGER.warn("Server chose not proposed cipher suite");
+            return null;
+        }
+        return selectedSuite;
+    }
+
+    private List<List<CipherSuite>> splitIntoPartitions(List<CipherSuite> suites, int partitionCount) {
+        List<List<CipherSuite>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>(
+                suites.subList(i * suites.size() / partitionCount, (i + 1) * suites.size() / partitionCount)));
+        }
+        return partitions;
+    }
+
     @Override
     public boolean canBeExecuted(ServerReport report) {
         return report.isProbeAlreadyExecuted(TlsProbeType.PROTOCOL_VERSION);
@@ -90,6 +90,7 @@ public class CommonBugProbe extends TlsServerProbe<ConfigSelector, ServerReport,
 
     public CommonBugProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.COMMON_BUGS, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -29,6 +29,7 @@ public class CompressionsProbe extends TlsServerProbe<ConfigSelector, ServerRepo
 
     public CompressionsProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.COMPRESSIONS, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -48,6 +48,7 @@ public class ConnectionClosingProbe extends TlsServerProbe<ConfigSelector, Serve
 
     public ConnectionClosingProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.CONNECTION_CLOSING_DELTA, configSelector);
+        setRequiredProbes(TlsProbeType.HTTP_HEADER);
     }
 
     @Override
@@ -50,6 +50,7 @@ public class DirectRaccoonProbe extends TlsServerProbe<ConfigSelector, ServerRep
 
     public DirectRaccoonProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DIRECT_RACCOON, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
@@ -24,6 +24,7 @@ public class DrownProbe extends TlsServerProbe<ConfigSelector, ServerReport, Dro
 
     public DrownProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DROWN, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
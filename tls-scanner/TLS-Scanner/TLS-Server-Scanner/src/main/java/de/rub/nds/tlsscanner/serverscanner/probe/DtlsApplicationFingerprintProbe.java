@@ -48,6 +48,7 @@ public class DtlsApplicationFingerprintProbe
 
     public DtlsApplicationFingerprintProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_APPLICATION_FINGERPRINT, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
@@ -37,6 +37,7 @@ public class DtlsBugsProbe extends TlsServerProbe<ConfigSelector, ServerReport,
 
     public DtlsBugsProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_COMMON_BUGS, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
@@ -39,6 +39,7 @@ public class DtlsFragmentationProbe extends TlsServerProbe<ConfigSelector, Serve
 
     public DtlsFragmentationProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_FRAGMENTATION, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
@@ -46,6 +46,7 @@ public class DtlsHelloVerifyRequestProbe
 
     public DtlsHelloVerifyRequestProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_HELLO_VERIFY_REQUEST, configSelector);
+        setRequiredProbes();
     }
 
     @Override
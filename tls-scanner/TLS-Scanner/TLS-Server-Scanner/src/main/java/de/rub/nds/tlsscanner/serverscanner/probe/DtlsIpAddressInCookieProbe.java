@@ -45,6 +45,7 @@ public class DtlsIpAddressInCookieProbe
 
     public DtlsIpAddressInCookieProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_IP_ADDRESS_IN_COOKIE, configSelector);
+        setRequiredProbes();
     }
 
     @Override
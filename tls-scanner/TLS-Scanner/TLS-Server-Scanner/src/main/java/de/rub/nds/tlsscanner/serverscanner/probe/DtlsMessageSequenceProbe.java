@@ -38,6 +38,7 @@ public class DtlsMessageSequenceProbe extends TlsServerProbe<ConfigSelector, Ser
 
     public DtlsMessageSequenceProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_MESSAGE_SEQUENCE_NUMBER, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
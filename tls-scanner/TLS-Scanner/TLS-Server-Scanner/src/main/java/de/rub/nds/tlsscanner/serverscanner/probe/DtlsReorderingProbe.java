@@ -37,6 +37,7 @@ public class DtlsReorderingProbe extends TlsServerProbe<ConfigSelector, ServerRe
 
     public DtlsReorderingProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.DTLS_REORDERING, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT);
     }
 
     @Override
@@ -40,6 +40,7 @@ public class ECPointFormatProbe extends TlsServerProbe<ConfigSelector, ServerRep
 
     public ECPointFormatProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.EC_POINT_FORMAT, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION, TlsProbeType.CIPHER_SUITE);
     }
 
     @Override
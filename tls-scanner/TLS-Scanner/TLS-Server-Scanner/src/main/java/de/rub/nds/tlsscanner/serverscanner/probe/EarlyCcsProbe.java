@@ -37,6 +37,7 @@ public class EarlyCcsProbe extends TlsServerProbe<ConfigSelector, ServerReport,
 
     public EarlyCcsProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.EARLY_CCS, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -29,6 +29,7 @@ public class EsniProbe extends TlsServerProbe<ConfigSelector, ServerReport, Esni
 
     public EsniProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.ESNI, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
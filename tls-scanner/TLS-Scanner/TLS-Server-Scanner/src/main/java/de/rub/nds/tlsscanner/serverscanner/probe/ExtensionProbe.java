@@ -40,6 +40,7 @@ public class ExtensionProbe extends TlsServerProbe<ConfigSelector, ServerReport,
 
     public ExtensionProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.EXTENSIONS, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
@@ -9,7 +9,6 @@
 
 package de.rub.nds.tlsscanner.serverscanner.probe;
 
-import de.rub.nds.scanner.core.constants.ScannerDetail;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.AlgorithmResolver;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
@@ -21,16 +20,17 @@ import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTraceUtil;
 import de.rub.nds.tlsscanner.core.constants.TlsProbeType;
-import de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation.ConfigFileList;
 import de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation.SimulatedClientResult;
 import de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation.SimulationRequest;
 import de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation.TlsClientConfig;
+import de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation.TlsClientConfigRegistry;
 import de.rub.nds.tlsscanner.serverscanner.probe.result.HandshakeSimulationResult;
 import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
 import de.rub.nds.tlsscanner.serverscanner.selector.ConfigSelector;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import org.bouncycastle.crypto.tls.Certificate;
@@ -38,43 +38,30 @@ import org.bouncycastle.jce.provider.X509CertificateObject;
 
 public class HandshakeSimulationProbe extends TlsServerProbe<ConfigSelector, ServerReport, HandshakeSimulationResult> {
 
-    private static final String RESOURCE_FOLDER = "/extracted_client_configs";
+    /**
+     * Number of handshakes per executor thread which are submitted at a time. The state of a handshake is only created
+     * when an earlier one finished.
+     */
+    private static final int PENDING_STATES_PER_THREAD = 2;
 
     private final List<SimulationRequest> simulationRequestList;
 
     public HandshakeSimulationProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.HANDSHAKE_SIMULATION, configSelector);
+        setRequiredProbes();
         simulationRequestList = new LinkedList<>();
-        ConfigFileList configFileList = ConfigFileList.loadConfigFileList("/" + ConfigFileList.FILE_NAME);
-        for (String configFileName : configFileList.getFiles()) {
-            try {
-                TlsClientConfig tlsClientConfig =
-                    TlsClientConfig.createTlsClientConfig(RESOURCE_FOLDER + "/" + configFileName);
-                if (configSelector.getScannerConfig().getScanDetail().isGreaterEqualTo(ScannerDetail.DETAILED)) {
-                    simulationRequestList.add(new SimulationRequest(tlsClientConfig));
-                } else {
-                    simulationRequestList.add(new SimulationRequest(tlsClientConfig));
-                }
-            } catch (Exception e) {
-                if (e.getCause() instanceof InterruptedException) {
-                    LOGGER.error("Timeout on " + getProbeName());
-                    throw new RuntimeException(e);
-                } else {
-                    LOGGER.error("Could not load " + configFileName, e);
-                }
-            }
+        for (TlsClientConfig tlsClientConfig : TlsClientConfigRegistry.getClientConfigs()) {
+            simulationRequestList.add(new SimulationRequest(tlsClientConfig));
         }
     }
 
     @Override
     public HandshakeSimulationResult executeTest() {
-        List<State> clientStateList = new LinkedList<>();
         List<SimulatedClientResult> resultList = new LinkedList<>();
-        for (SimulationRequest request : simulationRequestList) {
-            State state = request.getExecutableState(configSelector.getScannerConfig());
-            clientStateList.add(state);
-        }
-        executeState(clientStateList);
+        Iterator<State> states = simulationRequestList.stream()
+            .map(request -> request.getExecutableState(configSelector.getScannerConfig())).iterator();
+        List<State> clientStateList =
+            executeState(states, Math.max(1, getParallelExecutor().getSize() * PENDING_STATES_PER_THREAD));
         for (SimulatedClientResult result : resultList) {
             // evaluateClientConfig(result);
             // evaluateReceivedMessages(result);
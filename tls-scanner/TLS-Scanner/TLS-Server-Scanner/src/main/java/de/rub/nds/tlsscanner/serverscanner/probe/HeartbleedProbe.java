@@ -34,6 +34,7 @@ public class HeartbleedProbe extends TlsServerProbe<ConfigSelector, ServerReport
 
     public HeartbleedProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.HEARTBLEED, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.EXTENSIONS);
     }
 
     @Override
@@ -38,6 +38,7 @@ public class HelloRetryProbe extends TlsServerProbe<ConfigSelector, ServerReport
 
     public HelloRetryProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.HELLO_RETRY, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
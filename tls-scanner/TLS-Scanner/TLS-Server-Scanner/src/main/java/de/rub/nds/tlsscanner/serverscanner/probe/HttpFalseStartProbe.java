@@ -37,6 +37,7 @@ public class HttpFalseStartProbe extends TlsServerProbe<ConfigSelector, ServerRe
 
     public HttpFalseStartProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.HTTP_FALSE_START, configSelector);
+        setRequiredProbes(TlsProbeType.HTTP_HEADER);
     }
 
     @Override
@@ -29,6 +29,7 @@ public class HttpHeaderProbe extends TlsServerProbe<ConfigSelector, ServerReport
 
     public HttpHeaderProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.HTTP_HEADER, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -81,6 +81,8 @@ public class InvalidCurveProbe extends TlsServerProbe<ConfigSelector, ServerRepo
 
     public InvalidCurveProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.INVALID_CURVE, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.PROTOCOL_VERSION,
+            TlsProbeType.NAMED_GROUPS, TlsProbeType.RESUMPTION, TlsProbeType.RENEGOTIATION);
         scanDetail = configSelector.getScannerConfig().getScanDetail();
     }
 
@@ -62,6 +62,7 @@ public class MacProbe extends TlsServerProbe<ConfigSelector, ServerReport, MacRe
 
     public MacProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.MAC, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE);
     }
 
     @Override
@@ -37,6 +37,7 @@ public class NamedCurvesOrderProbe extends TlsServerProbe<ConfigSelector, Server
 
     public NamedCurvesOrderProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.NAMED_GROUPS_ORDER, configSelector);
+        setRequiredProbes(TlsProbeType.NAMED_GROUPS, TlsProbeType.CIPHER_SUITE);
     }
 
     @Override
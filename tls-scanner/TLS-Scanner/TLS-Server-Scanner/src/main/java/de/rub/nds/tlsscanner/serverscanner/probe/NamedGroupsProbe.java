@@ -58,6 +58,7 @@ public class NamedGroupsProbe extends TlsServerProbe<ConfigSelector, ServerRepor
 
     public NamedGroupsProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.NAMED_GROUPS, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CERTIFICATE, TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
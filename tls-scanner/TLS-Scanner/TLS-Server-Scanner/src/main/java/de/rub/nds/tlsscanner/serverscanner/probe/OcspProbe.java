@@ -63,6 +63,7 @@ public class OcspProbe extends TlsServerProbe<ConfigSelector, ServerReport, Ocsp
 
     public OcspProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.OCSP, configSelector);
+        setRequiredProbes(TlsProbeType.CERTIFICATE, TlsProbeType.NAMED_GROUPS);
     }
 
     @Override
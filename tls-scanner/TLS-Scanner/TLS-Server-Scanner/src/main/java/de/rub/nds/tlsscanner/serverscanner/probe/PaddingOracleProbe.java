@@ -44,6 +44,7 @@ public class PaddingOracleProbe extends TlsServerProbe<ConfigSelector, ServerRep
 
     public PaddingOracleProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.PADDING_ORACLE, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.PROTOCOL_VERSION);
         scanDetail = configSelector.getScannerConfig().getScanDetail();
         numberOfIterations = scanDetail.isGreaterEqualTo(ScannerDetail.NORMAL) ? NUMBER_OF_ITERATIONS
             : NUMBER_OF_ITERATIONS_IN_QUICK_MODE;
@@ -32,6 +32,7 @@ public class ProtocolVersionProbe extends TlsServerProbe<ConfigSelector, ServerR
 
     public ProtocolVersionProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.PROTOCOL_VERSION, configSelector);
+        setRequiredProbes();
         toTestList = new LinkedList<>();
         if (configSelector.getScannerConfig().getDtlsDelegate().isDTLS()) {
             toTestList.add(ProtocolVersion.DTLS10_DRAFT);
@@ -44,6 +44,7 @@ public class RandomnessProbe extends TlsServerProbe<ConfigSelector, ServerReport
 
     public RandomnessProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.RANDOMNESS, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.PROTOCOL_VERSION, TlsProbeType.EXTENSIONS);
     }
 
     @Override
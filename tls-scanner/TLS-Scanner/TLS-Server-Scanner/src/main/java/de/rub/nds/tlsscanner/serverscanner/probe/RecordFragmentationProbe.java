@@ -24,6 +24,7 @@ public class RecordFragmentationProbe extends TlsServerProbe<ConfigSelector, Ser
 
     public RecordFragmentationProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.RECORD_FRAGMENTATION, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -43,6 +43,7 @@ public class RenegotiationProbe extends TlsServerProbe<ConfigSelector, ServerRep
 
     public RenegotiationProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.RENEGOTIATION, configSelector);
+        setRequiredProbes(TlsProbeType.CIPHER_SUITE, TlsProbeType.CCA_SUPPORT, TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
@@ -42,6 +42,7 @@ public class SignatureAndHashAlgorithmProbe
 
     public SignatureAndHashAlgorithmProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.SIGNATURE_AND_HASH, configSelector);
+        setRequiredProbes(TlsProbeType.PROTOCOL_VERSION);
     }
 
     @Override
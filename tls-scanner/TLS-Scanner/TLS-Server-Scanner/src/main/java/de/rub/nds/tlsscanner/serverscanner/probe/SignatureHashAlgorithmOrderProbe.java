@@ -29,6 +29,7 @@ public class SignatureHashAlgorithmOrderProbe
 
     public SignatureHashAlgorithmOrderProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.SIGNATURE_HASH_ALGORITHM_ORDER, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -25,6 +25,7 @@ public class SniProbe extends TlsServerProbe<ConfigSelector, ServerReport, SniRe
 
     public SniProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.SNI, configSelector);
+        setRequiredProbes();
     }
 
     @Override
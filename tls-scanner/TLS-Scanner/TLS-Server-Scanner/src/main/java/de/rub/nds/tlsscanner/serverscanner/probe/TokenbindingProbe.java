@@ -32,6 +32,7 @@ public class TokenbindingProbe extends TlsServerProbe<ConfigSelector, ServerRepo
 
     public TokenbindingProbe(ConfigSelector configSelector, ParallelExecutor parallelExecutor) {
         super(parallelExecutor, TlsProbeType.TOKENBINDING, configSelector);
+        setRequiredProbes();
     }
 
     @Override
@@ -18,8 +18,10 @@ import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
 import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.state.TlsContext;
 import de.rub.nds.tlsattacker.core.util.CertificateFetcher;
 import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsattacker.core.workflow.task.ITask;
 import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
 import de.rub.nds.tlsscanner.serverscanner.exceptions.AttackFailedException;
 import de.rub.nds.tlsscanner.serverscanner.exceptions.OracleUnstableException;
@@ -31,6 +33,7 @@ import de.rub.nds.tlsscanner.serverscanner.probe.bleichenbacher.vector.Pkcs1Vect
 import de.rub.nds.tlsscanner.serverscanner.task.FingerPrintTask;
 import de.rub.nds.tlsscanner.serverscanner.task.FingerprintTaskVectorPair;
 import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.apache.logging.log4j.Level;
@@ -128,7 +131,19 @@ public class BleichenbacherAttacker {
             stateVectorPairList.add(new FingerprintTaskVectorPair(fingerPrintTask, vector));
         }
         List<VectorResponse> tempResponseVectorList = new LinkedList<>();
-        executor.bulkExecuteTasks(taskList);
+        // there is no point in executing the remaining vectors once the extraction failed or the key changed
+        List<ITask> finishedTasks =
+            executor.bulkExecuteTasksUntil(taskList, task -> isFailedExtraction((FingerPrintTask) task)
+                || isDifferentPublicKey(((FingerPrintTask) task).getState(), publicKey));
+        if (finishedTasks.size() < taskList.size()) {
+            FingerPrintTask decisiveTask = (FingerPrintTask) finishedTasks.get(finishedTasks.size() - 1);
+            if (isDifferentPublicKey(decisiveTask.getState(), publicKey)) {
+                throw new OracleUnstableException(
+                    "Server sent us a different publickey during the scan. Aborting test");
+            }
+            LOGGER.fatal("Could not find ServerHello after successful extraction");
+            throw new OracleUnstableException("Fatal Extraction error");
+        }
         for (FingerprintTaskVectorPair pair : stateVectorPairList) {
             ResponseFingerprint fingerprint = null;
             if (pair.getFingerPrintTask().isHasError()) {
@@ -149,8 +164,7 @@ public class BleichenbacherAttacker {
         // currently a limitation of our script as the attack vectors are generated statically and not dynamically. We
         // will adjust this in future versions.
         for (FingerprintTaskVectorPair pair : stateVectorPairList) {
-            if (pair.getFingerPrintTask().getState().getTlsContext().getServerRSAModulus() != null && !pair
-                .getFingerPrintTask().getState().getTlsContext().getServerRSAModulus().equals(publicKey.getModulus())) {
+            if (isDifferentPublicKey(pair.getFingerPrintTask().getState(), publicKey)) {
                 throw new OracleUnstableException(
                     "Server sent us a different publickey during the scan. Aborting test");
             }
@@ -158,6 +172,17 @@ public class BleichenbacherAttacker {
         return tempResponseVectorList;
     }
 
+    private boolean isFailedExtraction(FingerPrintTask fingerPrintTask) {
+        TlsContext context = fingerPrintTask.getState().getTlsContext();
+        return !fingerPrintTask.isHasError()
+            && (context.getSelectedCipherSuite() == null || context.getSelectedProtocolVersion() == null);
+    }
+
+    private boolean isDifferentPublicKey(State state, RSAPublicKey publicKey) {
+        return state.getTlsContext().getServerRSAModulus() != null
+            && !state.getTlsContext().getServerRSAModulus().equals(publicKey.getModulus());
+    }
+
     /**
      * This assumes that the responseVectorList only contains comparable vectors
      *
@@ -165,24 +190,11 @@ public class BleichenbacherAttacker {
      * @return
      */
     private EqualityError getEqualityError(List<VectorResponse> responseVectorList) {
-
-        for (VectorResponse responseOne : responseVectorList) {
-            for (VectorResponse responseTwo : responseVectorList) {
-                if (responseOne == responseTwo) {
-                    continue;
-                }
-                EqualityError error =
-                    FingerprintChecker.checkEquality(responseOne.getFingerprint(), responseTwo.getFingerprint());
-                if (error != EqualityError.NONE) {
-                    LOGGER.debug("Found an EqualityError: " + error);
-                    LOGGER.debug("Fingerprint1: " + responseOne.getFingerprint().toString());
-                    LOGGER.debug("Fingerprint2: " + responseTwo.getFingerprint().toString());
-                    return error;
-                }
-
-            }
+        List<ResponseFingerprint> fingerprintList = new ArrayList<>(responseVectorList.size());
+        for (VectorResponse response : responseVectorList) {
+            fingerprintList.add(response.getFingerprint());
         }
-        return EqualityError.NONE;
+        return FingerprintChecker.getEqualityError(fingerprintList);
     }
 
     private RSAPublicKey getServerPublicKey() {
@@ -19,6 +19,7 @@ import de.rub.nds.tlsattacker.core.protocol.message.ServerHelloDoneMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
 import de.rub.nds.tlsattacker.core.record.Record;
 import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.util.CopyUtils;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTraceUtil;
 import de.rub.nds.tlsattacker.core.workflow.action.ReceiveTillAction;
@@ -33,8 +34,15 @@ public class SimulationRequest {
         this.tlsClientConfig = tlsClientConfig;
     }
 
+    /**
+     * The client config may be shared, the state is created from copies of its config and trace
+     *
+     * @param  scannerConfig
+     *                       The config of the scan
+     * @return               A fresh state which sends the ClientHello of the client
+     */
     public State getExecutableState(ScannerConfig scannerConfig) {
-        Config config = tlsClientConfig.getConfig();
+        Config config = tlsClientConfig.getConfig().createCopy();
         config.setQuickReceive(true);
         config.setEarlyStop(true);
         config.setStopActionsAfterFatal(true);
@@ -55,9 +63,10 @@ public class SimulationRequest {
             trace.addTlsAction(sendAction);
         } else {
             ClientHelloMessage msg = new ClientHelloMessage(config);
+            // the profile trace is shared by all scans, so only its extensions are copied
             List<ExtensionMessage> extensions = WorkflowTraceUtil
                 .getLastReceivedMessage(HandshakeMessageType.CLIENT_HELLO, tlsClientConfig.getTrace()).getExtensions();
-            msg.setExtensions(extensions);
+            msg.setExtensions(CopyUtils.copyList(extensions, ExtensionMessage::createCopy));
             trace.addTlsAction(new SendAction(msg));
         }
         trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
@@ -0,0 +1,55 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The client profiles of the handshake simulation. They are parsed once per JVM and shared by all scans, so they must
+ * not be modified. {@link SimulationRequest} creates its states from copies.
+ */
+public final class TlsClientConfigRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    public static final String RESOURCE_FOLDER = "/extracted_client_configs";
+
+    private static List<TlsClientConfig> clientConfigs;
+
+    /**
+     * @return The client profiles listed in the {@link ConfigFileList}, in its order. Profiles which cannot be parsed
+     *         are left out.
+     */
+    public static synchronized List<TlsClientConfig> getClientConfigs() {
+        if (clientConfigs == null) {
+            ConfigFileList configFileList = ConfigFileList.loadConfigFileList("/" + ConfigFileList.FILE_NAME);
+            clientConfigs = Collections.unmodifiableList(configFileList.getFiles().parallelStream()
+                .map(TlsClientConfigRegistry::loadClientConfig).filter(Objects::nonNull).collect(Collectors.toList()));
+        }
+        return clientConfigs;
+    }
+
+    private static TlsClientConfig loadClientConfig(String configFileName) {
+        try {
+            return TlsClientConfig.createTlsClientConfig(RESOURCE_FOLDER + "/" + configFileName);
+        } catch (Exception e) {
+            LOGGER.error("Could not load " + configFileName, e);
+            return null;
+        }
+    }
+
+    private TlsClientConfigRegistry() {
+    }
+}
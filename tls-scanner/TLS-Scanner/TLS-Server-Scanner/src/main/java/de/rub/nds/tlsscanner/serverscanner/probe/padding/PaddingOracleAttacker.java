@@ -19,7 +19,9 @@ import de.rub.nds.tlsattacker.core.constants.CipherSuite;
 import de.rub.nds.tlsattacker.core.constants.KeyExchangeAlgorithm;
 import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
 import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.state.TlsContext;
 import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsattacker.core.workflow.task.ITask;
 import de.rub.nds.tlsattacker.core.workflow.task.TlsTask;
 import de.rub.nds.tlsscanner.serverscanner.exceptions.AttackFailedException;
 import de.rub.nds.tlsscanner.serverscanner.exceptions.OracleUnstableException;
@@ -32,6 +34,7 @@ import de.rub.nds.tlsscanner.serverscanner.probe.padding.vector.PaddingVectorGen
 import de.rub.nds.tlsscanner.serverscanner.task.FingerPrintTask;
 import de.rub.nds.tlsscanner.serverscanner.task.FingerprintTaskVectorPair;
 import de.rub.nds.tlsscanner.core.vector.response.FingerprintChecker;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.apache.logging.log4j.Level;
@@ -125,7 +128,13 @@ public class PaddingOracleAttacker {
             stateVectorPairList.add(new FingerprintTaskVectorPair(fingerPrintTask, vector));
         }
         List<VectorResponse> tempResponseVectorList = new LinkedList<>();
-        executor.bulkExecuteTasks(taskList);
+        // there is no point in executing the remaining vectors once the extraction failed
+        List<ITask> finishedTasks =
+            executor.bulkExecuteTasksUntil(taskList, task -> isFailedExtraction((FingerPrintTask) task));
+        if (finishedTasks.size() < taskList.size()) {
+            LOGGER.fatal("Could not find ServerHello after successful extraction");
+            throw new OracleUnstableException("Fatal Extraction error");
+        }
         for (FingerprintTaskVectorPair pair : stateVectorPairList) {
             ResponseFingerprint fingerprint = null;
             if (pair.getFingerPrintTask().isHasError()) {
@@ -145,6 +154,12 @@ public class PaddingOracleAttacker {
         return tempResponseVectorList;
     }
 
+    private boolean isFailedExtraction(FingerPrintTask fingerPrintTask) {
+        TlsContext context = fingerPrintTask.getState().getTlsContext();
+        return !fingerPrintTask.isHasError()
+            && (context.getSelectedCipherSuite() == null || context.getSelectedProtocolVersion() == null);
+    }
+
     /**
      * This assumes that the responseVectorList only contains comparable vectors
      *
@@ -152,24 +167,11 @@ public class PaddingOracleAttacker {
      * @return
      */
     private EqualityError getEqualityError(List<VectorResponse> responseVectorList) {
-
-        for (VectorResponse responseOne : responseVectorList) {
-            for (VectorResponse responseTwo : responseVectorList) {
-                if (responseOne == responseTwo) {
-                    continue;
-                }
-                EqualityError error =
-                    FingerprintChecker.checkEquality(responseOne.getFingerprint(), responseTwo.getFingerprint());
-                if (error != EqualityError.NONE) {
-                    LOGGER.debug("Found an EqualityError: " + error);
-                    LOGGER.debug("Fingerprint1: " + responseOne.getFingerprint().toString());
-                    LOGGER.debug("Fingerprint2: " + responseTwo.getFingerprint().toString());
-                    return error;
-                }
-
-            }
+        List<ResponseFingerprint> fingerprintList = new ArrayList<>(responseVectorList.size());
+        for (VectorResponse response : responseVectorList) {
+            fingerprintList.add(response.getFingerprint());
         }
-        return EqualityError.NONE;
+        return FingerprintChecker.getEqualityError(fingerprintList);
     }
 
     private void prepareConfig() {
@@ -45,6 +45,7 @@ import de.rub.nds.tlsattacker.core.crypto.keys.CustomDsaPublicKey;
 import de.rub.nds.tlsattacker.core.crypto.keys.CustomEcPublicKey;
 import de.rub.nds.tlsattacker.core.crypto.keys.CustomRsaPublicKey;
 import de.rub.nds.tlsattacker.core.https.header.HttpsHeader;
+import de.rub.nds.tlsattacker.core.workflow.ExecutionMetrics;
 import de.rub.nds.tlsscanner.core.constants.TlsAnalyzedProperty;
 import de.rub.nds.tlsscanner.core.guideline.GuidelineCheckResult;
 import de.rub.nds.tlsscanner.core.probe.result.VersionSuiteListPair;
@@ -1927,8 +1928,16 @@ public class ServerReportPrinter extends ReportPrinter<ServerReport> {
                     SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
                     Duration duration = new Duration(data.getStartTime(), data.getStopTime());
                     Period period = new Period(data.getStopTime() - data.getStartTime());
-                    prettyAppend(builder,
-                        padToLength(data.getType().getName(), 25) + " " + PeriodFormat.getDefault().print(period));
+                    String metrics = "";
+                    ExecutionMetrics executionMetrics = data.getExecutionMetrics();
+                    if (executionMetrics != null) {
+                        metrics = " (" + executionMetrics.getConnections() + " connections, "
+                            + executionMetrics.getSentBytes() + " bytes sent, " + executionMetrics.getReceivedBytes()
+                            + " bytes received, " + executionMetrics.getTimeouts() + " timeouts, "
+                            + executionMetrics.getRetransmissions() + " retransmissions)";
+                    }
+                    prettyAppend(builder, padToLength(data.getType().getName(), 25) + " "
+                        + PeriodFormat.getDefault().print(period) + metrics);
 
                 }
             } catch (Exception e) {
@@ -28,37 +28,69 @@ import de.rub.nds.tlsscanner.serverscanner.converter.ResponseFingerprintSerializ
 import de.rub.nds.tlsscanner.serverscanner.converter.VectorSerializer;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import org.apache.logging.log4j.LogManager;
 
+/**
+ * Serializes reports to JSON. The configured mapper is thread safe and shared by all calls, since creating a mapper and
+ * introspecting the report classes is much more expensive than the serialization of a single report.
+ */
 public class ServerReportSerializer {
 
     private static final org.apache.logging.log4j.Logger LOGGER = LogManager.getLogger();
 
-    public static void serialize(File outputFile, ScanReport scanReport) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper MAPPER = createMapper();
 
-            SimpleModule module = new SimpleModule();
-            module.addSerializer(new ByteArraySerializer());
-            module.addSerializer(new ResponseFingerprintSerializer());
-            module.addSerializer(new CertificateSerializer());
-            module.addSerializer(new Asn1CertificateSerializer());
-            module.addSerializer(new CustomDhPublicKeySerializer());
-            module.addSerializer(new CustomEcPublicKeySerializer());
-            module.addSerializer(new CustomRsaPublicKeySerializer());
-            module.addSerializer(new CustomDsaPublicKeySerializer());
-            module.addSerializer(new VectorSerializer());
-            module.addSerializer(new PointSerializer());
-            module.addSerializer(new HttpsHeaderSerializer());
-            module.addSerializer(new Asn1FieldSerializer());
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(new ByteArraySerializer());
+        module.addSerializer(new ResponseFingerprintSerializer());
+        module.addSerializer(new CertificateSerializer());
+        module.addSerializer(new Asn1CertificateSerializer());
+        module.addSerializer(new CustomDhPublicKeySerializer());
+        module.addSerializer(new CustomEcPublicKeySerializer());
+        module.addSerializer(new CustomRsaPublicKeySerializer());
+        module.addSerializer(new CustomDsaPublicKeySerializer());
+        module.addSerializer(new VectorSerializer());
+        module.addSerializer(new PointSerializer());
+        module.addSerializer(new HttpsHeaderSerializer());
+        module.addSerializer(new Asn1FieldSerializer());
+
+        mapper.registerModule(module);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configOverride(BigDecimal.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+        return mapper;
+    }
 
-            mapper.registerModule(module);
-            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-            mapper.configOverride(BigDecimal.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
-            mapper.writeValue(outputFile, scanReport);
+    /**
+     * @return The shared mapper, it must not be reconfigured
+     */
+    public static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
+    public static void serialize(File outputFile, ScanReport scanReport) {
+        try {
+            MAPPER.writeValue(outputFile, scanReport);
         } catch (IOException ex) {
             LOGGER.error(ex);
         }
     }
+
+    /**
+     * Writes the report to the stream. The stream is neither flushed nor closed.
+     *
+     * @param  outputStream
+     *                      The stream to write to
+     * @param  scanReport
+     *                      The report to serialize
+     * @throws IOException
+     *                      If the report cannot be written
+     */
+    public static void serialize(OutputStream outputStream, ScanReport scanReport) throws IOException {
+        outputStream.write(MAPPER.writeValueAsBytes(scanReport));
+    }
 }
@@ -0,0 +1,94 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.rub.nds.scanner.core.constants.AnalyzedProperty;
+import de.rub.nds.scanner.core.constants.TestResult;
+import de.rub.nds.scanner.core.report.ScanReport;
+import de.rub.nds.scanner.core.report.ScanReportListener;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes newline delimited JSON, one record per line, with the shared mapper of the {@link ServerReportSerializer}.
+ * Complete reports are written with {@link #writeReport(ScanReport)}. If the serializer is registered as a listener of
+ * a report, every result is additionally written as a record with the fields host, port, property and result as soon as
+ * a probe puts it into the report, so the results of a scan are not lost if the scan is aborted. Every record is
+ * flushed after it was written. The serializer is thread safe, so the reports of multiple concurrent scans can be
+ * written into the same stream.
+ */
+public class ServerReportStreamSerializer implements ScanReportListener, Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectMapper mapper = ServerReportSerializer.getMapper();
+
+    private final OutputStream outputStream;
+
+    public ServerReportStreamSerializer(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    public ServerReportStreamSerializer(File outputFile) throws IOException {
+        this(new BufferedOutputStream(new FileOutputStream(outputFile)));
+    }
+
+    /**
+     * Writes the complete report as one record
+     *
+     * @param report
+     *               The report to write
+     */
+    public void writeReport(ScanReport report) {
+        try {
+            // serialized before the stream is locked, since the serialization locks the report
+            writeRecord(mapper.writeValueAsBytes(report));
+        } catch (IOException ex) {
+            LOGGER.error("Could not write report", ex);
+        }
+    }
+
+    @Override
+    public void onResultPut(ScanReport report, AnalyzedProperty property, TestResult result) {
+        ObjectNode node = mapper.createObjectNode();
+        if (report instanceof ServerReport) {
+            node.put("host", ((ServerReport) report).getHost());
+            node.put("port", ((ServerReport) report).getPort());
+        }
+        node.put("property", property.toString());
+        try {
+            node.set("result", mapper.valueToTree(result));
+            writeRecord(mapper.writeValueAsBytes(node));
+        } catch (IllegalArgumentException | IOException ex) {
+            LOGGER.error("Could not write result of " + property, ex);
+        }
+    }
+
+    private synchronized void writeRecord(byte[] record) throws IOException {
+        outputStream.write(record);
+        outputStream.write(LINE_SEPARATOR);
+        outputStream.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -16,6 +16,8 @@ import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.bind.JAXBException;
 import javax.xml.stream.XMLStreamException;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +34,11 @@ public class DefaultRatingLoader {
      */
     public static final String DEFAULT_RECOMMENDATIONS_TEMPLATE = "rating/recommendations";
 
+    /**
+     * Raters only read their influencers and recommendations, so one instance per language is shared by all reports.
+     */
+    private static final Map<String, SiteReportRater> RATER_CACHE = new HashMap<>();
+
     /**
      * Returns a generic SiteReportRater
      *
@@ -44,7 +51,17 @@ public class DefaultRatingLoader {
      * @throws java.io.IOException
      * @throws javax.xml.stream.XMLStreamException
      */
-    public static SiteReportRater getServerReportRater(String recommendationLanguage)
+    public static synchronized SiteReportRater getServerReportRater(String recommendationLanguage)
+        throws JAXBException, IOException, XMLStreamException {
+        SiteReportRater rater = RATER_CACHE.get(recommendationLanguage);
+        if (rater == null) {
+            rater = loadServerReportRater(recommendationLanguage);
+            RATER_CACHE.put(recommendationLanguage, rater);
+        }
+        return rater;
+    }
+
+    private static SiteReportRater loadServerReportRater(String recommendationLanguage)
         throws JAXBException, IOException, XMLStreamException {
         ClassLoader classLoader = ServerReport.class.getClassLoader();
         InputStream in = classLoader.getResourceAsStream(INFLUENCERS_RESOURCE_LOCATION);
@@ -10,6 +10,8 @@
 package de.rub.nds.tlsscanner.serverscanner.selector;
 
 import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.config.ConfigCache;
+import de.rub.nds.tlsattacker.core.config.ConfigIO;
 import de.rub.nds.tlsattacker.core.config.delegate.Delegate;
 import de.rub.nds.tlsattacker.core.connection.AliasedConnection;
 import de.rub.nds.tlsattacker.core.constants.AlgorithmResolver;
@@ -29,8 +31,13 @@ import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowConfigurationFactory
 import de.rub.nds.tlsattacker.core.workflow.factory.WorkflowTraceType;
 import de.rub.nds.tlsscanner.serverscanner.config.ServerScannerConfig;
 import de.rub.nds.tlsscanner.serverscanner.trust.TrustAnchorManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -58,6 +65,9 @@ public class ConfigSelector {
     public static final String TLS13_CONFIG = "tls13rich.config";
     public static final String DEFAULT_CONFIG = "default.config";
     private static final int COOLDOWN_TIMEOUT_MULTIPLIER = 5;
+    private static final List<String> BUNDLED_CONFIGS = List.of(DEFAULT_CONFIG, SSL2_CONFIG, TLS13_CONFIG);
+
+    private static Map<String, ConfigCache> bundledConfigCaches;
 
     private static final Logger LOGGER = LogManager.getLogger();
 
@@ -104,12 +114,46 @@ public class ConfigSelector {
         if (scannerConfig.isConfigSearchCooldown()) {
             pauseSearch();
         }
-        Config baseConfig = Config.createConfig(Config.class.getResourceAsStream(PATH + startingConfigFile));
+        Config baseConfig = createBundledConfig(startingConfigFile);
         ConfigFilter.applyFilterProfile(baseConfig, configProfile.getConfigFilterTypes());
         prepareBaseConfig(baseConfig);
         return baseConfig;
     }
 
+    /**
+     * The bundled configs are parsed together on first use, every call returns a fresh copy
+     */
+    private static synchronized Config createBundledConfig(String configFile) {
+        if (bundledConfigCaches == null) {
+            List<InputStream> streams = new ArrayList<>(BUNDLED_CONFIGS.size());
+            for (String bundledConfig : BUNDLED_CONFIGS) {
+                streams.add(Config.class.getResourceAsStream(PATH + bundledConfig));
+            }
+            List<Config> configs;
+            try {
+                configs = ConfigIO.readAll(streams);
+            } finally {
+                for (InputStream stream : streams) {
+                    try {
+                        stream.close();
+                    } catch (IOException ex) {
+                        LOGGER.warn("Could not close resource Stream!", ex);
+                    }
+                }
+            }
+            Map<String, ConfigCache> caches = new HashMap<>();
+            for (int i = 0; i < BUNDLED_CONFIGS.size(); i++) {
+                caches.put(BUNDLED_CONFIGS.get(i), new ConfigCache(configs.get(i)));
+            }
+            bundledConfigCaches = caches;
+        }
+        ConfigCache cache = bundledConfigCaches.get(configFile);
+        if (cache == null) {
+            return Config.createConfig(Config.class.getResourceAsStream(PATH + configFile));
+        }
+        return cache.getCachedCopy();
+    }
+
     public void reportLimitation(ConfigFilterProfile configProfile, String versionText) {
         if (configProfile.getConfigFilterTypes().length > 0) {
             LOGGER.warn(
@@ -270,14 +314,14 @@ public class ConfigSelector {
     }
 
     public Config getSSL2BaseConfig() {
-        Config config = Config.createConfig(Config.class.getResourceAsStream(PATH + SSL2_CONFIG));
+        Config config = createBundledConfig(SSL2_CONFIG);
         prepareBaseConfig(config);
         return config;
     }
 
     public Config getTls13BaseConfig() {
         if (workingTl13Config == null) {
-            return Config.createConfig(Config.class.getResourceAsStream(PATH + TLS13_CONFIG));
+            return createBundledConfig(TLS13_CONFIG);
         }
         return workingTl13Config.createCopy();
     }
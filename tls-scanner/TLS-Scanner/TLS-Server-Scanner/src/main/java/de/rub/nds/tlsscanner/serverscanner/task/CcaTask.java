@@ -73,6 +73,7 @@ public class CcaTask extends TlsTask {
         return ccaVector;
     }
 
+    @Override
     public State getState() {
         return state;
     }
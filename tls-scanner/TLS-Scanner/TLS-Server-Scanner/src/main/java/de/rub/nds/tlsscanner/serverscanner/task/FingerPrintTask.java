@@ -61,6 +61,7 @@ public class FingerPrintTask extends TlsTask {
         }
     }
 
+    @Override
     public State getState() {
         return state;
     }
@@ -77,6 +77,7 @@ public class InvalidCurveTask extends TlsTask {
         return receivedEcKey;
     }
 
+    @Override
     public State getState() {
         return state;
     }
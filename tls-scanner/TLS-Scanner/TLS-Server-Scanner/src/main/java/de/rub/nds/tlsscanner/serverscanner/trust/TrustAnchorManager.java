@@ -11,6 +11,7 @@ package de.rub.nds.tlsscanner.serverscanner.trust;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import de.rub.nds.modifiablevariable.util.ArrayConverter;
 import de.rub.nds.tlsattacker.core.certificate.PemUtil;
 import de.rub.nds.tlsscanner.serverscanner.probe.certificate.CertificateReport;
 
@@ -18,18 +19,28 @@ import java.io.*;
 import java.security.*;
 import java.security.cert.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.security.auth.x500.X500Principal;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.bouncycastle.asn1.x509.Certificate;
-import org.bouncycastle.jce.provider.X509CertificateObject;
 
+/**
+ * Provides the trust anchors of the common trust platforms. The platforms are loaded in the background as soon as the
+ * instance is created, methods which need the trust anchors wait until the loading is finished. The trust anchors are
+ * indexed by their subject and by the hash of their public key, so lookups do not depend on the number of anchors.
+ */
 public class TrustAnchorManager {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final List<String> PLATFORM_FILES = Arrays.asList("google_aosp.yaml", "microsoft_windows.yaml",
+        "mozilla_nss.yaml", "openjdk.yaml", "oracle_java.yaml", "apple.yaml");
+
     private List<TrustPlatform> trustPlatformList;
 
     private HashMap<String, CertificateEntry> trustAnchors;
@@ -41,6 +52,12 @@ public class TrustAnchorManager {
     private Set<TrustAnchor> trustAnchorSet;
     private Set<Certificate> asn1CaCertificateSet;
 
+    private final Map<X500Principal, X509Certificate> trustAnchorsBySubject = new ConcurrentHashMap<>();
+    private final Map<String, X509Certificate> trustAnchorsBySpkiHash = new ConcurrentHashMap<>();
+    private final Map<X500Principal, Certificate> asn1CaCertificatesBySubject = new ConcurrentHashMap<>();
+
+    private final CompletableFuture<Void> loadingFuture;
+
     public static synchronized TrustAnchorManager getInstance() {
         if (INSTANCE == null) {
             INSTANCE = new TrustAnchorManager();
@@ -49,34 +66,43 @@ public class TrustAnchorManager {
     }
 
     private TrustAnchorManager() {
-        trustPlatformList = new LinkedList<>();
+        loadingFuture = CompletableFuture.runAsync(this::load);
+    }
+
+    private void load() {
+        long startTime = System.currentTimeMillis();
         try {
-            trustPlatformList.add(readPlatform("google_aosp.yaml"));
-            trustPlatformList.add(readPlatform("microsoft_windows.yaml"));
-            trustPlatformList.add(readPlatform("mozilla_nss.yaml"));
-            trustPlatformList.add(readPlatform("openjdk.yaml"));
-            trustPlatformList.add(readPlatform("oracle_java.yaml"));
-            trustPlatformList.add(readPlatform("apple.yaml"));
-
-            trustAnchors = new HashMap<>();
-            customTrustAnchors = new HashMap<>();
-            for (TrustPlatform platform : trustPlatformList) {
+            List<TrustPlatform> platforms = readPlatforms();
+
+            HashMap<String, CertificateEntry> anchors = new HashMap<>();
+            for (TrustPlatform platform : platforms) {
                 for (CertificateEntry entry : platform.getCertificateEntries()) {
-                    if (!trustAnchors.containsKey(entry.getFingerprint())) {
-                        trustAnchors.put(entry.getFingerprint(), entry);
-                    }
+                    anchors.putIfAbsent(entry.getFingerprint(), entry);
                 }
                 for (CertificateEntry entry : platform.getBlockedCertificateEntries()) {
-                    if (!trustAnchors.containsKey(entry.getFingerprint())) {
-                        trustAnchors.put(entry.getFingerprint(), entry);
-                    }
+                    anchors.putIfAbsent(entry.getFingerprint(), entry);
                 }
             }
 
-            this.trustAnchorSet = getFullTrustAnchorSet();
-            this.asn1CaCertificateSet = getFullCaCertificateSet();
+            Set<TrustAnchor> anchorSet = new HashSet<>();
+            Set<Certificate> caCertificateSet = new HashSet<>();
+            // every certificate file is only read once, the asn1 certificate is derived from the parsed certificate
+            List<X509Certificate> caCertificates = anchors.values().parallelStream().map(this::readCaCertificate)
+                .filter(Objects::nonNull).collect(Collectors.toList());
+            for (X509Certificate caCertificate : caCertificates) {
+                Certificate asn1Certificate = Certificate.getInstance(caCertificate.getEncoded());
+                anchorSet.add(new TrustAnchor(caCertificate, null));
+                caCertificateSet.add(asn1Certificate);
+                index(caCertificate, asn1Certificate);
+            }
 
-        } catch (IOException | IllegalArgumentException ex) {
+            trustPlatformList = platforms;
+            trustAnchors = anchors;
+            customTrustAnchors = new HashMap<>();
+            trustAnchorSet = anchorSet;
+            asn1CaCertificateSet = caCertificateSet;
+            LOGGER.debug("Loaded {} trust anchors in {}ms", anchorSet.size(), System.currentTimeMillis() - startTime);
+        } catch (UncheckedIOException | IllegalArgumentException | CertificateEncodingException ex) {
             trustAnchorSet = null;
             trustAnchors = null;
             trustPlatformList = null;
@@ -89,22 +115,75 @@ public class TrustAnchorManager {
         }
     }
 
+    /**
+     * Blocks until the trust anchors are loaded. The loading is started when the instance is created, so this only
+     * blocks if the trust anchors are needed right after the start of the scanner.
+     */
+    private void awaitLoading() {
+        loadingFuture.join();
+    }
+
     public boolean isInitialized() {
+        awaitLoading();
         return trustAnchorSet != null && trustPlatformList != null && trustAnchors != null;
     }
 
-    private TrustPlatform readPlatform(String name) throws IOException {
-        InputStream resourceAsStream = TrustAnchorManager.class.getClassLoader().getResourceAsStream("trust/" + name);
+    private List<TrustPlatform> readPlatforms() {
         ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        return PLATFORM_FILES.parallelStream().map(name -> {
+            try {
+                return readPlatform(mapper, name);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }).collect(Collectors.toList());
+    }
+
+    private TrustPlatform readPlatform(ObjectMapper mapper, String name) throws IOException {
+        InputStream resourceAsStream = TrustAnchorManager.class.getClassLoader().getResourceAsStream("trust/" + name);
         TrustPlatform loadedPlatform = mapper.readValue(resourceAsStream, TrustPlatform.class);
         return loadedPlatform;
     }
 
+    private X509Certificate readCaCertificate(CertificateEntry entry) {
+        InputStream resourceAsStream =
+            TrustAnchorManager.class.getClassLoader().getResourceAsStream("trust/" + entry.getFingerprint() + ".pem");
+        if (resourceAsStream == null) {
+            LOGGER.error("Could not find Certificate:" + entry.getSubjectName() + "/" + entry.getFingerprint());
+            return null;
+        }
+        try (InputStream certificateStream = new BufferedInputStream(resourceAsStream)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(certificateStream);
+        } catch (IOException | CertificateException ex) {
+            LOGGER.error("Could not load Certificate:" + entry.getSubjectName() + "/" + entry.getFingerprint(), ex);
+            return null;
+        }
+    }
+
+    private void index(X509Certificate certificate, Certificate asn1Certificate) {
+        X500Principal subject = certificate.getSubjectX500Principal();
+        trustAnchorsBySubject.putIfAbsent(subject, certificate);
+        trustAnchorsBySpkiHash.putIfAbsent(getSpkiHash(certificate.getPublicKey()), certificate);
+        asn1CaCertificatesBySubject.putIfAbsent(subject, asn1Certificate);
+    }
+
+    private static String getSpkiHash(PublicKey publicKey) {
+        try {
+            // the encoding of a public key is its SubjectPublicKeyInfo
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ArrayConverter.bytesToHexString(digest.digest(publicKey.getEncoded()), false);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException("SHA-256 is not supported", ex);
+        }
+    }
+
     public List<TrustPlatform> getTrustPlatformList() {
+        awaitLoading();
         return trustPlatformList;
     }
 
     public boolean isTrustAnchor(CertificateReport report) {
+        awaitLoading();
         if (trustAnchors.containsKey(report.getIssuer())) {
             LOGGER.debug("Found a trustAnchor for Issuer report");
             CertificateEntry entry = trustAnchors.get(report.getIssuer());
@@ -120,86 +199,33 @@ public class TrustAnchorManager {
     }
 
     public boolean isTrustAnchor(X500Principal principal) {
-        for (TrustAnchor anchor : trustAnchorSet) {
-            if (anchor.getTrustedCert().getSubjectX500Principal().equals(principal)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private Set<TrustAnchor> getFullTrustAnchorSet() {
-        Set<TrustAnchor> trustedAnchors = new HashSet<>();
-        try {
-            int i = 0;
-            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-            keyStore.load(null, null);
-            for (CertificateEntry entry : trustAnchors.values()) {
-                InputStream resourceAsStream = TrustAnchorManager.class.getClassLoader()
-                    .getResourceAsStream("trust/" + entry.getFingerprint() + ".pem");
-                try {
-                    X509Certificate ca = (X509Certificate) CertificateFactory.getInstance("X.509")
-                        .generateCertificate(new BufferedInputStream(resourceAsStream));
-                    keyStore.setCertificateEntry("" + i, ca);
-
-                } catch (CertificateException ex) {
-                    LOGGER.error("Could not load Certificate:" + entry.getSubjectName() + "/" + entry.getFingerprint(),
-                        ex);
-                }
-                i++;
-            }
-            PKIXParameters params = new PKIXParameters(keyStore);
-            /* Converts the immutable trustAnchorSet (read only) to a set with write access */
-            trustedAnchors.addAll(params.getTrustAnchors());
-            return trustedAnchors;
-
-        } catch (IOException | NoSuchAlgorithmException | CertificateException | KeyStoreException
-            | InvalidAlgorithmParameterException ex) {
-            LOGGER.error("Could not build TrustAnchorSet", ex);
-        }
-        return new HashSet<>();
+        awaitLoading();
+        return trustAnchorsBySubject.containsKey(principal);
     }
 
     public Set<TrustAnchor> getTrustAnchorSet() {
+        awaitLoading();
         return trustAnchorSet;
     }
 
     public X509Certificate getTrustAnchorX509Certificate(X500Principal principal) {
-        for (TrustAnchor anchor : trustAnchorSet) {
-            if (anchor.getTrustedCert().getSubjectX500Principal().equals(principal)) {
-                return anchor.getTrustedCert();
-            }
-        }
-        return null;
+        awaitLoading();
+        return trustAnchorsBySubject.get(principal);
     }
 
-    public Certificate getTrustAnchorCertificate(X500Principal principal) {
-        for (Certificate cert : asn1CaCertificateSet) {
-            try {
-                X509Certificate x509Cert = new X509CertificateObject(cert);
-                if (principal.equals(x509Cert.getSubjectX500Principal())) {
-                    return cert;
-                }
-            } catch (CertificateParsingException ex) {
-                LOGGER.error("Could not parse Certificate", ex);
-            }
-        }
-        return null;
+    /**
+     * @param  publicKey
+     *                   A public key
+     * @return           A trust anchor with this public key, or null if there is none
+     */
+    public X509Certificate getTrustAnchorX509Certificate(PublicKey publicKey) {
+        awaitLoading();
+        return trustAnchorsBySpkiHash.get(getSpkiHash(publicKey));
     }
 
-    private Set<Certificate> getFullCaCertificateSet() {
-        Set<Certificate> certificateSet = new HashSet<>();
-        for (CertificateEntry entry : trustAnchors.values()) {
-            InputStream resourceAsStream = TrustAnchorManager.class.getClassLoader()
-                .getResourceAsStream("trust/" + entry.getFingerprint() + ".pem");
-            try {
-                org.bouncycastle.crypto.tls.Certificate cert = PemUtil.readCertificate(resourceAsStream);
-                certificateSet.add(cert.getCertificateAt(0));
-            } catch (IOException | CertificateException ex) {
-                LOGGER.error("Could not load Certificate:" + entry.getSubjectName() + "/" + entry.getFingerprint(), ex);
-            }
-        }
-        return certificateSet;
+    public Certificate getTrustAnchorCertificate(X500Principal principal) {
+        awaitLoading();
+        return asn1CaCertificatesBySubject.get(principal);
     }
 
     private List<org.bouncycastle.crypto.tls.Certificate> getCustomCA(List<String> customCAPaths) {
@@ -215,6 +241,7 @@ public class TrustAnchorManager {
     }
 
     public void addCustomCA(List<String> customCAPaths) {
+        awaitLoading();
         List<org.bouncycastle.crypto.tls.Certificate> customCAList = getCustomCA(customCAPaths);
         KeyStore keyStore = null;
 
@@ -231,8 +258,10 @@ public class TrustAnchorManager {
             // Converts each certificate in customCAList to a x.509 formatted certificate and adds it to the keystore.
             try {
                 CertificateFactory certFactory = CertificateFactory.getInstance("X509");
-                keyStore.setCertificateEntry("custom_" + i,
-                    certFactory.generateCertificate(new ByteArrayInputStream(cert.getCertificateAt(0).getEncoded())));
+                X509Certificate x509Cert = (X509Certificate) certFactory
+                    .generateCertificate(new ByteArrayInputStream(cert.getCertificateAt(0).getEncoded()));
+                keyStore.setCertificateEntry("custom_" + i, x509Cert);
+                index(x509Cert, cert.getCertificateAt(0));
             } catch (CertificateException | IOException | KeyStoreException ex) {
                 throw new RuntimeException("Couldn't add the certificate:" + customCAPaths.get(i) + "to the keyStore",
                     ex);
@@ -273,10 +302,12 @@ public class TrustAnchorManager {
     }
 
     public boolean hasCustomTrustAnchros() {
+        awaitLoading();
         return customTrustAnchors.size() > 0;
     }
 
     public boolean isCustomTrustAnchor(CertificateReport report) {
+        awaitLoading();
         if (customTrustAnchors.containsKey(report.getIssuer())) {
             LOGGER.debug("Found a customTrustAnchor for Issuer report");
             CertificateEntry entry = customTrustAnchors.get(report.getIssuer());
@@ -0,0 +1,130 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import de.rub.nds.tlsattacker.core.config.delegate.GeneralDelegate;
+import de.rub.nds.tlsattacker.core.workflow.NamedThreadFactory;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsscanner.core.constants.TlsProbeType;
+import de.rub.nds.tlsscanner.serverscanner.config.ServerScannerConfig;
+import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MultiTargetServerScannerTest {
+
+    private static final int NUMBER_OF_SERVERS = 3;
+
+    private final List<ServerSocket> standInServers = new LinkedList<>();
+
+    private final Map<Integer, Integer> acceptedConnections = new ConcurrentHashMap<>();
+
+    private ParallelExecutor parallelExecutor;
+
+    @Before
+    public void setUp() throws IOException {
+        for (int i = 0; i < NUMBER_OF_SERVERS; i++) {
+            ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            standInServers.add(serverSocket);
+            Thread acceptThread = new Thread(() -> acceptAndClose(serverSocket));
+            acceptThread.setDaemon(true);
+            acceptThread.start();
+        }
+        parallelExecutor = new ParallelExecutor(4, 1, new NamedThreadFactory("MultiTargetTest"));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        parallelExecutor.shutdown();
+        for (ServerSocket serverSocket : standInServers) {
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * Stand-in for a server which accepts connections but does not speak TLS
+     */
+    private void acceptAndClose(ServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                acceptedConnections.merge(serverSocket.getLocalPort(), 1, Integer::sum);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private ServerScannerConfig createTargetConfig(int port) {
+        ServerScannerConfig config = new ServerScannerConfig(new GeneralDelegate());
+        config.getClientDelegate().setHost("127.0.0.1:" + port);
+        config.setTimeout(100);
+        config.setProbes(TlsProbeType.PROTOCOL_VERSION);
+        return config;
+    }
+
+    @Test
+    public void testScanWritesOneReportPerTarget() throws IOException {
+        List<ServerScannerConfig> targetConfigs = new LinkedList<>();
+        for (ServerSocket serverSocket : standInServers) {
+            targetConfigs.add(createTargetConfig(serverSocket.getLocalPort()));
+        }
+        int closedPort;
+        try (ServerSocket unusedSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            closedPort = unusedSocket.getLocalPort();
+        }
+        targetConfigs.add(createTargetConfig(closedPort));
+
+        Map<Integer, ServerReport> reports = new ConcurrentHashMap<>();
+        MultiTargetServerScanner scanner = new MultiTargetServerScanner(targetConfigs, 2, parallelExecutor);
+        int scannedTargets = scanner.scan(report -> reports.put(report.getPort(), report));
+
+        assertEquals(targetConfigs.size(), scannedTargets);
+        assertEquals(targetConfigs.size(), reports.size());
+        for (ServerSocket serverSocket : standInServers) {
+            ServerReport report = reports.get(serverSocket.getLocalPort());
+            assertTrue(report.getServerIsAlive());
+            assertFalse(report.getSpeaksProtocol());
+            assertTrue(acceptedConnections.get(serverSocket.getLocalPort()) > 0);
+        }
+        assertFalse(reports.get(closedPort).getServerIsAlive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoParallelHosts() {
+        new MultiTargetServerScanner(new LinkedList<>(), 0, parallelExecutor);
+    }
+
+    @Test
+    public void testReadTargetList() throws IOException {
+        File targetList = File.createTempFile("targets", ".txt");
+        targetList.deleteOnExit();
+        Files.write(targetList.toPath(),
+            Arrays.asList("# stand-in servers", "127.0.0.1:4433", "", "  localhost:4434  "), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("127.0.0.1:4433", "localhost:4434"),
+            MultiTargetServerScanner.readTargetList(targetList));
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import de.rub.nds.scanner.core.constants.TestResults;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.config.delegate.GeneralDelegate;
+import de.rub.nds.tlsattacker.core.constants.CipherSuite;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.protocol.message.ServerHelloMessage;
+import de.rub.nds.tlsattacker.core.state.State;
+import de.rub.nds.tlsattacker.core.workflow.ParallelExecutor;
+import de.rub.nds.tlsattacker.core.workflow.action.ReceiveAction;
+import de.rub.nds.tlsscanner.core.constants.TlsAnalyzedProperty;
+import de.rub.nds.tlsscanner.core.probe.result.VersionSuiteListPair;
+import de.rub.nds.tlsscanner.serverscanner.config.ServerScannerConfig;
+import de.rub.nds.tlsscanner.serverscanner.report.ServerReport;
+import de.rub.nds.tlsscanner.serverscanner.selector.ConfigSelector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CipherSuiteProbeTest {
+
+    private final List<CipherSuite> implementedSuites = CipherSuite.getImplemented();
+
+    /**
+     * The suites of the stub server in its order of preference
+     */
+    private List<CipherSuite> serverSuites;
+
+    private StubServerExecutor executor;
+
+    @Before
+    public void setUp() {
+        serverSuites = new LinkedList<>();
+        for (int index : new int[] { 200, 5, 120, 45, 300, 85, 165, 25, 250, 65, 145, 280 }) {
+            serverSuites.add(implementedSuites.get(index));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private CipherSuiteProbe createProbe(int threads, boolean serverOrder, int maxOfferedSuites) {
+        executor = new StubServerExecutor(threads, serverOrder, maxOfferedSuites);
+        ConfigSelector configSelector = new ConfigSelector(new ServerScannerConfig(new GeneralDelegate())) {
+            @Override
+            public Config getBaseConfig() {
+                return Config.createConfig();
+            }
+
+            @Override
+            public Config repairConfig(Config config) {
+                return config;
+            }
+        };
+        return new CipherSuiteProbe(configSelector, executor);
+    }
+
+    private List<CipherSuite> getServerSuitesInListOrder(List<CipherSuite> list) {
+        List<CipherSuite> suites = new ArrayList<>(serverSuites);
+        suites.sort(Comparator.comparingInt(list::indexOf));
+        return suites;
+    }
+
+    @Test
+    public void testServerOrderIsEnumeratedSerially() {
+        CipherSuiteProbe probe = createProbe(4, true, Integer.MAX_VALUE);
+        List<CipherSuite> supported =
+            probe.getSupportedCipherSuitesWithIntolerance(new ArrayList<>(implementedSuites), ProtocolVersion.TLS12);
+
+        assertEquals(serverSuites, supported);
+        // the list and the reversed list, then one handshake per remaining suite
+        assertEquals(2, (int) executor.bulkSizes.get(0));
+        assertTrue(executor.bulkSizes.subList(1, executor.bulkSizes.size()).stream().allMatch(size -> size == 1));
+        assertEquals(serverSuites.size() + 1, executor.bulkSizes.size());
+    }
+
+    @Test
+    public void testClientOrderIsSearchedInPartitions() {
+        CipherSuiteProbe probe = createProbe(4, false, Integer.MAX_VALUE);
+        List<CipherSuite> supported =
+            probe.getSupportedCipherSuitesWithIntolerance(new ArrayList<>(implementedSuites), ProtocolVersion.TLS12);
+
+        assertEquals(getServerSuitesInListOrder(implementedSuites), supported);
+        assertEquals(2, (int) executor.bulkSizes.get(0));
+        // one partition per thread
+        assertEquals(4, (int) executor.bulkSizes.get(1));
+        // partitions which yielded a suite are split into halves
+        assertTrue(executor.bulkSizes.size() > 2);
+        assertTrue(executor.bulkSizes.stream().anyMatch(size -> size > 1 && size % 2 == 0));
+        // far fewer rounds than the serial enumeration, which needs one per supported suite
+        assertTrue(executor.bulkSizes.size() < serverSuites.size() / 2);
+    }
+
+    @Test
+    public void testSingleThreadIsEnumeratedSerially() {
+        CipherSuiteProbe probe = createProbe(1, false, Integer.MAX_VALUE);
+        List<CipherSuite> supported =
+            probe.getSupportedCipherSuitesWithIntolerance(new ArrayList<>(implementedSuites), ProtocolVersion.TLS12);
+
+        assertEquals(getServerSuitesInListOrder(implementedSuites), supported);
+        assertTrue(executor.bulkSizes.stream().allMatch(size -> size == 1));
+        assertEquals(serverSuites.size() + 1, executor.bulkSizes.size());
+    }
+
+    @Test
+    public void testOtherVersionIsNotSupported() {
+        CipherSuiteProbe probe = createProbe(4, false, Integer.MAX_VALUE);
+        executor.version = ProtocolVersion.TLS10;
+        List<CipherSuite> supported =
+            probe.getSupportedCipherSuitesWithIntolerance(new ArrayList<>(implementedSuites), ProtocolVersion.TLS12);
+
+        assertTrue(supported.isEmpty());
+        assertEquals(1, executor.bulkSizes.size());
+    }
+
+    @Test
+    public void testIntolerantServerIsScannedWithImplementedSuites() {
+        for (boolean serverOrder : new boolean[] { true, false }) {
+            CipherSuiteProbe probe = createProbe(4, serverOrder, implementedSuites.size());
+            ServerReport report = new ServerReport("somehost", 443);
+            report.putResult(TlsAnalyzedProperty.SUPPORTS_TLS_1_2, TestResults.TRUE);
+            probe.adjustConfig(report);
+            probe.executeTest().merge(report);
+
+            List<VersionSuiteListPair> pairs = report.getVersionSuitePairs();
+            assertEquals(1, pairs.size());
+            assertEquals(ProtocolVersion.TLS12, pairs.get(0).getVersion());
+            assertEquals(serverOrder ? serverSuites : getServerSuitesInListOrder(implementedSuites),
+                pairs.get(0).getCipherSuiteList());
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Answers the states in the calling thread like a server which supports the given suites
+     */
+    private class StubServerExecutor extends ParallelExecutor {
+
+        private final boolean serverOrder;
+
+        private final int maxOfferedSuites;
+
+        private ProtocolVersion version = ProtocolVersion.TLS12;
+
+        private final List<Integer> bulkSizes = new LinkedList<>();
+
+        StubServerExecutor(int size, boolean serverOrder, int maxOfferedSuites) {
+            super(size, 0);
+            this.serverOrder = serverOrder;
+            this.maxOfferedSuites = maxOfferedSuites;
+        }
+
+        @Override
+        public void bulkExecuteStateTasks(Iterable<State> stateList) {
+            int bulkSize = 0;
+            for (State state : stateList) {
+                answer(state);
+                bulkSize++;
+            }
+            bulkSizes.add(bulkSize);
+        }
+
+        private void answer(State state) {
+            List<CipherSuite> offeredSuites = state.getConfig().getDefaultClientSupportedCipherSuites();
+            if (offeredSuites.size() > maxOfferedSuites) {
+                // intolerant to long ClientHellos, the connection is closed
+                return;
+            }
+            Optional<CipherSuite> selectedSuite =
+                serverOrder ? serverSuites.stream().filter(offeredSuites::contains).findFirst()
+                    : offeredSuites.stream().filter(serverSuites::contains).findFirst();
+            if (!selectedSuite.isPresent()) {
+                return;
+            }
+            state.getTlsContext().setSelectedProtocolVersion(version);
+            state.getTlsContext().setSelectedCipherSuite(selectedSuite.get());
+            ReceiveAction receiveAction = new ReceiveAction();
+            receiveAction.getReceivedMessages().addAll(Arrays.asList(new ServerHelloMessage()));
+            state.getWorkflowTrace().addTlsAction(receiveAction);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.probe.handshakesimulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import de.rub.nds.tlsattacker.core.state.State;
+import java.util.List;
+import org.junit.Test;
+
+public class TlsClientConfigRegistryTest {
+
+    @Test
+    public void testClientConfigsAreLoadedOnce() {
+        List<TlsClientConfig> clientConfigs = TlsClientConfigRegistry.getClientConfigs();
+        assertFalse(clientConfigs.isEmpty());
+        assertEquals(ConfigFileList.loadConfigFileList("/" + ConfigFileList.FILE_NAME).getFiles().size(),
+            clientConfigs.size());
+        assertSame(clientConfigs, TlsClientConfigRegistry.getClientConfigs());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testClientConfigsAreUnmodifiable() {
+        TlsClientConfigRegistry.getClientConfigs().clear();
+    }
+
+    @Test
+    public void testExecutableStateDoesNotModifySharedConfig() {
+        for (TlsClientConfig tlsClientConfig : TlsClientConfigRegistry.getClientConfigs()) {
+            boolean quickReceive = tlsClientConfig.getConfig().isQuickReceive();
+            boolean enforceSettings = tlsClientConfig.getConfig().isEnforceSettings();
+            SimulationRequest request = new SimulationRequest(tlsClientConfig);
+            State first = request.getExecutableState(null);
+            State second = request.getExecutableState(null);
+
+            assertNotSame(tlsClientConfig.getConfig(), first.getConfig());
+            assertNotSame(first.getConfig(), second.getConfig());
+            assertNotSame(first.getWorkflowTrace(), second.getWorkflowTrace());
+            assertEquals(quickReceive, tlsClientConfig.getConfig().isQuickReceive());
+            assertEquals(enforceSettings, tlsClientConfig.getConfig().isEnforceSettings());
+        }
+    }
+}
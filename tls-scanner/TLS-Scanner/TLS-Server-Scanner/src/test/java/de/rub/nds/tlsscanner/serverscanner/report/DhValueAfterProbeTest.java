@@ -10,6 +10,8 @@
 package de.rub.nds.tlsscanner.serverscanner.report;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import de.rub.nds.scanner.core.constants.TestResults;
 import de.rub.nds.scanner.core.passive.ExtractedValueContainer;
@@ -17,6 +19,8 @@ import de.rub.nds.scanner.core.passive.TrackableValue;
 import de.rub.nds.tlsattacker.core.crypto.keys.CustomDhPublicKey;
 import de.rub.nds.tlsscanner.core.passive.TrackableValueType;
 import de.rub.nds.tlsscanner.serverscanner.afterprobe.DhValueAfterProbe;
+import de.rub.nds.tlsscanner.serverscanner.afterprobe.prime.CommonDhLoader;
+import de.rub.nds.tlsscanner.serverscanner.afterprobe.prime.CommonDhValues;
 import java.math.BigInteger;
 import java.util.HashMap;
 import org.apache.logging.log4j.LogManager;
@@ -123,6 +127,46 @@ public class DhValueAfterProbeTest {
 
     }
 
+    /**
+     * Test if method analyze recognizes a common modulus
+     */
+    @Test
+    public void commonDhParamTestAnalyze() {
+        CommonDhValues common = CommonDhLoader.loadCommonDhValues().get(0);
+
+        pubkeyContainer.put(new CustomDhPublicKey(common.getModulus(), common.getGenerator(), new BigInteger("2")));
+        pubkeyContainer.put(new CustomDhPublicKey(common.getModulus(), common.getGenerator(), new BigInteger("3")));
+        pubkeyContainer.put(new CustomDhPublicKey(common.getModulus(), common.getGenerator(), new BigInteger("4")));
+
+        analyseDhParams();
+
+        assertEquals(TestResults.TRUE, test.getOnlyPrime());
+        assertEquals(TestResults.TRUE, test.getOnlySafePrime());
+        assertEquals(TestResults.TRUE, test.getUsesCommonDhPrimes());
+        assertEquals(TestResults.FALSE, test.getReuse());
+        assertEquals(1, report.getUsedCommonDhValueList().size());
+        assertTrue(report.getUsedCommonDhValueList().contains(common));
+        assertSame(common, CommonDhLoader.getCommonDhValues(common.getModulus()));
+    }
+
+    /**
+     * Test if method analyze considers every distinct modulus
+     */
+    @Test
+    public void mixedDhParamTestAnalyze() {
+        // 23 = 2 * 11 + 1 is a safe prime, 29 = 2 * 14 + 1 is not
+        pubkeyContainer.put(new CustomDhPublicKey(new BigInteger("23"), new BigInteger("5"), new BigInteger("2")));
+        pubkeyContainer.put(new CustomDhPublicKey(new BigInteger("23"), new BigInteger("5"), new BigInteger("3")));
+        pubkeyContainer.put(new CustomDhPublicKey(new BigInteger("29"), new BigInteger("2"), new BigInteger("2")));
+
+        analyseDhParams();
+
+        assertEquals(TestResults.TRUE, test.getOnlyPrime());
+        assertEquals(TestResults.FALSE, test.getOnlySafePrime());
+        assertEquals(TestResults.FALSE, test.getUsesCommonDhPrimes());
+        assertEquals(5, (int) report.getWeakestDhStrength());
+    }
+
     /**
      * Executes the analysis: determines how secure the Diffie-Hellmann parameters are
      */
@@ -0,0 +1,53 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.report;
+
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rub.nds.scanner.core.constants.TestResults;
+import de.rub.nds.tlsscanner.core.constants.TlsAnalyzedProperty;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ServerReportStreamSerializerTest {
+
+    @Test
+    public void testJsonLines() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ServerReport report = new ServerReport("sample", 443);
+        try (ServerReportStreamSerializer serializer = new ServerReportStreamSerializer(outputStream)) {
+            report.addListener(serializer);
+            report.putResult(TlsAnalyzedProperty.SUPPORTS_TLS_1_2, TestResults.TRUE);
+            report.removeListener(serializer);
+            report.putResult(TlsAnalyzedProperty.SUPPORTS_SSL_3, TestResults.FALSE);
+            serializer.writeReport(report);
+            serializer.writeReport(new ServerReport("other", 4433));
+        }
+
+        String[] lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode result = mapper.readTree(lines[0]);
+        assertEquals("sample", result.get("host").asText());
+        assertEquals(443, result.get("port").asInt());
+        assertEquals(TlsAnalyzedProperty.SUPPORTS_TLS_1_2.toString(), result.get("property").asText());
+        assertEquals(TestResults.TRUE.name(), result.get("result").asText());
+
+        JsonNode firstReport = mapper.readTree(lines[1]);
+        assertEquals("sample", firstReport.get("host").asText());
+        assertEquals(TestResults.FALSE.name(),
+            firstReport.get("resultMap").get(TlsAnalyzedProperty.SUPPORTS_SSL_3.toString()).asText());
+        assertEquals("other", mapper.readTree(lines[2]).get("host").asText());
+    }
+}
@@ -12,6 +12,7 @@ package de.rub.nds.tlsscanner.serverscanner.report.rating;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import de.rub.nds.scanner.core.constants.TestResult;
 import de.rub.nds.scanner.core.constants.TestResults;
@@ -34,7 +35,7 @@ public class ServerReportRaterTest {
         SiteReportRater rater = DefaultRatingLoader.getServerReportRater("en");
         assertNotNull(rater);
         assertFalse(rater.getRecommendations().getRecommendations().isEmpty());
-
+        assertSame(rater, DefaultRatingLoader.getServerReportRater("en"));
     }
 
     @Test
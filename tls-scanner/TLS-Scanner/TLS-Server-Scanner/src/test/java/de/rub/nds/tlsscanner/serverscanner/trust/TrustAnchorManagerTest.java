@@ -0,0 +1,49 @@
+/**
+ * TLS-Server-Scanner - A TLS configuration and analysis tool based on TLS-Attacker
+ *
+ * Copyright 2017-2023 Ruhr University Bochum, Paderborn University, Hackmanit GmbH
+ *
+ * Licensed under Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package de.rub.nds.tlsscanner.serverscanner.trust;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import javax.security.auth.x500.X500Principal;
+import org.junit.Test;
+
+public class TrustAnchorManagerTest {
+
+    @Test
+    public void testIndexedLookup() throws NoSuchAlgorithmException {
+        TrustAnchorManager manager = TrustAnchorManager.getInstance();
+        assertTrue(manager.isInitialized());
+        assertFalse(manager.getTrustAnchorSet().isEmpty());
+        for (TrustAnchor anchor : manager.getTrustAnchorSet()) {
+            X509Certificate certificate = anchor.getTrustedCert();
+            X500Principal subject = certificate.getSubjectX500Principal();
+            assertTrue(manager.isTrustAnchor(subject));
+            assertEquals(subject, manager.getTrustAnchorX509Certificate(subject).getSubjectX500Principal());
+            assertNotNull(manager.getTrustAnchorCertificate(subject));
+            assertEquals(certificate.getPublicKey(),
+                manager.getTrustAnchorX509Certificate(certificate.getPublicKey()).getPublicKey());
+        }
+
+        X500Principal unknownSubject = new X500Principal("CN=Unknown Test Root, O=TLS-Scanner");
+        assertFalse(manager.isTrustAnchor(unknownSubject));
+        assertNull(manager.getTrustAnchorX509Certificate(unknownSubject));
+        assertNull(manager.getTrustAnchorCertificate(unknownSubject));
+        assertNull(
+            manager.getTrustAnchorX509Certificate(KeyPairGenerator.getInstance("EC").generateKeyPair().getPublic()));
+    }
+}